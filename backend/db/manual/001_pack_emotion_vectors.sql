@@ -0,0 +1,104 @@
+-- 감정 점수 컬럼(ai_log 10개, study_video_log/study_text_log 각 5개)을 BIGINT 패킹 컬럼으로 통합합니다.
+-- 패킹 형식은 EmotionVector와 같습니다: 행복, 분노, 슬픔, 당황, 두려움 순으로 12비트씩 하위 비트부터 배치.
+-- 학습 로그의 비율 값(DECIMAL(4,1))은 10배한 정수로 저장합니다.
+-- 값 범위 사전 검사 → 새 컬럼 추가 → 기존 행 채우기 → NOT NULL 전환 → 기존 컬럼 삭제 순으로 진행하며, 애플리케이션 배포 전에 실행합니다.
+
+-- 사전 검사: 패킹할 값이 모두 0 ~ 4095(12비트) 범위의 음이 아닌 값인지 확인합니다.
+-- 범위를 벗어나거나 NULL인 값이 있으면 CHECK 제약 위반으로 스크립트가 중단되며, 이후 단계는 실행되지 않습니다.
+-- 이 경우 해당 행을 보정한 뒤 다시 실행합니다.
+DROP TABLE IF EXISTS emotion_pack_precheck;
+CREATE TABLE emotion_pack_precheck (
+    source_table VARCHAR(32) NOT NULL,
+    invalid_cnt  BIGINT      NOT NULL,
+    CONSTRAINT chk_emotion_pack_precheck CHECK (invalid_cnt = 0)
+);
+
+INSERT INTO emotion_pack_precheck (source_table, invalid_cnt)
+SELECT 'ai_log', COUNT(*)
+FROM ai_log
+WHERE f_happy IS NULL OR f_happy NOT BETWEEN 0 AND 4095
+   OR f_anger IS NULL OR f_anger NOT BETWEEN 0 AND 4095
+   OR f_sad IS NULL OR f_sad NOT BETWEEN 0 AND 4095
+   OR f_panic IS NULL OR f_panic NOT BETWEEN 0 AND 4095
+   OR f_fear IS NULL OR f_fear NOT BETWEEN 0 AND 4095
+   OR t_happy IS NULL OR t_happy NOT BETWEEN 0 AND 4095
+   OR t_anger IS NULL OR t_anger NOT BETWEEN 0 AND 4095
+   OR t_sad IS NULL OR t_sad NOT BETWEEN 0 AND 4095
+   OR t_panic IS NULL OR t_panic NOT BETWEEN 0 AND 4095
+   OR t_fear IS NULL OR t_fear NOT BETWEEN 0 AND 4095;
+
+INSERT INTO emotion_pack_precheck (source_table, invalid_cnt)
+SELECT 'study_video_log', COUNT(*)
+FROM study_video_log
+WHERE f_happy IS NULL OR ROUND(f_happy * 10) NOT BETWEEN 0 AND 4095
+   OR f_anger IS NULL OR ROUND(f_anger * 10) NOT BETWEEN 0 AND 4095
+   OR f_sad IS NULL OR ROUND(f_sad * 10) NOT BETWEEN 0 AND 4095
+   OR f_panic IS NULL OR ROUND(f_panic * 10) NOT BETWEEN 0 AND 4095
+   OR f_fear IS NULL OR ROUND(f_fear * 10) NOT BETWEEN 0 AND 4095;
+
+INSERT INTO emotion_pack_precheck (source_table, invalid_cnt)
+SELECT 'study_text_log', COUNT(*)
+FROM study_text_log
+WHERE t_happy IS NULL OR ROUND(t_happy * 10) NOT BETWEEN 0 AND 4095
+   OR t_anger IS NULL OR ROUND(t_anger * 10) NOT BETWEEN 0 AND 4095
+   OR t_sad IS NULL OR ROUND(t_sad * 10) NOT BETWEEN 0 AND 4095
+   OR t_panic IS NULL OR ROUND(t_panic * 10) NOT BETWEEN 0 AND 4095
+   OR t_fear IS NULL OR ROUND(t_fear * 10) NOT BETWEEN 0 AND 4095;
+
+DROP TABLE emotion_pack_precheck;
+
+-- ai_log
+ALTER TABLE ai_log
+    ADD COLUMN face_emotion BIGINT NULL AFTER game_log_id,
+    ADD COLUMN text_emotion BIGINT NULL AFTER face_emotion;
+
+UPDATE ai_log
+SET face_emotion = f_happy
+                   | (f_anger << 12)
+                   | (f_sad << 24)
+                   | (f_panic << 36)
+                   | (f_fear << 48),
+    text_emotion = t_happy
+                   | (t_anger << 12)
+                   | (t_sad << 24)
+                   | (t_panic << 36)
+                   | (t_fear << 48)
+WHERE face_emotion IS NULL;
+
+ALTER TABLE ai_log
+    MODIFY face_emotion BIGINT NOT NULL,
+    MODIFY text_emotion BIGINT NOT NULL,
+    DROP COLUMN f_happy, DROP COLUMN f_anger, DROP COLUMN f_sad, DROP COLUMN f_panic, DROP COLUMN f_fear,
+    DROP COLUMN t_happy, DROP COLUMN t_anger, DROP COLUMN t_sad, DROP COLUMN t_panic, DROP COLUMN t_fear;
+
+-- study_video_log
+ALTER TABLE study_video_log
+    ADD COLUMN face_emotion BIGINT NULL AFTER study_log_id;
+
+UPDATE study_video_log
+SET face_emotion = CAST(ROUND(f_happy * 10) AS UNSIGNED)
+                   | (CAST(ROUND(f_anger * 10) AS UNSIGNED) << 12)
+                   | (CAST(ROUND(f_sad * 10) AS UNSIGNED) << 24)
+                   | (CAST(ROUND(f_panic * 10) AS UNSIGNED) << 36)
+                   | (CAST(ROUND(f_fear * 10) AS UNSIGNED) << 48)
+WHERE face_emotion IS NULL;
+
+ALTER TABLE study_video_log
+    MODIFY face_emotion BIGINT NOT NULL,
+    DROP COLUMN f_happy, DROP COLUMN f_anger, DROP COLUMN f_sad, DROP COLUMN f_panic, DROP COLUMN f_fear;
+
+-- study_text_log
+ALTER TABLE study_text_log
+    ADD COLUMN text_emotion BIGINT NULL AFTER study_text_log_id;
+
+UPDATE study_text_log
+SET text_emotion = CAST(ROUND(t_happy * 10) AS UNSIGNED)
+                   | (CAST(ROUND(t_anger * 10) AS UNSIGNED) << 12)
+                   | (CAST(ROUND(t_sad * 10) AS UNSIGNED) << 24)
+                   | (CAST(ROUND(t_panic * 10) AS UNSIGNED) << 36)
+                   | (CAST(ROUND(t_fear * 10) AS UNSIGNED) << 48)
+WHERE text_emotion IS NULL;
+
+ALTER TABLE study_text_log
+    MODIFY text_emotion BIGINT NOT NULL,
+    DROP COLUMN t_happy, DROP COLUMN t_anger, DROP COLUMN t_sad, DROP COLUMN t_panic, DROP COLUMN t_fear;
@@ -0,0 +1,19 @@
+-- ai_log의 STT 원문(stt)과 AI 분석 결과(ai_analyze)를 압축 부속 테이블 ai_log_text로 옮깁니다.
+-- 압축 형식은 MySQL COMPRESS()와 같아 애플리케이션(CompressionUtil)과 DB(UNCOMPRESS) 양쪽에서 읽을 수 있습니다.
+-- 애플리케이션 배포 전에 실행합니다.
+
+CREATE TABLE ai_log_text (
+    game_log_id INT      NOT NULL,
+    stt         LONGBLOB NOT NULL,
+    ai_analyze  LONGBLOB NULL,
+    PRIMARY KEY (game_log_id),
+    CONSTRAINT fk_ai_log_text_game_log FOREIGN KEY (game_log_id) REFERENCES game_log (game_log_id)
+);
+
+INSERT INTO ai_log_text (game_log_id, stt, ai_analyze)
+SELECT game_log_id, COMPRESS(stt), COMPRESS(ai_analyze)
+FROM ai_log;
+
+ALTER TABLE ai_log
+    DROP COLUMN stt,
+    DROP COLUMN ai_analyze;
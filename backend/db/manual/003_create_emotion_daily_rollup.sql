@@ -0,0 +1,33 @@
+-- 자녀-감정-일자 단위 게임 시도 집계 테이블을 만들고 기존 게임 로그로 채웁니다.
+-- 점수 합계는 스테이지 대상 감정(감정 ID 1~5 = EmotionVector 인덱스 0~4)의 12비트 성분을 더한 값입니다.
+-- 애플리케이션 배포 전에 실행합니다. 이후에는 게임 로그 저장 시 애플리케이션이 증가분을 반영합니다.
+
+CREATE TABLE emotion_daily_rollup (
+    emotion_daily_rollup_id INT    NOT NULL AUTO_INCREMENT,
+    child_user_id           INT    NOT NULL,
+    emotion_id              INT    NOT NULL,
+    rollup_date             DATE   NOT NULL,
+    trial_cnt               INT    NOT NULL,
+    crt_cnt                 INT    NOT NULL,
+    face_score_sum          BIGINT NOT NULL,
+    text_score_sum          BIGINT NOT NULL,
+    PRIMARY KEY (emotion_daily_rollup_id),
+    CONSTRAINT uk_emotion_daily_rollup UNIQUE (child_user_id, emotion_id, rollup_date),
+    CONSTRAINT fk_emotion_daily_rollup_child_user FOREIGN KEY (child_user_id) REFERENCES child_user (child_user_id),
+    CONSTRAINT fk_emotion_daily_rollup_emotion FOREIGN KEY (emotion_id) REFERENCES emotion (emotion_id)
+);
+
+INSERT INTO emotion_daily_rollup (
+    child_user_id, emotion_id, rollup_date, trial_cnt, crt_cnt, face_score_sum, text_score_sum
+)
+SELECT gl.child_user_id,
+       gs.emotion_id,
+       DATE(gl.submit_dttm),
+       COUNT(*),
+       SUM(gl.corrected),
+       SUM((al.face_emotion >> ((gs.emotion_id - 1) * 12)) & 4095),
+       SUM((al.text_emotion >> ((gs.emotion_id - 1) * 12)) & 4095)
+FROM game_log gl
+JOIN ai_log al ON al.game_log_id = gl.game_log_id
+JOIN game_stage gs ON gs.game_stage_id = gl.game_stage_id
+GROUP BY gl.child_user_id, gs.emotion_id, DATE(gl.submit_dttm);
@@ -0,0 +1,4 @@
+-- 아동별 게임 시도 이력을 (제출 시각, ID) 키셋으로 조회하기 위한 인덱스입니다.
+-- 커서 조건과 정렬이 모두 이 인덱스 순서를 따르므로 페이지 깊이와 관계없이 필요한 행만 읽습니다.
+
+CREATE INDEX idx_game_log_child_submit ON game_log (child_user_id, submit_dttm, game_log_id);
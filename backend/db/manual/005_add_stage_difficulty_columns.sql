@@ -0,0 +1,6 @@
+-- 스테이지 난이도 집계를 위해 스테이지 시작 시각을 기록하고, 챕터 종료 시각 구간 조회용 인덱스를 추가합니다.
+-- 기존 스테이지의 시작 시각은 알 수 없으므로 NULL로 두며, 체류 시간 집계에서 제외됩니다.
+
+ALTER TABLE child_game_stage ADD COLUMN start_at DATETIME NULL;
+
+CREATE INDEX idx_child_game_chapter_end_at ON child_game_chapter (end_at);
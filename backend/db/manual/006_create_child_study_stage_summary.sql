@@ -0,0 +1,53 @@
+-- 학습 챕터-스테이지 단위 누적 요약 테이블을 만들고 기존 학습 로그로 채웁니다.
+-- 유사도와 점수 합계는 10배한 정수이며, 점수는 스테이지 대상 감정(감정 ID 1~5 = EmotionVector 인덱스 0~4)의 12비트 성분입니다.
+-- 애플리케이션 배포 전에 실행합니다. 이후에는 학습 로그 저장 시 애플리케이션이 증가분을 반영합니다.
+
+CREATE TABLE child_study_stage_summary (
+    child_study_stage_summary_id INT    NOT NULL AUTO_INCREMENT,
+    child_study_chapter_id       INT    NOT NULL,
+    game_stage_id                INT    NOT NULL,
+    emotion_id                   INT    NOT NULL,
+    attempt_cnt                  INT    NOT NULL,
+    text_similarity_sum          BIGINT NOT NULL,
+    face_score_sum               BIGINT NOT NULL,
+    text_score_sum               BIGINT NOT NULL,
+    PRIMARY KEY (child_study_stage_summary_id),
+    CONSTRAINT uk_child_study_stage_summary UNIQUE (child_study_chapter_id, game_stage_id),
+    CONSTRAINT fk_child_study_stage_summary_chapter FOREIGN KEY (child_study_chapter_id) REFERENCES child_study_chapter (child_study_chapter_id),
+    CONSTRAINT fk_child_study_stage_summary_game_stage FOREIGN KEY (game_stage_id) REFERENCES game_stage (game_stage_id),
+    CONSTRAINT fk_child_study_stage_summary_emotion FOREIGN KEY (emotion_id) REFERENCES emotion (emotion_id)
+);
+
+-- 텍스트 로그 1건이 학습 시도 1회입니다.
+INSERT INTO child_study_stage_summary (
+    child_study_chapter_id, game_stage_id, emotion_id,
+    attempt_cnt, text_similarity_sum, face_score_sum, text_score_sum
+)
+SELECT css.child_study_chapter_id,
+       css.game_stage_id,
+       gs.emotion_id,
+       COUNT(*),
+       SUM(ROUND(stl.text_similarity * 10)),
+       0,
+       SUM((stl.text_emotion >> ((gs.emotion_id - 1) * 12)) & 4095)
+FROM study_text_log stl
+JOIN child_study_stage css ON css.child_study_stage_id = stl.child_study_stage_id
+JOIN game_stage gs ON gs.game_stage_id = css.game_stage_id
+GROUP BY css.child_study_chapter_id, css.game_stage_id, gs.emotion_id;
+
+INSERT INTO child_study_stage_summary (
+    child_study_chapter_id, game_stage_id, emotion_id,
+    attempt_cnt, text_similarity_sum, face_score_sum, text_score_sum
+)
+SELECT css.child_study_chapter_id,
+       css.game_stage_id,
+       gs.emotion_id,
+       0,
+       0,
+       SUM((svl.face_emotion >> ((gs.emotion_id - 1) * 12)) & 4095),
+       0
+FROM study_video_log svl
+JOIN child_study_stage css ON css.child_study_stage_id = svl.child_study_stage_id
+JOIN game_stage gs ON gs.game_stage_id = css.game_stage_id
+GROUP BY css.child_study_chapter_id, css.game_stage_id, gs.emotion_id
+ON DUPLICATE KEY UPDATE face_score_sum = VALUES(face_score_sum);
@@ -0,0 +1,42 @@
+-- 게임 챕터-스테이지 단위 누적 요약 테이블을 만들고 기존 게임 로그로 채웁니다.
+-- 시도 순번은 챕터-스테이지 안에서 (제출 시각, 게임 로그 ID) 순서이며, 첫 정답 순번은 처음 정답을 맞힌 시도의 순번입니다.
+-- 애플리케이션 배포 전에 실행합니다. 이후에는 게임 로그 저장과 챕터 종료 시 애플리케이션이 요약을 갱신합니다.
+
+CREATE TABLE child_game_stage_summary (
+    child_game_stage_summary_id INT        NOT NULL AUTO_INCREMENT,
+    child_game_chapter_id       INT        NOT NULL,
+    game_stage_id               INT        NOT NULL,
+    emotion_id                  INT        NOT NULL,
+    trial_cnt                   INT        NOT NULL DEFAULT 0,
+    first_crt_trial             INT        NULL,
+    corrected                   TINYINT(1) NOT NULL DEFAULT 0,
+    PRIMARY KEY (child_game_stage_summary_id),
+    CONSTRAINT uk_child_game_stage_summary UNIQUE (child_game_chapter_id, game_stage_id),
+    CONSTRAINT fk_child_game_stage_summary_chapter FOREIGN KEY (child_game_chapter_id) REFERENCES child_game_chapter (child_game_chapter_id),
+    CONSTRAINT fk_child_game_stage_summary_game_stage FOREIGN KEY (game_stage_id) REFERENCES game_stage (game_stage_id),
+    CONSTRAINT fk_child_game_stage_summary_emotion FOREIGN KEY (emotion_id) REFERENCES emotion (emotion_id)
+);
+
+INSERT INTO child_game_stage_summary (
+    child_game_chapter_id, game_stage_id, emotion_id,
+    trial_cnt, first_crt_trial, corrected
+)
+SELECT t.child_game_chapter_id,
+       t.game_stage_id,
+       gs.emotion_id,
+       COUNT(*),
+       MIN(CASE WHEN t.corrected THEN t.trial END),
+       MAX(CASE WHEN t.corrected THEN 1 ELSE 0 END)
+FROM (
+    SELECT cgs.user_chapter_id AS child_game_chapter_id,
+           gl.game_stage_id,
+           gl.corrected,
+           ROW_NUMBER() OVER (
+               PARTITION BY cgs.user_chapter_id, gl.game_stage_id
+               ORDER BY gl.submit_dttm, gl.game_log_id
+           ) AS trial
+    FROM game_log gl
+    JOIN child_game_stage cgs ON cgs.child_game_stage_id = gl.child_game_stage_id
+) t
+JOIN game_stage gs ON gs.game_stage_id = t.game_stage_id
+GROUP BY t.child_game_chapter_id, t.game_stage_id, gs.emotion_id;
@@ -0,0 +1,61 @@
+-- 통계 카운터를 (emotion_id, child_user_id) 유니크 키 기준 upsert로 증가시키기 위해 중복 행을 합치고 유니크 키를 추가합니다.
+-- 챕터별 정답률은 조회 시 stage_crt_cnt_N / stage_try_cnt_N으로 계산하므로 저장 컬럼을 삭제합니다.
+-- 애플리케이션 배포 전에 실행합니다.
+
+-- 1) 같은 자녀-감정의 중복 행은 동시 생성으로 나뉜 카운터이므로, 가장 작은 ID 행에 합산합니다.
+UPDATE statistic s
+JOIN (
+    SELECT emotion_id,
+           child_user_id,
+           MIN(statistic_id)    AS keep_id,
+           SUM(rating)          AS rating,
+           SUM(trial_cnt)       AS trial_cnt,
+           SUM(crt_cnt)         AS crt_cnt,
+           SUM(stage_try_cnt_1) AS stage_try_cnt_1,
+           SUM(stage_try_cnt_2) AS stage_try_cnt_2,
+           SUM(stage_try_cnt_3) AS stage_try_cnt_3,
+           SUM(stage_try_cnt_4) AS stage_try_cnt_4,
+           SUM(stage_try_cnt_5) AS stage_try_cnt_5,
+           SUM(stage_crt_cnt_1) AS stage_crt_cnt_1,
+           SUM(stage_crt_cnt_2) AS stage_crt_cnt_2,
+           SUM(stage_crt_cnt_3) AS stage_crt_cnt_3,
+           SUM(stage_crt_cnt_4) AS stage_crt_cnt_4,
+           SUM(stage_crt_cnt_5) AS stage_crt_cnt_5
+    FROM statistic
+    GROUP BY emotion_id, child_user_id
+    HAVING COUNT(*) > 1
+) d ON s.statistic_id = d.keep_id
+SET s.rating          = d.rating,
+    s.trial_cnt       = d.trial_cnt,
+    s.crt_cnt         = d.crt_cnt,
+    s.stage_try_cnt_1 = d.stage_try_cnt_1,
+    s.stage_try_cnt_2 = d.stage_try_cnt_2,
+    s.stage_try_cnt_3 = d.stage_try_cnt_3,
+    s.stage_try_cnt_4 = d.stage_try_cnt_4,
+    s.stage_try_cnt_5 = d.stage_try_cnt_5,
+    s.stage_crt_cnt_1 = d.stage_crt_cnt_1,
+    s.stage_crt_cnt_2 = d.stage_crt_cnt_2,
+    s.stage_crt_cnt_3 = d.stage_crt_cnt_3,
+    s.stage_crt_cnt_4 = d.stage_crt_cnt_4,
+    s.stage_crt_cnt_5 = d.stage_crt_cnt_5;
+
+-- 2) 합산된 나머지 중복 행을 삭제합니다.
+DELETE s
+FROM statistic s
+JOIN (
+    SELECT emotion_id, child_user_id, MIN(statistic_id) AS keep_id
+    FROM statistic
+    GROUP BY emotion_id, child_user_id
+    HAVING COUNT(*) > 1
+) d ON s.emotion_id = d.emotion_id
+   AND s.child_user_id = d.child_user_id
+   AND s.statistic_id <> d.keep_id;
+
+-- 3) 유니크 키를 추가하고 저장된 정답률 컬럼을 삭제합니다.
+ALTER TABLE statistic
+    ADD CONSTRAINT uk_statistic_emotion_child UNIQUE (emotion_id, child_user_id),
+    DROP COLUMN stage_crt_rate_1,
+    DROP COLUMN stage_crt_rate_2,
+    DROP COLUMN stage_crt_rate_3,
+    DROP COLUMN stage_crt_rate_4,
+    DROP COLUMN stage_crt_rate_5;
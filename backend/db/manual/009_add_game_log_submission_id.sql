@@ -0,0 +1,8 @@
+-- 쓰기 지연 파이프라인이 저널 항목마다 부여하는 제출 ID를 게임 로그에 저장합니다.
+-- 커밋 후 체크포인트 전에 중단되어 같은 로그가 재처리되어도 유니크 키로 중복 저장을 막습니다.
+-- 동기 저장 경로의 로그는 NULL로 남으며, NULL은 유니크 키에서 서로 충돌하지 않습니다.
+-- 애플리케이션 배포 전에 실행합니다.
+
+ALTER TABLE game_log
+    ADD COLUMN submission_id CHAR(36) NULL,
+    ADD CONSTRAINT uk_game_log_submission UNIQUE (submission_id);
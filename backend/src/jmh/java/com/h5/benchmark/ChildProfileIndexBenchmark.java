@@ -0,0 +1,78 @@
+package com.h5.benchmark;
+
+import com.h5.domain.statistic.service.ChildProfileIndex;
+import com.h5.domain.statistic.service.ChildProfileIndex.ChildProfile;
+import com.h5.domain.statistic.service.ChildProfileIndex.Neighbor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유사 아동 검색({@link ChildProfileIndex#nearest})의 지연 시간을 측정합니다.
+ * <p>
+ * 아동 수만큼 임의 프로필을 색인하고, 필터 없이 전체에서, 같은 센터에서, 같은 상담사에서 상위 10명을 찾습니다.
+ * 상담사는 아동 30명, 센터는 상담사 20명을 담당하는 것으로 가정합니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ChildProfileIndexBenchmark {
+
+    private static final int K = 10;
+    private static final int CHILDREN_PER_CONSULTANT = 30;
+    private static final int CONSULTANTS_PER_CENTER = 20;
+
+    @Param({"10000", "100000"})
+    public int childCount;
+
+    private final ChildProfileIndex index = new ChildProfileIndex();
+    private final Random random = new Random(42);
+
+    private int[] consultantUserIds;
+    private int[] centerIds;
+
+    @Setup
+    public void setUp() {
+        consultantUserIds = new int[childCount + 1];
+        centerIds = new int[childCount + 1];
+        List<ChildProfile> profiles = new ArrayList<>(childCount);
+        for (int childUserId = 1; childUserId <= childCount; childUserId++) {
+            int consultantUserId = (childUserId - 1) / CHILDREN_PER_CONSULTANT + 1;
+            int centerId = (consultantUserId - 1) / CONSULTANTS_PER_CENTER + 1;
+            consultantUserIds[childUserId] = consultantUserId;
+            centerIds[childUserId] = centerId;
+
+            float[] vector = new float[ChildProfileIndex.DIMENSION];
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = random.nextFloat();
+            }
+            profiles.add(new ChildProfile(childUserId, consultantUserId, centerId, vector));
+        }
+        index.replaceAll(profiles);
+    }
+
+    @Benchmark
+    public List<Neighbor> nearestAll() {
+        return index.nearest(nextChildUserId(), K, ChildProfileIndex.ANY, ChildProfileIndex.ANY);
+    }
+
+    @Benchmark
+    public List<Neighbor> nearestInCenter() {
+        int childUserId = nextChildUserId();
+        return index.nearest(childUserId, K, ChildProfileIndex.ANY, centerIds[childUserId]);
+    }
+
+    @Benchmark
+    public List<Neighbor> nearestInConsultant() {
+        int childUserId = nextChildUserId();
+        return index.nearest(childUserId, K, consultantUserIds[childUserId], ChildProfileIndex.ANY);
+    }
+
+    private int nextChildUserId() {
+        return random.nextInt(childCount) + 1;
+    }
+}
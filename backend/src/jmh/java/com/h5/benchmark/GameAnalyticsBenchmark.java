@@ -0,0 +1,76 @@
+package com.h5.benchmark;
+
+import com.h5.domain.emotion.entity.EmotionEntity;
+import com.h5.domain.game.entity.ChildGameStageSummaryEntity;
+import com.h5.domain.game.service.ChapterAnalytics;
+import com.h5.domain.statistic.service.StatisticScoring;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 챕터 종료 시 통계 반영 경로의 계산({@link ChapterAnalytics#fold})을 측정합니다.
+ * <p>
+ * 스테이지 요약 목록을 스테이지별 통계 증가분과 감정별 점수 증가분으로 환산하는 계산과
+ * 점수 규칙({@link StatisticScoring})만 측정하며, 저장소 호출은 포함하지 않습니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class GameAnalyticsBenchmark {
+
+    private static final int EMOTION_COUNT = 5;
+
+    /**
+     * 한 챕터에서 요약된 스테이지 수입니다. 실제 챕터는 5개 스테이지이며, 큰 값은 재집계 배치를 가정합니다.
+     */
+    @Param({"5", "50"})
+    public int stageCount;
+
+    private List<ChildGameStageSummaryEntity> summaries;
+
+    @Setup
+    public void setUp() {
+        summaries = createSummaries(stageCount);
+    }
+
+    @Benchmark
+    public ChapterAnalytics.Result fold() {
+        return ChapterAnalytics.fold(summaries);
+    }
+
+    @Benchmark
+    public void ratingDelta(Blackhole blackhole) {
+        for (int whenCorrect = 1; whenCorrect <= stageCount; whenCorrect++) {
+            blackhole.consume(StatisticScoring.ratingDelta(whenCorrect));
+        }
+    }
+
+    private static List<ChildGameStageSummaryEntity> createSummaries(int count) {
+        Random random = new Random(42);
+        List<EmotionEntity> emotions = new ArrayList<>();
+        for (int id = 1; id <= EMOTION_COUNT; id++) {
+            EmotionEntity emotion = new EmotionEntity();
+            emotion.setId(id);
+            emotions.add(emotion);
+        }
+
+        List<ChildGameStageSummaryEntity> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int trialCnt = 1 + random.nextInt(4);
+            boolean corrected = random.nextInt(10) < 7;
+            summaries.add(ChildGameStageSummaryEntity.builder()
+                    .emotionEntity(emotions.get(i % EMOTION_COUNT))
+                    .trialCnt(trialCnt)
+                    .firstCrtTrial(corrected ? 1 + random.nextInt(trialCnt) : null)
+                    .corrected(corrected)
+                    .build());
+        }
+        return summaries;
+    }
+}
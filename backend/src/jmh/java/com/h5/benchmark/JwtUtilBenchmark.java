@@ -0,0 +1,45 @@
+package com.h5.benchmark;
+
+import com.h5.global.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 {@code JwtFilter}에서 수행되는 토큰 검증과 이메일 추출 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        UserDetails userDetails = User.withUsername("parent@hifive.com")
+                .password("password")
+                .authorities("ROLE_PARENT")
+                .build();
+        accessToken = jwtUtil.generateAccessToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getEmailFromToken() {
+        return jwtUtil.getEmailFromToken(accessToken);
+    }
+
+    @Benchmark
+    public String validateAndGetEmail() {
+        jwtUtil.validateToken(accessToken);
+        return jwtUtil.getEmailFromToken(accessToken);
+    }
+}
@@ -0,0 +1,60 @@
+package com.h5.benchmark;
+
+import com.h5.domain.board.qna.dto.response.QnaListResponse;
+import com.h5.domain.board.qna.entity.QnaEntity;
+import com.h5.domain.board.qna.mapper.QnaMapper;
+import com.h5.domain.user.parent.entity.ParentUserEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Q&A 목록 응답 변환({@link QnaMapper#toListResponse})을 페이지 크기별로 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class QnaMapperBenchmark {
+
+    private static final int TOTAL_ELEMENTS = 1_000;
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    // toListResponse는 파일 URL을 조회하지 않으므로 FileUrlHelper가 필요 없습니다.
+    private final QnaMapper qnaMapper = new QnaMapper(null);
+    private Page<QnaEntity> qnaPage;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime issuedAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<QnaEntity> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            ParentUserEntity parent = new ParentUserEntity() {
+            };
+            parent.setId(i % 20 + 1);
+            parent.setName("학부모" + (i % 20));
+
+            QnaEntity qna = new QnaEntity();
+            qna.setId(TOTAL_ELEMENTS - i);
+            qna.setTitle("상담 일정 변경 문의 " + i);
+            qna.setContent("다음 주 상담 일정을 변경할 수 있을까요? ".repeat(10));
+            qna.setCommentCount(i % 4);
+            qna.setIssuedAt(issuedAt.minusHours(i));
+            qna.setParentUser(parent);
+            content.add(qna);
+        }
+        qnaPage = new PageImpl<>(content, PageRequest.of(0, pageSize), TOTAL_ELEMENTS);
+    }
+
+    @Benchmark
+    public QnaListResponse toListResponse() {
+        return qnaMapper.toListResponse(qnaPage);
+    }
+}
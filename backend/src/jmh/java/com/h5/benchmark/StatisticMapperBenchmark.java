@@ -0,0 +1,99 @@
+package com.h5.benchmark;
+
+import com.h5.domain.statistic.dto.response.DataAnalysisResponse;
+import com.h5.domain.statistic.entity.StatisticEntity;
+import com.h5.domain.statistic.mapper.StatisticMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통계 분석 응답 변환({@link StatisticMapper#toDataAnalysisResponse})과 챕터별 정답률 계산을 측정합니다.
+ * <p>
+ * 상담사 화면은 담당 아동 수만큼 변환을 반복하므로 아동 수를 파라미터로 둡니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StatisticMapperBenchmark {
+
+    private static final int[] EMOTION_IDS = {1, 2, 3, 4, 5};
+    private static final int CHAPTER_COUNT = 5;
+
+    @Param({"1", "30"})
+    public int childCount;
+
+    private final StatisticMapper statisticMapper = new StatisticMapper();
+    private Map<Integer, StatisticEntity>[] statsByChild;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Random random = new Random(42);
+        statsByChild = new Map[childCount];
+        for (int child = 0; child < childCount; child++) {
+            Map<Integer, StatisticEntity> statsByEmotion = new HashMap<>();
+            for (int emotionId : EMOTION_IDS) {
+                statsByEmotion.put(emotionId, createStatistic(random));
+            }
+            statsByChild[child] = statsByEmotion;
+        }
+    }
+
+    @Benchmark
+    public void toDataAnalysisResponse(Blackhole blackhole) {
+        for (int child = 0; child < childCount; child++) {
+            Map<Integer, DataAnalysisResponse> responses = statisticMapper.toDataAnalysisResponse(
+                    EMOTION_IDS, statsByChild[child], child + 1, "아동" + child);
+            blackhole.consume(responses);
+        }
+    }
+
+    @Benchmark
+    public void stageCrtRate(Blackhole blackhole) {
+        for (int child = 0; child < childCount; child++) {
+            for (StatisticEntity stat : statsByChild[child].values()) {
+                for (int chapter = 1; chapter <= CHAPTER_COUNT; chapter++) {
+                    blackhole.consume(stat.getStageCrtRate(chapter));
+                }
+            }
+        }
+    }
+
+    private static StatisticEntity createStatistic(Random random) {
+        int[] tryCnt = new int[CHAPTER_COUNT];
+        int[] crtCnt = new int[CHAPTER_COUNT];
+        for (int i = 0; i < CHAPTER_COUNT; i++) {
+            tryCnt[i] = random.nextInt(200);
+            crtCnt[i] = tryCnt[i] == 0 ? 0 : random.nextInt(tryCnt[i] + 1);
+        }
+        return StatisticEntity.builder()
+                .rating(random.nextInt(10_000))
+                .trialCnt(sum(tryCnt))
+                .crtCnt(sum(crtCnt))
+                .stageTryCnt1(tryCnt[0])
+                .stageTryCnt2(tryCnt[1])
+                .stageTryCnt3(tryCnt[2])
+                .stageTryCnt4(tryCnt[3])
+                .stageTryCnt5(tryCnt[4])
+                .stageCrtCnt1(crtCnt[0])
+                .stageCrtCnt2(crtCnt[1])
+                .stageCrtCnt3(crtCnt[2])
+                .stageCrtCnt4(crtCnt[3])
+                .stageCrtCnt5(crtCnt[4])
+                .build();
+    }
+
+    private static int sum(int[] values) {
+        int total = 0;
+        for (int value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
@@ -1,22 +1,28 @@
 package com.h5.domain.asset.controller;
 
+import com.h5.domain.asset.dto.response.GameBootstrapResponseDto;
 import com.h5.domain.asset.dto.response.GetStageResponseDto;
 import com.h5.domain.asset.dto.response.LoadAssetResponseDto;
 import com.h5.domain.asset.dto.response.LoadCardResponseDto;
 import com.h5.domain.asset.dto.response.LoadChapterAssetResponseDto;
+import com.h5.domain.asset.service.AssetCatalog;
 import com.h5.domain.asset.service.AssetService;
+import com.h5.global.cache.ContentVersioned;
 import com.h5.global.dto.response.ResultResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/assets")
 @RequiredArgsConstructor
@@ -30,16 +36,17 @@ public class AssetController {
             description = "자녀 ID로 해당 자녀가 현재 클리어한 스테이지에 해당하는 게임 자산을 조회합니다."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = LoadAssetResponseDto.class))),
             @ApiResponse(responseCode = "404", description = "자녀 또는 게임 자산을 찾을 수 없음")
     })
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/child/{childUserId}")
-    public ResultResponse<LoadAssetResponseDto> getCurrentAsset(
+    public ResponseEntity<byte[]> getCurrentAsset(
             @Parameter(description = "조회할 자녀 사용자 ID", example = "123")
             @PathVariable int childUserId
     ) {
-        return ResultResponse.success(assetService.loadAsset(childUserId));
+        return jsonBody(assetService.loadAssetBody(childUserId));
     }
 
     @Operation(
@@ -47,16 +54,17 @@ public class AssetController {
             description = "자녀 ID로 해당 자녀가 클리어한 스테이지 이하의 모든 카드 자산 목록을 조회합니다."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = LoadCardResponseDto.class))),
             @ApiResponse(responseCode = "404", description = "자녀를 찾을 수 없음")
     })
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/child/{childUserId}/cards")
-    public ResultResponse<LoadCardResponseDto> getCards(
+    public ResponseEntity<byte[]> getCards(
             @Parameter(description = "조회할 자녀 사용자 ID", example = "123")
             @PathVariable int childUserId
     ) {
-        return ResultResponse.success(assetService.loadCards(childUserId));
+        return jsonBody(assetService.loadCardsBody(childUserId));
     }
 
     @Operation(
@@ -64,16 +72,17 @@ public class AssetController {
             description = "자녀 ID로 해당 자녀가 이용 가능한 챕터 목록과 한도 정보를 조회합니다."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = LoadChapterAssetResponseDto.class))),
             @ApiResponse(responseCode = "404", description = "자녀를 찾을 수 없음")
     })
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/child/{childUserId}/chapters")
-    public ResultResponse<LoadChapterAssetResponseDto> getChapterAsset(
+    public ResponseEntity<byte[]> getChapterAsset(
             @Parameter(description = "조회할 자녀 사용자 ID", example = "123")
             @PathVariable int childUserId
     ) {
-        return ResultResponse.success(assetService.loadChapterAsset(childUserId));
+        return jsonBody(assetService.loadChapterAssetBody(childUserId));
     }
 
     @Operation(
@@ -93,23 +102,45 @@ public class AssetController {
         return ResultResponse.success(assetService.getStage(childUserId));
     }
 
+    @Operation(
+            summary = "게임 화면 시작 정보 조회",
+            description = "자녀 ID로 현재 챕터/스테이지, 현재 스테이지의 게임 자산, 카드 덱과 "
+                    + "미리 받아 둘 다음 스테이지들의 게임 자산을 한 번에 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "자녀 또는 게임 자산을 찾을 수 없음")
+    })
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/child/{childUserId}/bootstrap")
+    public ResultResponse<GameBootstrapResponseDto> getGameBootstrap(
+            @Parameter(description = "조회할 자녀 사용자 ID", example = "123")
+            @PathVariable int childUserId,
+            @Parameter(description = "함께 받을 다음 스테이지 수(최대 " + AssetService.MAX_PREFETCH + ")", example = "2")
+            @RequestParam(defaultValue = "2") int prefetch
+    ) {
+        return ResultResponse.success(assetService.loadGameBootstrap(childUserId, prefetch));
+    }
+
     @Operation(
             summary = "특정 챕터·스테이지의 게임 자산 조회",
             description = "URL Path에 포함된 챕터, 스테이지 번호로 해당하는 게임 자산을 조회합니다."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = LoadAssetResponseDto.class))),
             @ApiResponse(responseCode = "404", description = "게임 자산을 찾을 수 없음")
     })
     @PreAuthorize("isAuthenticated()")
+    @ContentVersioned(AssetCatalog.CONTENT_NAME)
     @GetMapping("/{chapter}/{stage}")
-    public ResultResponse<LoadAssetResponseDto> getAssetByStage(
+    public ResponseEntity<byte[]> getAssetByStage(
             @Parameter(description = "조회할 챕터 번호", example = "2")
             @PathVariable int chapter,
             @Parameter(description = "조회할 스테이지 번호", example = "3")
             @PathVariable int stage
     ) {
-        return ResultResponse.success(assetService.loadAssetByStage(chapter, stage));
+        return jsonBody(assetService.loadAssetByStageBody(chapter, stage));
     }
 
     @Operation(
@@ -117,15 +148,26 @@ public class AssetController {
             description = "URL Path에 포함된 챕터 번호로 해당 챕터의 학습용 자산 목록을 조회합니다."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = LoadAssetResponseDto.class)))),
             @ApiResponse(responseCode = "404", description = "학습용 자산을 찾을 수 없음")
     })
     @PreAuthorize("isAuthenticated()")
+    @ContentVersioned(AssetCatalog.CONTENT_NAME)
     @GetMapping("/study/{chapter}")
-    public ResultResponse<List<LoadAssetResponseDto>> getStudyAsset(
+    public ResponseEntity<byte[]> getStudyAsset(
             @Parameter(description = "조회할 챕터 번호", example = "2")
             @PathVariable int chapter
     ) {
-        return ResultResponse.success(assetService.loadStudyAsset(chapter));
+        return jsonBody(assetService.loadStudyAssetBody(chapter));
+    }
+
+    /**
+     * 미리 직렬화된 {@link ResultResponse} 본문을 JSON 응답으로 그대로 내보냅니다.
+     */
+    private ResponseEntity<byte[]> jsonBody(byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
@@ -0,0 +1,30 @@
+package com.h5.domain.asset.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "게임 화면 시작 시 필요한 진행도, 자산, 카드 덱을 한 번에 담은 DTO")
+public class GameBootstrapResponseDto {
+
+    @Schema(description = "현재 클리어된 챕터 번호", example = "2")
+    private final Integer chapter;
+
+    @Schema(description = "현재 클리어된 스테이지 번호", example = "3")
+    private final Integer stage;
+
+    @Schema(description = "현재 스테이지의 게임 자산")
+    private final LoadAssetResponseDto currentAsset;
+
+    @Schema(description = "미리 받아 둘 다음 스테이지들의 게임 자산(스테이지 ID 순)")
+    private final List<LoadAssetResponseDto> nextAssets;
+
+    @Schema(description = "클리어한 스테이지 이하의 카드 자산 목록")
+    private final List<CardAssetResponseDto> cardAssetList;
+}
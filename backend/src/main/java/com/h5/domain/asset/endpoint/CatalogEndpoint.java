@@ -0,0 +1,57 @@
+package com.h5.domain.asset.endpoint;
+
+import com.h5.domain.asset.service.AssetCatalog;
+import com.h5.domain.asset.service.GameCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 기준 데이터 카탈로그를 운영자가 다시 적재하는 actuator 엔드포인트({@code /actuator/catalog})입니다.
+ * <p>
+ * - 게임 챕터, 스테이지, 감정이나 자산 데이터를 DB에서 직접 변경한 뒤 재기동 없이 반영할 때 사용합니다.
+ * - {@link AssetCatalog}는 {@link GameCatalog}의 정답과 챕터를 읽어 응답을 만들므로 항상 {@link GameCatalog}를 먼저 적재합니다.
+ * - 자산 버전은 응답 본문의 요약이므로 내용이 바뀌면 함께 바뀌고, 이전 ETag로 들어온 조건부 GET은 새 본문을 받습니다.
+ * - 다른 actuator 엔드포인트처럼 기본으로 노출되지 않으며, {@code management.endpoints.web.exposure.include}에
+ *   {@code catalog}를 추가한 뒤 서버 안에서(loopback 주소로만 허용) 호출합니다. 인스턴스마다 따로 호출해야 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Endpoint(id = "catalog")
+@RequiredArgsConstructor
+public class CatalogEndpoint {
+
+    private final GameCatalog gameCatalog;
+    private final AssetCatalog assetCatalog;
+
+    /**
+     * 현재 적재된 자산 카탈로그의 버전을 반환합니다.
+     *
+     * @return {@code assetVersion} → 자산 버전
+     */
+    @ReadOperation
+    public Map<String, String> version() {
+        return Map.of("assetVersion", assetCatalog.currentVersion());
+    }
+
+    /**
+     * 게임 카탈로그와 자산 카탈로그를 순서대로 다시 적재합니다.
+     *
+     * @return {@code assetVersion} → 다시 적재한 자산 버전
+     */
+    @WriteOperation
+    public synchronized Map<String, String> reload() {
+        String previousVersion = assetCatalog.currentVersion();
+        gameCatalog.reload();
+        assetCatalog.reload();
+        String version = assetCatalog.currentVersion();
+        log.info("기준 데이터 카탈로그 재적재: 자산 버전 {} -> {}", previousVersion, version);
+        return Map.of("assetVersion", version);
+    }
+}
@@ -0,0 +1,411 @@
+package com.h5.domain.asset.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.hyeonjaez.springcommon.exception.BusinessException;
+import com.h5.domain.asset.dto.response.CardAssetResponseDto;
+import com.h5.domain.asset.dto.response.ChapterAssetResponseDto;
+import com.h5.domain.asset.dto.response.LoadAssetResponseDto;
+import com.h5.domain.asset.dto.response.LoadCardResponseDto;
+import com.h5.domain.asset.dto.response.LoadChapterAssetResponseDto;
+import com.h5.domain.asset.entity.CardAssetEntity;
+import com.h5.domain.asset.entity.GameAssetEntity;
+import com.h5.domain.asset.repository.CardAssetRepository;
+import com.h5.domain.asset.repository.GameAssetRepository;
+import com.h5.global.cache.ContentVersionSource;
+import com.h5.global.dto.response.ResultResponse;
+import com.h5.global.exception.DomainErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게임 자산 응답을 스테이지/챕터 단위로 미리 만들어 두는 버전 있는 카탈로그입니다.
+ * <p>
+ * - 자산 응답은 기준 데이터에만 의존하므로 기동 시 한 번 {@link LoadAssetResponseDto}를 구성하고,
+ *   {@link ResultResponse}로 감싼 JSON 본문 바이트까지 직렬화해 둡니다.
+ * - 요청 처리 시에는 자녀의 진행도만 확인하고 저장된 바이트를 그대로 응답합니다.
+ * - 카드는 스테이지 ID 순으로 정렬된 하나의 불변 목록으로 두고, 자녀의 카드 덱은 진행도까지의 접두 구간 뷰로 반환합니다.
+ * - 스냅샷의 버전은 모든 응답 본문의 SHA-256 요약이므로 내용이 같으면 인스턴스와 재기동에 관계없이 같습니다.
+ * - 스테이지의 정답과 챕터는 {@link GameCatalog}에서 읽으므로, 기준 데이터를 변경한 경우
+ *   {@link com.h5.domain.asset.endpoint.CatalogEndpoint}로 {@link GameCatalog#reload()} 후 {@link #reload()}를 호출합니다.
+ * - 반환하는 바이트 배열은 공유되므로 호출자가 변경해서는 안 됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetCatalog implements ContentVersionSource {
+
+    public static final String CONTENT_NAME = "asset";
+
+    private static final int STAGES_PER_CHAPTER = 5;
+
+    private final GameAssetRepository gameAssetRepository;
+    private final CardAssetRepository cardAssetRepository;
+    private final GameCatalog gameCatalog;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 자산을 DB에서 다시 읽어 응답을 재구성하고 카탈로그를 교체합니다.
+     * <p>
+     * 교체는 참조 한 번의 대입으로 이루어지므로 조회 중인 요청은 이전 스냅샷을 일관되게 봅니다.
+     * </p>
+     */
+    @PostConstruct
+    public void reload() {
+        Snapshot loaded = new Snapshot(gameAssetRepository.findAll(), cardAssetRepository.findAll());
+        this.snapshot = loaded;
+        log.info("자산 카탈로그 적재: 스테이지 {}개, 카드 {}개, 버전 {}", loaded.stageCount, loaded.cards.size(), loaded.version);
+    }
+
+    @Override
+    public String contentName() {
+        return CONTENT_NAME;
+    }
+
+    /**
+     * 현재 스냅샷의 버전을 반환합니다. 조건부 GET의 ETag 계산에 사용됩니다.
+     *
+     * @return 응답 본문 전체의 요약 값(16진수)
+     */
+    @Override
+    public String currentVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * 카드 정보가 없는 스테이지 자산을 반환합니다.
+     *
+     * @param gameStageId 게임 스테이지 ID
+     * @return 스테이지 자산
+     * @throws BusinessException 자산이 없는 경우(GAME_ASSET_NOT_FOUND)
+     */
+    public LoadAssetResponseDto getStageAsset(int gameStageId) {
+        return requirePresent(valueAt(snapshot.stageAssets, gameStageId));
+    }
+
+    /**
+     * {@link #getStageAsset(int)}를 {@link ResultResponse}로 감싼 JSON 본문을 반환합니다.
+     *
+     * @param gameStageId 게임 스테이지 ID
+     * @return 직렬화된 응답 본문
+     * @throws BusinessException 자산이 없는 경우(GAME_ASSET_NOT_FOUND)
+     */
+    public byte[] getStageAssetBody(int gameStageId) {
+        return requirePresent(valueAt(snapshot.stageAssetBodies, gameStageId));
+    }
+
+    /**
+     * 카드 앞/뒤 정보를 포함한 스테이지 자산을 반환합니다.
+     *
+     * @param gameStageId 게임 스테이지 ID
+     * @return 스테이지 자산
+     * @throws BusinessException 게임 자산 또는 카드 자산이 없는 경우(GAME_ASSET_NOT_FOUND)
+     */
+    public LoadAssetResponseDto getStageAssetWithCard(int gameStageId) {
+        return requirePresent(valueAt(snapshot.stageAssetsWithCard, gameStageId));
+    }
+
+    /**
+     * {@link #getStageAssetWithCard(int)}를 {@link ResultResponse}로 감싼 JSON 본문을 반환합니다.
+     *
+     * @param gameStageId 게임 스테이지 ID
+     * @return 직렬화된 응답 본문
+     * @throws BusinessException 게임 자산 또는 카드 자산이 없는 경우(GAME_ASSET_NOT_FOUND)
+     */
+    public byte[] getStageAssetWithCardBody(int gameStageId) {
+        return requirePresent(valueAt(snapshot.stageAssetWithCardBodies, gameStageId));
+    }
+
+    /**
+     * 지정한 스테이지 다음부터 연속된 스테이지의 카드 정보 없는 자산을 최대 {@code count}개 반환합니다.
+     * 자산이 없는 스테이지를 만나면 거기서 멈춥니다.
+     *
+     * @param gameStageId 기준 게임 스테이지 ID
+     * @param count       최대 개수
+     * @return 스테이지 ID 순 자산 목록
+     */
+    public List<LoadAssetResponseDto> getNextStageAssets(int gameStageId, int count) {
+        Snapshot current = snapshot;
+        List<LoadAssetResponseDto> assets = new ArrayList<>(count);
+        for (int id = gameStageId + 1; assets.size() < count; id++) {
+            LoadAssetResponseDto asset = valueAt(current.stageAssets, id);
+            if (asset == null) {
+                break;
+            }
+            assets.add(asset);
+        }
+        return assets;
+    }
+
+    /**
+     * 챕터 번호에 해당하는 스테이지 ID 범위의 학습용 자산 목록을 반환합니다.
+     *
+     * @param chapter 챕터 번호
+     * @return 스테이지 ID 순 자산 목록(없으면 빈 목록)
+     */
+    public List<LoadAssetResponseDto> getStudyAssets(int chapter) {
+        List<LoadAssetResponseDto> assets = valueAt(snapshot.studyAssets, chapter);
+        return assets == null ? List.of() : assets;
+    }
+
+    /**
+     * {@link #getStudyAssets(int)}를 {@link ResultResponse}로 감싼 JSON 본문을 반환합니다.
+     *
+     * @param chapter 챕터 번호
+     * @return 직렬화된 응답 본문
+     */
+    public byte[] getStudyAssetsBody(int chapter) {
+        byte[] body = valueAt(snapshot.studyAssetBodies, chapter);
+        return body == null ? snapshot.emptyStudyAssetsBody : body;
+    }
+
+    /**
+     * 챕터 목록과 이용 한도를 담은 응답을 반환합니다.
+     *
+     * @param limit 이용 가능한 챕터 한도
+     * @return 챕터 목록 응답
+     */
+    public LoadChapterAssetResponseDto getChapterAssets(int limit) {
+        return LoadChapterAssetResponseDto.builder()
+                .chapterAssetDtoList(snapshot.chapterAssets)
+                .limit(limit)
+                .build();
+    }
+
+    /**
+     * {@link #getChapterAssets(int)}를 {@link ResultResponse}로 감싼 JSON 본문을 반환합니다.
+     * 진행도로 나올 수 있는 한도 값은 미리 직렬화되어 있고, 그 밖의 값만 요청 시 직렬화합니다.
+     *
+     * @param limit 이용 가능한 챕터 한도
+     * @return 직렬화된 응답 본문
+     */
+    public byte[] getChapterAssetsBody(int limit) {
+        byte[] body = valueAt(snapshot.chapterAssetBodies, limit);
+        return body != null ? body : serialize(getChapterAssets(limit));
+    }
+
+    /**
+     * 클리어한 스테이지 ID 이하의 카드 목록(카드 덱)을 반환합니다.
+     * 전체 카드 목록의 접두 구간 뷰이므로 진행도와 관계없이 복사나 탐색 없이 상수 시간에 만들어집니다.
+     *
+     * @param clearedStageId 자녀가 클리어한 스테이지 ID(clearChapter)
+     * @return 스테이지 ID 순 카드 덱 응답
+     */
+    public LoadCardResponseDto getCardDeck(int clearedStageId) {
+        Snapshot current = snapshot;
+        return LoadCardResponseDto.builder()
+                .cardAssetList(current.cards.subList(0, current.cardCountUpTo(clearedStageId)))
+                .build();
+    }
+
+    /**
+     * {@link #getCardDeck(int)}를 {@link ResultResponse}로 감싼 JSON 본문을 반환합니다.
+     * 본문은 접두 길이(카드 수)별로 미리 직렬화되어 있습니다.
+     *
+     * @param clearedStageId 자녀가 클리어한 스테이지 ID(clearChapter)
+     * @return 직렬화된 응답 본문
+     */
+    public byte[] getCardDeckBody(int clearedStageId) {
+        Snapshot current = snapshot;
+        return current.cardDeckBodies[current.cardCountUpTo(clearedStageId)];
+    }
+
+    private static <T> T valueAt(T[] values, int id) {
+        return (id > 0 && id < values.length) ? values[id] : null;
+    }
+
+    private static <T> T requirePresent(T value) {
+        if (value == null) {
+            throw new BusinessException(DomainErrorCode.GAME_ASSET_NOT_FOUND);
+        }
+        return value;
+    }
+
+    private byte[] serialize(Object results) {
+        try {
+            return objectMapper.writeValueAsBytes(ResultResponse.success(results));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize asset response", e);
+        }
+    }
+
+    /**
+     * 한 시점의 자산 응답과 직렬화된 본문을 ID 인덱스 배열로 담은 불변 스냅샷입니다.
+     * 배열의 {@code null}은 "없음"을 뜻합니다.
+     */
+    private final class Snapshot {
+
+        private final int stageCount;
+        private final String version;
+
+        private final LoadAssetResponseDto[] stageAssets;
+        private final byte[][] stageAssetBodies;
+        private final LoadAssetResponseDto[] stageAssetsWithCard;
+        private final byte[][] stageAssetWithCardBodies;
+
+        private final List<LoadAssetResponseDto>[] studyAssets;
+        private final byte[][] studyAssetBodies;
+        private final byte[] emptyStudyAssetsBody;
+
+        private final List<ChapterAssetResponseDto> chapterAssets;
+        private final byte[][] chapterAssetBodies;
+
+        private final List<CardAssetResponseDto> cards;
+        private final int[] cardCountByStageId;
+        private final byte[][] cardDeckBodies;
+
+        @SuppressWarnings("unchecked")
+        private Snapshot(List<GameAssetEntity> gameAssets, List<CardAssetEntity> cardAssets) {
+            Map<Integer, CardAssetEntity> cards = cardAssets.stream()
+                    .collect(Collectors.toMap(card -> card.getGameStageEntity().getId(), Function.identity(), (a, b) -> a));
+            int maxStageId = gameAssets.stream().mapToInt(GameAssetEntity::getId).max().orElse(0);
+            int maxChapterId = Arrays.stream(gameCatalog.getChapterIds()).max().orElse(0);
+            MessageDigest digest = newDigest();
+
+            stageAssets = new LoadAssetResponseDto[maxStageId + 1];
+            stageAssetBodies = new byte[maxStageId + 1][];
+            stageAssetsWithCard = new LoadAssetResponseDto[maxStageId + 1];
+            stageAssetWithCardBodies = new byte[maxStageId + 1][];
+            int loadedStages = 0;
+            for (GameAssetEntity gameAsset : gameAssets.stream().sorted(Comparator.comparingInt(GameAssetEntity::getId)).toList()) {
+                int id = gameAsset.getId();
+                if (!gameCatalog.hasStage(id)) {
+                    continue;
+                }
+                stageAssets[id] = toResponse(gameAsset, null);
+                stageAssetBodies[id] = digested(digest, serialize(stageAssets[id]));
+                CardAssetEntity card = cards.get(id);
+                if (card != null) {
+                    stageAssetsWithCard[id] = toResponse(gameAsset, card);
+                    stageAssetWithCardBodies[id] = digested(digest, serialize(stageAssetsWithCard[id]));
+                }
+                loadedStages++;
+            }
+            stageCount = loadedStages;
+
+            int maxChapter = Math.max(maxChapterId, (maxStageId + STAGES_PER_CHAPTER - 1) / STAGES_PER_CHAPTER);
+            studyAssets = new List[maxChapter + 1];
+            studyAssetBodies = new byte[maxChapter + 1][];
+            for (int chapter = 1; chapter <= maxChapter; chapter++) {
+                int firstId = (chapter - 1) * STAGES_PER_CHAPTER + 1;
+                List<LoadAssetResponseDto> assets = new ArrayList<>();
+                for (int id = firstId; id < firstId + STAGES_PER_CHAPTER && id <= maxStageId; id++) {
+                    if (stageAssets[id] != null) {
+                        assets.add(stageAssets[id]);
+                    }
+                }
+                studyAssets[chapter] = List.copyOf(assets);
+                studyAssetBodies[chapter] = digested(digest, serialize(studyAssets[chapter]));
+            }
+            emptyStudyAssetsBody = serialize(List.of());
+
+            chapterAssets = Arrays.stream(gameCatalog.getChapterIds())
+                    .mapToObj(chapterId -> ChapterAssetResponseDto.builder()
+                            .gameChapterId(chapterId)
+                            .title(gameCatalog.getChapterTitle(chapterId))
+                            .chapterPic(gameCatalog.getChapterPic(chapterId))
+                            .build())
+                    .toList();
+            // 한도 = 클리어 스테이지 수 / 5 + 1 이므로 스테이지 수로 최댓값이 정해집니다.
+            int maxLimit = maxStageId / STAGES_PER_CHAPTER + 1;
+            chapterAssetBodies = new byte[maxLimit + 1][];
+            for (int limit = 1; limit <= maxLimit; limit++) {
+                chapterAssetBodies[limit] = digested(digest, serialize(LoadChapterAssetResponseDto.builder()
+                        .chapterAssetDtoList(chapterAssets)
+                        .limit(limit)
+                        .build()));
+            }
+
+            cards = cardAssets.stream()
+                    .sorted(Comparator.comparingInt((CardAssetEntity card) -> card.getGameStageEntity().getId()))
+                    .map(card -> new CardAssetResponseDto(
+                            card.getGameStageEntity().getId(),
+                            card.getCardFront(),
+                            card.getCardBack()
+                    ))
+                    .toList();
+            // 스테이지 ID i 이하의 카드 수. 덱은 cards[0, cardCountByStageId[i]) 구간입니다.
+            int maxCardStageId = cards.isEmpty() ? 0 : cards.get(cards.size() - 1).getStageId();
+            cardCountByStageId = new int[maxCardStageId + 1];
+            int cardIndex = 0;
+            for (int stageId = 0; stageId <= maxCardStageId; stageId++) {
+                while (cardIndex < cards.size() && cards.get(cardIndex).getStageId() <= stageId) {
+                    cardIndex++;
+                }
+                cardCountByStageId[stageId] = cardIndex;
+            }
+            cardDeckBodies = new byte[cards.size() + 1][];
+            for (int count = 0; count <= cards.size(); count++) {
+                cardDeckBodies[count] = digested(digest, serialize(LoadCardResponseDto.builder()
+                        .cardAssetList(cards.subList(0, count))
+                        .build()));
+            }
+
+            version = HexFormat.of().formatHex(digest.digest(), 0, 8);
+        }
+
+        private int cardCountUpTo(int clearedStageId) {
+            if (clearedStageId <= 0) {
+                return 0;
+            }
+            return clearedStageId < cardCountByStageId.length ? cardCountByStageId[clearedStageId] : cards.size();
+        }
+
+        private LoadAssetResponseDto toResponse(GameAssetEntity gameAsset, CardAssetEntity cardAsset) {
+            int gameStageId = gameAsset.getId();
+            int chapter = gameCatalog.getStageChapterId(gameStageId);
+
+            LoadAssetResponseDto.LoadAssetResponseDtoBuilder builder = LoadAssetResponseDto.builder()
+                    .gameStageId(gameStageId - (chapter - 1) * STAGES_PER_CHAPTER)
+                    .chapterId(chapter)
+                    .gameVideo(gameAsset.getGameSceneVideo())
+                    .options(new String[]{
+                            gameAsset.getOpt1(),
+                            gameAsset.getOpt2(),
+                            gameAsset.getOpt3()
+                    })
+                    .optionImages(new String[]{
+                            gameAsset.getOptPic1(),
+                            gameAsset.getOptPic2(),
+                            gameAsset.getOptPic3()
+                    })
+                    .situation(gameAsset.getSituation())
+                    .answer(gameCatalog.getStageCrtAns(gameStageId));
+
+            if (cardAsset != null) {
+                builder.cardFront(cardAsset.getCardFront())
+                        .cardBack(cardAsset.getCardBack());
+            }
+            return builder.build();
+        }
+
+        private byte[] digested(MessageDigest digest, byte[] body) {
+            digest.update(body);
+            return body;
+        }
+
+        private MessageDigest newDigest() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+    }
+}
@@ -1,19 +1,11 @@
 package com.h5.domain.asset.service;
 
 import com.github.hyeonjaez.springcommon.exception.BusinessException;
-import com.h5.domain.asset.dto.response.CardAssetResponseDto;
-import com.h5.domain.asset.dto.response.ChapterAssetResponseDto;
+import com.h5.domain.asset.dto.response.GameBootstrapResponseDto;
 import com.h5.domain.asset.dto.response.GetStageResponseDto;
 import com.h5.domain.asset.dto.response.LoadAssetResponseDto;
 import com.h5.domain.asset.dto.response.LoadCardResponseDto;
 import com.h5.domain.asset.dto.response.LoadChapterAssetResponseDto;
-import com.h5.domain.asset.entity.CardAssetEntity;
-import com.h5.domain.asset.entity.GameAssetEntity;
-import com.h5.domain.asset.entity.GameStageEntity;
-import com.h5.domain.asset.repository.CardAssetRepository;
-import com.h5.domain.asset.repository.GameAssetRepository;
-import com.h5.domain.asset.repository.GameChapterRepository;
-import com.h5.domain.asset.repository.GameStageRepository;
 import com.h5.domain.user.child.entity.ChildUserEntity;
 import com.h5.domain.user.child.repository.ChildUserRepository;
 import com.h5.global.exception.DomainErrorCode;
@@ -22,7 +14,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 게임 및 카드 자산 조회와 관련된 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -30,6 +21,8 @@ import java.util.stream.Collectors;
  * - 자녀의 clearChapter 정보를 기반으로 게임 스테이지와 챕터 정보를 계산하고,
  *   해당 스테이지의 동영상, 보기 옵션, 정답, 카드 앞/뒤 정보를 {@link LoadAssetResponseDto}로 매핑하여 반환합니다.
  * - 특정 챕터 내 스터디용 자산 목록 조회, 챕터 목록 조회, 카드 목록 조회 등의 기능을 제공합니다.
+ * - 게임 자산 응답은 {@link AssetCatalog}에 미리 구성되어 있으므로 자녀 진행도 조회 외에는 DB를 읽지 않습니다.
+ *   {@code ...Body} 메서드는 {@link com.h5.global.dto.response.ResultResponse}로 감싸 직렬화된 본문을 그대로 반환합니다.
  * </p>
  */
 @Service
@@ -37,19 +30,16 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AssetService {
 
+    public static final int MAX_PREFETCH = 5;
+
     private final ChildUserRepository childUserRepository;
-    private final GameAssetRepository gameAssetRepository;
-    private final CardAssetRepository cardAssetRepository;
-    private final GameChapterRepository gameChapterRepository;
-    private final GameStageRepository gameStageRepository;
+    private final AssetCatalog assetCatalog;
 
     /**
      * 자녀 ID를 받아, 해당 자녀가 현재 클리어한 스테이지의 게임 자산을 조회합니다.
      * <p>
-     * 1. 자녀 정보에서 clearChapter 값을 가져온 뒤, 챕터 번호와 스테이지 번호를 계산합니다.
-     * 2. 계산된 챕터와 스테이지 번호를 사용해 {@link GameAssetEntity}에서 게임 자산을,
-     *    {@link GameStageEntity}에서 정답을 조회합니다.
-     * 3. 조회된 정보를 {@link LoadAssetResponseDto}로 변환하여 반환합니다.
+     * 1. 자녀 정보에서 clearChapter 값을 가져온 뒤, 챕터 번호와 스테이지 번호로 gameStageId를 계산합니다.
+     * 2. {@link AssetCatalog}에 미리 구성된 해당 스테이지의 {@link LoadAssetResponseDto}를 반환합니다.
      * </p>
      *
      * @param childUserId 조회할 자녀 사용자 ID
@@ -58,29 +48,26 @@ public class AssetService {
      *                          또는 게임 자산을 찾지 못한 경우(DomainErrorCode.GAME_ASSET_NOT_FOUND)
      */
     public LoadAssetResponseDto loadAsset(Integer childUserId) {
-        ChildUserEntity child = findChildOrThrow(childUserId);
-        int clearChapter = child.getClearChapter();
-
-        int chapter = computeChapter(clearChapter);
-        int stage = computeStage(clearChapter);
-        int gameStageId = computeGameStageId(chapter, stage);
-
-        int stageAnswer = fetchStageAnswer(gameStageId);
-
-        GameAssetEntity gameAsset = gameAssetRepository
-                .findByGameStageEntity_GameChapterEntity_IdAndGameStageEntity_Stage(chapter, stage)
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_ASSET_NOT_FOUND));
+        return assetCatalog.getStageAsset(currentGameStageId(childUserId));
+    }
 
-        return buildLoadAssetResponse(gameAsset, stageAnswer, chapter, stage, null);
+    /**
+     * {@link #loadAsset(Integer)}의 응답 본문을 미리 직렬화된 바이트로 반환합니다.
+     *
+     * @param childUserId 조회할 자녀 사용자 ID
+     * @return 직렬화된 응답 본문
+     * @throws BusinessException 자녀를 찾지 못한 경우(DomainErrorCode.USER_NOT_FOUND)
+     *                          또는 게임 자산을 찾지 못한 경우(DomainErrorCode.GAME_ASSET_NOT_FOUND)
+     */
+    public byte[] loadAssetBody(Integer childUserId) {
+        return assetCatalog.getStageAssetBody(currentGameStageId(childUserId));
     }
 
     /**
      * 챕터 번호와 스테이지 번호를 받아 해당하는 게임 자산 및 카드 자산을 조회합니다.
      * <p>
-     * 1. 주어진 chapter, stage 값으로 gameStageId를 계산합니다.
-     * 2. {@link GameAssetEntity}에서 게임 자산을, {@link GameStageEntity}에서 정답을 조회합니다.
-     * 3. {@link CardAssetEntity}에서 카드 자산을 조회합니다.
-     * 4. 조회된 정보를 {@link LoadAssetResponseDto}로 변환하여 반환합니다.
+     * 주어진 chapter, stage 값으로 gameStageId를 계산하고,
+     * {@link AssetCatalog}에 미리 구성된 카드 앞/뒤 정보 포함 {@link LoadAssetResponseDto}를 반환합니다.
      * </p>
      *
      * @param chapter 조회할 챕터 번호
@@ -89,27 +76,26 @@ public class AssetService {
      * @throws BusinessException 게임 자산 또는 카드 자산을 찾지 못한 경우(DomainErrorCode.GAME_ASSET_NOT_FOUND)
      */
     public LoadAssetResponseDto loadAssetByStage(Integer chapter, Integer stage) {
-        int gameStageId = computeGameStageId(chapter, stage);
-
-        int stageAnswer = fetchStageAnswer(gameStageId);
-
-        GameAssetEntity gameAsset = gameAssetRepository
-                .findById(gameStageId)
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_ASSET_NOT_FOUND));
-
-        CardAssetEntity cardAsset = cardAssetRepository
-                .findByGameStageEntity_Id(gameStageId)
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_ASSET_NOT_FOUND));
+        return assetCatalog.getStageAssetWithCard(computeGameStageId(chapter, stage));
+    }
 
-        return buildLoadAssetResponse(gameAsset, stageAnswer, chapter, stage, cardAsset);
+    /**
+     * {@link #loadAssetByStage(Integer, Integer)}의 응답 본문을 미리 직렬화된 바이트로 반환합니다.
+     *
+     * @param chapter 조회할 챕터 번호
+     * @param stage   조회할 스테이지 번호
+     * @return 직렬화된 응답 본문
+     * @throws BusinessException 게임 자산 또는 카드 자산을 찾지 못한 경우(DomainErrorCode.GAME_ASSET_NOT_FOUND)
+     */
+    public byte[] loadAssetByStageBody(Integer chapter, Integer stage) {
+        return assetCatalog.getStageAssetWithCardBody(computeGameStageId(chapter, stage));
     }
 
     /**
      * 자녀 ID를 받아, 해당 자녀가 클리어한 총 스테이지(ID) 값 이하의 모든 카드 자산 목록을 조회합니다.
      * <p>
      * 1. 자녀 정보에서 clearChapter 값을 가져옵니다.
-     * 2. {@link CardAssetEntity} 테이블에서 gameStageId가 clearChapter 이하인 엔티티 목록을 조회합니다.
-     * 3. 조회된 엔티티 리스트를 {@link CardAssetResponseDto} 리스트로 변환하여 반환합니다.
+     * 2. {@link AssetCatalog}의 스테이지 ID 순 카드 목록에서 clearChapter 이하 구간을 반환합니다.
      * </p>
      *
      * @param childUserId 조회할 자녀 사용자 ID
@@ -117,30 +103,25 @@ public class AssetService {
      * @throws BusinessException 해당 자녀를 찾지 못한 경우(DomainErrorCode.USER_NOT_FOUND)
      */
     public LoadCardResponseDto loadCards(Integer childUserId) {
-        ChildUserEntity child = findChildOrThrow(childUserId);
-        int clearChapter = child.getClearChapter();
-
-        List<CardAssetEntity> entities = cardAssetRepository.findByGameStageEntity_IdLessThanEqual(clearChapter);
-        List<CardAssetResponseDto> cardDtos = entities.stream()
-                .map(entity -> new CardAssetResponseDto(
-                        entity.getGameStageEntity().getId(),
-                        entity.getCardFront(),
-                        entity.getCardBack()
-                ))
-                .collect(Collectors.toList());
+        return assetCatalog.getCardDeck(findChildOrThrow(childUserId).getClearChapter());
+    }
 
-        return LoadCardResponseDto.builder()
-                .cardAssetList(cardDtos)
-                .build();
+    /**
+     * {@link #loadCards(Integer)}의 응답 본문을 미리 직렬화된 바이트로 반환합니다.
+     *
+     * @param childUserId 조회할 자녀 사용자 ID
+     * @return 직렬화된 응답 본문
+     * @throws BusinessException 해당 자녀를 찾지 못한 경우(DomainErrorCode.USER_NOT_FOUND)
+     */
+    public byte[] loadCardsBody(Integer childUserId) {
+        return assetCatalog.getCardDeckBody(findChildOrThrow(childUserId).getClearChapter());
     }
 
     /**
      * 자녀 ID를 받아, 해당 자녀가 이용 가능한(등록된) 챕터 목록과 한도(limit) 정보를 조회합니다.
      * <p>
      * 1. 자녀 정보에서 clearChapter 값을 가져와 limit을 계산합니다 (limit = clearChapter / 5 + 1).
-     * 2. 모든 {@link com.h5.domain.asset.entity.GameChapterEntity}를 조회하여
-     *    {@link ChapterAssetResponseDto} 리스트로 변환합니다.
-     * 3. {@link LoadChapterAssetResponseDto}에 챕터 리스트와 limit을 담아 반환합니다.
+     * 2. {@link AssetCatalog}에 미리 구성된 챕터 목록과 limit을 {@link LoadChapterAssetResponseDto}에 담아 반환합니다.
      * </p>
      *
      * @param childUserId 조회할 자녀 사용자 ID
@@ -148,45 +129,44 @@ public class AssetService {
      * @throws BusinessException 해당 자녀를 찾지 못한 경우(DomainErrorCode.USER_NOT_FOUND)
      */
     public LoadChapterAssetResponseDto loadChapterAsset(Integer childUserId) {
-        ChildUserEntity child = findChildOrThrow(childUserId);
-        int clearChapter = child.getClearChapter();
-        int limit = clearChapter / 5 + 1;
-
-        List<ChapterAssetResponseDto> chapterDtos = gameChapterRepository.findAll().stream()
-                .map(chapterEntity -> ChapterAssetResponseDto.builder()
-                        .gameChapterId(chapterEntity.getId())
-                        .title(chapterEntity.getTitle())
-                        .chapterPic(chapterEntity.getChapterPic())
-                        .build())
-                .collect(Collectors.toList());
+        return assetCatalog.getChapterAssets(computeLimit(childUserId));
+    }
 
-        return LoadChapterAssetResponseDto.builder()
-                .chapterAssetDtoList(chapterDtos)
-                .limit(limit)
-                .build();
+    /**
+     * {@link #loadChapterAsset(Integer)}의 응답 본문을 미리 직렬화된 바이트로 반환합니다.
+     *
+     * @param childUserId 조회할 자녀 사용자 ID
+     * @return 직렬화된 응답 본문
+     * @throws BusinessException 해당 자녀를 찾지 못한 경우(DomainErrorCode.USER_NOT_FOUND)
+     */
+    public byte[] loadChapterAssetBody(Integer childUserId) {
+        return assetCatalog.getChapterAssetsBody(computeLimit(childUserId));
     }
 
     /**
      * 특정 챕터 번호의 학습용(스터디) 자산 목록을 조회합니다.
      * <p>
-     * 1. 요청받은 챕터 번호를 기반으로 해당 챕터에 속하는 스테이지 ID 범위(firstId ~ lastId)를 계산합니다.
+     * 요청받은 챕터 번호에 속하는 스테이지 ID 범위(firstId ~ lastId)의 자산을
+     * {@link AssetCatalog}에서 스테이지 ID 순으로 반환합니다.
      *    - firstId = (chapter - 1) * 5 + 1
      *    - lastId  = firstId + 4
-     * 2. {@link GameAssetRepository}를 사용하여 범위 내 모든 {@link GameAssetEntity}를 조회합니다.
-     * 3. 조회된 엔티티를 {@link LoadAssetResponseDto} 리스트로 변환하여 반환합니다.
      * </p>
      *
      * @param chapter 조회할 챕터 번호
      * @return 학습용 게임 자산 목록을 포함한 {@code List<LoadAssetResponseDto>}
      */
     public List<LoadAssetResponseDto> loadStudyAsset(Integer chapter) {
-        int firstId = computeGameStageId(chapter, 1);
-        int lastId = firstId + 4;
+        return assetCatalog.getStudyAssets(chapter);
+    }
 
-        List<GameAssetEntity> entities = gameAssetRepository.findByIdBetween(firstId, lastId);
-        return entities.stream()
-                .map(this::convertToDtoWithoutCard)
-                .collect(Collectors.toList());
+    /**
+     * {@link #loadStudyAsset(Integer)}의 응답 본문을 미리 직렬화된 바이트로 반환합니다.
+     *
+     * @param chapter 조회할 챕터 번호
+     * @return 직렬화된 응답 본문
+     */
+    public byte[] loadStudyAssetBody(Integer chapter) {
+        return assetCatalog.getStudyAssetsBody(chapter);
     }
 
     /**
@@ -215,6 +195,35 @@ public class AssetService {
                 .build();
     }
 
+    /**
+     * 게임 화면 시작에 필요한 진행도, 현재 스테이지 자산, 카드 덱과 다음 스테이지 자산을 한 번에 조회합니다.
+     * <p>
+     * {@link #getStage(int)}, {@link #loadAsset(Integer)}, {@link #loadCards(Integer)}를 각각 호출하는 대신
+     * 자녀를 한 번만 조회하고, 나머지는 모두 {@link AssetCatalog}에서 가져옵니다.
+     * 다음 스테이지 자산은 클라이언트가 동영상을 미리 받을 수 있도록 최대 {@value #MAX_PREFETCH}개까지 포함합니다.
+     * </p>
+     *
+     * @param childUserId 조회할 자녀 사용자 ID
+     * @param prefetch    함께 받을 다음 스테이지 수(0 ~ {@value #MAX_PREFETCH}로 보정)
+     * @return 진행도, 자산, 카드 덱을 담은 {@link GameBootstrapResponseDto}
+     * @throws BusinessException 자녀를 찾지 못한 경우(DomainErrorCode.USER_NOT_FOUND)
+     *                          또는 현재 스테이지의 게임 자산을 찾지 못한 경우(DomainErrorCode.GAME_ASSET_NOT_FOUND)
+     */
+    public GameBootstrapResponseDto loadGameBootstrap(Integer childUserId, int prefetch) {
+        int clearChapter = findChildOrThrow(childUserId).getClearChapter();
+        int chapter = computeChapter(clearChapter);
+        int stage = computeStage(clearChapter);
+        int gameStageId = computeGameStageId(chapter, stage);
+
+        return GameBootstrapResponseDto.builder()
+                .chapter(chapter)
+                .stage(stage)
+                .currentAsset(assetCatalog.getStageAsset(gameStageId))
+                .nextAssets(assetCatalog.getNextStageAssets(gameStageId, Math.max(0, Math.min(prefetch, MAX_PREFETCH))))
+                .cardAssetList(assetCatalog.getCardDeck(clearChapter).getCardAssetList())
+                .build();
+    }
+
     /**
      * 자녀 ID로 {@link ChildUserEntity}를 조회하여 반환합니다.
      *
@@ -268,109 +277,28 @@ public class AssetService {
     }
 
     /**
-     * gameStageId를 기반으로 {@link GameStageEntity#getCrtAns()}를 조회하여 반환합니다.
-     *
-     * @param gameStageId 조회할 게임 스테이지 ID
-     * @return 해당 스테이지의 정답 키
-     * @throws BusinessException 스테이지를 찾지 못한 경우(DomainErrorCode.GAME_ASSET_NOT_FOUND)
-     */
-    private int fetchStageAnswer(int gameStageId) {
-        return gameStageRepository.findById(gameStageId)
-                .map(GameStageEntity::getCrtAns)
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_ASSET_NOT_FOUND));
-    }
-
-    /**
-     * {@link GameAssetEntity}와 정답, 챕터, 스테이지 정보를 합쳐 {@link LoadAssetResponseDto}를 생성합니다.
-     * <p>
-     * {@code cardAsset}가 {@code null}인 경우 카드 앞/뒤 정보는 DTO에 포함되지 않습니다.
-     * </p>
-     *
-     * @param gameAsset   조회된 {@link GameAssetEntity}
-     * @param answer      해당 스테이지의 정답 키
-     * @param chapter     챕터 번호
-     * @param stage       스테이지 번호
-     * @param cardAsset   조회된 {@link CardAssetEntity} (없다면 {@code null})
-     * @return 구성된 {@link LoadAssetResponseDto}
-     */
-    private LoadAssetResponseDto buildLoadAssetResponse(
-            GameAssetEntity gameAsset,
-            int answer,
-            int chapter,
-            int stage,
-            CardAssetEntity cardAsset
-    ) {
-        LoadAssetResponseDto.LoadAssetResponseDtoBuilder builder = LoadAssetResponseDto.builder()
-                .gameStageId(stage)
-                .chapterId(chapter)
-                .gameVideo(gameAsset.getGameSceneVideo())
-                .options(new String[]{
-                        gameAsset.getOpt1(),
-                        gameAsset.getOpt2(),
-                        gameAsset.getOpt3()
-                })
-                .optionImages(new String[]{
-                        gameAsset.getOptPic1(),
-                        gameAsset.getOptPic2(),
-                        gameAsset.getOptPic3()
-                })
-                .situation(gameAsset.getSituation())
-                .answer(answer);
-
-        if (cardAsset != null) {
-            builder.cardFront(cardAsset.getCardFront())
-                    .cardBack(cardAsset.getCardBack());
-        }
-
-        return builder.build();
-    }
-
-    /**
-     * {@link GameAssetEntity}만을 사용해 {@link LoadAssetResponseDto}를 생성합니다.
-     * <p>
-     * 카드 정보 없이 게임 자산만 반환해야 할 때 사용합니다.
-     * </p>
+     * 자녀의 clearChapter 값으로 현재 스테이지의 {@code gameStageId}를 계산합니다.
      *
-     * @param entity {@link GameAssetEntity}
-     * @return 카드 정보 없이 구성된 {@link LoadAssetResponseDto}
+     * @param childUserId 조회할 자녀 사용자 ID
+     * @return 계산된 {@code gameStageId}
+     * @throws BusinessException 해당 자녀를 찾지 못한 경우(DomainErrorCode.USER_NOT_FOUND)
      */
-    private LoadAssetResponseDto convertToDtoWithoutCard(GameAssetEntity entity) {
-        int gameStageId = entity.getId();
-        int answer = fetchStageAnswer(gameStageId);
-        int chapter = entity.getGameStageEntity().getGameChapterEntity().getId();
-        int stage = computeStageFromEntity(entity);
-
-        return LoadAssetResponseDto.builder()
-                .gameStageId(stage)
-                .chapterId(chapter)
-                .gameVideo(entity.getGameSceneVideo())
-                .options(new String[]{
-                        entity.getOpt1(),
-                        entity.getOpt2(),
-                        entity.getOpt3()
-                })
-                .optionImages(new String[]{
-                        entity.getOptPic1(),
-                        entity.getOptPic2(),
-                        entity.getOptPic3()
-                })
-                .situation(entity.getSituation())
-                .answer(answer)
-                .build();
+    private int currentGameStageId(int childUserId) {
+        int clearChapter = findChildOrThrow(childUserId).getClearChapter();
+        return computeGameStageId(computeChapter(clearChapter), computeStage(clearChapter));
     }
 
     /**
-     * {@link GameAssetEntity}에서 챕터 정보를 추출해 스테이지 번호를 계산합니다.
+     * 자녀의 clearChapter 값으로 이용 가능한 챕터 한도를 계산합니다.
      * <p>
-     * 공식: stage = gameStageId - (chapter - 1) * 5
+     * 공식: limit = clearChapter / 5 + 1
      * </p>
      *
-     * @param entity {@link GameAssetEntity}
-     * @return 계산된 스테이지 번호
+     * @param childUserId 조회할 자녀 사용자 ID
+     * @return 계산된 한도
+     * @throws BusinessException 해당 자녀를 찾지 못한 경우(DomainErrorCode.USER_NOT_FOUND)
      */
-    private int computeStageFromEntity(GameAssetEntity entity) {
-        int gameStageId = entity.getId();
-        int chapter = entity.getGameStageEntity().getGameChapterEntity().getId();
-        return gameStageId - (chapter - 1) * 5;
+    private int computeLimit(int childUserId) {
+        return findChildOrThrow(childUserId).getClearChapter() / 5 + 1;
     }
 }
@@ -0,0 +1,347 @@
+package com.h5.domain.asset.service;
+
+import com.github.hyeonjaez.springcommon.exception.BusinessException;
+import com.h5.domain.asset.entity.GameChapterEntity;
+import com.h5.domain.asset.entity.GameStageEntity;
+import com.h5.domain.asset.repository.GameChapterRepository;
+import com.h5.domain.asset.repository.GameStageRepository;
+import com.h5.domain.emotion.entity.EmotionEntity;
+import com.h5.domain.emotion.repository.EmotionRepository;
+import com.h5.global.exception.DomainErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 게임 챕터, 게임 스테이지, 감정 기준 데이터를 메모리에 올려두고 조회하는 카탈로그입니다.
+ * <p>
+ * - 기준 데이터는 배포 시에만 바뀌므로 기동 시 한 번 적재하고, 요청마다 repository를 조회하지 않습니다.
+ * - 각 값은 ID를 인덱스로 하는 원시 타입 배열에 담아 두며, 적재된 스냅샷은 변경되지 않습니다.
+ * - 연관 관계 설정이 필요한 경우 {@link EntityManager#getReference}로 조회 쿼리 없이 프록시를 반환합니다.
+ * - 기준 데이터를 변경한 경우 {@link com.h5.domain.asset.endpoint.CatalogEndpoint}({@code POST /actuator/catalog})로
+ *   {@link AssetCatalog}와 함께 새 스냅샷을 적재해 교체합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameCatalog {
+
+    private static final int ABSENT = 0;
+
+    private final GameChapterRepository gameChapterRepository;
+    private final GameStageRepository gameStageRepository;
+    private final EmotionRepository emotionRepository;
+    private final EntityManager entityManager;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 기준 데이터를 DB에서 다시 읽어 카탈로그를 교체합니다.
+     * <p>
+     * 교체는 참조 한 번의 대입으로 이루어지므로 조회 중인 요청은 이전 스냅샷을 일관되게 봅니다.
+     * </p>
+     */
+    @PostConstruct
+    public void reload() {
+        Snapshot loaded = new Snapshot(
+                gameChapterRepository.findAll(),
+                gameStageRepository.findAll(),
+                emotionRepository.findAll()
+        );
+        this.snapshot = loaded;
+        log.info("게임 카탈로그 적재: 챕터 {}개, 스테이지 {}개, 감정 {}개",
+                loaded.chapterIds.length, loaded.stageCount, loaded.emotionIds.length);
+    }
+
+    /**
+     * 게임 스테이지 존재 여부를 반환합니다.
+     *
+     * @param gameStageId 게임 스테이지 ID
+     * @return 존재하면 {@code true}
+     */
+    public boolean hasStage(int gameStageId) {
+        return snapshot.stageChapterId(gameStageId) != ABSENT;
+    }
+
+    /**
+     * 게임 챕터 존재 여부를 반환합니다.
+     *
+     * @param gameChapterId 게임 챕터 ID
+     * @return 존재하면 {@code true}
+     */
+    public boolean hasChapter(int gameChapterId) {
+        return snapshot.chapterStageIds(gameChapterId) != null;
+    }
+
+    /**
+     * 게임 스테이지가 속한 챕터 ID를 반환합니다.
+     *
+     * @param gameStageId 게임 스테이지 ID
+     * @return 게임 챕터 ID
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public int getStageChapterId(int gameStageId) {
+        return requirePresent(snapshot.stageChapterId(gameStageId));
+    }
+
+    /**
+     * 게임 스테이지의 대상 감정 ID를 반환합니다.
+     *
+     * @param gameStageId 게임 스테이지 ID
+     * @return 감정 ID
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public int getStageEmotionId(int gameStageId) {
+        return requirePresent(snapshot.valueAt(snapshot.stageEmotionId, gameStageId));
+    }
+
+    /**
+     * 게임 스테이지의 챕터 내 순번을 반환합니다.
+     *
+     * @param gameStageId 게임 스테이지 ID
+     * @return 챕터 내 스테이지 순번
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public int getStageNumber(int gameStageId) {
+        return requirePresent(snapshot.valueAt(snapshot.stageNumber, gameStageId));
+    }
+
+    /**
+     * 게임 스테이지의 정답 보기 번호를 반환합니다.
+     *
+     * @param gameStageId 게임 스테이지 ID
+     * @return 정답 보기 번호
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public int getStageCrtAns(int gameStageId) {
+        Snapshot current = snapshot;
+        requirePresent(current.stageChapterId(gameStageId));
+        return current.stageCrtAns[gameStageId];
+    }
+
+    /**
+     * 챕터 ID 목록을 오름차순으로 반환합니다.
+     *
+     * @return 챕터 ID 배열(복사본)
+     */
+    public int[] getChapterIds() {
+        return snapshot.chapterIds.clone();
+    }
+
+    /**
+     * 챕터에 속한 게임 스테이지 ID 목록을 스테이지 순번 순으로 반환합니다.
+     *
+     * @param gameChapterId 게임 챕터 ID
+     * @return 게임 스테이지 ID 배열(복사본)
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public int[] getChapterStageIds(int gameChapterId) {
+        int[] stageIds = snapshot.chapterStageIds(gameChapterId);
+        if (stageIds == null) {
+            throw new BusinessException(DomainErrorCode.GAME_NOT_FOUND);
+        }
+        return stageIds.clone();
+    }
+
+    /**
+     * 챕터 제목을 반환합니다.
+     *
+     * @param gameChapterId 게임 챕터 ID
+     * @return 챕터 제목
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public String getChapterTitle(int gameChapterId) {
+        return requirePresent(snapshot.valueAt(snapshot.chapterTitle, gameChapterId));
+    }
+
+    /**
+     * 챕터 대표 이미지 경로를 반환합니다.
+     *
+     * @param gameChapterId 게임 챕터 ID
+     * @return 챕터 이미지 경로
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public String getChapterPic(int gameChapterId) {
+        return requirePresent(snapshot.valueAt(snapshot.chapterPic, gameChapterId));
+    }
+
+    /**
+     * 감정 ID 목록을 오름차순으로 반환합니다.
+     *
+     * @return 감정 ID 배열(복사본)
+     */
+    public int[] getEmotionIds() {
+        return snapshot.emotionIds.clone();
+    }
+
+    /**
+     * 감정 이름을 반환합니다.
+     *
+     * @param emotionId 감정 ID
+     * @return 감정 이름
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public String getEmotionName(int emotionId) {
+        return requirePresent(snapshot.valueAt(snapshot.emotionName, emotionId));
+    }
+
+    /**
+     * 감정을 대상으로 하는 게임 스테이지 ID 목록을 오름차순으로 반환합니다.
+     *
+     * @param emotionId 감정 ID
+     * @return 게임 스테이지 ID 배열(복사본, 없으면 빈 배열)
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public int[] getEmotionStageIds(int emotionId) {
+        Snapshot current = snapshot;
+        requirePresent(current.valueAt(current.emotionName, emotionId));
+        return current.emotionStageIds[emotionId].clone();
+    }
+
+    /**
+     * 연관 관계 설정용 {@link GameStageEntity} 참조를 조회 쿼리 없이 반환합니다.
+     *
+     * @param gameStageId 게임 스테이지 ID
+     * @return 게임 스테이지 프록시
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public GameStageEntity getStageReference(int gameStageId) {
+        getStageChapterId(gameStageId);
+        return entityManager.getReference(GameStageEntity.class, gameStageId);
+    }
+
+    /**
+     * 연관 관계 설정용 {@link GameChapterEntity} 참조를 조회 쿼리 없이 반환합니다.
+     *
+     * @param gameChapterId 게임 챕터 ID
+     * @return 게임 챕터 프록시
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public GameChapterEntity getChapterReference(int gameChapterId) {
+        getChapterTitle(gameChapterId);
+        return entityManager.getReference(GameChapterEntity.class, gameChapterId);
+    }
+
+    /**
+     * 연관 관계 설정용 {@link EmotionEntity} 참조를 조회 쿼리 없이 반환합니다.
+     *
+     * @param emotionId 감정 ID
+     * @return 감정 프록시
+     * @throws BusinessException GAME_NOT_FOUND
+     */
+    public EmotionEntity getEmotionReference(int emotionId) {
+        getEmotionName(emotionId);
+        return entityManager.getReference(EmotionEntity.class, emotionId);
+    }
+
+    private static int requirePresent(int value) {
+        if (value == ABSENT) {
+            throw new BusinessException(DomainErrorCode.GAME_NOT_FOUND);
+        }
+        return value;
+    }
+
+    private static <T> T requirePresent(T value) {
+        if (value == null) {
+            throw new BusinessException(DomainErrorCode.GAME_NOT_FOUND);
+        }
+        return value;
+    }
+
+    /**
+     * 한 시점의 기준 데이터를 ID 인덱스 배열로 담은 불변 스냅샷입니다.
+     * <p>
+     * 기준 데이터의 ID는 1부터 시작하므로 값 {@code 0}(또는 {@code null})을 "없음"으로 사용합니다.
+     * </p>
+     */
+    private static final class Snapshot {
+
+        private final int stageCount;
+        private final int[] stageChapterId;
+        private final int[] stageEmotionId;
+        private final int[] stageNumber;
+        private final int[] stageCrtAns;
+
+        private final int[] chapterIds;
+        private final int[][] chapterStageIds;
+        private final String[] chapterTitle;
+        private final String[] chapterPic;
+
+        private final int[] emotionIds;
+        private final String[] emotionName;
+        private final int[][] emotionStageIds;
+
+        private Snapshot(
+                List<GameChapterEntity> chapters,
+                List<GameStageEntity> stages,
+                List<EmotionEntity> emotions
+        ) {
+            int maxStageId = stages.stream().mapToInt(GameStageEntity::getId).max().orElse(0);
+            int maxChapterId = chapters.stream().mapToInt(GameChapterEntity::getId).max().orElse(0);
+            int maxEmotionId = emotions.stream().mapToInt(EmotionEntity::getId).max().orElse(0);
+
+            stageCount = stages.size();
+            stageChapterId = new int[maxStageId + 1];
+            stageEmotionId = new int[maxStageId + 1];
+            stageNumber = new int[maxStageId + 1];
+            stageCrtAns = new int[maxStageId + 1];
+            for (GameStageEntity stage : stages) {
+                int id = stage.getId();
+                stageChapterId[id] = stage.getGameChapterEntity().getId();
+                stageEmotionId[id] = stage.getEmotionEntity().getId();
+                stageNumber[id] = stage.getStage();
+                stageCrtAns[id] = stage.getCrtAns();
+            }
+
+            chapterIds = chapters.stream().mapToInt(GameChapterEntity::getId).sorted().toArray();
+            chapterStageIds = new int[maxChapterId + 1][];
+            chapterTitle = new String[maxChapterId + 1];
+            chapterPic = new String[maxChapterId + 1];
+            for (GameChapterEntity chapter : chapters) {
+                int id = chapter.getId();
+                chapterTitle[id] = chapter.getTitle();
+                chapterPic[id] = chapter.getChapterPic();
+                chapterStageIds[id] = stages.stream()
+                        .filter(stage -> stage.getGameChapterEntity().getId() == id)
+                        .sorted(Comparator.comparing(GameStageEntity::getStage))
+                        .mapToInt(GameStageEntity::getId)
+                        .toArray();
+            }
+
+            emotionIds = emotions.stream().mapToInt(EmotionEntity::getId).sorted().toArray();
+            emotionName = new String[maxEmotionId + 1];
+            emotionStageIds = new int[maxEmotionId + 1][];
+            for (EmotionEntity emotion : emotions) {
+                int id = emotion.getId();
+                emotionName[id] = emotion.getEmo();
+                emotionStageIds[id] = stages.stream()
+                        .filter(stage -> stage.getEmotionEntity().getId() == id)
+                        .mapToInt(GameStageEntity::getId)
+                        .sorted()
+                        .toArray();
+            }
+        }
+
+        private int stageChapterId(int gameStageId) {
+            return valueAt(stageChapterId, gameStageId);
+        }
+
+        private int[] chapterStageIds(int gameChapterId) {
+            return valueAt(chapterStageIds, gameChapterId);
+        }
+
+        private int valueAt(int[] values, int id) {
+            return (id > 0 && id < values.length) ? values[id] : ABSENT;
+        }
+
+        private <T> T valueAt(T[] values, int id) {
+            return (id > 0 && id < values.length) ? values[id] : null;
+        }
+    }
+}
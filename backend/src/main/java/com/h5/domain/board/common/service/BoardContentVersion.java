@@ -0,0 +1,82 @@
+package com.h5.domain.board.common.service;
+
+import com.h5.global.cache.ContentVersionSource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 게시판 목록의 콘텐츠 버전을 Redis 카운터({@code board:version:{게시판}})로 관리하는 공통 클래스입니다.
+ * <p>
+ * 등록/수정/삭제가 커밋된 뒤 {@link #bump()}로 카운터를 올리므로, 모든 인스턴스가 같은 버전을 보고
+ * 커밋 전 내용이 새 버전으로 캐시되지 않습니다. 조회 수처럼 목록 조회마다 바뀌는 값은 버전을 올리지 않습니다.
+ * 버전은 현재 시각(epoch ms) 이상의 값으로만 올라가고, 키가 없으면 현재 시각으로 시작하므로
+ * Redis가 비워져도 이전에 발급한 ETag의 버전이 다시 쓰이지 않습니다.
+ * </p>
+ */
+public abstract class BoardContentVersion implements ContentVersionSource {
+
+    private static final String KEY_PREFIX = "board:version:";
+
+    /**
+     * 버전을 max(현재 버전 + 1, 현재 시각)으로 올립니다. KEYS[1]=버전 키, ARGV[1]=현재 시각(epoch ms)
+     */
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local now = tonumber(ARGV[1])
+            if current < now then
+                redis.call('SET', KEYS[1], ARGV[1])
+                return now
+            end
+            return redis.call('INCR', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<Object, Object> redisTemplate;
+    private final String board;
+
+    protected BoardContentVersion(RedisTemplate<Object, Object> redisTemplate, String board) {
+        this.redisTemplate = redisTemplate;
+        this.board = board;
+    }
+
+    @Override
+    public String contentName() {
+        return board;
+    }
+
+    @Override
+    public String currentVersion() {
+        String key = KEY_PREFIX + board;
+        Object value = redisTemplate.opsForValue().get(key);
+        if (value != null) {
+            return value.toString();
+        }
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+        Object seeded = redisTemplate.opsForValue().get(key);
+        return seeded != null ? seeded.toString() : "0";
+    }
+
+    /**
+     * 게시판 내용이 바뀌었음을 기록합니다. 트랜잭션 안에서 호출하면 커밋 후에 반영합니다.
+     */
+    public void bump() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment();
+                }
+            });
+        } else {
+            increment();
+        }
+    }
+
+    private void increment() {
+        redisTemplate.execute(BUMP_SCRIPT, List.of(KEY_PREFIX + board), String.valueOf(System.currentTimeMillis()));
+    }
+}
@@ -6,7 +6,9 @@ import com.h5.domain.board.faq.dto.request.FaqUpdateRequest;
 import com.h5.domain.board.faq.dto.response.FaqDetailResponse;
 import com.h5.domain.board.faq.dto.response.FaqListResponse;
 import com.h5.domain.board.faq.dto.response.FaqSaveResponse;
+import com.h5.domain.board.faq.service.FaqContentVersion;
 import com.h5.domain.board.faq.service.FaqService;
+import com.h5.global.cache.ContentVersioned;
 import com.h5.global.dto.response.ResultResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -34,6 +36,7 @@ public class FaqController extends AbstractBoardController<
             description = "제목, 작성자, 페이지, 사이즈 파라미터에 따라 페이징된 목록을 조회합니다."
     )
     @PreAuthorize("isAuthenticated()")
+    @ContentVersioned(value = FaqContentVersion.CONTENT_NAME, perUser = true)
     @GetMapping
     public ResultResponse<FaqListResponse> findAll(
             @RequestParam String title,
@@ -0,0 +1,18 @@
+package com.h5.domain.board.faq.service;
+
+import com.h5.domain.board.common.service.BoardContentVersion;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * FAQ 목록의 콘텐츠 버전입니다.
+ */
+@Component
+public class FaqContentVersion extends BoardContentVersion {
+
+    public static final String CONTENT_NAME = "faq";
+
+    public FaqContentVersion(RedisTemplate<Object, Object> redisTemplate) {
+        super(redisTemplate, CONTENT_NAME);
+    }
+}
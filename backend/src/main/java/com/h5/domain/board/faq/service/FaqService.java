@@ -36,6 +36,7 @@ public class FaqService extends AbstractBoardService<
     private final FaqMapper faqMapper;
     private final AuthenticationService authenticationService;
     private final ConsultantUserService consultantUserService;
+    private final FaqContentVersion faqContentVersion;
 
     /**
      * FAQ 목록 조회 (페이징, 검색 포함).
@@ -120,6 +121,7 @@ public class FaqService extends AbstractBoardService<
                 .build();
 
         Integer savedId = faqRepository.save(entity).getId();
+        faqContentVersion.bump();
         return FaqSaveResponse.builder().id(savedId).build();
     }
 
@@ -145,6 +147,7 @@ public class FaqService extends AbstractBoardService<
         entity.setContent(dto.getContent());
         Integer updatedId = faqRepository.save(entity).getId();
 
+        faqContentVersion.bump();
         return FaqSaveResponse.builder().id(updatedId).build();
     }
 
@@ -167,5 +170,6 @@ public class FaqService extends AbstractBoardService<
 
         entity.setDeletedAt(LocalDateTime.now());
         faqRepository.save(entity);
+        faqContentVersion.bump();
     }
 }
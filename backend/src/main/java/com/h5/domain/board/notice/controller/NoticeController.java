@@ -6,7 +6,9 @@ import com.h5.domain.board.notice.dto.request.NoticeUpdateRequest;
 import com.h5.domain.board.notice.dto.response.NoticeDetailResponse;
 import com.h5.domain.board.notice.dto.response.NoticeListResponse;
 import com.h5.domain.board.notice.dto.response.NoticeSaveResponse;
+import com.h5.domain.board.notice.service.NoticeContentVersion;
 import com.h5.domain.board.notice.service.NoticeService;
+import com.h5.global.cache.ContentVersioned;
 import com.h5.global.dto.response.ResultResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -32,9 +34,11 @@ public class NoticeController extends AbstractBoardController<
     @Override
     @Operation(
             summary = "목록 조회",
-            description = "제목, 작성자, 페이지, 사이즈 파라미터에 따라 페이징된 목록을 조회합니다."
+            description = "제목, 작성자, 페이지, 사이즈 파라미터에 따라 페이징된 목록을 조회합니다. "
+                    + "조회 수는 공지 버전을 올리지 않으므로 약한 ETag를 사용하며, 304 응답 시 조회 수는 이전 값일 수 있습니다."
     )
     @PreAuthorize("isAuthenticated()")
+    @ContentVersioned(value = NoticeContentVersion.CONTENT_NAME, perUser = true, weak = true)
     @GetMapping
     public ResultResponse<NoticeListResponse> findAll(
             @RequestParam String title,
@@ -0,0 +1,18 @@
+package com.h5.domain.board.notice.service;
+
+import com.h5.domain.board.common.service.BoardContentVersion;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공지사항 목록의 콘텐츠 버전입니다.
+ */
+@Component
+public class NoticeContentVersion extends BoardContentVersion {
+
+    public static final String CONTENT_NAME = "notice";
+
+    public NoticeContentVersion(RedisTemplate<Object, Object> redisTemplate) {
+        super(redisTemplate, CONTENT_NAME);
+    }
+}
@@ -35,6 +35,7 @@ public class NoticeService extends AbstractBoardService<
     private final NoticeMapper noticeMapper;
     private final AuthenticationService authenticationService;
     private final ConsultantUserService consultantUserService;
+    private final NoticeContentVersion noticeContentVersion;
 
     /**
      * 공지사항 목록을 조회합니다.
@@ -117,6 +118,7 @@ public class NoticeService extends AbstractBoardService<
                 .build();
 
         Integer savedId = noticeRepository.save(noticeEntity).getId();
+        noticeContentVersion.bump();
         return NoticeSaveResponse.builder().noticeId(savedId).build();
     }
 
@@ -141,6 +143,7 @@ public class NoticeService extends AbstractBoardService<
         noticeEntity.setContent(dto.getContent());
         Integer savedId = noticeRepository.save(noticeEntity).getId();
 
+        noticeContentVersion.bump();
         return NoticeSaveResponse.builder().noticeId(savedId).build();
     }
 
@@ -162,10 +165,14 @@ public class NoticeService extends AbstractBoardService<
 
         noticeEntity.setDeletedAt(LocalDateTime.now());
         noticeRepository.save(noticeEntity);
+        noticeContentVersion.bump();
     }
 
     /**
      * 조회 수를 1 증가시키고 저장합니다.
+     * <p>
+     * 조회마다 목록 캐시가 무효화되지 않도록 콘텐츠 버전은 올리지 않으며, 목록은 약한 ETag로 응답합니다.
+     * </p>
      *
      * @param noticeEntity 조회 수를 증가시킬 엔티티
      */
@@ -0,0 +1,22 @@
+package com.h5.domain.emotion.converter;
+
+import com.h5.domain.emotion.entity.EmotionVector;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link EmotionVector}를 BIGINT 컬럼 하나에 저장하는 JPA 변환기입니다.
+ */
+@Converter
+public class EmotionVectorConverter implements AttributeConverter<EmotionVector, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(EmotionVector attribute) {
+        return attribute == null ? null : attribute.packed();
+    }
+
+    @Override
+    public EmotionVector convertToEntityAttribute(Long dbData) {
+        return dbData == null ? null : EmotionVector.fromPacked(dbData);
+    }
+}
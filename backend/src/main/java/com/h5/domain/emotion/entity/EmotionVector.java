@@ -0,0 +1,225 @@
+package com.h5.domain.emotion.entity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 다섯 감정(행복, 분노, 슬픔, 당황, 두려움) 점수를 하나의 {@code long}에 담는 불변 값 타입입니다.
+ * <p>
+ * - 각 점수는 0 ~ {@value #MAX_COMPONENT} 범위의 정수로, 12비트씩 {@link #HAPPY}부터 순서대로 하위 비트에 배치합니다.
+ * - 게임 AI 로그는 점수를 그대로, 학습 로그는 소수 첫째 자리까지의 비율을 10배한 값으로 저장합니다.
+ * - 조회 메서드는 비트 연산만 수행하므로 박싱이나 {@link BigDecimal} 할당이 없습니다.
+ * </p>
+ */
+public final class EmotionVector {
+
+    public static final int HAPPY = 0;
+    public static final int ANGER = 1;
+    public static final int SAD = 2;
+    public static final int PANIC = 3;
+    public static final int FEAR = 4;
+    public static final int SIZE = 5;
+
+    public static final int MAX_COMPONENT = 0xFFF;
+
+    private static final int BITS = 12;
+
+    private final long packed;
+
+    private EmotionVector(long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * 다섯 감정 점수로 벡터를 생성합니다.
+     *
+     * @param happy 행복
+     * @param anger 분노
+     * @param sad   슬픔
+     * @param panic 당황
+     * @param fear  두려움
+     * @return 생성된 {@link EmotionVector}
+     * @throws IllegalArgumentException 점수가 0 ~ {@value #MAX_COMPONENT} 범위를 벗어난 경우
+     */
+    public static EmotionVector of(int happy, int anger, int sad, int panic, int fear) {
+        return new EmotionVector(pack(happy, HAPPY)
+                | pack(anger, ANGER)
+                | pack(sad, SAD)
+                | pack(panic, PANIC)
+                | pack(fear, FEAR));
+    }
+
+    /**
+     * 소수 첫째 자리까지의 비율(0.0 ~ 1.0 등)을 10배한 정수로 변환해 벡터를 생성합니다.
+     *
+     * @param happy 행복
+     * @param anger 분노
+     * @param sad   슬픔
+     * @param panic 당황
+     * @param fear  두려움
+     * @return 생성된 {@link EmotionVector}
+     * @throws IllegalArgumentException 변환한 점수가 0 ~ {@value #MAX_COMPONENT} 범위를 벗어난 경우
+     */
+    public static EmotionVector ofTenths(BigDecimal happy, BigDecimal anger, BigDecimal sad, BigDecimal panic, BigDecimal fear) {
+        return of(toTenths(happy), toTenths(anger), toTenths(sad), toTenths(panic), toTenths(fear));
+    }
+
+    /**
+     * 감정 인덱스 순서로 담긴 고정소수점 점수(학습 로그는 10배한 값)로 벡터를 생성합니다.
+     * 쓰기 경로에서 {@link BigDecimal} 변환 없이 그대로 패킹합니다.
+     *
+     * @param scores 길이가 {@link #SIZE}인 점수 배열
+     * @return 생성된 {@link EmotionVector}
+     * @throws IllegalArgumentException 배열 길이가 다르거나 점수가 0 ~ {@value #MAX_COMPONENT} 범위를 벗어난 경우
+     */
+    public static EmotionVector of(short[] scores) {
+        if (scores.length != SIZE) {
+            throw new IllegalArgumentException("Emotion score count must be " + SIZE + ": " + scores.length);
+        }
+        return of(scores[HAPPY], scores[ANGER], scores[SAD], scores[PANIC], scores[FEAR]);
+    }
+
+    /**
+     * 점수 배열이 {@link #of(short[])}로 패킹 가능한지 확인합니다.
+     *
+     * @param scores 점수 배열
+     * @return 길이가 {@link #SIZE}이고 모든 점수가 0 ~ {@value #MAX_COMPONENT} 범위이면 {@code true}
+     */
+    public static boolean isValidScores(short[] scores) {
+        if (scores == null || scores.length != SIZE) {
+            return false;
+        }
+        for (short score : scores) {
+            if (score < 0 || score > MAX_COMPONENT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * DB에 저장된 패킹 값으로 벡터를 복원합니다.
+     *
+     * @param packed 패킹된 값
+     * @return 복원된 {@link EmotionVector}
+     */
+    public static EmotionVector fromPacked(long packed) {
+        return new EmotionVector(packed);
+    }
+
+    /**
+     * 패킹 값이 다섯 점수 영역(하위 60비트) 밖에 비트를 갖지 않는지 확인합니다.
+     * 외부에서 받은 패킹 값을 {@link #fromPacked(long)}로 복원하기 전에 사용합니다.
+     *
+     * @param packed 패킹된 값
+     * @return 유효하면 {@code true}
+     */
+    public static boolean isValidPacked(long packed) {
+        return (packed >>> (SIZE * BITS)) == 0;
+    }
+
+    /**
+     * 패킹된 값을 반환합니다.
+     *
+     * @return DB 저장용 패킹 값
+     */
+    public long packed() {
+        return packed;
+    }
+
+    /**
+     * 지정한 감정의 점수를 반환합니다.
+     *
+     * @param index 감정 인덱스({@link #HAPPY} ~ {@link #FEAR})
+     * @return 점수
+     */
+    public int get(int index) {
+        return (int) (packed >>> (index * BITS)) & MAX_COMPONENT;
+    }
+
+    /**
+     * 기준 데이터의 감정 ID를 벡터 인덱스로 변환합니다.
+     * <p>
+     * 감정 ID는 1(행복)부터 5(두려움)까지 벡터와 같은 순서로 부여되어 있습니다.
+     * </p>
+     *
+     * @param emotionId 감정 ID(1 ~ 5)
+     * @return 감정 인덱스({@link #HAPPY} ~ {@link #FEAR})
+     * @throws IllegalArgumentException 감정 ID가 범위를 벗어난 경우
+     */
+    public static int indexOfEmotionId(int emotionId) {
+        if (emotionId < 1 || emotionId > SIZE) {
+            throw new IllegalArgumentException("Unknown emotion id: " + emotionId);
+        }
+        return emotionId - 1;
+    }
+
+    /**
+     * 10배 저장된 점수를 소수 첫째 자리 비율로 되돌려 반환합니다.
+     *
+     * @param index 감정 인덱스({@link #HAPPY} ~ {@link #FEAR})
+     * @return 비율
+     */
+    public BigDecimal getTenths(int index) {
+        return BigDecimal.valueOf(get(index), 1);
+    }
+
+    /**
+     * 모든 점수를 감정 인덱스 순서대로 배열에 복사합니다.
+     *
+     * @param target 길이가 {@link #SIZE} 이상인 배열
+     * @return 전달한 배열
+     */
+    public int[] copyTo(int[] target) {
+        for (int i = 0; i < SIZE; i++) {
+            target[i] = get(i);
+        }
+        return target;
+    }
+
+    public int happy() {
+        return get(HAPPY);
+    }
+
+    public int anger() {
+        return get(ANGER);
+    }
+
+    public int sad() {
+        return get(SAD);
+    }
+
+    public int panic() {
+        return get(PANIC);
+    }
+
+    public int fear() {
+        return get(FEAR);
+    }
+
+    private static long pack(int value, int index) {
+        if (value < 0 || value > MAX_COMPONENT) {
+            throw new IllegalArgumentException("Emotion score out of range: " + value);
+        }
+        return (long) value << (index * BITS);
+    }
+
+    private static int toTenths(BigDecimal value) {
+        return value.movePointRight(1).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof EmotionVector other && other.packed == packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    @Override
+    public String toString() {
+        return "EmotionVector[" + happy() + ", " + anger() + ", " + sad() + ", " + panic() + ", " + fear() + "]";
+    }
+}
@@ -2,7 +2,9 @@ package com.h5.domain.game.controller;
 
 import com.h5.domain.game.dto.request.*;
 import com.h5.domain.game.dto.response.*;
+import com.h5.domain.game.service.GameLogWriteBehindService;
 import com.h5.domain.game.service.GameService;
+import com.h5.global.cache.IdempotencyService;
 import com.h5.global.dto.response.ResultResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +14,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,6 +28,8 @@ import jakarta.validation.Valid;
 public class GameController {
 
     private final GameService gameService;
+    private final GameLogWriteBehindService gameLogWriteBehindService;
+    private final IdempotencyService idempotencyService;
 
     @Operation(
             summary = "게임 챕터 시작",
@@ -55,7 +61,8 @@ public class GameController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "챕터 종료 성공"),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
-            @ApiResponse(responseCode = "404", description = "챕터를 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "챕터를 찾을 수 없음"),
+            @ApiResponse(responseCode = "503", description = "대기 중인 게임 로그 반영 지연")
     })
     @PreAuthorize("hasAuthority('ROLE_PARENT')")
     @PutMapping("/{childGameChapterId}/end")
@@ -63,6 +70,7 @@ public class GameController {
             @Parameter(description = "종료할 챕터의 ID", required = true, example = "123")
             @PathVariable Integer childGameChapterId
     ) {
+        gameLogWriteBehindService.awaitFlushed(childGameChapterId);
         return ResultResponse.success(gameService.endGameChapter(childGameChapterId));
     }
 
@@ -91,16 +99,24 @@ public class GameController {
 
     @Operation(
             summary = "게임 로그 저장",
-            description = "특정 스테이지에 대한 게임 플레이 로그와 AI 분석 결과를 저장합니다."
+            description = "특정 스테이지에 대한 게임 플레이 로그와 AI 분석 결과를 저장합니다. "
+                    + "비동기 저장이 활성화된 경우 접수만 하고 202 상태로 즉시 응답합니다. "
+                    + "Idempotency-Key 헤더를 보내면 같은 키의 재전송에는 저장 없이 최초 응답을 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "로그 저장 성공"),
+            @ApiResponse(responseCode = "202", description = "로그 저장 접수(비동기 저장)"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
-            @ApiResponse(responseCode = "404", description = "관련 엔티티를 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "관련 엔티티를 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청이 처리 중"),
+            @ApiResponse(responseCode = "429", description = "저장 대기열 포화"),
+            @ApiResponse(responseCode = "503", description = "비동기 저장 파이프라인 사용 불가")
     })
     @PreAuthorize("hasAuthority('ROLE_PARENT')")
     @PostMapping("/logs")
-    public ResultResponse<SaveGameLogResponse> saveGameLog(
+    public ResponseEntity<ResultResponse<SaveGameLogResponse>> saveGameLog(
+            @Parameter(description = "재전송 중복 저장 방지용 키(선택)", example = "2f1c9a4e-6b0d-4c1e-9f3a-7d2b8e5c1a90")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "저장할 게임 로그 요청 정보",
                     required = true,
@@ -109,6 +125,60 @@ public class GameController {
             @Valid @RequestBody
             SaveGameLogRequest saveGameLogRequest
     ) {
-        return ResultResponse.success(gameService.saveGameLog(saveGameLogRequest));
+        if (gameLogWriteBehindService.isEnabled()) {
+            idempotencyService.execute("game-log", idempotencyKey, SaveGameLogResponse.class, () -> {
+                gameLogWriteBehindService.submit(saveGameLogRequest);
+                return null;
+            });
+            return ResponseEntity.accepted().body(ResultResponse.success(HttpStatus.ACCEPTED));
+        }
+        return ResponseEntity.ok(ResultResponse.success(idempotencyService.execute(
+                "game-log",
+                idempotencyKey,
+                SaveGameLogResponse.class,
+                () -> gameService.saveGameLog(saveGameLogRequest)
+        )));
+    }
+
+    @Operation(
+            summary = "게임 로그 일괄 저장",
+            description = "단말에 버퍼링된 여러 건의 게임 플레이 로그와 AI 분석 결과를 한 번에 저장합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "로그 일괄 저장 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "403", description = "다른 부모의 스테이지이거나 자녀가 스테이지와 다름"),
+            @ApiResponse(responseCode = "404", description = "관련 엔티티를 찾을 수 없음")
+    })
+    @PreAuthorize("hasAuthority('ROLE_PARENT')")
+    @PostMapping("/logs/batch")
+    public ResultResponse<SaveGameLogBatchResponse> saveGameLogs(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "저장할 게임 로그 요청 목록",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = SaveGameLogBatchRequest.class))
+            )
+            @Valid @RequestBody
+            SaveGameLogBatchRequest saveGameLogBatchRequest
+    ) {
+        return ResultResponse.success(gameService.saveGameLogs(saveGameLogBatchRequest));
+    }
+
+    @Operation(
+            summary = "게임 로그 STT 및 AI 분석 결과 조회",
+            description = "상담사가 특정 시도를 열람할 때, 해당 게임 로그의 STT 원문과 AI 분석 결과를 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "담당 아동의 로그가 아님"),
+            @ApiResponse(responseCode = "404", description = "로그 텍스트를 찾을 수 없음")
+    })
+    @PreAuthorize("hasAuthority('ROLE_CONSULTANT')")
+    @GetMapping("/logs/{gameLogId}/transcript")
+    public ResultResponse<GetGameLogTranscriptResponse> getGameLogTranscript(
+            @Parameter(description = "조회할 게임 로그 ID", required = true, example = "123")
+            @PathVariable Integer gameLogId
+    ) {
+        return ResultResponse.success(gameService.getGameLogTranscript(gameLogId));
     }
 }
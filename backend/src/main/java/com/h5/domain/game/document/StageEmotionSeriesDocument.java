@@ -0,0 +1,75 @@
+package com.h5.domain.game.document;
+
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게임 스테이지 동안 WebSocket으로 수신한 프레임별 감정 점수의 요약과 다운샘플 시계열입니다.
+ * <p>
+ * 감정 점수는 {@link com.h5.domain.emotion.entity.EmotionVector} 패킹 값으로 저장합니다.
+ * 시계열은 {@code bucket_millis} 간격 평균이며 세 배열의 같은 위치가 한 구간입니다.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Document(collection = "stageEmotionSeries")
+public class StageEmotionSeriesDocument {
+
+    @NotNull
+    @Id
+    @Field("child_game_stage_id")
+    private Integer childGameStageId;
+
+    @NotNull
+    @Indexed
+    @Field("child_user_id")
+    private Integer childUserId;
+
+    @NotNull
+    @Field("frame_count")
+    private Long frameCount;
+
+    @NotNull
+    @Field("face_avg")
+    private Long faceAvg;
+
+    @NotNull
+    @Field("text_avg")
+    private Long textAvg;
+
+    @NotNull
+    @Field("face_max")
+    private Long faceMax;
+
+    @NotNull
+    @Field("text_max")
+    private Long textMax;
+
+    @NotNull
+    @Field("bucket_millis")
+    private Integer bucketMillis;
+
+    @NotNull
+    @Field("offsets")
+    private List<Integer> offsets;
+
+    @NotNull
+    @Field("face")
+    private List<Long> face;
+
+    @NotNull
+    @Field("text")
+    private List<Long> text;
+
+    @Field("ended_at")
+    private LocalDateTime endedAt;
+}
@@ -0,0 +1,26 @@
+package com.h5.domain.game.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "게임 로그 일괄 저장 요청 DTO")
+public class SaveGameLogBatchRequest {
+
+    @Valid
+    @NotEmpty(message = "gameLogs는 필수 값입니다.")
+    @Size(max = 500, message = "gameLogs는 최대 500건까지 저장할 수 있습니다.")
+    @Schema(description = "제출 순서대로 정렬된 게임 로그 목록")
+    private List<SaveGameLogRequest> gameLogs;
+}
@@ -1,9 +1,12 @@
 package com.h5.domain.game.dto.request;
 
+import com.h5.domain.emotion.entity.EmotionVector;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.NotBlank;
 
@@ -40,42 +43,62 @@ public class SaveGameLogRequest {
     private Integer gameStageId;
 
     @NotNull(message = "fHappy는 필수 값입니다.")
+    @Min(value = 0, message = "fHappy는 0 이상이어야 합니다.")
+    @Max(value = EmotionVector.MAX_COMPONENT, message = "fHappy는 4095 이하여야 합니다.")
     @Schema(description = "게임 전 얼굴 감정 – 행복도", example = "10")
     private Integer fHappy;
 
     @NotNull(message = "fAnger는 필수 값입니다.")
+    @Min(value = 0, message = "fAnger는 0 이상이어야 합니다.")
+    @Max(value = EmotionVector.MAX_COMPONENT, message = "fAnger는 4095 이하여야 합니다.")
     @Schema(description = "게임 전 얼굴 감정 – 분노도", example = "2")
     private Integer fAnger;
 
     @NotNull(message = "fSad는 필수 값입니다.")
+    @Min(value = 0, message = "fSad는 0 이상이어야 합니다.")
+    @Max(value = EmotionVector.MAX_COMPONENT, message = "fSad는 4095 이하여야 합니다.")
     @Schema(description = "게임 전 얼굴 감정 – 슬픔도", example = "3")
     private Integer fSad;
 
     @NotNull(message = "fPanic는 필수 값입니다.")
+    @Min(value = 0, message = "fPanic는 0 이상이어야 합니다.")
+    @Max(value = EmotionVector.MAX_COMPONENT, message = "fPanic는 4095 이하여야 합니다.")
     @Schema(description = "게임 전 얼굴 감정 – 공포도", example = "1")
     private Integer fPanic;
 
     @NotNull(message = "fFear는 필수 값입니다.")
+    @Min(value = 0, message = "fFear는 0 이상이어야 합니다.")
+    @Max(value = EmotionVector.MAX_COMPONENT, message = "fFear는 4095 이하여야 합니다.")
     @Schema(description = "게임 전 얼굴 감정 – 두려움도", example = "4")
     private Integer fFear;
 
     @NotNull(message = "tHappy는 필수 값입니다.")
+    @Min(value = 0, message = "tHappy는 0 이상이어야 합니다.")
+    @Max(value = EmotionVector.MAX_COMPONENT, message = "tHappy는 4095 이하여야 합니다.")
     @Schema(description = "게임 후 텍스트 감정 – 행복도", example = "12")
     private Integer tHappy;
 
     @NotNull(message = "tAnger는 필수 값입니다.")
+    @Min(value = 0, message = "tAnger는 0 이상이어야 합니다.")
+    @Max(value = EmotionVector.MAX_COMPONENT, message = "tAnger는 4095 이하여야 합니다.")
     @Schema(description = "게임 후 텍스트 감정 – 분노도", example = "1")
     private Integer tAnger;
 
     @NotNull(message = "tSad는 필수 값입니다.")
+    @Min(value = 0, message = "tSad는 0 이상이어야 합니다.")
+    @Max(value = EmotionVector.MAX_COMPONENT, message = "tSad는 4095 이하여야 합니다.")
     @Schema(description = "게임 후 텍스트 감정 – 슬픔도", example = "2")
     private Integer tSad;
 
     @NotNull(message = "tPanic는 필수 값입니다.")
+    @Min(value = 0, message = "tPanic는 0 이상이어야 합니다.")
+    @Max(value = EmotionVector.MAX_COMPONENT, message = "tPanic는 4095 이하여야 합니다.")
     @Schema(description = "게임 후 텍스트 감정 – 공포도", example = "0")
     private Integer tPanic;
 
     @NotNull(message = "tFear는 필수 값입니다.")
+    @Min(value = 0, message = "tFear는 0 이상이어야 합니다.")
+    @Max(value = EmotionVector.MAX_COMPONENT, message = "tFear는 4095 이하여야 합니다.")
     @Schema(description = "게임 후 텍스트 감정 – 두려움도", example = "3")
     private Integer tFear;
 
@@ -0,0 +1,52 @@
+package com.h5.domain.game.dto.response;
+
+import com.h5.domain.game.entity.GameProgressEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "게임 진행 상황 STOMP 메시지 DTO")
+public class GameProgressMessage {
+
+    @Schema(description = "어린이 ID", example = "1")
+    private final Integer childUserId;
+
+    @Schema(description = "마지막 이벤트 종류", example = "ATTEMPT")
+    private final GameProgressEvent event;
+
+    @Schema(description = "진행 중인 어린이 게임 챕터 ID(알 수 없으면 null)", example = "10")
+    private final Integer childGameChapterId;
+
+    @Schema(description = "진행 중인 게임 챕터 ID(알 수 없으면 null)", example = "1")
+    private final Integer gameChapterId;
+
+    @Schema(description = "진행 중인 어린이 게임 스테이지 ID(알 수 없으면 null)", example = "25")
+    private final Integer childGameStageId;
+
+    @Schema(description = "진행 중인 게임 스테이지 ID(알 수 없으면 null)", example = "3")
+    private final Integer gameStageId;
+
+    @Schema(description = "현재 스테이지 시도 횟수", example = "2")
+    private final int stageTrialCount;
+
+    @Schema(description = "현재 스테이지 정답 횟수", example = "1")
+    private final int stageCorrectCount;
+
+    @Schema(description = "현재 챕터 시도 횟수", example = "7")
+    private final int chapterTrialCount;
+
+    @Schema(description = "현재 챕터 정답 횟수", example = "5")
+    private final int chapterCorrectCount;
+
+    @Schema(description = "마지막 시도 정답 여부(시도가 없으면 null)", example = "true")
+    private final Boolean lastCorrected;
+
+    @Schema(description = "마지막 이벤트 시각", example = "2025-02-10T14:03:21")
+    private final LocalDateTime updatedAt;
+}
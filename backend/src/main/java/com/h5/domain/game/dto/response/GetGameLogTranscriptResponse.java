@@ -0,0 +1,23 @@
+package com.h5.domain.game.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "게임 로그 STT 원문 및 AI 분석 결과 응답 DTO")
+public class GetGameLogTranscriptResponse {
+
+    @Schema(description = "게임 로그 ID", example = "123")
+    private final Integer gameLogId;
+
+    @Schema(description = "STT 원문", example = "기분이 좋아요")
+    private final String stt;
+
+    @Schema(description = "AI 분석 결과", example = "긍정적인 감정 표현이 나타났습니다.")
+    private final String aiAnalysis;
+}
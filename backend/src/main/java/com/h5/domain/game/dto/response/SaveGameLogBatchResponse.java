@@ -0,0 +1,19 @@
+package com.h5.domain.game.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "게임 로그 일괄 저장 응답 DTO")
+public class SaveGameLogBatchResponse {
+
+    @Schema(description = "요청 순서대로 생성된 게임 로그 및 AI 로그 ID 목록")
+    private final List<SaveGameLogResponse> gameLogs;
+}
@@ -3,12 +3,14 @@ package com.h5.domain.game.dto.response;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Getter
 @AllArgsConstructor
 @Builder
+@Jacksonized
 @Schema(description = "게임 로그 저장 응답 DTO")
 public class SaveGameLogResponse {
 
@@ -1,5 +1,7 @@
 package com.h5.domain.game.entity;
 
+import com.h5.domain.emotion.converter.EmotionVectorConverter;
+import com.h5.domain.emotion.entity.EmotionVector;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -23,53 +25,13 @@ public class AiLogEntity {
     private GameLogEntity gameLogEntity;
 
     @NotNull
-    @Column(name = "f_happy", nullable = false)
-    private Integer fHappy;
+    @Convert(converter = EmotionVectorConverter.class)
+    @Column(name = "face_emotion", nullable = false)
+    private EmotionVector faceEmotion;
 
     @NotNull
-    @Column(name = "f_anger", nullable = false)
-    private Integer fAnger;
-
-    @NotNull
-    @Column(name = "f_sad", nullable = false)
-    private Integer fSad;
-
-    @NotNull
-    @Column(name = "f_panic", nullable = false)
-    private Integer fPanic;
-
-    @NotNull
-    @Column(name = "f_fear", nullable = false)
-    private Integer fFear;
-
-    @NotNull
-    @Column(name = "t_happy", nullable = false)
-    private Integer tHappy;
-
-    @NotNull
-    @Column(name = "t_anger", nullable = false)
-    private Integer tAnger;
-
-    @NotNull
-    @Column(name = "t_sad", nullable = false)
-    private Integer tSad;
-
-    @NotNull
-    @Column(name = "t_panic", nullable = false)
-    private Integer tPanic;
-
-    @NotNull
-    @Column(name = "t_fear", nullable = false)
-    private Integer tFear;
-
-    @NotNull
-    @Lob
-    @Column(name = "stt", nullable = false)
-    private String stt;
-
-    @NotNull
-    @Lob
-    @Column(name = "ai_analyze")
-    private String aiAnalyze;
+    @Convert(converter = EmotionVectorConverter.class)
+    @Column(name = "text_emotion", nullable = false)
+    private EmotionVector textEmotion;
 
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.h5.domain.game.entity;
+
+import com.h5.global.converter.CompressedTextConverter;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * AI 로그의 STT 원문과 AI 분석 결과를 압축해 보관하는 부속 테이블 엔티티입니다.
+ * <p>
+ * 점수만 쓰는 분석 쿼리가 긴 텍스트를 읽지 않도록 ai_log와 분리했으며, 상담사가 특정 시도를 열람할 때만 조회합니다.
+ * 식별자를 게임 로그 ID로 직접 지정하므로 {@link Persistable}로 새 엔티티 여부를 알려,
+ * 저장 시 merge를 위한 SELECT 없이 바로 INSERT 되도록 합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "ai_log_text")
+public class AiLogTextEntity implements Persistable<Integer> {
+
+    @Id
+    @Column(name = "game_log_id", nullable = false)
+    private Integer id;
+
+    @NotNull
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "stt", nullable = false, columnDefinition = "LONGBLOB")
+    private String stt;
+
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "ai_analyze", columnDefinition = "LONGBLOB")
+    private String aiAnalyze;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -32,6 +33,9 @@ public class ChildGameStageEntity {
     @JoinColumn(name = "user_chapter_id", nullable = false)
     private ChildGameChapterEntity childGameChapterEntity;
 
+    @Column(name = "start_at")
+    private LocalDateTime startAt;
+
     @Builder.Default
     @OneToMany(mappedBy = "childGameStageEntity")
     private Set<GameLogEntity> gameLogEntities = new LinkedHashSet<>();
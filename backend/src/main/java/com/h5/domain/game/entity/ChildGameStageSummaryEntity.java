@@ -0,0 +1,57 @@
+package com.h5.domain.game.entity;
+
+import com.h5.domain.asset.entity.GameStageEntity;
+import com.h5.domain.emotion.entity.EmotionEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor
+@Table(
+        name = "child_game_stage_summary",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_child_game_stage_summary",
+                columnNames = {"child_game_chapter_id", "game_stage_id"}
+        )
+)
+public class ChildGameStageSummaryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "child_game_stage_summary_id", nullable = false)
+    private Integer id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "child_game_chapter_id", nullable = false)
+    private ChildGameChapterEntity childGameChapterEntity;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "game_stage_id", nullable = false)
+    private GameStageEntity gameStageEntity;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "emotion_id", nullable = false)
+    private EmotionEntity emotionEntity;
+
+    @Builder.Default
+    @NotNull
+    @Column(name = "trial_cnt", nullable = false)
+    private Integer trialCnt = 0;
+
+    @Column(name = "first_crt_trial")
+    private Integer firstCrtTrial;
+
+    @Builder.Default
+    @NotNull
+    @Column(name = "corrected", nullable = false)
+    private Boolean corrected = false;
+
+}
@@ -50,6 +50,9 @@ public class GameLogEntity {
     @JoinColumn(name = "child_user_id", nullable = false)
     private ChildUserEntity childUserEntity;
 
+    @Column(name = "submission_id", length = 36, unique = true)
+    private String submissionId;
+
     @OneToOne(mappedBy = "gameLogEntity")
     private AiLogEntity aiLogEntity;
 
@@ -0,0 +1,11 @@
+package com.h5.domain.game.entity;
+
+/**
+ * 상담사에게 전달하는 게임 진행 이벤트 종류. 여러 이벤트가 한 번에 묶여 전송되면 마지막 이벤트를 담습니다.
+ */
+public enum GameProgressEvent {
+    CHAPTER_START,
+    STAGE_START,
+    ATTEMPT,
+    CHAPTER_END
+}
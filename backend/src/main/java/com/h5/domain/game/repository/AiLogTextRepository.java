@@ -0,0 +1,9 @@
+package com.h5.domain.game.repository;
+
+import com.h5.domain.game.entity.AiLogTextEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AiLogTextRepository extends JpaRepository<AiLogTextEntity, Integer> {
+}
@@ -3,6 +3,9 @@ package com.h5.domain.game.repository;
 import com.h5.domain.game.entity.ChildGameChapterEntity;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -15,4 +18,8 @@ public interface ChildGameChapterRepository extends JpaRepository<ChildGameChapt
 
     @EntityGraph(attributePaths = {"childUserEntity.parentUserEntity"})
     Optional<ChildGameChapterEntity> findByIdAndChildUserEntity_ParentUserEntity_Email(Integer childGameChapterId, String parentEmail);
+
+    @Modifying
+    @Query("update ChildGameChapterEntity c set c.endAt = :endAt where c.id = :childGameChapterId")
+    int updateEndAt(@Param("childGameChapterId") Integer childGameChapterId, @Param("endAt") LocalDateTime endAt);
 }
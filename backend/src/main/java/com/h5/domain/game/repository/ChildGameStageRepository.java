@@ -2,12 +2,55 @@ package com.h5.domain.game.repository;
 
 import com.h5.domain.game.entity.ChildGameStageEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ChildGameStageRepository extends JpaRepository<ChildGameStageEntity, Integer> {
     List<ChildGameStageEntity> findAllByChildGameChapterEntity_Id(int childGameChapterId);
+
+    /**
+     * 자녀 스테이지가 속한 챕터, 자녀, 부모 이메일만 담는 프로젝션입니다.
+     */
+    interface StageOwnership {
+        Integer getChildGameStageId();
+
+        Integer getChildGameChapterId();
+
+        Integer getChildUserId();
+
+        String getParentEmail();
+    }
+
+    /**
+     * 자녀 스테이지 ID 목록의 소유 정보(챕터, 자녀, 부모 이메일)를 한 번에 조회합니다. 엔티티를 적재하지 않습니다.
+     *
+     * @param childGameStageIds 자녀 게임 스테이지 ID 목록
+     * @return 존재하는 스테이지의 소유 정보 목록
+     */
+    @Query("""
+            select s.id as childGameStageId, c.id as childGameChapterId,
+                   u.id as childUserId, p.email as parentEmail
+            from ChildGameStageEntity s
+            join s.childGameChapterEntity c
+            join c.childUserEntity u
+            join u.parentUserEntity p
+            where s.id in :childGameStageIds
+            """)
+    List<StageOwnership> findOwnershipByIdIn(@Param("childGameStageIds") Collection<Integer> childGameStageIds);
+
+    @Query("""
+            select s.childGameChapterEntity.childUserEntity.id from ChildGameStageEntity s
+            where s.id = :childGameStageId
+              and s.childGameChapterEntity.childUserEntity.parentUserEntity.email = :parentEmail
+            """)
+    Optional<Integer> findChildUserIdByIdAndParentEmail(
+            @Param("childGameStageId") Integer childGameStageId,
+            @Param("parentEmail") String parentEmail
+    );
 }
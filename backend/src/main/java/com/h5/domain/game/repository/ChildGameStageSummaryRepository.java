@@ -0,0 +1,59 @@
+package com.h5.domain.game.repository;
+
+import com.h5.domain.game.entity.ChildGameStageSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChildGameStageSummaryRepository extends JpaRepository<ChildGameStageSummaryEntity, Integer> {
+    Optional<ChildGameStageSummaryEntity> findByChildGameChapterEntity_IdAndGameStageEntity_Id(Integer childGameChapterId, Integer gameStageId);
+
+    List<ChildGameStageSummaryEntity> findAllByChildGameChapterEntity_Id(Integer childGameChapterId);
+
+    /**
+     * 챕터의 게임 로그로 챕터-스테이지 요약을 다시 계산해 덮어씁니다.
+     * <p>
+     * 시도 순번은 챕터-스테이지 안에서 (제출 시각, 게임 로그 ID) 순서이며, 로그가 있는 스테이지의 행만 생성하거나 갱신합니다.
+     * 요약이 누락되었거나 진행 상태가 유실된 챕터를 종료할 때 사용합니다.
+     * </p>
+     *
+     * @param childGameChapterId 자녀 게임 챕터 ID
+     * @return 영향받은 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO child_game_stage_summary (
+                child_game_chapter_id, game_stage_id, emotion_id,
+                trial_cnt, first_crt_trial, corrected
+            )
+            SELECT t.child_game_chapter_id, t.game_stage_id, gs.emotion_id,
+                   COUNT(*),
+                   MIN(CASE WHEN t.corrected THEN t.trial END),
+                   MAX(CASE WHEN t.corrected THEN 1 ELSE 0 END)
+            FROM (
+                SELECT cgs.user_chapter_id AS child_game_chapter_id,
+                       gl.game_stage_id,
+                       gl.corrected,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY gl.game_stage_id
+                           ORDER BY gl.submit_dttm, gl.game_log_id
+                       ) AS trial
+                FROM game_log gl
+                JOIN child_game_stage cgs ON cgs.child_game_stage_id = gl.child_game_stage_id
+                WHERE cgs.user_chapter_id = :childGameChapterId
+            ) t
+            JOIN game_stage gs ON gs.game_stage_id = t.game_stage_id
+            GROUP BY t.child_game_chapter_id, t.game_stage_id, gs.emotion_id
+            ON DUPLICATE KEY UPDATE
+                trial_cnt = VALUES(trial_cnt),
+                first_crt_trial = VALUES(first_crt_trial),
+                corrected = VALUES(corrected)
+            """, nativeQuery = true)
+    int rebuildFromGameLogs(@Param("childGameChapterId") Integer childGameChapterId);
+}
@@ -0,0 +1,279 @@
+package com.h5.domain.game.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 진행 중인 게임 챕터의 상태를 Redis 해시에 보관하는 저장소입니다.
+ * <p>
+ * - {@code game:chapter:{childGameChapterId}} 해시에 자녀, 부모 이메일, 게임 챕터, 시작된 스테이지,
+ *   스테이지별 시도 횟수와 첫 정답 시도 순번을 담습니다.
+ * - {@code game:stage:{childGameStageId}} 키는 스테이지에서 챕터와 자녀를 역으로 찾기 위한 색인입니다.
+ * - 모든 키는 접근할 때마다 만료 시간({@code game.chapter-state.ttl-minutes})이 연장되며,
+ *   만료되었거나 없는 경우 호출 측은 MySQL 경로로 처리합니다.
+ * - 시도 기록과 챕터 종료 시의 조회·삭제는 Lua 스크립트로 원자적으로 수행하므로,
+ *   만료된 상태에 카운터만 남거나 종료 중인 챕터에 시도가 더해지지 않습니다.
+ * </p>
+ */
+@Repository
+public class GameChapterStateRepository {
+
+    private static final String CHAPTER_KEY_PREFIX = "game:chapter:";
+    private static final String STAGE_KEY_PREFIX = "game:stage:";
+
+    private static final String FIELD_CHILD_USER_ID = "childUserId";
+    private static final String FIELD_PARENT_EMAIL = "parentEmail";
+    private static final String FIELD_GAME_CHAPTER_ID = "gameChapterId";
+    private static final String FIELD_STAGE_PREFIX = "stage:";
+    private static final String FIELD_TRIAL_PREFIX = "trial:";
+    private static final String FIELD_FIRST_CRT_PREFIX = "firstCrt:";
+
+    /**
+     * 챕터 상태가 있을 때만 시도 횟수를 증가시키고, 정답이면 첫 정답 순번을 기록한 뒤 만료 시간을 연장합니다.
+     * KEYS[1]=챕터 키, ARGV=[시도 필드, 첫 정답 필드, 정답 여부(1/0), 만료 시간(ms)]
+     */
+    private static final RedisScript<Long> RECORD_ATTEMPT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local trial = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            if ARGV[3] == '1' then
+                redis.call('HSETNX', KEYS[1], ARGV[2], trial)
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * 부모 이메일이 일치하면 챕터 상태 전체를 읽고 삭제합니다. 일치하지 않거나 없으면 빈 목록을 반환합니다.
+     * KEYS[1]=챕터 키, ARGV=[부모 이메일 필드, 부모 이메일]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TAKE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then
+                return {}
+            end
+            local entries = redis.call('HGETALL', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return entries
+            """, List.class);
+
+    private final RedisTemplate<Object, Object> redisTemplate;
+    private final Duration ttl;
+
+    public GameChapterStateRepository(
+            RedisTemplate<Object, Object> redisTemplate,
+            @Value("${game.chapter-state.ttl-minutes:360}") long ttlMinutes
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    /**
+     * 진행 중인 챕터 상태. 스테이지별 카운터는 게임 스테이지 ID를 키로 합니다.
+     *
+     * @param childGameChapterId 자녀 게임 챕터 ID
+     * @param childUserId        자녀 사용자 ID
+     * @param parentEmail        부모 사용자 이메일(권한 확인용)
+     * @param gameChapterId      게임 챕터 ID
+     * @param stages             시작된 자녀 게임 스테이지 ID → 게임 스테이지 ID
+     * @param trialCnts          게임 스테이지 ID → 시도 횟수
+     * @param firstCrtTrials     게임 스테이지 ID → 첫 정답 시도 순번(정답이 없으면 없음)
+     */
+    public record GameChapterState(
+            int childGameChapterId,
+            int childUserId,
+            String parentEmail,
+            int gameChapterId,
+            Map<Integer, Integer> stages,
+            Map<Integer, Integer> trialCnts,
+            Map<Integer, Integer> firstCrtTrials
+    ) {
+    }
+
+    /**
+     * 스테이지 색인에 담긴 챕터와 자녀 정보.
+     *
+     * @param childGameChapterId 자녀 게임 챕터 ID
+     * @param childUserId        자녀 사용자 ID
+     */
+    public record StageOwner(int childGameChapterId, int childUserId) {
+    }
+
+    /**
+     * 챕터 시작 시 상태를 생성합니다.
+     *
+     * @param childGameChapterId 자녀 게임 챕터 ID
+     * @param childUserId        자녀 사용자 ID
+     * @param parentEmail        부모 사용자 이메일
+     * @param gameChapterId      게임 챕터 ID
+     */
+    public void create(int childGameChapterId, int childUserId, String parentEmail, int gameChapterId) {
+        String key = chapterKey(childGameChapterId);
+        hash().putAll(key, Map.of(
+                FIELD_CHILD_USER_ID, String.valueOf(childUserId),
+                FIELD_PARENT_EMAIL, parentEmail,
+                FIELD_GAME_CHAPTER_ID, String.valueOf(gameChapterId)
+        ));
+        redisTemplate.expire(key, ttl);
+    }
+
+    /**
+     * 챕터 상태를 조회하고 만료 시간을 연장합니다.
+     *
+     * @param childGameChapterId 자녀 게임 챕터 ID
+     * @return 챕터 상태, 없거나 만료된 경우 빈 값
+     */
+    public Optional<GameChapterState> find(int childGameChapterId) {
+        String key = chapterKey(childGameChapterId);
+        Map<Object, Object> entries = hash().entries(key);
+        if (!entries.containsKey(FIELD_CHILD_USER_ID)) {
+            return Optional.empty();
+        }
+        redisTemplate.expire(key, ttl);
+        return Optional.of(toState(childGameChapterId, entries));
+    }
+
+    /**
+     * 부모 사용자의 챕터 상태를 읽으면서 삭제하고, 상태에 기록된 스테이지 색인도 삭제합니다.
+     * <p>
+     * 읽기와 삭제가 한 스크립트로 수행되므로, 이후 도착한 시도는 {@link #recordAttempt}에서 상태 없음으로 처리됩니다.
+     * </p>
+     *
+     * @param childGameChapterId 자녀 게임 챕터 ID
+     * @param parentEmail        부모 사용자 이메일
+     * @return 삭제한 챕터 상태, 없거나 만료되었거나 다른 부모의 챕터인 경우 빈 값
+     */
+    public Optional<GameChapterState> take(int childGameChapterId, String parentEmail) {
+        List<?> flat = redisTemplate.execute(
+                TAKE_SCRIPT,
+                List.of(chapterKey(childGameChapterId)),
+                FIELD_PARENT_EMAIL,
+                parentEmail
+        );
+        if (flat == null || flat.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Object, Object> entries = new HashMap<>();
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            entries.put(flat.get(i).toString(), flat.get(i + 1));
+        }
+        GameChapterState state = toState(childGameChapterId, entries);
+        state.stages().keySet()
+                .forEach(childGameStageId -> redisTemplate.delete(STAGE_KEY_PREFIX + childGameStageId));
+        return Optional.of(state);
+    }
+
+    /**
+     * 시작된 스테이지를 챕터 상태와 스테이지 색인에 기록합니다. 스테이지 시도 횟수는 0으로 초기화합니다.
+     *
+     * @param state            챕터 상태
+     * @param childGameStageId 자녀 게임 스테이지 ID
+     * @param gameStageId      게임 스테이지 ID
+     */
+    public void addStage(GameChapterState state, int childGameStageId, int gameStageId) {
+        String key = chapterKey(state.childGameChapterId());
+        hash().put(key, FIELD_STAGE_PREFIX + childGameStageId, String.valueOf(gameStageId));
+        hash().putIfAbsent(key, FIELD_TRIAL_PREFIX + gameStageId, "0");
+        redisTemplate.opsForValue().set(
+                STAGE_KEY_PREFIX + childGameStageId,
+                state.childGameChapterId() + ":" + state.childUserId(),
+                ttl
+        );
+    }
+
+    /**
+     * 스테이지 색인에서 스테이지가 속한 챕터와 자녀를 조회하고, 색인의 만료 시간을 연장합니다.
+     *
+     * @param childGameStageId 자녀 게임 스테이지 ID
+     * @return 챕터와 자녀 정보, 없거나 만료된 경우 빈 값
+     */
+    public Optional<StageOwner> findStageOwner(int childGameStageId) {
+        Object value = redisTemplate.opsForValue().getAndExpire(STAGE_KEY_PREFIX + childGameStageId, ttl);
+        if (value == null) {
+            return Optional.empty();
+        }
+        String[] parts = value.toString().split(":");
+        return Optional.of(new StageOwner(Integer.parseInt(parts[0]), Integer.parseInt(parts[1])));
+    }
+
+    /**
+     * 한 번의 시도 결과를 챕터 상태의 스테이지 카운터에 반영합니다.
+     * <p>
+     * 시도 횟수는 {@code HINCRBY}로 증가시키고, 정답이면 그때의 시도 순번을 {@code HSETNX}로 첫 정답 순번에 기록합니다.
+     * 상태 존재 확인과 증가가 한 스크립트로 수행되므로, 만료되었거나 종료된 챕터에는 카운터를 만들지 않습니다.
+     * </p>
+     *
+     * @param childGameChapterId 자녀 게임 챕터 ID
+     * @param gameStageId        게임 스테이지 ID
+     * @param isCorrect          정답 여부
+     * @return 챕터 상태가 있어 반영했으면 {@code true}, 없거나 만료되어 반영하지 못했으면 {@code false}
+     */
+    public boolean recordAttempt(int childGameChapterId, int gameStageId, boolean isCorrect) {
+        Long recorded = redisTemplate.execute(
+                RECORD_ATTEMPT_SCRIPT,
+                List.of(chapterKey(childGameChapterId)),
+                FIELD_TRIAL_PREFIX + gameStageId,
+                FIELD_FIRST_CRT_PREFIX + gameStageId,
+                isCorrect ? "1" : "0",
+                String.valueOf(ttl.toMillis())
+        );
+        return recorded != null && recorded == 1L;
+    }
+
+    /**
+     * 챕터 해시의 필드를 챕터 상태로 변환합니다.
+     *
+     * @param childGameChapterId 자녀 게임 챕터 ID
+     * @param entries            챕터 해시의 필드와 값
+     * @return 챕터 상태
+     */
+    private GameChapterState toState(int childGameChapterId, Map<Object, Object> entries) {
+        Map<Integer, Integer> stages = new HashMap<>();
+        Map<Integer, Integer> trialCnts = new HashMap<>();
+        Map<Integer, Integer> firstCrtTrials = new HashMap<>();
+        entries.forEach((field, value) -> {
+            String name = field.toString();
+            if (name.startsWith(FIELD_STAGE_PREFIX)) {
+                stages.put(suffixId(name, FIELD_STAGE_PREFIX), Integer.valueOf(value.toString()));
+            } else if (name.startsWith(FIELD_TRIAL_PREFIX)) {
+                trialCnts.put(suffixId(name, FIELD_TRIAL_PREFIX), Integer.valueOf(value.toString()));
+            } else if (name.startsWith(FIELD_FIRST_CRT_PREFIX)) {
+                firstCrtTrials.put(suffixId(name, FIELD_FIRST_CRT_PREFIX), Integer.valueOf(value.toString()));
+            }
+        });
+
+        return new GameChapterState(
+                childGameChapterId,
+                Integer.parseInt(entries.get(FIELD_CHILD_USER_ID).toString()),
+                entries.get(FIELD_PARENT_EMAIL).toString(),
+                Integer.parseInt(entries.get(FIELD_GAME_CHAPTER_ID).toString()),
+                stages,
+                trialCnts,
+                firstCrtTrials
+        );
+    }
+
+    private HashOperations<Object, Object, Object> hash() {
+        return redisTemplate.opsForHash();
+    }
+
+    private String chapterKey(int childGameChapterId) {
+        return CHAPTER_KEY_PREFIX + childGameChapterId;
+    }
+
+    private int suffixId(String field, String prefix) {
+        return Integer.parseInt(field.substring(prefix.length()));
+    }
+}
@@ -0,0 +1,119 @@
+package com.h5.domain.game.repository;
+
+import com.h5.domain.game.entity.AiLogEntity;
+import com.h5.domain.game.entity.AiLogTextEntity;
+import com.h5.domain.game.entity.GameLogEntity;
+import com.h5.global.util.CompressionUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 게임 로그와 AI 로그(점수, 압축 텍스트)를 JDBC 배치로 저장하는 저장소입니다.
+ * <p>
+ * IDENTITY 키 전략 때문에 Hibernate가 INSERT를 묶지 못하므로,
+ * game_log를 한 번의 배치로 저장해 생성 키를 받은 뒤 같은 키로 ai_log를 배치 저장합니다.
+ * MySQL에서 다중 행 INSERT로 재작성되려면 JDBC URL에 {@code rewriteBatchedStatements=true}가 필요합니다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class GameLogBatchRepository {
+
+    private static final String INSERT_GAME_LOG_SQL =
+            "INSERT INTO game_log (selected_opt, corrected, submit_dttm, consulted, child_game_stage_id, child_user_id, game_stage_id, submission_id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_AI_LOG_SQL =
+            "INSERT INTO ai_log (game_log_id, face_emotion, text_emotion) "
+                    + "VALUES (?, ?, ?)";
+
+    private static final String INSERT_AI_LOG_TEXT_SQL =
+            "INSERT INTO ai_log_text (game_log_id, stt, ai_analyze) "
+                    + "VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * AI 로그와 연결된 게임 로그를 순서대로 일괄 저장하고, 생성된 ID를 각 엔티티에 설정합니다.
+     *
+     * @param aiLogs     저장할 AI 로그 목록 (각 항목은 저장 전의 {@link GameLogEntity}를 참조)
+     * @param aiLogTexts {@code aiLogs}와 같은 순서의 AI 로그 텍스트 목록
+     */
+    public void saveAll(List<AiLogEntity> aiLogs, List<AiLogTextEntity> aiLogTexts) {
+        if (aiLogs.isEmpty()) {
+            return;
+        }
+        insertGameLogs(aiLogs);
+        insertAiLogs(aiLogs);
+
+        for (int i = 0; i < aiLogTexts.size(); i++) {
+            aiLogTexts.get(i).setId(aiLogs.get(i).getId());
+        }
+        insertAiLogTexts(aiLogTexts);
+    }
+
+    private void insertGameLogs(List<AiLogEntity> aiLogs) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_GAME_LOG_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (AiLogEntity aiLog : aiLogs) {
+                    GameLogEntity gameLog = aiLog.getGameLogEntity();
+                    ps.setInt(1, gameLog.getSelectedOpt());
+                    ps.setBoolean(2, gameLog.getCorrected());
+                    ps.setTimestamp(3, Timestamp.valueOf(gameLog.getSubmitAt()));
+                    ps.setBoolean(4, gameLog.getConsulted());
+                    ps.setInt(5, gameLog.getChildGameStageEntity().getId());
+                    ps.setInt(6, gameLog.getChildUserEntity().getId());
+                    ps.setInt(7, gameLog.getGameStageEntity().getId());
+                    if (gameLog.getSubmissionId() == null) {
+                        ps.setNull(8, Types.CHAR);
+                    } else {
+                        ps.setString(8, gameLog.getSubmissionId());
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    for (AiLogEntity aiLog : aiLogs) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Generated key count does not match game_log batch size");
+                        }
+                        int id = keys.getInt(1);
+                        aiLog.getGameLogEntity().setId(id);
+                        aiLog.setId(id);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private void insertAiLogs(List<AiLogEntity> aiLogs) {
+        jdbcTemplate.batchUpdate(INSERT_AI_LOG_SQL, aiLogs, aiLogs.size(), (ps, aiLog) -> {
+            ps.setInt(1, aiLog.getId());
+            ps.setLong(2, aiLog.getFaceEmotion().packed());
+            ps.setLong(3, aiLog.getTextEmotion().packed());
+        });
+    }
+
+    private void insertAiLogTexts(List<AiLogTextEntity> aiLogTexts) {
+        jdbcTemplate.batchUpdate(INSERT_AI_LOG_TEXT_SQL, aiLogTexts, aiLogTexts.size(), (ps, text) -> {
+            ps.setInt(1, text.getId());
+            ps.setBytes(2, CompressionUtil.compress(text.getStt()));
+            if (text.getAiAnalyze() == null) {
+                ps.setNull(3, Types.LONGVARBINARY);
+            } else {
+                ps.setBytes(3, CompressionUtil.compress(text.getAiAnalyze()));
+            }
+        });
+    }
+}
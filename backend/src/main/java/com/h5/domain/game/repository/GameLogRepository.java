@@ -1,14 +1,112 @@
 package com.h5.domain.game.repository;
 
 import com.h5.domain.game.entity.GameLogEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface GameLogRepository extends JpaRepository<GameLogEntity, Integer> {
-    Optional<List<GameLogEntity>> findAllByChildUserEntity_IdAndGameStageEntity_IdAndSubmitAtBetween(Integer childUserId, Integer stageId, LocalDateTime startDate, LocalDateTime endDate);
+    /**
+     * 기간 내 아동의 특정 스테이지 게임 로그 ID를 제출 순서대로 조회합니다. 엔티티를 적재하지 않습니다.
+     *
+     * @param childUserId 아동 사용자 ID
+     * @param stageId     게임 스테이지 ID
+     * @param startDate   조회 시작 시각(포함)
+     * @param endDate     조회 종료 시각(포함)
+     * @return 제출 시각, ID 오름차순의 게임 로그 ID 목록
+     */
+    @Query("""
+            select gl.id from GameLogEntity gl
+            where gl.childUserEntity.id = :childUserId
+              and gl.gameStageEntity.id = :stageId
+              and gl.submitAt between :startDate and :endDate
+            order by gl.submitAt, gl.id
+            """)
+    List<Integer> findIdsByChildAndStageAndSubmitAtBetween(
+            @Param("childUserId") Integer childUserId,
+            @Param("stageId") Integer stageId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 시도 이력 조회에 필요한 게임 로그 컬럼만 담는 프로젝션입니다.
+     */
+    interface GameAttemptRow {
+        Integer getGameLogId();
+
+        Integer getChildGameStageId();
+
+        Integer getGameStageId();
+
+        Boolean getCorrected();
+
+        Integer getSelectedOpt();
+
+        Boolean getConsulted();
+
+        LocalDateTime getSubmitAt();
+    }
+
+    /**
+     * 아동의 게임 시도 이력을 (제출 시각, ID) 내림차순 키셋 방식으로 조회합니다.
+     * <p>
+     * 커서가 없으면 가장 최근 시도부터, 있으면 커서보다 이전 시도부터 조회하므로 페이지가 깊어져도 앞 행을 건너뛰지 않습니다.
+     * 조회 건수는 {@code pageable}의 크기만 사용합니다.
+     * </p>
+     *
+     * @param childUserId     아동 사용자 ID
+     * @param filterStage     {@code true}이면 {@code gameStageIds}에 속한 스테이지만 조회
+     * @param gameStageIds    조회할 게임 스테이지 ID 목록(비어 있으면 안 됨)
+     * @param from            조회 시작 시각(포함, 없으면 {@code null})
+     * @param to              조회 종료 시각(미포함, 없으면 {@code null})
+     * @param cursorSubmitAt  이전 페이지 마지막 시도의 제출 시각(첫 페이지는 {@code null})
+     * @param cursorGameLogId 이전 페이지 마지막 시도의 게임 로그 ID(첫 페이지는 {@code null})
+     * @param pageable        조회 건수
+     * @return 제출 시각, ID 내림차순 시도 목록
+     */
+    @Query("""
+            select gl.id as gameLogId, gl.childGameStageEntity.id as childGameStageId,
+                   gl.gameStageEntity.id as gameStageId, gl.corrected as corrected,
+                   gl.selectedOpt as selectedOpt, gl.consulted as consulted, gl.submitAt as submitAt
+            from GameLogEntity gl
+            where gl.childUserEntity.id = :childUserId
+              and (:filterStage = false or gl.gameStageEntity.id in :gameStageIds)
+              and (:from is null or gl.submitAt >= :from)
+              and (:to is null or gl.submitAt < :to)
+              and (:cursorSubmitAt is null
+                   or gl.submitAt < :cursorSubmitAt
+                   or (gl.submitAt = :cursorSubmitAt and gl.id < :cursorGameLogId))
+            order by gl.submitAt desc, gl.id desc
+            """)
+    List<GameAttemptRow> findAttemptHistory(
+            @Param("childUserId") Integer childUserId,
+            @Param("filterStage") boolean filterStage,
+            @Param("gameStageIds") List<Integer> gameStageIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorSubmitAt") LocalDateTime cursorSubmitAt,
+            @Param("cursorGameLogId") Integer cursorGameLogId,
+            Pageable pageable
+    );
+
+    /**
+     * 주어진 제출 ID 중 이미 저장된 것을 조회합니다. 쓰기 지연 파이프라인이 저널을 재처리할 때 중복 저장을 걸러내는 데 사용합니다.
+     *
+     * @param submissionIds 제출 ID 목록
+     * @return 이미 game_log에 저장된 제출 ID 목록
+     */
+    @Query("select gl.submissionId from GameLogEntity gl where gl.submissionId in :submissionIds")
+    List<String> findSubmissionIdsIn(@Param("submissionIds") Collection<String> submissionIds);
+
+    long countByChildGameStageEntity_ChildGameChapterEntity_Id(Integer childGameChapterId);
+
+    boolean existsByIdAndChildUserEntity_ConsultantUserEntity_Email(Integer gameLogId, String consultantEmail);
 }
@@ -0,0 +1,9 @@
+package com.h5.domain.game.repository;
+
+import com.h5.domain.game.document.StageEmotionSeriesDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StageEmotionSeriesRepository extends MongoRepository<StageEmotionSeriesDocument, Integer> {
+}
@@ -0,0 +1,67 @@
+package com.h5.domain.game.service;
+
+import com.h5.domain.game.entity.ChildGameStageSummaryEntity;
+import com.h5.domain.statistic.service.StatisticScoring;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 챕터 종료 시 스테이지별 누적 요약을 통계 증가분으로 환산하는 계산입니다.
+ * <p>
+ * 저장소 호출 없이 요약 목록만으로 계산하므로, {@code GameService}의 챕터 종료 처리와 성능 측정이 같은 계산을 사용합니다.
+ * 점수 규칙은 {@link StatisticScoring}을 따릅니다.
+ * </p>
+ */
+public final class ChapterAnalytics {
+
+    private ChapterAnalytics() {
+    }
+
+    /**
+     * 스테이지 한 개의 통계 증가분.
+     *
+     * @param emotionId   감정 ID
+     * @param trialCnt    시도 횟수 증가분
+     * @param crtCnt      정답 횟수 증가분(정답이면 1)
+     * @param ratingDelta 점수 증가분
+     */
+    public record StageDelta(int emotionId, int trialCnt, int crtCnt, int ratingDelta) {
+    }
+
+    /**
+     * 챕터 전체의 통계 증가분.
+     *
+     * @param stages       스테이지별 증가분(요약 순서)
+     * @param ratingDeltas 감정 ID → 점수 증가분 합계
+     */
+    public record Result(List<StageDelta> stages, Map<Integer, Integer> ratingDeltas) {
+    }
+
+    /**
+     * 스테이지별 누적 요약을 통계 증가분으로 환산합니다.
+     *
+     * @param summaries 챕터-스테이지 누적 요약 목록
+     * @return 스테이지별 증가분과 감정별 점수 증가분 합계
+     */
+    public static Result fold(List<ChildGameStageSummaryEntity> summaries) {
+        List<StageDelta> stages = new ArrayList<>(summaries.size());
+        Map<Integer, Integer> ratingDeltas = new HashMap<>();
+
+        for (ChildGameStageSummaryEntity summary : summaries) {
+            int emotionId = summary.getEmotionEntity().getId();
+            int trialCnt = summary.getTrialCnt();
+            boolean isCorrect = summary.getCorrected();
+
+            // 정답까지 걸린 시도 횟수(정답이 없으면 전체 시도 수 + 1)
+            int whenCorrect = StatisticScoring.whenCorrect(isCorrect, summary.getFirstCrtTrial(), trialCnt);
+            int ratingDelta = StatisticScoring.ratingDelta(whenCorrect);
+
+            stages.add(new StageDelta(emotionId, trialCnt, isCorrect ? 1 : 0, ratingDelta));
+            ratingDeltas.merge(emotionId, ratingDelta, Integer::sum);
+        }
+        return new Result(stages, ratingDeltas);
+    }
+}
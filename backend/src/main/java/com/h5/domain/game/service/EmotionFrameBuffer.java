@@ -0,0 +1,165 @@
+package com.h5.domain.game.service;
+
+import com.h5.domain.emotion.entity.EmotionVector;
+
+import java.util.Arrays;
+
+/**
+ * 한 게임 스테이지의 프레임별 감정 점수를 고정 크기로 다운샘플하는 버퍼입니다.
+ * <p>
+ * - 수신한 프레임은 {@code bucketMillis} 구간마다 평균을 내어, 용량이 고정된 원형 버퍼에 한 칸씩 담습니다.
+ *   버퍼가 차면 가장 오래된 구간을 덮어쓰므로 스테이지 길이와 관계없이 메모리 사용량이 일정합니다.
+ * - 요약(프레임 수, 평균, 최댓값)은 덮어쓰기와 관계없이 모든 프레임으로 계산합니다.
+ * - 스레드 안전하지 않으므로 호출 측에서 버퍼 단위로 동기화합니다.
+ * </p>
+ */
+public class EmotionFrameBuffer {
+
+    private final int childUserId;
+    private final String ownerEmail;
+    private final int bucketMillis;
+
+    private final int[] offsets;
+    private final long[] face;
+    private final long[] text;
+    private int head;
+    private int size;
+
+    private long bucket = -1;
+    private int bucketCount;
+    private final long[] bucketFaceSum = new long[EmotionVector.SIZE];
+    private final long[] bucketTextSum = new long[EmotionVector.SIZE];
+
+    private long frameCount;
+    private final long[] faceSum = new long[EmotionVector.SIZE];
+    private final long[] textSum = new long[EmotionVector.SIZE];
+    private final int[] faceMax = new int[EmotionVector.SIZE];
+    private final int[] textMax = new int[EmotionVector.SIZE];
+
+    public EmotionFrameBuffer(int childUserId, String ownerEmail, int capacity, int bucketMillis) {
+        this.childUserId = childUserId;
+        this.ownerEmail = ownerEmail;
+        this.bucketMillis = bucketMillis;
+        this.offsets = new int[capacity];
+        this.face = new long[capacity];
+        this.text = new long[capacity];
+    }
+
+    /**
+     * 프레임 한 건을 반영합니다. 현재 구간보다 이른 프레임(순서가 뒤바뀐 프레임)은 현재 구간에 합산합니다.
+     *
+     * @param elapsedMillis 스테이지 시작 후 경과 시간(ms)
+     * @param faceEmotion   얼굴 감정 점수
+     * @param textEmotion   텍스트 감정 점수
+     */
+    public void add(int elapsedMillis, EmotionVector faceEmotion, EmotionVector textEmotion) {
+        long frameBucket = elapsedMillis / bucketMillis;
+        if (frameBucket > bucket) {
+            closeBucket();
+            bucket = frameBucket;
+        }
+
+        frameCount++;
+        bucketCount++;
+        for (int i = 0; i < EmotionVector.SIZE; i++) {
+            int faceValue = faceEmotion.get(i);
+            int textValue = textEmotion.get(i);
+            bucketFaceSum[i] += faceValue;
+            bucketTextSum[i] += textValue;
+            faceSum[i] += faceValue;
+            textSum[i] += textValue;
+            faceMax[i] = Math.max(faceMax[i], faceValue);
+            textMax[i] = Math.max(textMax[i], textValue);
+        }
+    }
+
+    /**
+     * 진행 중인 구간을 닫아 시계열에 반영합니다. 스테이지 종료 시 결과를 읽기 전에 호출합니다.
+     */
+    public void closeBucket() {
+        if (bucketCount == 0) {
+            return;
+        }
+        offsets[head] = (int) (bucket * bucketMillis);
+        face[head] = average(bucketFaceSum, bucketCount).packed();
+        text[head] = average(bucketTextSum, bucketCount).packed();
+        head = (head + 1) % offsets.length;
+        size = Math.min(size + 1, offsets.length);
+
+        bucketCount = 0;
+        Arrays.fill(bucketFaceSum, 0);
+        Arrays.fill(bucketTextSum, 0);
+    }
+
+    public int getChildUserId() {
+        return childUserId;
+    }
+
+    /**
+     * 버퍼를 연 부모 사용자인지 확인합니다.
+     *
+     * @param parentEmail 부모 사용자 이메일
+     * @return 버퍼를 연 사용자이면 {@code true}
+     */
+    public boolean isOwnedBy(String parentEmail) {
+        return ownerEmail.equals(parentEmail);
+    }
+
+    public int getBucketMillis() {
+        return bucketMillis;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    public EmotionVector getFaceAverage() {
+        return average(faceSum, frameCount);
+    }
+
+    public EmotionVector getTextAverage() {
+        return average(textSum, frameCount);
+    }
+
+    public EmotionVector getFaceMax() {
+        return EmotionVector.of(faceMax[0], faceMax[1], faceMax[2], faceMax[3], faceMax[4]);
+    }
+
+    public EmotionVector getTextMax() {
+        return EmotionVector.of(textMax[0], textMax[1], textMax[2], textMax[3], textMax[4]);
+    }
+
+    /**
+     * 시계열을 오래된 구간부터 순서대로 복사합니다.
+     *
+     * @param target     구간 시작 오프셋(ms)을 담을 배열(길이 {@link #getSeriesSize()} 이상)
+     * @param faceTarget 얼굴 점수 패킹 값을 담을 배열
+     * @param textTarget 텍스트 점수 패킹 값을 담을 배열
+     */
+    public void copySeries(int[] target, long[] faceTarget, long[] textTarget) {
+        int start = (head - size + offsets.length) % offsets.length;
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % offsets.length;
+            target[i] = offsets[index];
+            faceTarget[i] = face[index];
+            textTarget[i] = text[index];
+        }
+    }
+
+    public int getSeriesSize() {
+        return size;
+    }
+
+    private static EmotionVector average(long[] sums, long count) {
+        if (count == 0) {
+            return EmotionVector.fromPacked(0L);
+        }
+        return EmotionVector.of(
+                (int) (sums[0] / count),
+                (int) (sums[1] / count),
+                (int) (sums[2] / count),
+                (int) (sums[3] / count),
+                (int) (sums[4] / count)
+        );
+    }
+}
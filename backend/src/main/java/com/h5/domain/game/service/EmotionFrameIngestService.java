@@ -0,0 +1,142 @@
+package com.h5.domain.game.service;
+
+import com.github.hyeonjaez.springcommon.exception.BusinessException;
+import com.h5.domain.emotion.entity.EmotionVector;
+import com.h5.domain.game.document.StageEmotionSeriesDocument;
+import com.h5.domain.game.repository.ChildGameStageRepository;
+import com.h5.domain.game.repository.StageEmotionSeriesRepository;
+import com.h5.global.exception.DomainErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임 스테이지 중 실시간으로 수신한 감정 프레임을 스테이지별 버퍼에 모으고, 스테이지 종료 시 저장합니다.
+ * <p>
+ * - 스테이지마다 {@link EmotionFrameBuffer} 하나를 메모리에 두고 프레임을 다운샘플합니다
+ *   ({@code game.emotion-frame.capacity}칸, {@code game.emotion-frame.bucket-millis} 간격).
+ * - 스테이지 종료 시 요약과 시계열만 MongoDB({@link StageEmotionSeriesDocument})에 한 번 저장하며, 프레임 원본은 저장하지 않습니다.
+ * - 버퍼는 수신한 인스턴스의 메모리에 있으므로 같은 스테이지의 프레임은 한 연결로 보내야 합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class EmotionFrameIngestService {
+
+    private final ChildGameStageRepository childGameStageRepository;
+    private final StageEmotionSeriesRepository stageEmotionSeriesRepository;
+    private final int capacity;
+    private final int bucketMillis;
+
+    private final Map<Integer, EmotionFrameBuffer> buffers = new ConcurrentHashMap<>();
+
+    public EmotionFrameIngestService(
+            ChildGameStageRepository childGameStageRepository,
+            StageEmotionSeriesRepository stageEmotionSeriesRepository,
+            @Value("${game.emotion-frame.capacity:240}") int capacity,
+            @Value("${game.emotion-frame.bucket-millis:500}") int bucketMillis
+    ) {
+        this.childGameStageRepository = childGameStageRepository;
+        this.stageEmotionSeriesRepository = stageEmotionSeriesRepository;
+        this.capacity = capacity;
+        this.bucketMillis = bucketMillis;
+    }
+
+    /**
+     * 부모 사용자가 자녀 게임 스테이지의 프레임을 보낼 수 있는지 확인하고, 스테이지 버퍼를 준비합니다.
+     * <p>
+     * 소유 확인은 연결마다 수행하며, 이미 열린 버퍼라도 다른 사용자가 연 버퍼이면 거부합니다.
+     * </p>
+     *
+     * @param childGameStageId 자녀 게임 스테이지 ID
+     * @param parentEmail      연결한 부모 사용자 이메일
+     * @throws BusinessException 스테이지가 없거나 자녀의 부모가 아닌 경우, 다른 사용자가 연 버퍼인 경우 GAME_ACCESS_DENY
+     */
+    public void open(int childGameStageId, String parentEmail) {
+        int childUserId = childGameStageRepository.findChildUserIdByIdAndParentEmail(childGameStageId, parentEmail)
+                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_ACCESS_DENY));
+        EmotionFrameBuffer buffer = buffers.computeIfAbsent(
+                childGameStageId,
+                id -> new EmotionFrameBuffer(childUserId, parentEmail, capacity, bucketMillis)
+        );
+        if (!buffer.isOwnedBy(parentEmail)) {
+            throw new BusinessException(DomainErrorCode.GAME_ACCESS_DENY);
+        }
+    }
+
+    /**
+     * 프레임 한 건을 스테이지 버퍼에 반영합니다.
+     * {@link #open}으로 준비되지 않았거나 다른 사용자가 연 스테이지의 프레임은 무시합니다.
+     *
+     * @param childGameStageId 자녀 게임 스테이지 ID
+     * @param parentEmail      연결한 부모 사용자 이메일
+     * @param elapsedMillis    스테이지 시작 후 경과 시간(ms)
+     * @param faceEmotion      얼굴 감정 점수
+     * @param textEmotion      텍스트 감정 점수
+     */
+    public void append(int childGameStageId, String parentEmail, int elapsedMillis,
+                       EmotionVector faceEmotion, EmotionVector textEmotion) {
+        EmotionFrameBuffer buffer = buffers.get(childGameStageId);
+        if (buffer == null || !buffer.isOwnedBy(parentEmail)) {
+            return;
+        }
+        synchronized (buffer) {
+            buffer.add(elapsedMillis, faceEmotion, textEmotion);
+        }
+    }
+
+    /**
+     * 스테이지 버퍼를 닫고 요약과 다운샘플 시계열을 저장합니다.
+     * 프레임이 없거나 다른 사용자가 연 버퍼이면 저장하지 않습니다.
+     *
+     * @param childGameStageId 자녀 게임 스테이지 ID
+     * @param parentEmail      연결한 부모 사용자 이메일
+     */
+    public void finish(int childGameStageId, String parentEmail) {
+        EmotionFrameBuffer buffer = buffers.get(childGameStageId);
+        if (buffer == null || !buffer.isOwnedBy(parentEmail) || !buffers.remove(childGameStageId, buffer)) {
+            return;
+        }
+
+        StageEmotionSeriesDocument document;
+        synchronized (buffer) {
+            if (buffer.getFrameCount() == 0) {
+                return;
+            }
+            buffer.closeBucket();
+            document = toDocument(childGameStageId, buffer);
+        }
+        stageEmotionSeriesRepository.save(document);
+        log.debug("감정 프레임 저장: childGameStageId={}, frames={}, series={}",
+                childGameStageId, document.getFrameCount(), document.getOffsets().size());
+    }
+
+    private StageEmotionSeriesDocument toDocument(int childGameStageId, EmotionFrameBuffer buffer) {
+        int size = buffer.getSeriesSize();
+        int[] offsets = new int[size];
+        long[] face = new long[size];
+        long[] text = new long[size];
+        buffer.copySeries(offsets, face, text);
+
+        return StageEmotionSeriesDocument.builder()
+                .childGameStageId(childGameStageId)
+                .childUserId(buffer.getChildUserId())
+                .frameCount(buffer.getFrameCount())
+                .faceAvg(buffer.getFaceAverage().packed())
+                .textAvg(buffer.getTextAverage().packed())
+                .faceMax(buffer.getFaceMax().packed())
+                .textMax(buffer.getTextMax().packed())
+                .bucketMillis(buffer.getBucketMillis())
+                .offsets(Arrays.stream(offsets).boxed().toList())
+                .face(Arrays.stream(face).boxed().toList())
+                .text(Arrays.stream(text).boxed().toList())
+                .endedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.h5.domain.game.service;
+
+import com.github.hyeonjaez.springcommon.exception.BusinessException;
+import com.h5.domain.emotion.entity.EmotionVector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 게임 스테이지 중 프레임별 감정 점수를 바이너리 WebSocket 메시지로 수신하는 핸들러입니다.
+ * <p>
+ * 메시지 형식(빅 엔디언):
+ * <pre>
+ * [1바이트 타입][4바이트 childGameStageId][본문]
+ *   타입 1(FRAMES): 본문은 프레임 N개, 프레임마다
+ *                   [4바이트 경과 시간(ms)][8바이트 얼굴 점수][8바이트 텍스트 점수] (20바이트)
+ *   타입 2(END)   : 본문 없음. 스테이지를 종료하고 요약을 저장합니다.
+ * </pre>
+ * 감정 점수는 {@link EmotionVector} 패킹 값입니다. 연결이 끊기면 이 연결에서 연 스테이지를 모두 종료합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmotionFrameWebSocketHandler extends BinaryWebSocketHandler {
+
+    private static final byte TYPE_FRAMES = 1;
+    private static final byte TYPE_END = 2;
+    private static final int HEADER_BYTES = 5;
+    private static final int FRAME_BYTES = 20;
+    private static final int MAX_OPEN_STAGES = 4;
+    private static final String OPEN_STAGES_ATTRIBUTE = "emotionFrameStages";
+    private static final String USER_EMAIL_ATTRIBUTE = "userEmail";
+
+    private final EmotionFrameIngestService emotionFrameIngestService;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        session.getAttributes().put(OPEN_STAGES_ATTRIBUTE, new HashSet<Integer>());
+    }
+
+    /**
+     * 바이너리 메시지를 해석해 프레임을 반영하거나 스테이지를 종료합니다.
+     * 형식이 잘못되었거나 권한이 없는 스테이지면 연결을 닫습니다.
+     *
+     * @param session 연결된 WebSocket 세션
+     * @param message 수신한 바이너리 메시지
+     * @throws IOException 연결 종료 중 I/O 오류가 발생할 수 있습니다.
+     */
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        ByteBuffer payload = message.getPayload();
+        if (payload.remaining() < HEADER_BYTES) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+        byte type = payload.get();
+        int childGameStageId = payload.getInt();
+        Set<Integer> openStages = openStages(session);
+        String parentEmail = (String) session.getAttributes().get(USER_EMAIL_ATTRIBUTE);
+
+        if (type == TYPE_END) {
+            if (openStages.remove(childGameStageId)) {
+                emotionFrameIngestService.finish(childGameStageId, parentEmail);
+            }
+            return;
+        }
+        if (type != TYPE_FRAMES || payload.remaining() % FRAME_BYTES != 0) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+
+        if (!openStages.contains(childGameStageId)) {
+            if (openStages.size() >= MAX_OPEN_STAGES) {
+                session.close(CloseStatus.POLICY_VIOLATION);
+                return;
+            }
+            try {
+                emotionFrameIngestService.open(childGameStageId, parentEmail);
+            } catch (BusinessException e) {
+                session.close(CloseStatus.POLICY_VIOLATION);
+                return;
+            }
+            openStages.add(childGameStageId);
+        }
+
+        while (payload.hasRemaining()) {
+            int elapsedMillis = payload.getInt();
+            long face = payload.getLong();
+            long text = payload.getLong();
+            if (elapsedMillis < 0 || !EmotionVector.isValidPacked(face) || !EmotionVector.isValidPacked(text)) {
+                session.close(CloseStatus.BAD_DATA);
+                return;
+            }
+            emotionFrameIngestService.append(
+                    childGameStageId, parentEmail, elapsedMillis, EmotionVector.fromPacked(face), EmotionVector.fromPacked(text)
+            );
+        }
+    }
+
+    /**
+     * 연결이 종료되면 이 연결에서 열린 스테이지를 모두 종료하고 저장합니다.
+     *
+     * @param session 연결이 종료된 WebSocket 세션
+     * @param status  연결 종료 상태 정보
+     */
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Set<Integer> openStages = openStages(session);
+        String parentEmail = (String) session.getAttributes().get(USER_EMAIL_ATTRIBUTE);
+        for (Integer childGameStageId : openStages) {
+            try {
+                emotionFrameIngestService.finish(childGameStageId, parentEmail);
+            } catch (RuntimeException e) {
+                log.warn("감정 프레임 저장 실패: childGameStageId={}", childGameStageId, e);
+            }
+        }
+        openStages.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Integer> openStages(WebSocketSession session) {
+        return (Set<Integer>) session.getAttributes().get(OPEN_STAGES_ATTRIBUTE);
+    }
+}
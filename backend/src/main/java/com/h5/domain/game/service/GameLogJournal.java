@@ -0,0 +1,201 @@
+package com.h5.domain.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.h5.domain.game.dto.request.SaveGameLogRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 쓰기 지연(write-behind) 대기열에 들어간 게임 로그를 로컬 파일에 선기록하는 저널입니다.
+ * <p>
+ * - 각 로그는 단조 증가하는 순번, 제출 ID와 함께 한 줄({@code seq\tsubmissionId\tjson})로 추가되며, 기록 후 {@link FileChannel#force}로 디스크에 동기화합니다.
+ * - 제출 ID는 game_log의 유니크 키로 저장되어, 커밋 후 체크포인트 전에 중단되어 재처리되는 로그가 중복 저장되지 않게 합니다.
+ *   저널 디렉터리를 새로 만들면 순번은 1부터 다시 시작하므로 순번 대신 무작위 UUID를 사용합니다.
+ * - DB 반영이 끝난 마지막 순번은 동기화된 임시 파일을 원자적으로 교체해 체크포인트 파일에 기록되며,
+ *   대기 중인 로그가 없으면 저널을 비웁니다.
+ * - 재기동 시 체크포인트 이후의 로그를 읽어 재처리할 수 있습니다.
+ * - 재시도해도 저장할 수 없는 로그는 원인과 함께 별도의 dead-letter 파일에 남겨 수동으로 확인할 수 있게 합니다.
+ * </p>
+ */
+public class GameLogJournal implements Closeable {
+
+    private static final String JOURNAL_FILE = "game-log.journal";
+    private static final String CHECKPOINT_FILE = "game-log.checkpoint";
+    private static final String DEAD_LETTER_FILE = "game-log.deadletter";
+
+    private final Path journalPath;
+    private final Path checkpointPath;
+    private final Path deadLetterPath;
+    private final ObjectMapper objectMapper;
+
+    private FileChannel channel;
+    private long lastSeq;
+    private long checkpointSeq;
+
+    public GameLogJournal(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+        this.journalPath = directory.resolve(JOURNAL_FILE);
+        this.checkpointPath = directory.resolve(CHECKPOINT_FILE);
+        this.deadLetterPath = directory.resolve(DEAD_LETTER_FILE);
+        this.objectMapper = objectMapper;
+        this.checkpointSeq = readCheckpoint();
+        this.lastSeq = checkpointSeq;
+    }
+
+    /**
+     * 체크포인트 이후에 기록된, 아직 DB에 반영되지 않은 로그를 기록 순서대로 읽습니다.
+     *
+     * @return 재처리 대상 로그 목록
+     * @throws IOException 저널 파일을 읽지 못한 경우
+     */
+    public synchronized List<Entry> readPending() throws IOException {
+        List<Entry> pending = new ArrayList<>();
+        if (Files.exists(journalPath)) {
+            for (String line : Files.readAllLines(journalPath, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                if (tab < 0) {
+                    continue; // 기록 도중 중단된 마지막 줄
+                }
+                long seq = Long.parseLong(line.substring(0, tab));
+                lastSeq = Math.max(lastSeq, seq);
+                if (seq > checkpointSeq) {
+                    String rest = line.substring(tab + 1);
+                    String submissionId = null;
+                    if (!rest.startsWith("{")) { // 제출 ID가 없는 이전 형식의 줄은 그대로 읽습니다.
+                        int idTab = rest.indexOf('\t');
+                        if (idTab < 0) {
+                            continue;
+                        }
+                        submissionId = rest.substring(0, idTab);
+                        rest = rest.substring(idTab + 1);
+                    }
+                    try {
+                        pending.add(new Entry(seq, submissionId, objectMapper.readValue(rest, SaveGameLogRequest.class)));
+                    } catch (IOException e) {
+                        // 기록 도중 중단된 마지막 줄은 건너뜁니다.
+                    }
+                }
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * 로그에 순번과 제출 ID를 부여해 저널 끝에 추가합니다.
+     *
+     * @param request 기록할 게임 로그 요청
+     * @return 순번과 제출 ID가 부여된 저널 항목
+     * @throws IOException 저널 파일에 쓰지 못한 경우
+     */
+    public synchronized Entry append(SaveGameLogRequest request) throws IOException {
+        Entry entry = new Entry(lastSeq + 1, UUID.randomUUID().toString(), request);
+        FileChannel out = openChannel();
+        writeFully(out, entry.seq() + "\t" + entry.submissionId() + "\t" + objectMapper.writeValueAsString(request) + "\n");
+        out.force(false);
+        lastSeq = entry.seq();
+        return entry;
+    }
+
+    /**
+     * 주어진 순번까지 DB 반영이 끝났음을 기록합니다. 대기 중인 로그가 없으면 저널을 비웁니다.
+     *
+     * @param seq DB에 반영된 마지막 순번
+     * @throws IOException 체크포인트 또는 저널 파일을 갱신하지 못한 경우
+     */
+    public synchronized void checkpoint(long seq) throws IOException {
+        Path tmp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, Long.toString(seq));
+            out.force(true);
+        }
+        Files.move(tmp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpointSeq = seq;
+
+        if (checkpointSeq >= lastSeq) {
+            closeChannel();
+            Files.deleteIfExists(journalPath);
+        }
+    }
+
+    /**
+     * 저장할 수 없는 로그를 원인과 함께 dead-letter 파일 끝에 추가합니다({@code seq\tsubmissionId\treason\tjson}).
+     *
+     * @param entry  저장에 실패한 로그
+     * @param reason 실패 원인(예외 클래스 이름 등)
+     * @throws IOException dead-letter 파일에 쓰지 못한 경우
+     */
+    public synchronized void deadLetter(Entry entry, String reason) throws IOException {
+        String line = entry.seq() + "\t" + entry.submissionId() + "\t" + reason.replaceAll("[\\t\\r\\n]", " ") + "\t"
+                + objectMapper.writeValueAsString(entry.request()) + "\n";
+        try (FileChannel out = FileChannel.open(deadLetterPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeFully(out, line);
+            out.force(false);
+        }
+    }
+
+    public Path getDeadLetterPath() {
+        return deadLetterPath;
+    }
+
+    public synchronized long getLastSeq() {
+        return lastSeq;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closeChannel();
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void writeFully(FileChannel out, String text) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return 0L;
+        }
+        String value = Files.readString(checkpointPath, StandardCharsets.UTF_8).trim();
+        return value.isEmpty() ? 0L : Long.parseLong(value);
+    }
+
+    /**
+     * 저널에 기록된 게임 로그 한 건입니다.
+     *
+     * @param seq          저널 순번
+     * @param submissionId 중복 저장 방지용 제출 ID(이전 형식의 저널에서 읽은 경우 {@code null})
+     * @param request      게임 로그 요청
+     */
+    public record Entry(long seq, String submissionId, SaveGameLogRequest request) {
+    }
+}
@@ -0,0 +1,411 @@
+package com.h5.domain.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.hyeonjaez.springcommon.exception.BusinessException;
+import com.h5.domain.game.dto.request.SaveGameLogRequest;
+import com.h5.domain.game.repository.ChildGameStageRepository;
+import com.h5.global.exception.DomainErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 로그를 비동기로 저장하는 쓰기 지연(write-behind) 파이프라인입니다.
+ * <p>
+ * {@code game.log.write-behind.enabled=true}일 때만 동작하며,
+ * - submit: 로그를 로컬 저널에 선기록하고 제한된 크기의 대기열에 넣은 뒤 즉시 반환합니다.
+ *   대기열이 가득 차면 429, 종료 중이면 503 응답을 위한 예외를 던집니다.
+ * - 전용 writer 스레드가 대기열을 비우며 {@link GameService#saveAcceptedGameLogs}로 묶어서 저장합니다.
+ * - 종료 시 대기열을 모두 비운 뒤 멈추고, 비정상 종료 후 재기동 시 저널에 남은 로그를 writer 스레드가 대기열보다 먼저 재처리합니다.
+ *   재처리는 기동을 막지 않으며, DB 장애가 이어지면 종료 요청 시 중단되고 저널에 남아 다음 기동 때 다시 시도됩니다.
+ * - 일시적인 DB 오류만 재시도하고, 그 밖의 오류로 저장할 수 없는 로그는 dead-letter 파일로 보낸 뒤 체크포인트를 넘겨 뒤따르는 로그를 막지 않습니다.
+ * - 저널 항목의 제출 ID를 game_log 유니크 키로 저장하므로, 커밋 후 체크포인트 전에 중단되어 재처리되어도 중복 저장되지 않습니다.
+ * - 챕터 종료 전에는 해당 챕터 스테이지의 로그만 반영될 때까지 기다립니다.
+ * - 대기열 깊이, 저장 지연 시간, 거절 건수, dead-letter 건수를 Micrometer 지표로 노출합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameLogWriteBehindService implements SmartLifecycle {
+
+    private static final long POLL_INTERVAL_MILLIS = 200;
+    private static final long RETRY_BACKOFF_MILLIS = 1000;
+
+    private final GameService gameService;
+    private final ChildGameStageRepository childGameStageRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${game.log.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${game.log.write-behind.capacity:10000}")
+    private int capacity;
+
+    @Value("${game.log.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${game.log.write-behind.flush-timeout-millis:5000}")
+    private long flushTimeoutMillis;
+
+    @Value("${game.log.write-behind.journal-dir:./data/game-log-journal}")
+    private String journalDir;
+
+    private final Object flushMonitor = new Object();
+    private final Map<Integer, Long> pendingSeqByStage = new ConcurrentHashMap<>();
+
+    private BlockingQueue<GameLogJournal.Entry> queue;
+    private GameLogJournal journal;
+    private Thread writerThread;
+    private List<GameLogJournal.Entry> pending;
+    private long replayUpToSeq;
+    private Timer flushTimer;
+    private Counter rejectedCounter;
+    private Counter deadLetterCounter;
+
+    private volatile boolean running;
+    private volatile long flushedSeq;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 게임 로그를 저널에 기록하고 저장 대기열에 넣습니다.
+     *
+     * @param req 저장할 게임 로그 요청
+     * @throws BusinessException 대기열이 가득 찬 경우 GAME_LOG_QUEUE_FULL,
+     *                           파이프라인이 동작 중이 아니거나 저널 기록에 실패한 경우 GAME_LOG_WRITER_UNAVAILABLE
+     */
+    public void submit(SaveGameLogRequest req) {
+        if (!running) {
+            throw new BusinessException(DomainErrorCode.GAME_LOG_WRITER_UNAVAILABLE);
+        }
+        synchronized (journal) {
+            if (queue.remainingCapacity() == 0) {
+                rejectedCounter.increment();
+                throw new BusinessException(DomainErrorCode.GAME_LOG_QUEUE_FULL);
+            }
+            try {
+                GameLogJournal.Entry entry = journal.append(req);
+                trackPending(entry);
+                queue.add(entry);
+            } catch (IOException e) {
+                log.error("게임 로그 저널 기록 실패", e);
+                throw new BusinessException(DomainErrorCode.GAME_LOG_WRITER_UNAVAILABLE);
+            }
+        }
+    }
+
+    /**
+     * 호출 시점까지 접수된 로그 중 주어진 챕터의 로그가 모두 DB에 반영될 때까지 기다립니다.
+     * <p>
+     * 챕터 종료처럼 저장된 로그를 전제로 하는 처리 전에 호출합니다. 다른 챕터의 로그가 밀려 있어도 기다리지 않으며,
+     * 비활성화 상태이거나 반영을 기다리는 로그가 없으면 즉시 반환합니다.
+     * </p>
+     *
+     * @param childGameChapterId 종료할 자녀 게임 챕터 ID
+     * @throws BusinessException 제한 시간 안에 반영되지 않은 경우 GAME_LOG_WRITER_UNAVAILABLE
+     */
+    public void awaitFlushed(Integer childGameChapterId) {
+        if (!enabled || journal == null || pendingSeqByStage.isEmpty()) {
+            return;
+        }
+        long target = childGameStageRepository.findAllByChildGameChapterEntity_Id(childGameChapterId).stream()
+                .map(stage -> pendingSeqByStage.get(stage.getId()))
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0L);
+        awaitFlushedSeq(target);
+    }
+
+    private void awaitFlushedSeq(long target) {
+        long deadline = System.currentTimeMillis() + flushTimeoutMillis;
+        synchronized (flushMonitor) {
+            while (flushedSeq < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new BusinessException(DomainErrorCode.GAME_LOG_WRITER_UNAVAILABLE);
+                }
+                try {
+                    flushMonitor.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new BusinessException(DomainErrorCode.GAME_LOG_WRITER_UNAVAILABLE);
+                }
+            }
+        }
+    }
+
+    /**
+     * 자녀 스테이지별로 반영을 기다리는 가장 큰 순번을 기록합니다.
+     */
+    private void trackPending(GameLogJournal.Entry entry) {
+        pendingSeqByStage.merge(entry.request().getChildGameStageId(), entry.seq(), Math::max);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            journal = new GameLogJournal(Path.of(journalDir), objectMapper);
+            pending = journal.readPending();
+            pending.forEach(this::trackPending);
+            replayUpToSeq = journal.getLastSeq();
+            flushedSeq = pending.isEmpty() ? replayUpToSeq : pending.get(0).seq() - 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("게임 로그 저널을 열 수 없습니다: " + journalDir, e);
+        }
+
+        queue = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder("game.log.write_behind.queue.depth", queue, BlockingQueue::size)
+                .description("DB 반영을 기다리는 게임 로그 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("game.log.write_behind.flush")
+                .description("게임 로그 일괄 저장 지연 시간")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("game.log.write_behind.rejected")
+                .description("대기열 포화로 거절된 게임 로그 수")
+                .register(meterRegistry);
+        deadLetterCounter = Counter.builder("game.log.write_behind.dead_lettered")
+                .description("저장할 수 없어 dead-letter 파일로 보낸 게임 로그 수")
+                .register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::drainLoop, "game-log-writer");
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join();
+            journal.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("게임 로그 저널 종료 실패", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * writer 스레드 본체. 저널에 남은 로그를 먼저 재처리하고, 종료 요청 후에도 대기열이 빌 때까지 저장을 계속합니다.
+     * <p>
+     * 동작 중에는 어떤 오류가 나도 스레드를 끝내지 않고, 처리하던 묶음(또는 재처리 대상)을 잠시 후 다시 시도합니다.
+     * 종료 중 DB 장애로 저장하지 못한 로그는 저널에 남아 다음 기동 시 재처리됩니다.
+     * </p>
+     */
+    private void drainLoop() {
+        List<GameLogJournal.Entry> batch = new ArrayList<>(batchSize);
+        while (running || !pending.isEmpty() || !batch.isEmpty() || !queue.isEmpty()) {
+            try {
+                if (!pending.isEmpty()) {
+                    replayPending();
+                    continue;
+                }
+                if (batch.isEmpty()) {
+                    GameLogJournal.Entry first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    log.error("게임 로그 writer 종료, 미반영 로그는 다음 기동 시 저널에서 재처리됩니다.", e);
+                    return;
+                }
+                log.error("게임 로그 writer 오류, {}ms 후 다시 시도합니다.", RETRY_BACKOFF_MILLIS, e);
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 이전 실행에서 저널에 남은 로그를 접수 순서대로 저장합니다.
+     * <p>
+     * 묶음 단위로 체크포인트를 갱신하며 처리한 만큼 재처리 대상에서 제외하므로, 중간에 실패해도 남은 로그부터 다시 시도합니다.
+     * </p>
+     *
+     * @throws InterruptedException 재시도 대기 중 인터럽트된 경우
+     */
+    private void replayPending() throws InterruptedException {
+        log.info("게임 로그 저널 재처리: {}건", pending.size());
+        while (!pending.isEmpty()) {
+            int end = Math.min(batchSize, pending.size());
+            flush(pending.subList(0, end));
+            pending = pending.subList(end, pending.size());
+        }
+        markFlushed(replayUpToSeq);
+    }
+
+    /**
+     * 로그 묶음을 저장하고 체크포인트를 갱신합니다.
+     * <p>
+     * 연결 실패, 타임아웃 같은 일시적인 DB 오류만 동작 중인 동안 재시도합니다.
+     * 그 밖의 오류는 묶음 안의 어느 로그가 원인인지 알 수 없으므로 건별 저장으로 전환해 나머지 로그를 살립니다.
+     * </p>
+     *
+     * @param batch 저장할 로그 묶음(접수 순서)
+     * @throws InterruptedException 재시도 대기 중 인터럽트된 경우
+     */
+    private void flush(List<GameLogJournal.Entry> batch) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        while (true) {
+            try {
+                saveBatch(batch);
+                break;
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    awaitRetry(e);
+                    continue;
+                }
+                log.warn("게임 로그 일괄 저장 실패, 건별 저장으로 전환합니다. size={}", batch.size(), e);
+                for (GameLogJournal.Entry entry : batch) {
+                    saveOne(entry);
+                }
+                break;
+            }
+        }
+        if (flushTimer != null) {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        markFlushed(batch.get(batch.size() - 1).seq());
+    }
+
+    private void saveBatch(List<GameLogJournal.Entry> batch) {
+        gameService.saveAcceptedGameLogs(batch);
+    }
+
+    /**
+     * 로그 한 건을 저장합니다. 일시적인 오류는 재시도하고, 그 밖의 오류로 저장할 수 없는 로그는 dead-letter 파일로 보냅니다.
+     *
+     * @param entry 저장할 로그
+     * @throws InterruptedException 재시도 대기 중 인터럽트된 경우
+     */
+    private void saveOne(GameLogJournal.Entry entry) throws InterruptedException {
+        while (true) {
+            try {
+                saveBatch(List.of(entry));
+                return;
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    awaitRetry(e);
+                    continue;
+                }
+                deadLetter(entry, e);
+                return;
+            }
+        }
+    }
+
+    private void deadLetter(GameLogJournal.Entry entry, RuntimeException cause) {
+        deadLetterCounter.increment();
+        log.error("게임 로그 저장 불가로 dead-letter 처리합니다. seq={}", entry.seq(), cause);
+        try {
+            journal.deadLetter(entry, cause.getClass().getName() + ": " + cause.getMessage());
+        } catch (IOException e) {
+            log.error("게임 로그 dead-letter 기록 실패: seq={}, request={}", entry.seq(), toJson(entry), e);
+        }
+    }
+
+    private String toJson(GameLogJournal.Entry entry) {
+        try {
+            return objectMapper.writeValueAsString(entry.request());
+        } catch (IOException e) {
+            return String.valueOf(entry.request());
+        }
+    }
+
+    /**
+     * 일시적인 오류 후 재시도 전에 기다립니다. 종료 중이면 기다리지 않고 오류를 다시 던져 저널 재처리에 맡깁니다.
+     */
+    private void awaitRetry(RuntimeException e) throws InterruptedException {
+        if (!running) {
+            throw e;
+        }
+        log.warn("게임 로그 저장 중 일시적인 DB 오류, {}ms 후 재시도합니다.", RETRY_BACKOFF_MILLIS, e);
+        Thread.sleep(RETRY_BACKOFF_MILLIS);
+    }
+
+    /**
+     * 연결 실패, 락 대기 초과, 타임아웃처럼 같은 요청을 다시 보내면 성공할 수 있는 오류인지 판단합니다.
+     *
+     * @param e 저장 중 발생한 예외
+     * @return 재시도 대상이면 true
+     */
+    static boolean isTransient(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TransientDataAccessException
+                    || t instanceof RecoverableDataAccessException
+                    || t instanceof DataAccessResourceFailureException
+                    || t instanceof CannotCreateTransactionException
+                    || t instanceof SQLTransientException
+                    || t instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void markFlushed(long seq) {
+        try {
+            journal.checkpoint(seq);
+        } catch (IOException e) {
+            log.warn("게임 로그 저널 체크포인트 갱신 실패: seq={}", seq, e);
+        }
+        pendingSeqByStage.values().removeIf(pendingSeq -> pendingSeq <= seq);
+        synchronized (flushMonitor) {
+            flushedSeq = seq;
+            flushMonitor.notifyAll();
+        }
+    }
+}
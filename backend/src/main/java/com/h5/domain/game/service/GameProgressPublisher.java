@@ -0,0 +1,248 @@
+package com.h5.domain.game.service;
+
+import com.h5.domain.game.dto.response.GameProgressMessage;
+import com.h5.domain.game.entity.GameProgressEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 아동의 게임 진행 상황을 담당 상담사가 구독하는 STOMP 토픽({@code /topic/game-progress/{childUserId}})으로 전송합니다.
+ * <p>
+ * - 게임 이벤트는 트랜잭션 커밋 후 아동별 진행 상태에 반영만 하고 바로 보내지 않습니다.
+ * - 전용 스레드가 {@code game.progress.push-interval-millis}마다 바뀐 아동의 최신 상태만 한 번씩 보내므로,
+ *   답변이 몰려도 아동당 전송 빈도는 주기를 넘지 않습니다.
+ * - 진행 상태는 이 인스턴스의 메모리에만 있으며, 챕터 종료 후 또는 오래 갱신이 없으면 제거합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class GameProgressPublisher {
+
+    public static final String DESTINATION_PREFIX = "/topic/game-progress/";
+
+    private static final long IDLE_EVICT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long pushIntervalMillis;
+
+    private final Map<Integer, Progress> progresses = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public GameProgressPublisher(
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${game.progress.push-interval-millis:1000}") long pushIntervalMillis
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.pushIntervalMillis = pushIntervalMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-progress-push");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, pushIntervalMillis, pushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        flush();
+    }
+
+    /**
+     * 챕터 시작을 기록합니다. 챕터와 스테이지 카운터를 초기화합니다.
+     *
+     * @param childUserId        아동 ID
+     * @param childGameChapterId 어린이 게임 챕터 ID
+     * @param gameChapterId      게임 챕터 ID
+     */
+    public void chapterStarted(int childUserId, int childGameChapterId, int gameChapterId) {
+        afterCommit(() -> update(childUserId, progress -> {
+            progress.event = GameProgressEvent.CHAPTER_START;
+            progress.childGameChapterId = childGameChapterId;
+            progress.gameChapterId = gameChapterId;
+            progress.childGameStageId = null;
+            progress.gameStageId = null;
+            progress.chapterTrialCount = 0;
+            progress.chapterCorrectCount = 0;
+            progress.ended = false;
+            progress.resetStage();
+        }));
+    }
+
+    /**
+     * 스테이지 시작을 기록합니다. 스테이지 카운터를 초기화합니다.
+     *
+     * @param childUserId        아동 ID
+     * @param childGameChapterId 어린이 게임 챕터 ID
+     * @param childGameStageId   어린이 게임 스테이지 ID
+     * @param gameStageId        게임 스테이지 ID
+     */
+    public void stageStarted(int childUserId, int childGameChapterId, int childGameStageId, int gameStageId) {
+        afterCommit(() -> update(childUserId, progress -> {
+            progress.event = GameProgressEvent.STAGE_START;
+            progress.childGameChapterId = childGameChapterId;
+            progress.childGameStageId = childGameStageId;
+            progress.gameStageId = gameStageId;
+            progress.resetStage();
+        }));
+    }
+
+    /**
+     * 시도 결과를 기록합니다.
+     *
+     * @param childUserId      아동 ID
+     * @param childGameStageId 어린이 게임 스테이지 ID
+     * @param gameStageId      게임 스테이지 ID
+     * @param corrected        정답 여부
+     */
+    public void attemptRecorded(int childUserId, int childGameStageId, int gameStageId, boolean corrected) {
+        afterCommit(() -> update(childUserId, progress -> {
+            if (progress.childGameStageId == null || progress.childGameStageId != childGameStageId) {
+                progress.childGameStageId = childGameStageId;
+                progress.gameStageId = gameStageId;
+                progress.resetStage();
+            }
+            int correct = corrected ? 1 : 0;
+            progress.event = GameProgressEvent.ATTEMPT;
+            progress.stageTrialCount++;
+            progress.stageCorrectCount += correct;
+            progress.chapterTrialCount++;
+            progress.chapterCorrectCount += correct;
+            progress.lastCorrected = corrected;
+        }));
+    }
+
+    /**
+     * 챕터 종료를 기록합니다. 종료 상태를 전송한 뒤 진행 상태를 제거합니다.
+     *
+     * @param childUserId        아동 ID
+     * @param childGameChapterId 어린이 게임 챕터 ID
+     */
+    public void chapterEnded(int childUserId, int childGameChapterId) {
+        afterCommit(() -> update(childUserId, progress -> {
+            progress.event = GameProgressEvent.CHAPTER_END;
+            progress.childGameChapterId = childGameChapterId;
+            progress.ended = true;
+        }));
+    }
+
+    /**
+     * 바뀐 진행 상태를 모아 아동별로 한 번씩 전송합니다.
+     */
+    void flush() {
+        long now = System.currentTimeMillis();
+        List<GameProgressMessage> messages = new ArrayList<>();
+        progresses.forEach((childUserId, progress) -> {
+            synchronized (progress) {
+                if (progress.dirty) {
+                    messages.add(progress.toMessage(childUserId));
+                    progress.dirty = false;
+                }
+                if (progress.ended || now - progress.updatedAtMillis > IDLE_EVICT_MILLIS) {
+                    progresses.remove(childUserId, progress);
+                }
+            }
+        });
+
+        for (GameProgressMessage message : messages) {
+            try {
+                messagingTemplate.convertAndSend(DESTINATION_PREFIX + message.getChildUserId(), message);
+            } catch (RuntimeException e) {
+                log.warn("게임 진행 상황 전송 실패: childUserId={}", message.getChildUserId(), e);
+            }
+        }
+    }
+
+    private void update(int childUserId, Consumer<Progress> change) {
+        while (true) {
+            Progress progress = progresses.computeIfAbsent(childUserId, id -> new Progress());
+            synchronized (progress) {
+                if (progresses.get(childUserId) != progress) {
+                    continue;
+                }
+                change.accept(progress);
+                progress.dirty = true;
+                progress.updatedAt = LocalDateTime.now();
+                progress.updatedAtMillis = System.currentTimeMillis();
+                return;
+            }
+        }
+    }
+
+    private void afterCommit(Runnable apply) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 아동 한 명의 최신 진행 상태입니다. 인스턴스 단위로 동기화해서 사용합니다.
+     */
+    private static final class Progress {
+        private GameProgressEvent event;
+        private Integer childGameChapterId;
+        private Integer gameChapterId;
+        private Integer childGameStageId;
+        private Integer gameStageId;
+        private int stageTrialCount;
+        private int stageCorrectCount;
+        private int chapterTrialCount;
+        private int chapterCorrectCount;
+        private Boolean lastCorrected;
+        private LocalDateTime updatedAt;
+        private long updatedAtMillis;
+        private boolean dirty;
+        private boolean ended;
+
+        private void resetStage() {
+            stageTrialCount = 0;
+            stageCorrectCount = 0;
+            lastCorrected = null;
+        }
+
+        private GameProgressMessage toMessage(int childUserId) {
+            return GameProgressMessage.builder()
+                    .childUserId(childUserId)
+                    .event(event)
+                    .childGameChapterId(childGameChapterId)
+                    .gameChapterId(gameChapterId)
+                    .childGameStageId(childGameStageId)
+                    .gameStageId(gameStageId)
+                    .stageTrialCount(stageTrialCount)
+                    .stageCorrectCount(stageCorrectCount)
+                    .chapterTrialCount(chapterTrialCount)
+                    .chapterCorrectCount(chapterCorrectCount)
+                    .lastCorrected(lastCorrected)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
@@ -3,39 +3,56 @@ package com.h5.domain.game.service;
 import com.github.hyeonjaez.springcommon.exception.BusinessException;
 import com.h5.domain.asset.entity.GameChapterEntity;
 import com.h5.domain.asset.entity.GameStageEntity;
-import com.h5.domain.asset.repository.GameChapterRepository;
-import com.h5.domain.asset.repository.GameStageRepository;
+import com.h5.domain.asset.service.GameCatalog;
 import com.h5.domain.auth.service.AuthenticationService;
 import com.h5.domain.user.child.entity.ChildUserEntity;
 import com.h5.domain.user.child.repository.ChildUserRepository;
-import com.h5.domain.emotion.entity.EmotionEntity;
-import com.h5.domain.emotion.repository.EmotionRepository;
+import com.h5.domain.emotion.entity.EmotionVector;
 import com.h5.domain.game.dto.request.*;
 import com.h5.domain.game.dto.response.EndGameChapterResponse;
+import com.h5.domain.game.dto.response.GetGameLogTranscriptResponse;
+import com.h5.domain.game.dto.response.SaveGameLogBatchResponse;
 import com.h5.domain.game.dto.response.SaveGameLogResponse;
 import com.h5.domain.game.dto.response.StartGameChapterResponse;
 import com.h5.domain.game.dto.response.StartGameStageResponse;
 import com.h5.domain.game.entity.AiLogEntity;
+import com.h5.domain.game.entity.AiLogTextEntity;
 import com.h5.domain.game.entity.ChildGameChapterEntity;
 import com.h5.domain.game.entity.ChildGameStageEntity;
+import com.h5.domain.game.entity.ChildGameStageSummaryEntity;
 import com.h5.domain.game.entity.GameLogEntity;
 import com.h5.domain.game.repository.AiLogRepository;
+import com.h5.domain.game.repository.AiLogTextRepository;
 import com.h5.domain.game.repository.ChildGameChapterRepository;
 import com.h5.domain.game.repository.ChildGameStageRepository;
+import com.h5.domain.game.repository.ChildGameStageRepository.StageOwnership;
+import com.h5.domain.game.repository.ChildGameStageSummaryRepository;
+import com.h5.domain.game.repository.GameChapterStateRepository;
+import com.h5.domain.game.repository.GameChapterStateRepository.GameChapterState;
+import com.h5.domain.game.repository.GameChapterStateRepository.StageOwner;
+import com.h5.domain.game.repository.GameLogBatchRepository;
 import com.h5.domain.game.repository.GameLogRepository;
-import com.h5.domain.statistic.entity.StatisticEntity;
 import com.h5.domain.statistic.repository.StatisticRepository;
+import com.h5.domain.statistic.service.ChildProfileService;
+import com.h5.domain.statistic.service.EmotionRollupService;
+import com.h5.domain.statistic.service.RatingLeaderboardService;
 import com.h5.domain.user.child.service.ChildUserService;
 import com.h5.global.exception.DomainErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.*;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -43,18 +60,28 @@ import java.util.stream.IntStream;
 public class GameService {
 
     private final AiLogRepository aiLogRepository;
+    private final AiLogTextRepository aiLogTextRepository;
     private final ChildGameChapterRepository childGameChapterRepository;
     private final ChildGameStageRepository childGameStageRepository;
+    private final ChildGameStageSummaryRepository childGameStageSummaryRepository;
     private final GameLogRepository gameLogRepository;
-    private final GameChapterRepository gameChapterRepository;
-    private final GameStageRepository gameStageRepository;
+    private final GameLogBatchRepository gameLogBatchRepository;
+    private final GameChapterStateRepository gameChapterStateRepository;
+    private final ChildUserRepository childUserRepository;
+    private final GameCatalog gameCatalog;
     private final StatisticRepository statisticRepository;
-    private final EmotionRepository emotionRepository;
+    private final EmotionRollupService emotionRollupService;
+    private final RatingLeaderboardService ratingLeaderboardService;
     private final AuthenticationService authenticationService;
     private final ChildUserService childUserService;
+    private final GameProgressPublisher gameProgressPublisher;
+    private final ChildProfileService childProfileService;
 
     /**
      * 새로운 게임 챕터를 시작하고, 해당 기록의 ID를 반환합니다.
+     * <p>
+     * 챕터 종료 전까지의 진행 상태는 {@link GameChapterStateRepository}에 보관합니다.
+     * </p>
      *
      * @param req 시작할 게임 챕터 정보(자녀 ID, 게임 챕터 ID)
      * @return 생성된 ChildGameChapterEntity의 ID를 담은 {@link StartGameChapterResponse}
@@ -63,8 +90,7 @@ public class GameService {
     public StartGameChapterResponse startGameChapter(StartGameChapterRequest req) {
         ChildUserEntity childUser = childUserService.findByIdOrThrow(req.getChildUserId());
 
-        GameChapterEntity gameChapter = gameChapterRepository.findById(req.getGameChapterId())
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
+        GameChapterEntity gameChapter = gameCatalog.getChapterReference(req.getGameChapterId());
 
         ChildGameChapterEntity toSave = ChildGameChapterEntity.builder()
                 .childUserEntity(childUser)
@@ -73,6 +99,15 @@ public class GameService {
                 .build();
 
         ChildGameChapterEntity saved = childGameChapterRepository.save(toSave);
+
+        gameChapterStateRepository.create(
+                saved.getId(),
+                childUser.getId(),
+                childUser.getParentUserEntity().getEmail(),
+                req.getGameChapterId()
+        );
+        gameProgressPublisher.chapterStarted(childUser.getId(), saved.getId(), req.getGameChapterId());
+
         return StartGameChapterResponse.builder()
                 .childGameChapterId(saved.getId())
                 .build();
@@ -80,48 +115,84 @@ public class GameService {
 
     /**
      * 게임 챕터를 종료 처리하고, 해당 챕터 통계를 업데이트합니다.
+     * <p>
+     * 진행 상태가 Redis에 있으면 권한 확인과 함께 상태를 원자적으로 읽고 삭제해 스테이지 요약에 반영하고,
+     * 없거나 만료된 경우 MySQL에서 챕터와 부모 이메일을 조회해 처리합니다.
+     * 어느 경로든 스테이지 요약이 게임 로그와 맞지 않으면 게임 로그로 요약을 다시 계산합니다.
+     * </p>
      *
      * @param childGameChapterId 종료할 ChildGameChapterEntity의 ID
      * @return 종료된 챕터의 ID를 담은 {@link EndGameChapterResponse}
-     * @throws BusinessException GAME_NOT_FOUND 또는 접근 권한이 없는 경우 GAME_ACCESS_DENY
+     * @throws BusinessException 챕터가 없거나 접근 권한이 없는 경우 GAME_ACCESS_DENY
      */
     public EndGameChapterResponse endGameChapter(Integer childGameChapterId) {
         String email = authenticationService.getCurrentUserEmail();
 
-        ChildGameChapterEntity childGameChapterEntity = childGameChapterRepository.findByIdAndChildUserEntity_ParentUserEntity_Email(childGameChapterId, email)
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_ACCESS_DENY));
-
-        childGameChapterEntity.setEndAt(LocalDateTime.now());
-        childGameChapterRepository.save(childGameChapterEntity);
-
-        updateAnalytics(childGameChapterEntity);
+        Optional<GameChapterState> state = gameChapterStateRepository.take(childGameChapterId, email);
+        if (state.isPresent()) {
+            GameChapterState chapterState = state.get();
+
+            childGameChapterRepository.updateEndAt(childGameChapterId, LocalDateTime.now());
+            flushStageSummaries(chapterState);
+            updateAnalytics(childGameChapterId, chapterState.childUserId(), chapterState.gameChapterId());
+            gameProgressPublisher.chapterEnded(chapterState.childUserId(), childGameChapterId);
+        } else {
+            ChildGameChapterEntity childGameChapterEntity = childGameChapterRepository.findByIdAndChildUserEntity_ParentUserEntity_Email(childGameChapterId, email)
+                    .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_ACCESS_DENY));
+
+            childGameChapterEntity.setEndAt(LocalDateTime.now());
+            childGameChapterRepository.save(childGameChapterEntity);
+
+            updateAnalytics(
+                    childGameChapterId,
+                    childGameChapterEntity.getChildUserEntity().getId(),
+                    childGameChapterEntity.getGameChapterEntity().getId()
+            );
+            gameProgressPublisher.chapterEnded(childGameChapterEntity.getChildUserEntity().getId(), childGameChapterId);
+        }
 
         return EndGameChapterResponse.builder()
-                .childGameChapterId(childGameChapterEntity.getId())
+                .childGameChapterId(childGameChapterId)
                 .build();
     }
 
     /**
      * 새로운 게임 스테이지를 시작하고, 해당 기록의 ID를 반환합니다.
      *
+     * 챕터 진행 상태가 Redis에 있으면 챕터를 조회하지 않고 참조만 사용하며, 시작된 스테이지를 상태에 기록합니다.
+     *
      * @param req 시작할 게임 스테이지 정보(ChildGameChapterId, GameStageId)
      * @return 생성된 ChildGameStageEntity의 ID를 담은 {@link StartGameStageResponse}
      * @throws BusinessException GAME_NOT_FOUND
      */
     public StartGameStageResponse startGameStage(StartGameStageRequest req) {
-        GameStageEntity gameStage = gameStageRepository.findById(req.getGameStageId())
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
+        GameStageEntity gameStage = gameCatalog.getStageReference(req.getGameStageId());
 
-        ChildGameChapterEntity chapter = childGameChapterRepository.findById(req.getChildGameChapterId())
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
+        Optional<GameChapterState> state = gameChapterStateRepository.find(req.getChildGameChapterId());
+        ChildGameChapterEntity chapter = state.isPresent()
+                ? childGameChapterRepository.getReferenceById(req.getChildGameChapterId())
+                : childGameChapterRepository.findById(req.getChildGameChapterId())
+                        .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
 
         ChildGameStageEntity toSave = ChildGameStageEntity.builder()
                 .gameStageEntity(gameStage)
                 .childGameChapterEntity(chapter)
+                .startAt(LocalDateTime.now())
                 .build();
 
         ChildGameStageEntity saved = childGameStageRepository.save(toSave);
 
+        getOrCreateStageSummary(chapter, gameStage);
+        state.ifPresent(chapterState ->
+                gameChapterStateRepository.addStage(chapterState, saved.getId(), req.getGameStageId())
+        );
+        gameProgressPublisher.stageStarted(
+                state.map(GameChapterState::childUserId).orElseGet(() -> chapter.getChildUserEntity().getId()),
+                req.getChildGameChapterId(),
+                saved.getId(),
+                req.getGameStageId()
+        );
+
         return StartGameStageResponse.builder()
                 .childGameStageId(saved.getId())
                 .build();
@@ -129,45 +200,74 @@ public class GameService {
 
     /**
      * 게임 플레이 결과(로그)와 AI 분석 결과를 저장합니다.
+     * <p>
+     * 스테이지가 진행 중인 챕터 상태에 있으면 스테이지와 자녀를 조회하지 않고 상태로 검증하며,
+     * 시도 결과는 MySQL 대신 트랜잭션 커밋 후 챕터 상태의 카운터에 누적합니다.
+     * </p>
      *
      * @param req 저장할 게임 로그 및 AI 로그 정보
      * @return 생성된 GameLogEntity 및 AiLogEntity의 ID를 담은 {@link SaveGameLogResponse}
-     * @throws BusinessException USER_NOT_FOUND 또는 GAME_NOT_FOUND
+     * @throws BusinessException USER_NOT_FOUND, GAME_NOT_FOUND 또는 자녀가 챕터와 다른 경우 GAME_ACCESS_DENY
      */
     public SaveGameLogResponse saveGameLog(SaveGameLogRequest req) {
+        Optional<StageOwner> owner = gameChapterStateRepository.findStageOwner(req.getChildGameStageId());
+        if (owner.isPresent()) {
+            return saveGameLogWithState(req, owner.get());
+        }
+
         ChildGameStageEntity stage = childGameStageRepository.findById(req.getChildGameStageId())
                 .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
         ChildUserEntity child = childUserService.findByIdOrThrow(req.getChildUserId());
-        GameStageEntity gameStage = gameStageRepository.findById(req.getGameStageId())
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
+        GameStageEntity gameStage = gameCatalog.getStageReference(req.getGameStageId());
 
-        GameLogEntity gameLog = GameLogEntity.builder()
-                .selectedOpt(req.getSelectedOption())
-                .corrected(req.getCorrected())
-                .submitAt(LocalDateTime.now())
-                .consulted(req.getConsulted())
-                .childGameStageEntity(stage)
-                .childUserEntity(child)
-                .gameStageEntity(gameStage)
-                .build();
-        gameLog = gameLogRepository.save(gameLog);
+        GameLogEntity gameLog = gameLogRepository.save(
+                toGameLog(req, stage, child, gameStage, LocalDateTime.now())
+        );
+        AiLogEntity aiLog = aiLogRepository.save(toAiLog(req, gameLog));
+        aiLogTextRepository.save(toAiLogText(req, gameLog.getId()));
+        emotionRollupService.accumulate(List.of(aiLog));
 
-        AiLogEntity aiLog = AiLogEntity.builder()
-                .gameLogEntity(gameLog)
-                .fHappy(req.getFHappy())
-                .fAnger(req.getFAnger())
-                .fSad(req.getFSad())
-                .fPanic(req.getFPanic())
-                .fFear(req.getFFear())
-                .tHappy(req.getTHappy())
-                .tAnger(req.getTAnger())
-                .tSad(req.getTSad())
-                .tPanic(req.getTPanic())
-                .tFear(req.getTFear())
-                .stt(req.getStt())
-                .aiAnalyze(req.getAiAnalysis())
+        accumulateAttempt(
+                getOrCreateStageSummary(stage.getChildGameChapterEntity(), gameStage),
+                req.getCorrected()
+        );
+        gameProgressPublisher.attemptRecorded(child.getId(), req.getChildGameStageId(), req.getGameStageId(), req.getCorrected());
+
+        return SaveGameLogResponse.builder()
+                .gameLogId(gameLog.getId())
+                .aiLogId(aiLog.getId())
                 .build();
-        aiLog = aiLogRepository.save(aiLog);
+    }
+
+    /**
+     * 진행 중인 챕터 상태를 이용해 게임 로그를 저장합니다.
+     *
+     * @param req   저장할 게임 로그 및 AI 로그 정보
+     * @param owner 스테이지 색인에서 조회한 챕터와 자녀 정보
+     * @return 생성된 GameLogEntity 및 AiLogEntity의 ID를 담은 {@link SaveGameLogResponse}
+     * @throws BusinessException GAME_NOT_FOUND 또는 자녀가 챕터와 다른 경우 GAME_ACCESS_DENY
+     */
+    private SaveGameLogResponse saveGameLogWithState(SaveGameLogRequest req, StageOwner owner) {
+        if (owner.childUserId() != req.getChildUserId()) {
+            throw new BusinessException(DomainErrorCode.GAME_ACCESS_DENY);
+        }
+        GameStageEntity gameStage = gameCatalog.getStageReference(req.getGameStageId());
+
+        GameLogEntity gameLog = gameLogRepository.save(toGameLog(
+                req,
+                childGameStageRepository.getReferenceById(req.getChildGameStageId()),
+                childUserRepository.getReferenceById(req.getChildUserId()),
+                gameStage,
+                LocalDateTime.now()
+        ));
+        AiLogEntity aiLog = aiLogRepository.save(toAiLog(req, gameLog));
+        aiLogTextRepository.save(toAiLogText(req, gameLog.getId()));
+        emotionRollupService.accumulate(List.of(aiLog));
+
+        afterCommit(() -> gameChapterStateRepository.recordAttempt(
+                owner.childGameChapterId(), req.getGameStageId(), req.getCorrected()
+        ));
+        gameProgressPublisher.attemptRecorded(req.getChildUserId(), req.getChildGameStageId(), req.getGameStageId(), req.getCorrected());
 
         return SaveGameLogResponse.builder()
                 .gameLogId(gameLog.getId())
@@ -176,240 +276,391 @@ public class GameService {
     }
 
     /**
-     * 챕터 종료 시 관련 스테이지별 통계 업데이트를 수행합니다.
+     * 여러 건의 게임 로그와 AI 분석 결과를 한 트랜잭션에서 일괄 저장합니다.
+     * <p>
+     * 모든 로그의 자녀 스테이지가 현재 부모 사용자의 자녀 것이고, 로그에 담긴 자녀와 일치하는지 먼저 확인합니다.
+     * </p>
      *
-     * @param chapter 업데이트할 대상 ChildGameChapterEntity
-     * @throws BusinessException GAME_NOT_FOUND
+     * @param req 제출 순서대로 정렬된 게임 로그 목록
+     * @return 요청 순서대로 생성된 로그 ID 목록을 담은 {@link SaveGameLogBatchResponse}
+     * @throws BusinessException USER_NOT_FOUND, GAME_NOT_FOUND 또는 다른 부모의 스테이지이거나 자녀가 스테이지와 다른 경우 GAME_ACCESS_DENY
      */
-    private void updateAnalytics(ChildGameChapterEntity chapter) {
-        List<ChildGameStageEntity> stages = childGameStageRepository
-                .findAllByChildGameChapterEntity_Id(chapter.getId());
+    public SaveGameLogBatchResponse saveGameLogs(SaveGameLogBatchRequest req) {
+        return saveGameLogBatch(req.getGameLogs(), null, authenticationService.getCurrentUserEmail());
+    }
 
-        if (stages.isEmpty()) {
-            throw new BusinessException(DomainErrorCode.GAME_NOT_FOUND);
+    /**
+     * 쓰기 지연 파이프라인이 이미 접수한 게임 로그를 일괄 저장합니다.
+     * <p>
+     * 인증 정보가 없는 writer 스레드에서 호출되므로 부모 사용자 확인은 생략하고,
+     * 로그에 담긴 자녀가 스테이지의 자녀와 일치하는지만 확인합니다.
+     * 저널 재처리로 다시 들어온 로그는 제출 ID로 걸러내며, 제출 ID는 game_log의 유니크 키로 함께 저장됩니다.
+     * </p>
+     *
+     * @param entries 접수 순서대로 정렬된 저널 항목 목록
+     * @return 이미 저장된 로그를 제외하고 요청 순서대로 생성된 로그 ID 목록을 담은 {@link SaveGameLogBatchResponse}
+     * @throws BusinessException USER_NOT_FOUND, GAME_NOT_FOUND 또는 자녀가 스테이지와 다른 경우 GAME_ACCESS_DENY
+     */
+    public SaveGameLogBatchResponse saveAcceptedGameLogs(List<GameLogJournal.Entry> entries) {
+        List<String> submissionIds = entries.stream()
+                .map(GameLogJournal.Entry::submissionId)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<String> saved = submissionIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(gameLogRepository.findSubmissionIdsIn(submissionIds));
+        List<GameLogJournal.Entry> unsaved = entries.stream()
+                .filter(entry -> entry.submissionId() == null || !saved.contains(entry.submissionId()))
+                .toList();
+        if (unsaved.isEmpty()) {
+            return SaveGameLogBatchResponse.builder()
+                    .gameLogs(List.of())
+                    .build();
         }
-
-        int childUserId    = chapter.getChildUserEntity().getId();
-        LocalDateTime startAt     = chapter.getStartAt();
-        LocalDateTime endAt       = chapter.getEndAt();
-        int gameChapterId  = chapter.getGameChapterEntity().getId();
-
-        Map<Integer, List<ChildGameStageEntity>> stagesByStageId =
-                stages.stream()
-                        .collect(Collectors.groupingBy(s -> s.getGameStageEntity().getId()));
-
-        stagesByStageId.keySet()
-                .forEach(stageId ->
-                        updateStatisticForGameStage(
-                                childUserId,
-                                stageId,
-                                startAt,
-                                endAt,
-                                gameChapterId
-                        )
-                );
+        return saveGameLogBatch(
+                unsaved.stream().map(GameLogJournal.Entry::request).toList(),
+                unsaved.stream().map(GameLogJournal.Entry::submissionId).toList(),
+                null
+        );
     }
 
     /**
-     * 특정 스테이지에 대한 플레이 로그를 기반으로 통계를 계산 및 저장합니다.
+     * 게임 로그 묶음을 검증한 뒤 한 트랜잭션에서 저장합니다.
+     * <p>
+     * 참조하는 자녀 스테이지와 자녀는 요청 전체에 대해 한 번씩만 조회하고, 게임 스테이지는 {@link GameCatalog}에서 참조하며,
+     * game_log, ai_log, ai_log_text는 JDBC 배치 INSERT로 저장합니다.
+     * 진행 중인 챕터 상태의 시도 카운터는 트랜잭션이 커밋된 뒤에 증가시키므로, 롤백된 로그는 카운터에 들어가지 않습니다.
+     * 챕터 상태가 없어 반영되지 않은 시도는 챕터 종료 시 게임 로그로 요약을 다시 계산할 때 포함됩니다.
+     * </p>
      *
-     * @param childUserId   자녀 사용자 ID
-     * @param gameStageId   게임 스테이지 ID
-     * @param startAt       챕터 시작 일시
-     * @param endAt         챕터 종료 일시
-     * @param gameChapterId 게임 챕터 ID (통계의 챕터 구분용)
-     * @throws BusinessException GAME_NOT_FOUND 또는 USER_NOT_FOUND
+     * @param logRequests   제출 순서대로 정렬된 게임 로그 목록
+     * @param submissionIds {@code logRequests}와 같은 순서의 제출 ID 목록(동기 저장 경로는 {@code null})
+     * @param parentEmail   스테이지 소유를 확인할 부모 사용자 이메일(확인하지 않으면 {@code null})
+     * @return 요청 순서대로 생성된 로그 ID 목록을 담은 {@link SaveGameLogBatchResponse}
+     * @throws BusinessException USER_NOT_FOUND, GAME_NOT_FOUND 또는 GAME_ACCESS_DENY
      */
-    private void updateStatisticForGameStage(
-            Integer childUserId,
-            Integer gameStageId,
-            LocalDateTime startAt,
-            LocalDateTime endAt,
-            Integer gameChapterId
+    private SaveGameLogBatchResponse saveGameLogBatch(
+            List<SaveGameLogRequest> logRequests,
+            List<String> submissionIds,
+            String parentEmail
     ) {
-        // 1) 게임 스테이지 → 감정 ID 추출
-        GameStageEntity gameStage = findGameStage(gameStageId);
-        int emotionId = gameStage.getEmotionEntity().getId();
-
-        // 2) 기간 내 로그 조회·정렬
-        List<GameLogEntity> logs = fetchSortedGameLogs(childUserId, gameStageId, startAt, endAt);
+        Map<Integer, StageOwnership> owners = validateStageOwnership(logRequests, parentEmail);
+
+        Map<Integer, ChildGameStageEntity> stages = childGameStageRepository
+                .findAllById(owners.keySet())
+                .stream()
+                .collect(Collectors.toMap(ChildGameStageEntity::getId, Function.identity()));
+        Map<Integer, ChildUserEntity> children = distinctIds(logRequests, SaveGameLogRequest::getChildUserId)
+                .stream()
+                .collect(Collectors.toMap(Function.identity(), childUserService::findByIdOrThrow));
+
+        LocalDateTime submitAt = LocalDateTime.now();
+        List<AiLogEntity> aiLogs = logRequests.stream()
+                .map(logRequest -> toAiLog(logRequest, toGameLog(
+                        logRequest,
+                        getOrThrow(stages, logRequest.getChildGameStageId()),
+                        children.get(logRequest.getChildUserId()),
+                        gameCatalog.getStageReference(logRequest.getGameStageId()),
+                        submitAt
+                )))
+                .collect(Collectors.toList());
+        if (submissionIds != null) {
+            for (int i = 0; i < aiLogs.size(); i++) {
+                aiLogs.get(i).getGameLogEntity().setSubmissionId(submissionIds.get(i));
+            }
+        }
+        List<AiLogTextEntity> aiLogTexts = logRequests.stream()
+                .map(logRequest -> toAiLogText(logRequest, null))
+                .collect(Collectors.toList());
+
+        gameLogBatchRepository.saveAll(aiLogs, aiLogTexts);
+        emotionRollupService.accumulate(aiLogs);
+
+        afterCommit(() -> logRequests.forEach(logRequest -> gameChapterStateRepository.recordAttempt(
+                owners.get(logRequest.getChildGameStageId()).getChildGameChapterId(),
+                logRequest.getGameStageId(),
+                logRequest.getCorrected()
+        )));
+        logRequests.forEach(logRequest -> gameProgressPublisher.attemptRecorded(
+                logRequest.getChildUserId(),
+                logRequest.getChildGameStageId(),
+                logRequest.getGameStageId(),
+                logRequest.getCorrected()
+        ));
+
+        List<SaveGameLogResponse> responses = aiLogs.stream()
+                .map(aiLog -> SaveGameLogResponse.builder()
+                        .gameLogId(aiLog.getGameLogEntity().getId())
+                        .aiLogId(aiLog.getId())
+                        .build())
+                .collect(Collectors.toList());
+
+        return SaveGameLogBatchResponse.builder()
+                .gameLogs(responses)
+                .build();
+    }
 
-        // 3) 정답 여부 및 시도 횟수 계산
-        boolean isCorrect = logs.stream().anyMatch(GameLogEntity::getCorrected);
-        int whenCorrect = findFirstCorrectAttempt(logs);
+    /**
+     * 게임 로그 묶음의 자녀 스테이지 소유를 한 번의 조회로 확인합니다.
+     * <p>
+     * 모든 로그에 대해 스테이지가 존재하고, 로그의 자녀가 스테이지 챕터의 자녀와 같으며,
+     * 부모 이메일이 주어진 경우 그 부모의 자녀인지 확인합니다.
+     * </p>
+     *
+     * @param logRequests 게임 로그 요청 목록
+     * @param parentEmail 부모 사용자 이메일(확인하지 않으면 {@code null})
+     * @return 자녀 스테이지 ID → 소유 정보
+     * @throws BusinessException 스테이지가 없는 경우 GAME_NOT_FOUND, 소유가 맞지 않는 경우 GAME_ACCESS_DENY
+     */
+    private Map<Integer, StageOwnership> validateStageOwnership(List<SaveGameLogRequest> logRequests, String parentEmail) {
+        Map<Integer, StageOwnership> owners = childGameStageRepository
+                .findOwnershipByIdIn(distinctIds(logRequests, SaveGameLogRequest::getChildGameStageId))
+                .stream()
+                .collect(Collectors.toMap(StageOwnership::getChildGameStageId, Function.identity()));
+
+        for (SaveGameLogRequest logRequest : logRequests) {
+            StageOwnership owner = getOrThrow(owners, logRequest.getChildGameStageId());
+            if (!owner.getChildUserId().equals(logRequest.getChildUserId())
+                    || (parentEmail != null && !parentEmail.equals(owner.getParentEmail()))) {
+                throw new BusinessException(DomainErrorCode.GAME_ACCESS_DENY);
+            }
+        }
+        return owners;
+    }
 
-        // 4) 통계 엔티티 로드 또는 생성
-        StatisticEntity stat = getOrCreateStatistic(emotionId, childUserId);
+    /**
+     * 특정 게임 로그의 STT 원문과 AI 분석 결과를 조회합니다.
+     * <p>
+     * 긴 텍스트는 ai_log와 분리된 압축 테이블에 있으므로, 상담사가 특정 시도를 열람할 때만 이 메서드로 읽습니다.
+     * 담당 아동의 로그만 조회할 수 있습니다.
+     * </p>
+     *
+     * @param gameLogId 조회할 게임 로그 ID
+     * @return STT 원문과 AI 분석 결과를 담은 {@link GetGameLogTranscriptResponse}
+     * @throws BusinessException 담당 아동의 로그가 아닌 경우 GAME_ACCESS_DENY, 텍스트가 없는 경우 GAME_NOT_FOUND
+     */
+    @Transactional(readOnly = true)
+    public GetGameLogTranscriptResponse getGameLogTranscript(Integer gameLogId) {
+        String email = authenticationService.getCurrentUserEmail();
+        if (!gameLogRepository.existsByIdAndChildUserEntity_ConsultantUserEntity_Email(gameLogId, email)) {
+            throw new BusinessException(DomainErrorCode.GAME_ACCESS_DENY);
+        }
 
-        // 5) 전체 통계 업데이트
-        applyOverallStats(stat, logs.size(), isCorrect, whenCorrect);
+        AiLogTextEntity text = aiLogTextRepository.findById(gameLogId)
+                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
 
-        // 6) 챕터별 통계 업데이트
-        applyStageStats(stat, gameChapterId, logs.size(), isCorrect);
+        return GetGameLogTranscriptResponse.builder()
+                .gameLogId(gameLogId)
+                .stt(text.getStt())
+                .aiAnalysis(text.getAiAnalyze())
+                .build();
+    }
 
-        // 7) 저장
-        statisticRepository.save(stat);
+    /**
+     * 게임 로그 요청과 조회된 참조 엔티티로 저장 전의 {@link GameLogEntity}를 생성합니다.
+     *
+     * @param req       게임 로그 요청
+     * @param stage     자녀 게임 스테이지
+     * @param child     자녀 사용자
+     * @param gameStage 게임 스테이지
+     * @param submitAt  제출 일시
+     * @return 저장 전의 {@link GameLogEntity}
+     */
+    private GameLogEntity toGameLog(
+            SaveGameLogRequest req,
+            ChildGameStageEntity stage,
+            ChildUserEntity child,
+            GameStageEntity gameStage,
+            LocalDateTime submitAt
+    ) {
+        return GameLogEntity.builder()
+                .selectedOpt(req.getSelectedOption())
+                .corrected(req.getCorrected())
+                .submitAt(submitAt)
+                .consulted(req.getConsulted())
+                .childGameStageEntity(stage)
+                .childUserEntity(child)
+                .gameStageEntity(gameStage)
+                .build();
     }
 
     /**
-     * ID로 게임 스테이지 엔티티를 조회합니다.
+     * 게임 로그 요청의 감정 점수로 저장 전의 {@link AiLogEntity}를 생성합니다.
      *
-     * @param gameStageId 게임 스테이지 ID
-     * @return 조회된 {@link GameStageEntity}
-     * @throws BusinessException GAME_NOT_FOUND
+     * @param req     게임 로그 요청
+     * @param gameLog 연결할 게임 로그
+     * @return 저장 전의 {@link AiLogEntity}
      */
-    private GameStageEntity findGameStage(int gameStageId) {
-        return gameStageRepository.findById(gameStageId)
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
+    private AiLogEntity toAiLog(SaveGameLogRequest req, GameLogEntity gameLog) {
+        return AiLogEntity.builder()
+                .gameLogEntity(gameLog)
+                .faceEmotion(EmotionVector.of(
+                        req.getFHappy(), req.getFAnger(), req.getFSad(), req.getFPanic(), req.getFFear()))
+                .textEmotion(EmotionVector.of(
+                        req.getTHappy(), req.getTAnger(), req.getTSad(), req.getTPanic(), req.getTFear()))
+                .build();
     }
 
     /**
-     * 주어진 기간 내 해당 스테이지의 모든 로그를 조회하여 제출일시 기준 오름차순으로 정렬합니다.
+     * 게임 로그 요청의 STT 원문과 AI 분석 결과로 저장 전의 {@link AiLogTextEntity}를 생성합니다.
      *
-     * @param userId  자녀 사용자 ID
-     * @param stageId 게임 스테이지 ID
-     * @param start   시작 일시
-     * @param end     종료 일시
-     * @return 정렬된 {@link GameLogEntity} 리스트
+     * @param req       게임 로그 요청
+     * @param gameLogId 연결할 게임 로그 ID (일괄 저장 시에는 저장소가 생성 키로 채우므로 {@code null})
+     * @return 저장 전의 {@link AiLogTextEntity}
      */
-    private List<GameLogEntity> fetchSortedGameLogs(
-            Integer userId,
-            Integer stageId,
-            LocalDateTime start,
-            LocalDateTime end
-    ) {
-        List<GameLogEntity> logs = gameLogRepository
-                .findAllByChildUserEntity_IdAndGameStageEntity_IdAndSubmitAtBetween(
-                        userId, stageId, start, end
-                )
-                .orElse(List.of());
-        logs.sort(Comparator.comparing(GameLogEntity::getSubmitAt));
-        return logs;
+    private AiLogTextEntity toAiLogText(SaveGameLogRequest req, Integer gameLogId) {
+        return AiLogTextEntity.builder()
+                .id(gameLogId)
+                .stt(req.getStt())
+                .aiAnalyze(req.getAiAnalysis())
+                .build();
     }
 
     /**
-     * 로그 리스트에서 첫 번째 정답까지 걸린 시도 횟수를 계산합니다.
+     * 요청 목록에서 참조 ID를 중복 없이 추출합니다.
      *
-     * @param logs 플레이 로그 리스트
-     * @return 정답이 나온 시도 횟수(정답이 없으면 전체 로그 수 + 1)
+     * @param requests 게임 로그 요청 목록
+     * @param idGetter 추출할 참조 ID getter
+     * @return 중복이 제거된 ID 집합
      */
-    private int findFirstCorrectAttempt(List<GameLogEntity> logs) {
-        return IntStream.range(0, logs.size())
-                .filter(i -> logs.get(i).getCorrected())
-                .findFirst()
-                .orElse(logs.size()) + 1;
+    private Set<Integer> distinctIds(List<SaveGameLogRequest> requests, Function<SaveGameLogRequest, Integer> idGetter) {
+        return requests.stream()
+                .map(idGetter)
+                .collect(Collectors.toSet());
     }
 
     /**
-     * 감정 및 사용자 기준으로 통계 엔티티를 조회하거나, 없으면 초기값으로 생성합니다.
+     * 일괄 조회된 엔티티 맵에서 ID로 엔티티를 꺼내고, 없으면 예외를 던집니다.
      *
-     * @param emotionId   감정 엔티티 ID
-     * @param childUserId 자녀 사용자 ID
-     * @return 조회 혹은 생성된 {@link StatisticEntity}
-     * @throws BusinessException GAME_NOT_FOUND 또는 USER_NOT_FOUND
+     * @param entities ID를 키로 하는 엔티티 맵
+     * @param id       조회할 ID
+     * @return 조회된 엔티티
+     * @throws BusinessException GAME_NOT_FOUND
      */
-    private StatisticEntity getOrCreateStatistic(Integer emotionId, Integer childUserId) {
-        return statisticRepository
-                .findByEmotionEntity_IdAndChildUserEntity_Id(emotionId, childUserId)
-                .orElseGet(() -> {
-                    EmotionEntity emo = emotionRepository.findById(emotionId)
-                            .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
-                    ChildUserEntity child = childUserService.findByIdOrThrow(childUserId);
-                    StatisticEntity initial = StatisticEntity.builder()
-                            .emotionEntity(emo)
-                            .childUserEntity(child)
-                            .rating(0)
-                            .trialCnt(0)
-                            .crtCnt(0)
-                            .stageTryCnt1(0).stageTryCnt2(0).stageTryCnt3(0).stageTryCnt4(0).stageTryCnt5(0)
-                            .stageCrtCnt1(0).stageCrtCnt2(0).stageCrtCnt3(0).stageCrtCnt4(0).stageCrtCnt5(0)
-                            .stageCrtRate1(BigDecimal.ZERO).stageCrtRate2(BigDecimal.ZERO)
-                            .stageCrtRate3(BigDecimal.ZERO).stageCrtRate4(BigDecimal.ZERO)
-                            .stageCrtRate5(BigDecimal.ZERO)
-                            .build();
-                    return statisticRepository.save(initial);
-                });
+    private <T> T getOrThrow(Map<Integer, T> entities, Integer id) {
+        T entity = entities.get(id);
+        if (entity == null) {
+            throw new BusinessException(DomainErrorCode.GAME_NOT_FOUND);
+        }
+        return entity;
     }
 
     /**
-     * 전체 플레이 통계(trialCnt, crtCnt, rating)를 업데이트합니다.
+     * 챕터-스테이지 단위 누적 요약을 조회하거나, 없으면 초기값으로 생성합니다.
      *
-     * @param stat       업데이트할 통계 엔티티
-     * @param trialCnt   해당 스테이지 시도 횟수
-     * @param isCorrect  해당 스테이지에서 정답 여부
-     * @param whenCorrect 정답까지 걸린 시도 횟수
+     * @param chapter   스테이지가 속한 ChildGameChapterEntity
+     * @param gameStage 게임 스테이지 엔티티
+     * @return 조회 혹은 생성된 {@link ChildGameStageSummaryEntity}
      */
-    private void applyOverallStats(
-            StatisticEntity stat,
-            Integer trialCnt,
-            Boolean isCorrect,
-            Integer whenCorrect
+    private ChildGameStageSummaryEntity getOrCreateStageSummary(
+            ChildGameChapterEntity chapter,
+            GameStageEntity gameStage
     ) {
-        stat.setTrialCnt(stat.getTrialCnt() + trialCnt);
-        if (isCorrect) {
-            stat.setCrtCnt(stat.getCrtCnt() + 1);
+        return childGameStageSummaryRepository
+                .findByChildGameChapterEntity_IdAndGameStageEntity_Id(chapter.getId(), gameStage.getId())
+                .orElseGet(() -> childGameStageSummaryRepository.save(
+                        ChildGameStageSummaryEntity.builder()
+                                .childGameChapterEntity(chapter)
+                                .gameStageEntity(gameStage)
+                                .emotionEntity(gameCatalog.getEmotionReference(
+                                        gameCatalog.getStageEmotionId(gameStage.getId())))
+                                .build()
+                ));
+    }
+
+    /**
+     * 한 번의 시도 결과를 누적 요약(시도 횟수, 첫 정답 시도 순번, 정답 여부)에 반영합니다.
+     *
+     * @param summary   반영할 누적 요약 엔티티
+     * @param isCorrect 이번 시도의 정답 여부
+     */
+    private void accumulateAttempt(ChildGameStageSummaryEntity summary, boolean isCorrect) {
+        summary.setTrialCnt(summary.getTrialCnt() + 1);
+        if (isCorrect && summary.getFirstCrtTrial() == null) {
+            summary.setFirstCrtTrial(summary.getTrialCnt());
+            summary.setCorrected(true);
         }
-        final int BASIC_SCORE = 100;
-        double delta = (whenCorrect < 3) ? (1.0 / whenCorrect) * BASIC_SCORE : 0.0;
-        stat.setRating(stat.getRating() + (int) delta);
+        childGameStageSummaryRepository.save(summary);
     }
 
     /**
-     * 챕터별 통계(stageTryCnt, stageCrtCnt, stageCrtRate)를 업데이트합니다.
+     * 챕터 상태에 누적된 스테이지별 카운터를 MySQL의 스테이지 요약에 반영합니다.
+     * <p>
+     * 스테이지 시작 시 생성된 요약 행에 상태의 시도 횟수와 첫 정답 순번을 더해 저장합니다.
+     * </p>
      *
-     * @param stat       업데이트할 통계 엔티티
-     * @param chapterId  게임 챕터 ID
-     * @param trialCnt   해당 챕터 시도 횟수
-     * @param isCorrect  해당 챕터에서 정답 여부
+     * @param state 종료할 챕터의 진행 상태
      */
-    private void applyStageStats(
-            StatisticEntity stat,
-            int chapterId,
-            int trialCnt,
-            boolean isCorrect
-    ) {
-        switch (chapterId) {
-            case 1 -> {
-                stat.setStageTryCnt1(stat.getStageTryCnt1() + trialCnt);
-                stat.setStageCrtCnt1(stat.getStageCrtCnt1() + (isCorrect ? 1 : 0));
-                stat.setStageCrtRate1(calculateRate(stat.getStageCrtCnt1(), stat.getStageTryCnt1()));
-            }
-            case 2 -> {
-                stat.setStageTryCnt2(stat.getStageTryCnt2() + trialCnt);
-                stat.setStageCrtCnt2(stat.getStageCrtCnt2() + (isCorrect ? 1 : 0));
-                stat.setStageCrtRate2(calculateRate(stat.getStageCrtCnt2(), stat.getStageTryCnt2()));
+    private void flushStageSummaries(GameChapterState state) {
+        ChildGameChapterEntity chapter = childGameChapterRepository.getReferenceById(state.childGameChapterId());
+        state.trialCnts().forEach((gameStageId, trialCnt) -> {
+            ChildGameStageSummaryEntity summary =
+                    getOrCreateStageSummary(chapter, gameCatalog.getStageReference(gameStageId));
+            Integer firstCrtTrial = state.firstCrtTrials().get(gameStageId);
+            if (firstCrtTrial != null && summary.getFirstCrtTrial() == null) {
+                summary.setFirstCrtTrial(summary.getTrialCnt() + firstCrtTrial);
+                summary.setCorrected(true);
             }
-            case 3 -> {
-                stat.setStageTryCnt3(stat.getStageTryCnt3() + trialCnt);
-                stat.setStageCrtCnt3(stat.getStageCrtCnt3() + (isCorrect ? 1 : 0));
-                stat.setStageCrtRate3(calculateRate(stat.getStageCrtCnt3(), stat.getStageTryCnt3()));
-            }
-            case 4 -> {
-                stat.setStageTryCnt4(stat.getStageTryCnt4() + trialCnt);
-                stat.setStageCrtCnt4(stat.getStageCrtCnt4() + (isCorrect ? 1 : 0));
-                stat.setStageCrtRate4(calculateRate(stat.getStageCrtCnt4(), stat.getStageTryCnt4()));
-            }
-            case 5 -> {
-                stat.setStageTryCnt5(stat.getStageTryCnt5() + trialCnt);
-                stat.setStageCrtCnt5(stat.getStageCrtCnt5() + (isCorrect ? 1 : 0));
-                stat.setStageCrtRate5(calculateRate(stat.getStageCrtCnt5(), stat.getStageTryCnt5()));
+            summary.setTrialCnt(summary.getTrialCnt() + trialCnt);
+            childGameStageSummaryRepository.save(summary);
+        });
+    }
+
+    /**
+     * 챕터 종료 시 누적된 스테이지별 요약을 통계, 점수 순위, 프로필 색인에 반영합니다.
+     * <p>
+     * 요약이 없거나 요약의 시도 횟수 합이 챕터의 게임 로그 수와 다른 챕터(진행 상태가 만료되어 카운터가 유실된 경우 등)는
+     * 게임 로그로 요약을 다시 계산해 반영하며, 게임 로그도 없으면 반영할 시도가 없으므로 통계를 갱신하지 않습니다.
+     * 증가분은 {@link ChapterAnalytics}로 계산하고, 통계 행을 읽어 수정하지 않고 {@link StatisticRepository#incrementChapterCounters}로
+     * DB에서 직접 더하므로 같은 자녀-감정의 챕터가 동시에 종료되어도 증가분이 유실되지 않습니다.
+     * </p>
+     *
+     * @param childGameChapterId 종료된 ChildGameChapterEntity의 ID
+     * @param childUserId        자녀 사용자 ID
+     * @param gameChapterId      게임 챕터 ID
+     */
+    private void updateAnalytics(int childGameChapterId, int childUserId, int gameChapterId) {
+        List<ChildGameStageSummaryEntity> summaries = childGameStageSummaryRepository
+                .findAllByChildGameChapterEntity_Id(childGameChapterId);
+
+        long trialTotal = summaries.stream().mapToLong(ChildGameStageSummaryEntity::getTrialCnt).sum();
+        if (summaries.isEmpty()
+                || trialTotal != gameLogRepository.countByChildGameStageEntity_ChildGameChapterEntity_Id(childGameChapterId)) {
+            childGameStageSummaryRepository.rebuildFromGameLogs(childGameChapterId);
+            summaries = childGameStageSummaryRepository.findAllByChildGameChapterEntity_Id(childGameChapterId);
+            if (summaries.isEmpty()) {
+                return;
             }
-            default -> {}
         }
+
+        ChapterAnalytics.Result result = ChapterAnalytics.fold(summaries);
+        result.stages().forEach(stage -> statisticRepository.incrementChapterCounters(
+                childUserId,
+                stage.emotionId(),
+                gameChapterId,
+                stage.trialCnt(),
+                stage.crtCnt(),
+                stage.ratingDelta()
+        ));
+        ratingLeaderboardService.incrementRatings(childUserId, result.ratingDeltas());
+        childProfileService.refreshChild(childUserId);
     }
 
     /**
-     * 제공된 정답 수와 시도 수로 성공률(rate)을 계산합니다.
+     * 트랜잭션 안에서 호출되면 커밋 후에, 아니면 즉시 실행합니다.
      *
-     * @param correctCnt 정답 카운트
-     * @param tryCnt     시도 카운트
-     * @return 성공률을 나타내는 {@link BigDecimal}
+     * @param apply 실행할 작업
      */
-    private BigDecimal calculateRate(int correctCnt, int tryCnt) {
-        if (tryCnt == 0) {
-            return BigDecimal.ZERO;
+    private void afterCommit(Runnable apply) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
         }
-        return BigDecimal.valueOf((double) correctCnt / tryCnt);
     }
-
 }
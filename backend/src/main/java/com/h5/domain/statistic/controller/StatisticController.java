@@ -1,8 +1,19 @@
 package com.h5.domain.statistic.controller;
 
 import com.h5.domain.statistic.dto.response.DataAnalysisResponse;
+import com.h5.domain.statistic.dto.response.GetGameAttemptHistoryResponse;
+import com.h5.domain.statistic.dto.response.GetStageDifficultyResponse;
+import com.h5.domain.statistic.dto.response.GetEmotionTrendResponse;
+import com.h5.domain.statistic.dto.response.GetRatingLeaderboardResponse;
+import com.h5.domain.statistic.dto.response.GetSimilarChildrenResponse;
+import com.h5.domain.statistic.dto.response.RatingRankResponse;
 import com.h5.domain.statistic.dto.response.GetGameVideoDatesResponse;
 import com.h5.domain.statistic.dto.response.GetGameVideoLengthResponse;
+import com.h5.domain.statistic.entity.ProfileScope;
+import com.h5.domain.statistic.entity.TrendUnit;
+import com.h5.domain.statistic.service.ChildProfileService;
+import com.h5.domain.statistic.service.RatingLeaderboardService;
+import com.h5.domain.statistic.service.StageDifficultyService;
 import com.h5.domain.statistic.service.StatisticService;
 import com.h5.global.dto.response.ResultResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,9 +21,12 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +37,9 @@ import java.util.Map;
 public class StatisticController {
 
     private final StatisticService statisticService;
+    private final RatingLeaderboardService ratingLeaderboardService;
+    private final StageDifficultyService stageDifficultyService;
+    private final ChildProfileService childProfileService;
 
     @Operation(
             summary = "감정별 통계 분석 결과 조회",
@@ -73,4 +90,119 @@ public class StatisticController {
         return ResultResponse.success(statisticService.getGameVideoLength(childUserId, stageId, year, month));
     }
 
+    @Operation(
+            summary = "감정별 기간 추이 조회",
+            description = "아동 사용자의 감정별 시도/정답 횟수, 정답률, 평균 얼굴/텍스트 점수를 일/주/월 단위로 조회합니다. 최대 2년까지 조회할 수 있습니다."
+    )
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{childUserId}/trend")
+    public ResultResponse<GetEmotionTrendResponse> getEmotionTrend(
+            @Parameter(description = "아동 사용자 ID", example = "123")
+            @PathVariable Integer childUserId,
+            @Parameter(description = "감정 ID", required = true, example = "2")
+            @RequestParam Integer emotionId,
+            @Parameter(description = "기간 단위 (DAY, WEEK, MONTH)", example = "WEEK")
+            @RequestParam(defaultValue = "DAY") TrendUnit unit,
+            @Parameter(description = "조회 시작일 (YYYY-MM-DD)", required = true, example = "2025-03-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "조회 종료일 (YYYY-MM-DD)", required = true, example = "2025-06-30")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        return ResultResponse.success(statisticService.getEmotionTrend(childUserId, emotionId, unit, startDate, endDate));
+    }
+
+    @Operation(
+            summary = "게임 시도 이력 조회",
+            description = "아동 사용자의 게임 시도 이력을 최근 순으로 조회합니다. 스테이지, 감정, 기간으로 거를 수 있으며, "
+                    + "다음 페이지는 응답의 nextCursorSubmitAt, nextCursorGameLogId를 그대로 전달해 조회합니다."
+    )
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{childUserId}/attempts")
+    public ResultResponse<GetGameAttemptHistoryResponse> getAttemptHistory(
+            @Parameter(description = "아동 사용자 ID", example = "123")
+            @PathVariable Integer childUserId,
+            @Parameter(description = "게임 스테이지 ID", example = "5")
+            @RequestParam(required = false) Integer gameStageId,
+            @Parameter(description = "감정 ID", example = "2")
+            @RequestParam(required = false) Integer emotionId,
+            @Parameter(description = "조회 시작일 (YYYY-MM-DD)", example = "2025-03-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "조회 종료일 (YYYY-MM-DD)", example = "2025-06-30")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "이전 페이지의 nextCursorSubmitAt", example = "2025-06-12T15:04:05")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorSubmitAt,
+            @Parameter(description = "이전 페이지의 nextCursorGameLogId", example = "456")
+            @RequestParam(required = false) Integer cursorGameLogId,
+            @Parameter(description = "페이지 크기(최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResultResponse.success(statisticService.getAttemptHistory(
+                childUserId, gameStageId, emotionId, startDate, endDate, cursorSubmitAt, cursorGameLogId, size
+        ));
+    }
+
+    @Operation(
+            summary = "게임 스테이지 난이도 조회",
+            description = "전체 아동(또는 지정한 센터 아동)의 스테이지별 정답률, 평균 시도 횟수, 첫 정답 시도 분포, 체류 시간 중앙값을 조회합니다. "
+                    + "메모리 집계를 반환하며 종료된 챕터가 주기적으로 반영됩니다."
+    )
+    @PreAuthorize("hasAuthority('ROLE_CONSULTANT')")
+    @GetMapping("/stage-difficulty")
+    public ResultResponse<GetStageDifficultyResponse> getStageDifficulty(
+            @Parameter(description = "센터 ID(생략 시 전체)", example = "1")
+            @RequestParam(required = false) Integer centerId
+    ) {
+        return ResultResponse.success(stageDifficultyService.getStageDifficulty(centerId));
+    }
+
+    @Operation(
+            summary = "감정 프로필 유사 아동 조회",
+            description = "담당 아동과 감정별 점수, 정답률, 평균 얼굴/텍스트 점수가 가까운 아동을 조회합니다. "
+                    + "범위는 담당 아동(CONSULTANT), 같은 센터(CENTER), 전체(ALL) 중 선택합니다."
+    )
+    @PreAuthorize("hasAuthority('ROLE_CONSULTANT')")
+    @GetMapping("/{childUserId}/similar")
+    public ResultResponse<GetSimilarChildrenResponse> getSimilarChildren(
+            @Parameter(description = "기준 아동 사용자 ID", example = "123")
+            @PathVariable Integer childUserId,
+            @Parameter(description = "검색 범위 (CONSULTANT, CENTER, ALL)", example = "CENTER")
+            @RequestParam(defaultValue = "CONSULTANT") ProfileScope scope,
+            @Parameter(description = "조회할 아동 수(최대 50)", example = "10")
+            @RequestParam(defaultValue = "10") int k
+    ) {
+        return ResultResponse.success(childProfileService.findSimilarChildren(childUserId, scope, k));
+    }
+
+    @Operation(
+            summary = "담당 아동 감정별 점수 순위 조회",
+            description = "상담사가 담당하는 아동들의 감정별 누적 점수 순위를 구간으로 조회합니다. offset이 0이면 상위 N명입니다."
+    )
+    @PreAuthorize("hasAuthority('ROLE_CONSULTANT')")
+    @GetMapping("/leaderboard")
+    public ResultResponse<GetRatingLeaderboardResponse> getLeaderboard(
+            @Parameter(description = "감정 ID", required = true, example = "2")
+            @RequestParam Integer emotionId,
+            @Parameter(description = "시작 위치(0부터)", example = "0")
+            @RequestParam(defaultValue = "0") int offset,
+            @Parameter(description = "조회할 아동 수(최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResultResponse.success(ratingLeaderboardService.getLeaderboard(emotionId, offset, limit));
+    }
+
+    @Operation(
+            summary = "담당 아동의 감정별 점수 순위 조회",
+            description = "상담사가 담당하는 특정 아동의 감정별 순위와 누적 점수를 조회합니다."
+    )
+    @PreAuthorize("hasAuthority('ROLE_CONSULTANT')")
+    @GetMapping("/leaderboard/{childUserId}")
+    public ResultResponse<RatingRankResponse> getChildRank(
+            @Parameter(description = "아동 사용자 ID", example = "123")
+            @PathVariable Integer childUserId,
+            @Parameter(description = "감정 ID", required = true, example = "2")
+            @RequestParam Integer emotionId
+    ) {
+        return ResultResponse.success(ratingLeaderboardService.getChildRank(childUserId, emotionId));
+    }
+
 }
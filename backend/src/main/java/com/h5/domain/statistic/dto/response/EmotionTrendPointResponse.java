@@ -0,0 +1,34 @@
+package com.h5.domain.statistic.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "기간 단위 감정 추이 한 구간 DTO")
+public class EmotionTrendPointResponse {
+
+    @Schema(description = "구간 시작일(일/주 시작 월요일/월 1일)", example = "2025-06-02")
+    private final LocalDate periodStart;
+
+    @Schema(description = "시도 횟수", example = "12")
+    private final Integer trialCnt;
+
+    @Schema(description = "정답 횟수", example = "9")
+    private final Integer crtCnt;
+
+    @Schema(description = "정답률(%)", example = "75.0")
+    private final BigDecimal crtRate;
+
+    @Schema(description = "대상 감정의 평균 얼굴 점수", example = "63.5")
+    private final BigDecimal avgFaceScore;
+
+    @Schema(description = "대상 감정의 평균 텍스트 점수", example = "48.2")
+    private final BigDecimal avgTextScore;
+}
@@ -0,0 +1,45 @@
+package com.h5.domain.statistic.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "아동 게임 시도 이력 항목 DTO")
+public class GameAttemptResponse {
+
+    @Schema(description = "게임 로그 ID", example = "456")
+    private final Integer gameLogId;
+
+    @Schema(description = "어린이 게임 스테이지 ID", example = "120")
+    private final Integer childGameStageId;
+
+    @Schema(description = "게임 챕터 ID", example = "1")
+    private final Integer gameChapterId;
+
+    @Schema(description = "게임 스테이지 ID", example = "3")
+    private final Integer gameStageId;
+
+    @Schema(description = "챕터 내 스테이지 순번", example = "3")
+    private final Integer stage;
+
+    @Schema(description = "스테이지 대상 감정 ID", example = "2")
+    private final Integer emotionId;
+
+    @Schema(description = "선택한 보기 번호", example = "2")
+    private final Integer selectedOpt;
+
+    @Schema(description = "정답 여부", example = "true")
+    private final Boolean corrected;
+
+    @Schema(description = "상담 여부", example = "false")
+    private final Boolean consulted;
+
+    @Schema(description = "제출 시각", example = "2025-06-12T15:04:05")
+    private final LocalDateTime submitAt;
+}
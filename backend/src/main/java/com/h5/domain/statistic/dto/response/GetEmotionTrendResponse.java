@@ -0,0 +1,28 @@
+package com.h5.domain.statistic.dto.response;
+
+import com.h5.domain.statistic.entity.TrendUnit;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "아동 사용자의 감정별 기간 추이 DTO")
+public class GetEmotionTrendResponse {
+
+    @Schema(description = "아동 사용자 ID", example = "123")
+    private final Integer childUserId;
+
+    @Schema(description = "감정 ID", example = "2")
+    private final Integer emotionId;
+
+    @Schema(description = "기간 단위", example = "WEEK")
+    private final TrendUnit unit;
+
+    @Schema(description = "기간 순으로 정렬된 구간 목록(시도가 없는 구간은 제외)")
+    private final List<EmotionTrendPointResponse> points;
+}
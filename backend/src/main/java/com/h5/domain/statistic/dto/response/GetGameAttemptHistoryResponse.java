@@ -0,0 +1,28 @@
+package com.h5.domain.statistic.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "아동 게임 시도 이력 페이지 DTO")
+public class GetGameAttemptHistoryResponse {
+
+    @Schema(description = "최근 순으로 정렬된 시도 목록")
+    private final List<GameAttemptResponse> attempts;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청 시 cursorSubmitAt 값(마지막 페이지면 null)", example = "2025-06-12T15:04:05")
+    private final LocalDateTime nextCursorSubmitAt;
+
+    @Schema(description = "다음 페이지 요청 시 cursorGameLogId 값(마지막 페이지면 null)", example = "456")
+    private final Integer nextCursorGameLogId;
+}
@@ -0,0 +1,24 @@
+package com.h5.domain.statistic.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "상담사 담당 아동의 감정별 점수 순위 DTO")
+public class GetRatingLeaderboardResponse {
+
+    @Schema(description = "감정 ID", example = "2")
+    private final Integer emotionId;
+
+    @Schema(description = "순위에 포함된 전체 아동 수", example = "37")
+    private final Long totalCount;
+
+    @Schema(description = "요청한 구간의 순위 목록")
+    private final List<RatingRankResponse> ranks;
+}
@@ -0,0 +1,25 @@
+package com.h5.domain.statistic.dto.response;
+
+import com.h5.domain.statistic.entity.ProfileScope;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "감정 프로필 유사 아동 목록 DTO")
+public class GetSimilarChildrenResponse {
+
+    @Schema(description = "기준 아동 사용자 ID", example = "123")
+    private final Integer childUserId;
+
+    @Schema(description = "검색 범위", example = "CENTER")
+    private final ProfileScope scope;
+
+    @Schema(description = "거리 오름차순 유사 아동 목록")
+    private final List<SimilarChildResponse> children;
+}
@@ -0,0 +1,25 @@
+package com.h5.domain.statistic.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "게임 스테이지 난이도 집계 목록 DTO")
+public class GetStageDifficultyResponse {
+
+    @Schema(description = "센터 ID(전체 집계이면 null)", example = "1")
+    private final Integer centerId;
+
+    @Schema(description = "이 시각까지 종료된 챕터가 반영됨", example = "2025-06-12T15:04:05")
+    private final LocalDateTime refreshedUntil;
+
+    @Schema(description = "게임 스테이지 ID 순 난이도 목록")
+    private final List<StageDifficultyResponse> stages;
+}
@@ -0,0 +1,25 @@
+package com.h5.domain.statistic.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "감정별 점수 순위 한 건 DTO")
+public class RatingRankResponse {
+
+    @Schema(description = "순위(1부터, 점수 내림차순)", example = "1")
+    private final Long rank;
+
+    @Schema(description = "아동 사용자 ID", example = "123")
+    private final Integer childUserId;
+
+    @Schema(description = "아동 사용자 이름", example = "홍길동")
+    private final String childName;
+
+    @Schema(description = "감정별 누적 점수", example = "850")
+    private final Integer rating;
+}
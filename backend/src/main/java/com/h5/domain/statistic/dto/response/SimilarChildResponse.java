@@ -0,0 +1,22 @@
+package com.h5.domain.statistic.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "감정 프로필이 유사한 아동 한 건 DTO")
+public class SimilarChildResponse {
+
+    @Schema(description = "아동 사용자 ID", example = "123")
+    private final Integer childUserId;
+
+    @Schema(description = "아동 사용자 이름(현재 상담사의 담당 아동이 아니면 null)", example = "홍길동")
+    private final String childName;
+
+    @Schema(description = "기준 아동과의 프로필 거리(작을수록 유사)", example = "0.184")
+    private final Float distance;
+}
@@ -0,0 +1,47 @@
+package com.h5.domain.statistic.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "게임 스테이지 난이도 집계 DTO")
+public class StageDifficultyResponse {
+
+    @Schema(description = "게임 스테이지 ID", example = "3")
+    private final Integer gameStageId;
+
+    @Schema(description = "게임 챕터 ID", example = "1")
+    private final Integer gameChapterId;
+
+    @Schema(description = "챕터 내 스테이지 순번", example = "3")
+    private final Integer stage;
+
+    @Schema(description = "스테이지 대상 감정 ID", example = "2")
+    private final Integer emotionId;
+
+    @Schema(description = "집계된 플레이 수(챕터당 한 번)", example = "128")
+    private final Integer playCnt;
+
+    @Schema(description = "정답에 도달한 플레이 비율(%)", example = "81.3")
+    private final BigDecimal crtRate;
+
+    @Schema(description = "플레이당 평균 시도 횟수", example = "1.7")
+    private final BigDecimal avgTrialCnt;
+
+    @Schema(description = "첫 정답 시도 순번 분포. i번째 값은 i+1번째 시도에 처음 맞힌 플레이 수이며, 마지막 값은 그 이상을 모두 포함합니다.",
+            example = "[70, 25, 8, 1, 0]")
+    private final List<Integer> firstCrtTrialCnts;
+
+    @Schema(description = "정답에 도달하지 못한 플레이 수", example = "24")
+    private final Integer neverCrtCnt;
+
+    @Schema(description = "스테이지 체류 시간 중앙값(초, 측정된 플레이가 없으면 null)", example = "42")
+    private final Integer medianStageSeconds;
+}
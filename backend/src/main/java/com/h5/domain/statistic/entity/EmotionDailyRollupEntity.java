@@ -0,0 +1,62 @@
+package com.h5.domain.statistic.entity;
+
+import com.h5.domain.emotion.entity.EmotionEntity;
+import com.h5.domain.user.child.entity.ChildUserEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 자녀-감정-일자 단위 게임 시도 집계. 게임 로그가 저장될 때마다 증가분이 더해집니다.
+ * <p>
+ * 점수 합계는 스테이지 대상 감정의 얼굴/음성(텍스트) 점수를 더한 값이며, 평균은 시도 횟수로 나누어 계산합니다.
+ * </p>
+ */
+@Entity
+@Setter
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor
+@Builder
+@Table(name = "emotion_daily_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_emotion_daily_rollup", columnNames = {"child_user_id", "emotion_id", "rollup_date"})
+})
+public class EmotionDailyRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "emotion_daily_rollup_id", nullable = false)
+    private Integer id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "child_user_id", nullable = false)
+    private ChildUserEntity childUserEntity;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "emotion_id", nullable = false)
+    private EmotionEntity emotionEntity;
+
+    @NotNull
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @NotNull
+    @Column(name = "trial_cnt", nullable = false)
+    private Integer trialCnt;
+
+    @NotNull
+    @Column(name = "crt_cnt", nullable = false)
+    private Integer crtCnt;
+
+    @NotNull
+    @Column(name = "face_score_sum", nullable = false)
+    private Long faceScoreSum;
+
+    @NotNull
+    @Column(name = "text_score_sum", nullable = false)
+    private Long textScoreSum;
+}
@@ -0,0 +1,10 @@
+package com.h5.domain.statistic.entity;
+
+/**
+ * 유사 아동 검색 범위. 현재 상담사의 담당 아동, 같은 센터 아동, 전체 아동 중에서 찾습니다.
+ */
+public enum ProfileScope {
+    CONSULTANT,
+    CENTER,
+    ALL
+}
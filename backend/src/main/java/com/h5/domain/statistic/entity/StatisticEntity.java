@@ -7,6 +7,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 @Entity
 @Setter
@@ -14,7 +15,9 @@ import java.math.BigDecimal;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor
 @Builder
-@Table(name = "statistic")
+@Table(name = "statistic", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_statistic_emotion_child", columnNames = {"emotion_id", "child_user_id"})
+})
 public class StatisticEntity {
 
 
@@ -35,26 +38,6 @@ public class StatisticEntity {
     @Column(name = "crt_cnt", nullable = false)
     private Integer crtCnt;
 
-    @NotNull
-    @Column(name = "stage_crt_rate_1", nullable = false, precision = 3, scale = 1)
-    private BigDecimal stageCrtRate1;
-
-    @NotNull
-    @Column(name = "stage_crt_rate_2", nullable = false, precision = 3, scale = 1)
-    private BigDecimal stageCrtRate2;
-
-    @NotNull
-    @Column(name = "stage_crt_rate_3", nullable = false, precision = 3, scale = 1)
-    private BigDecimal stageCrtRate3;
-
-    @NotNull
-    @Column(name = "stage_crt_rate_4", nullable = false, precision = 3, scale = 1)
-    private BigDecimal stageCrtRate4;
-
-    @NotNull
-    @Column(name = "stage_crt_rate_5", nullable = false, precision = 3, scale = 1)
-    private BigDecimal stageCrtRate5;
-
     @NotNull
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "emotion_id", nullable = false)
@@ -105,4 +88,55 @@ public class StatisticEntity {
     @Column(name = "stage_crt_cnt_5", nullable = false)
     private Integer stageCrtCnt5;
 
+    /**
+     * 챕터 번호에 해당하는 시도 횟수를 반환합니다.
+     *
+     * @param chapter 게임 챕터 번호(1~5)
+     * @return 해당 챕터의 시도 횟수, 범위를 벗어나면 0
+     */
+    public int getStageTryCnt(int chapter) {
+        return switch (chapter) {
+            case 1 -> stageTryCnt1;
+            case 2 -> stageTryCnt2;
+            case 3 -> stageTryCnt3;
+            case 4 -> stageTryCnt4;
+            case 5 -> stageTryCnt5;
+            default -> 0;
+        };
+    }
+
+    /**
+     * 챕터 번호에 해당하는 정답 횟수를 반환합니다.
+     *
+     * @param chapter 게임 챕터 번호(1~5)
+     * @return 해당 챕터의 정답 횟수, 범위를 벗어나면 0
+     */
+    public int getStageCrtCnt(int chapter) {
+        return switch (chapter) {
+            case 1 -> stageCrtCnt1;
+            case 2 -> stageCrtCnt2;
+            case 3 -> stageCrtCnt3;
+            case 4 -> stageCrtCnt4;
+            case 5 -> stageCrtCnt5;
+            default -> 0;
+        };
+    }
+
+    /**
+     * 챕터 번호에 해당하는 정답률을 누적 카운터로부터 계산해 반환합니다.
+     * <p>
+     * 정답률은 저장하지 않고 조회 시점에 stageCrtCnt / stageTryCnt로 계산하며, 소수 첫째 자리까지 반올림합니다.
+     * </p>
+     *
+     * @param chapter 게임 챕터 번호(1~5)
+     * @return 정답률, 시도가 없으면 0
+     */
+    public BigDecimal getStageCrtRate(int chapter) {
+        int tryCnt = getStageTryCnt(chapter);
+        if (tryCnt == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(getStageCrtCnt(chapter))
+                .divide(BigDecimal.valueOf(tryCnt), 1, RoundingMode.HALF_UP);
+    }
 }
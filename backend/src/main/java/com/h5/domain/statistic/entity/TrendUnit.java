@@ -0,0 +1,10 @@
+package com.h5.domain.statistic.entity;
+
+/**
+ * 감정 추이를 묶는 기간 단위. 주 단위는 월요일, 월 단위는 1일에 시작합니다.
+ */
+public enum TrendUnit {
+    DAY,
+    WEEK,
+    MONTH
+}
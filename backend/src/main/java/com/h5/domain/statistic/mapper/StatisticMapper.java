@@ -1,16 +1,24 @@
 package com.h5.domain.statistic.mapper;
 
-import com.h5.domain.emotion.entity.EmotionEntity;
 import com.h5.domain.game.entity.ChildGameChapterEntity;
-import com.h5.domain.game.entity.GameLogEntity;
 import com.h5.domain.statistic.dto.response.DataAnalysisResponse;
+import com.h5.domain.statistic.dto.response.EmotionTrendPointResponse;
+import com.h5.domain.statistic.dto.response.GetEmotionTrendResponse;
 import com.h5.domain.statistic.dto.response.GetGameVideoDatesResponse;
 import com.h5.domain.statistic.dto.response.GetGameVideoLengthResponse;
+import com.h5.domain.statistic.entity.EmotionDailyRollupEntity;
 import com.h5.domain.statistic.entity.StatisticEntity;
+import com.h5.domain.statistic.entity.TrendUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -27,14 +35,14 @@ public class StatisticMapper {
      * <p>
      * 통계 데이터가 하나도 없으면 빈 Map을 반환한다.
      *
-     * @param emotionEntityList 감정 엔티티 리스트
+     * @param emotionIds        감정 ID 배열(응답 순서 기준)
      * @param statsByEmotion    감정 ID를 키로 하는 통계 엔티티 맵
      * @param childUserId       아동 사용자 ID
      * @param childName         아동 사용자 이름
      * @return 감정 ID를 키로 갖는 DataAnalysisResponse 맵 (데이터 없으면 빈 Map)
      */
     public Map<Integer, DataAnalysisResponse> toDataAnalysisResponse(
-            List<EmotionEntity> emotionEntityList,
+            int[] emotionIds,
             Map<Integer, StatisticEntity> statsByEmotion,
             Integer childUserId,
             String childName
@@ -43,14 +51,14 @@ public class StatisticMapper {
             return Collections.emptyMap();
         }
 
-        return emotionEntityList.stream()
-                .filter(emotion -> statsByEmotion.containsKey(emotion.getId()))
-                .map(emotion -> {
-                    StatisticEntity stat = statsByEmotion.get(emotion.getId());
+        return Arrays.stream(emotionIds)
+                .filter(statsByEmotion::containsKey)
+                .mapToObj(emotionId -> {
+                    StatisticEntity stat = statsByEmotion.get(emotionId);
                     return DataAnalysisResponse.builder()
                             .childUserId(childUserId)
                             .childName(childName)
-                            .emotionId(emotion.getId())
+                            .emotionId(emotionId)
                             .rating(stat.getRating())
                             .totalTryCnt(stat.getTrialCnt())
                             .totalCrtCnt(stat.getCrtCnt())
@@ -61,11 +69,11 @@ public class StatisticMapper {
                                     stat.getStageCrtCnt4(),
                                     stat.getStageCrtCnt5()))
                             .stageCrtRate(List.of(
-                                    stat.getStageCrtRate1(),
-                                    stat.getStageCrtRate2(),
-                                    stat.getStageCrtRate3(),
-                                    stat.getStageCrtRate4(),
-                                    stat.getStageCrtRate5()))
+                                    stat.getStageCrtRate(1),
+                                    stat.getStageCrtRate(2),
+                                    stat.getStageCrtRate(3),
+                                    stat.getStageCrtRate(4),
+                                    stat.getStageCrtRate(5)))
                             .stageTryCnt(List.of(
                                     stat.getStageTryCnt1(),
                                     stat.getStageTryCnt2(),
@@ -101,19 +109,102 @@ public class StatisticMapper {
     }
 
     /**
-     * 게임 로그 리스트를 시도 인덱스 및 로그 ID를 가진 DTO 리스트로 변환한다.
+     * 제출 순서대로 정렬된 게임 로그 ID 리스트를 시도 인덱스 및 로그 ID를 가진 DTO 리스트로 변환한다.
      *
-     * @param logs GameLogEntity 리스트
+     * @param gameLogIds 게임 로그 ID 리스트
      * @return GetGameVideoLengthResponse 리스트
      */
     public List<GetGameVideoLengthResponse> toGameVideoLengthResponse(
-            List<GameLogEntity> logs
+            List<Integer> gameLogIds
     ) {
-        return IntStream.range(0, logs.size())
+        return IntStream.range(0, gameLogIds.size())
                 .mapToObj(i -> GetGameVideoLengthResponse.builder()
                         .tryIndex(i)
-                        .gameLogId(logs.get(i).getId())
+                        .gameLogId(gameLogIds.get(i))
                         .build())
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 일자별 감정 집계를 기간 단위로 합산해 추이 DTO로 변환한다.
+     *
+     * @param childUserId 아동 사용자 ID
+     * @param emotionId   감정 ID
+     * @param unit        기간 단위
+     * @param rollups     일자 오름차순으로 정렬된 일자별 집계 목록
+     * @return 기간 순으로 정렬된 GetEmotionTrendResponse
+     */
+    public GetEmotionTrendResponse toEmotionTrendResponse(
+            Integer childUserId,
+            Integer emotionId,
+            TrendUnit unit,
+            List<EmotionDailyRollupEntity> rollups
+    ) {
+        List<EmotionTrendPointResponse> points = new ArrayList<>();
+
+        LocalDate periodStart = null;
+        int trialCnt = 0;
+        int crtCnt = 0;
+        long faceScoreSum = 0;
+        long textScoreSum = 0;
+        for (EmotionDailyRollupEntity rollup : rollups) {
+            LocalDate rollupPeriod = periodStartOf(rollup.getRollupDate(), unit);
+            if (!rollupPeriod.equals(periodStart)) {
+                if (periodStart != null) {
+                    points.add(toTrendPoint(periodStart, trialCnt, crtCnt, faceScoreSum, textScoreSum));
+                }
+                periodStart = rollupPeriod;
+                trialCnt = 0;
+                crtCnt = 0;
+                faceScoreSum = 0;
+                textScoreSum = 0;
+            }
+            trialCnt += rollup.getTrialCnt();
+            crtCnt += rollup.getCrtCnt();
+            faceScoreSum += rollup.getFaceScoreSum();
+            textScoreSum += rollup.getTextScoreSum();
+        }
+        if (periodStart != null) {
+            points.add(toTrendPoint(periodStart, trialCnt, crtCnt, faceScoreSum, textScoreSum));
+        }
+
+        return GetEmotionTrendResponse.builder()
+                .childUserId(childUserId)
+                .emotionId(emotionId)
+                .unit(unit)
+                .points(points)
+                .build();
+    }
+
+    private LocalDate periodStartOf(LocalDate date, TrendUnit unit) {
+        return switch (unit) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    private EmotionTrendPointResponse toTrendPoint(
+            LocalDate periodStart,
+            int trialCnt,
+            int crtCnt,
+            long faceScoreSum,
+            long textScoreSum
+    ) {
+        return EmotionTrendPointResponse.builder()
+                .periodStart(periodStart)
+                .trialCnt(trialCnt)
+                .crtCnt(crtCnt)
+                .crtRate(ratio(crtCnt * 100L, trialCnt))
+                .avgFaceScore(ratio(faceScoreSum, trialCnt))
+                .avgTextScore(ratio(textScoreSum, trialCnt))
+                .build();
+    }
+
+    private BigDecimal ratio(long numerator, int denominator) {
+        if (denominator == 0) {
+            return BigDecimal.ZERO.setScale(1);
+        }
+        return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), 1, RoundingMode.HALF_UP);
+    }
 }
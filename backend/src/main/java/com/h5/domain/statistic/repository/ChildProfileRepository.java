@@ -0,0 +1,138 @@
+package com.h5.domain.statistic.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * 아동 감정 프로필 색인에 필요한 값(담당 정보, 감정별 통계, 감정별 점수 합계)을 읽는 저장소입니다.
+ * <p>
+ * 전체 조회는 MySQL 스트리밍 결과셋으로 읽어 행 목록을 메모리에 올리지 않고, 아동 한 명 조회는 일반 쿼리로 읽습니다.
+ * </p>
+ */
+@Repository
+public class ChildProfileRepository {
+
+    private static final String SELECT_CHILDREN_SQL = """
+            SELECT cu.child_user_id, cu.consultant_user_id, cons.center_id
+            FROM child_user cu
+            JOIN consultant_user cons ON cons.consultant_user_id = cu.consultant_user_id
+            WHERE cu.delete_dttm IS NULL
+            """;
+
+    private static final String SELECT_STATISTICS_SQL =
+            "SELECT child_user_id, emotion_id, rating, trial_cnt, crt_cnt FROM statistic";
+
+    private static final String SELECT_SCORE_SUMS_SQL = """
+            SELECT child_user_id, emotion_id, SUM(trial_cnt), SUM(face_score_sum), SUM(text_score_sum)
+            FROM emotion_daily_rollup
+            """;
+
+    private static final String SCORE_SUMS_GROUP_BY = " GROUP BY child_user_id, emotion_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public ChildProfileRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 아동 담당 정보 한 건을 받는 콜백입니다.
+     */
+    @FunctionalInterface
+    public interface ChildHandler {
+
+        void handle(int childUserId, int consultantUserId, int centerId);
+    }
+
+    /**
+     * 아동-감정 통계 한 건을 받는 콜백입니다.
+     */
+    @FunctionalInterface
+    public interface StatisticHandler {
+
+        void handle(int childUserId, int emotionId, int rating, int trialCnt, int crtCnt);
+    }
+
+    /**
+     * 아동-감정 점수 합계 한 건을 받는 콜백입니다. 점수는 {@code EmotionVector} 성분(10배 저장) 단위입니다.
+     */
+    @FunctionalInterface
+    public interface ScoreSumHandler {
+
+        void handle(int childUserId, int emotionId, long trialCnt, long faceScoreSum, long textScoreSum);
+    }
+
+    /**
+     * 삭제되지 않은 전체 아동의 담당 정보를 스트리밍합니다.
+     *
+     * @param handler 아동 한 명마다 호출되는 콜백
+     */
+    public void streamChildren(ChildHandler handler) {
+        streamingJdbcTemplate.query(SELECT_CHILDREN_SQL, rs -> {
+            handler.handle(rs.getInt(1), rs.getInt(2), rs.getInt(3));
+        });
+    }
+
+    /**
+     * 전체 아동-감정 통계를 스트리밍합니다.
+     *
+     * @param handler 통계 한 건마다 호출되는 콜백
+     */
+    public void streamStatistics(StatisticHandler handler) {
+        streamingJdbcTemplate.query(SELECT_STATISTICS_SQL, rs -> {
+            handler.handle(rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getInt(4), rs.getInt(5));
+        });
+    }
+
+    /**
+     * 전체 아동-감정 점수 합계를 일자별 집계에서 합산해 스트리밍합니다.
+     *
+     * @param handler 합계 한 건마다 호출되는 콜백
+     */
+    public void streamScoreSums(ScoreSumHandler handler) {
+        streamingJdbcTemplate.query(SELECT_SCORE_SUMS_SQL + SCORE_SUMS_GROUP_BY, rs -> {
+            handler.handle(rs.getInt(1), rs.getInt(2), rs.getLong(3), rs.getLong(4), rs.getLong(5));
+        });
+    }
+
+    /**
+     * 아동 한 명의 담당 정보를 조회합니다. 삭제된 아동이면 콜백을 호출하지 않습니다.
+     *
+     * @param childUserId 아동 ID
+     * @param handler     조회된 경우 호출되는 콜백
+     */
+    public void findChild(int childUserId, ChildHandler handler) {
+        jdbcTemplate.query(SELECT_CHILDREN_SQL + " AND cu.child_user_id = ?", rs -> {
+            handler.handle(rs.getInt(1), rs.getInt(2), rs.getInt(3));
+        }, childUserId);
+    }
+
+    /**
+     * 아동 한 명의 감정별 통계를 조회합니다.
+     *
+     * @param childUserId 아동 ID
+     * @param handler     통계 한 건마다 호출되는 콜백
+     */
+    public void findStatistics(int childUserId, StatisticHandler handler) {
+        jdbcTemplate.query(SELECT_STATISTICS_SQL + " WHERE child_user_id = ?", rs -> {
+            handler.handle(rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getInt(4), rs.getInt(5));
+        }, childUserId);
+    }
+
+    /**
+     * 아동 한 명의 감정별 점수 합계를 조회합니다.
+     *
+     * @param childUserId 아동 ID
+     * @param handler     합계 한 건마다 호출되는 콜백
+     */
+    public void findScoreSums(int childUserId, ScoreSumHandler handler) {
+        jdbcTemplate.query(SELECT_SCORE_SUMS_SQL + " WHERE child_user_id = ?" + SCORE_SUMS_GROUP_BY, rs -> {
+            handler.handle(rs.getInt(1), rs.getInt(2), rs.getLong(3), rs.getLong(4), rs.getLong(5));
+        }, childUserId);
+    }
+}
@@ -0,0 +1,53 @@
+package com.h5.domain.statistic.repository;
+
+import com.h5.domain.statistic.entity.EmotionDailyRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface EmotionDailyRollupRepository extends JpaRepository<EmotionDailyRollupEntity, Integer> {
+
+    List<EmotionDailyRollupEntity> findAllByChildUserEntity_IdAndEmotionEntity_IdAndRollupDateBetweenOrderByRollupDate(
+            Integer childUserId, Integer emotionId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 자녀-감정-일자 집계에 증가분을 원자적으로 더합니다. 행이 없으면 증가분으로 생성합니다.
+     *
+     * @param childUserId    자녀 사용자 ID
+     * @param emotionId      감정 ID
+     * @param rollupDate     집계 일자
+     * @param trialDelta     시도 횟수 증가분
+     * @param crtDelta       정답 횟수 증가분
+     * @param faceScoreDelta 얼굴 점수 합계 증가분
+     * @param textScoreDelta 텍스트 점수 합계 증가분
+     * @return 영향받은 행 수(생성 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO emotion_daily_rollup (
+                child_user_id, emotion_id, rollup_date, trial_cnt, crt_cnt, face_score_sum, text_score_sum
+            ) VALUES (
+                :childUserId, :emotionId, :rollupDate, :trialDelta, :crtDelta, :faceScoreDelta, :textScoreDelta
+            )
+            ON DUPLICATE KEY UPDATE
+                trial_cnt = trial_cnt + VALUES(trial_cnt),
+                crt_cnt = crt_cnt + VALUES(crt_cnt),
+                face_score_sum = face_score_sum + VALUES(face_score_sum),
+                text_score_sum = text_score_sum + VALUES(text_score_sum)
+            """, nativeQuery = true)
+    int incrementDaily(
+            @Param("childUserId") int childUserId,
+            @Param("emotionId") int emotionId,
+            @Param("rollupDate") LocalDate rollupDate,
+            @Param("trialDelta") int trialDelta,
+            @Param("crtDelta") int crtDelta,
+            @Param("faceScoreDelta") long faceScoreDelta,
+            @Param("textScoreDelta") long textScoreDelta
+    );
+}
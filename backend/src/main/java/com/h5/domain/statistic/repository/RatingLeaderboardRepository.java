@@ -0,0 +1,240 @@
+package com.h5.domain.statistic.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 상담사-감정별 아동 점수 순위를 Redis 정렬 집합에 보관하는 저장소입니다.
+ * <p>
+ * - {@code leaderboard:rating:{consultantUserId}:{emotionId}} 정렬 집합에 아동 ID를 멤버, 누적 점수를 점수로 담습니다.
+ * - 점수 변경은 {@code ZINCRBY}로, 조회는 {@code ZREVRANGE}/{@code ZREVRANK}로 처리하므로 O(log n)입니다.
+ *   증가는 순위가 이미 있을 때만 반영하므로, 없는 순위에 일부 아동만 담긴 순위가 생기지 않습니다.
+ * - 재구성은 임시 키에 채운 뒤 {@code RENAME}으로 교체하므로 조회 중인 요청이 빈 순위를 보지 않습니다.
+ *   조회 시의 지연 생성은 {@code RENAMENX}로 설치하므로, 그 사이 다른 요청이 만든 순위와 그 순위에 반영된 증가분을 덮어쓰지 않습니다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class RatingLeaderboardRepository {
+
+    private static final String KEY_PREFIX = "leaderboard:rating:";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+
+    /**
+     * 순위가 있을 때만 점수를 증가시킵니다. KEYS[1]=순위 키, ARGV=[증가분, 아동 ID]
+     */
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<Object, Object> redisTemplate;
+
+    /**
+     * 순위 한 건.
+     *
+     * @param rank        0부터 시작하는 순위(점수 내림차순)
+     * @param childUserId 아동 사용자 ID
+     * @param rating      누적 점수
+     */
+    public record LeaderboardEntry(long rank, int childUserId, int rating) {
+    }
+
+    /**
+     * 순위가 있으면 아동의 점수를 증가시킵니다. 아동이 순위에 없으면 증가분으로 추가됩니다.
+     * <p>
+     * 순위가 없으면 반영하지 않으며, 이후 조회 시 MySQL 통계로 생성되는 순위에 포함됩니다.
+     * </p>
+     *
+     * @param consultantUserId 상담사 ID
+     * @param emotionId        감정 ID
+     * @param childUserId      아동 사용자 ID
+     * @param delta            점수 증가분
+     * @return 반영했으면 {@code true}, 순위가 없어 반영하지 않았으면 {@code false}
+     */
+    public boolean increment(int consultantUserId, int emotionId, int childUserId, int delta) {
+        Long applied = redisTemplate.execute(
+                INCREMENT_IF_EXISTS_SCRIPT,
+                List.of(key(consultantUserId, emotionId)),
+                String.valueOf(delta),
+                String.valueOf(childUserId)
+        );
+        return applied != null && applied == 1L;
+    }
+
+    /**
+     * 순위가 Redis에 존재하는지 확인합니다.
+     *
+     * @param consultantUserId 상담사 ID
+     * @param emotionId        감정 ID
+     * @return 존재하면 {@code true}
+     */
+    public boolean exists(int consultantUserId, int emotionId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(consultantUserId, emotionId)));
+    }
+
+    /**
+     * 순위에 포함된 아동 수를 반환합니다.
+     *
+     * @param consultantUserId 상담사 ID
+     * @param emotionId        감정 ID
+     * @return 아동 수
+     */
+    public long count(int consultantUserId, int emotionId) {
+        Long size = redisTemplate.opsForZSet().zCard(key(consultantUserId, emotionId));
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 점수 내림차순으로 [{@code start}, {@code end}] 순위 구간을 조회합니다.
+     *
+     * @param consultantUserId 상담사 ID
+     * @param emotionId        감정 ID
+     * @param start            시작 순위(0부터, 포함)
+     * @param end              끝 순위(포함)
+     * @return 순위 목록
+     */
+    public List<LeaderboardEntry> findRange(int consultantUserId, int emotionId, long start, long end) {
+        Set<TypedTuple<Object>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key(consultantUserId, emotionId), start, end);
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        if (tuples == null) {
+            return entries;
+        }
+        long rank = start;
+        for (TypedTuple<Object> tuple : tuples) {
+            entries.add(new LeaderboardEntry(
+                    rank++,
+                    Integer.parseInt((String) tuple.getValue()),
+                    tuple.getScore() == null ? 0 : tuple.getScore().intValue()
+            ));
+        }
+        return entries;
+    }
+
+    /**
+     * 아동의 순위와 점수를 조회합니다.
+     *
+     * @param consultantUserId 상담사 ID
+     * @param emotionId        감정 ID
+     * @param childUserId      아동 사용자 ID
+     * @return 순위, 순위에 없으면 {@link Optional#empty()}
+     */
+    public Optional<LeaderboardEntry> findByChild(int consultantUserId, int emotionId, int childUserId) {
+        ZSetOperations<Object, Object> zSet = redisTemplate.opsForZSet();
+        String key = key(consultantUserId, emotionId);
+        String member = String.valueOf(childUserId);
+
+        Long rank = zSet.reverseRank(key, member);
+        Double score = zSet.score(key, member);
+        if (rank == null || score == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new LeaderboardEntry(rank, childUserId, score.intValue()));
+    }
+
+    /**
+     * 순위를 주어진 점수로 교체합니다. 점수가 없으면 순위를 삭제합니다.
+     *
+     * @param consultantUserId 상담사 ID
+     * @param emotionId        감정 ID
+     * @param ratings          아동 사용자 ID → 누적 점수
+     */
+    public void replace(int consultantUserId, int emotionId, Map<Integer, Integer> ratings) {
+        String key = key(consultantUserId, emotionId);
+        if (ratings.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        Set<TypedTuple<Object>> tuples = new HashSet<>();
+        ratings.forEach((childUserId, rating) ->
+                tuples.add(TypedTuple.of(String.valueOf(childUserId), rating.doubleValue()))
+        );
+        String rebuildKey = key + REBUILD_SUFFIX;
+        redisTemplate.delete(rebuildKey);
+        redisTemplate.opsForZSet().add(rebuildKey, tuples);
+        redisTemplate.rename(rebuildKey, key);
+    }
+
+    /**
+     * 순위가 없을 때만 주어진 점수로 순위를 생성합니다.
+     * <p>
+     * 요청마다 다른 임시 키에 채운 뒤 {@code RENAMENX}로 설치하므로, 동시에 생성된 순위나 이미 증가분이 반영된 순위를 덮어쓰지 않습니다.
+     * </p>
+     *
+     * @param consultantUserId 상담사 ID
+     * @param emotionId        감정 ID
+     * @param ratings          아동 사용자 ID → 누적 점수
+     * @return 생성했으면 {@code true}, 점수가 없거나 순위가 이미 있으면 {@code false}
+     */
+    public boolean createIfAbsent(int consultantUserId, int emotionId, Map<Integer, Integer> ratings) {
+        if (ratings.isEmpty()) {
+            return false;
+        }
+
+        Set<TypedTuple<Object>> tuples = new HashSet<>();
+        ratings.forEach((childUserId, rating) ->
+                tuples.add(TypedTuple.of(String.valueOf(childUserId), rating.doubleValue()))
+        );
+        String key = key(consultantUserId, emotionId);
+        String buildKey = key + REBUILD_SUFFIX + ":" + UUID.randomUUID();
+        redisTemplate.opsForZSet().add(buildKey, tuples);
+        if (Boolean.TRUE.equals(redisTemplate.renameIfAbsent(buildKey, key))) {
+            return true;
+        }
+        redisTemplate.delete(buildKey);
+        return false;
+    }
+
+    /**
+     * 지정한 순위 외의 모든 순위를 삭제합니다. 전체 재구성 후 담당이 바뀐 상담사의 순위를 정리할 때 사용합니다.
+     *
+     * @param keep 유지할 (상담사 ID, 감정 ID) 키 목록({@link #key(int, int)} 형식)
+     * @return 삭제한 순위 수
+     */
+    public int deleteAllExcept(Set<String> keep) {
+        List<Object> stale = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(500).build();
+        try (Cursor<Object> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                if (!keep.contains(key.toString())) {
+                    stale.add(key);
+                }
+            });
+        }
+        if (!stale.isEmpty()) {
+            redisTemplate.delete(stale);
+        }
+        return stale.size();
+    }
+
+    /**
+     * 상담사-감정 순위의 Redis 키를 반환합니다.
+     *
+     * @param consultantUserId 상담사 ID
+     * @param emotionId        감정 ID
+     * @return Redis 키
+     */
+    public String key(int consultantUserId, int emotionId) {
+        return KEY_PREFIX + consultantUserId + ":" + emotionId;
+    }
+}
@@ -0,0 +1,134 @@
+package com.h5.domain.statistic.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 스테이지 난이도 집계를 위해 종료된 챕터의 스테이지 플레이를 읽는 저장소입니다.
+ * <p>
+ * 챕터 종료 시각 구간 단위로 게임 로그를 스트리밍으로 읽어 (챕터, 게임 스테이지)마다 한 건의 {@link StagePlay}로 묶습니다.
+ * 구간 조회는 {@code child_game_chapter(end_at)} 인덱스를 사용하므로 새로 종료된 챕터만 읽습니다.
+ * </p>
+ */
+@Repository
+public class StageDifficultyRepository {
+
+    private static final String STREAM_STAGE_ATTEMPTS_SQL = """
+            SELECT cgc.child_game_chapter_id, cgs.game_stage_id, cons.center_id,
+                   gl.corrected, gl.submit_dttm, cgs.start_at
+            FROM child_game_chapter cgc
+            JOIN child_user cu ON cu.child_user_id = cgc.child_user_id
+            JOIN consultant_user cons ON cons.consultant_user_id = cu.consultant_user_id
+            JOIN child_game_stage cgs ON cgs.user_chapter_id = cgc.child_game_chapter_id
+            JOIN game_log gl ON gl.child_game_stage_id = cgs.child_game_stage_id
+            WHERE cgc.end_at > ? AND cgc.end_at <= ?
+            ORDER BY cgc.child_game_chapter_id, cgs.game_stage_id, gl.game_log_id
+            """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public StageDifficultyRepository(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 한 챕터에서 한 게임 스테이지를 플레이한 결과입니다.
+     *
+     * @param gameStageId   게임 스테이지 ID
+     * @param centerId      아동 담당 상담사의 센터 ID
+     * @param trialCnt      시도 횟수
+     * @param firstCrtTrial 첫 정답 시도 순번(정답이 없으면 0)
+     * @param stageSeconds  스테이지 시작부터 마지막 시도까지 걸린 초(시작 시각이 없으면 -1)
+     */
+    public record StagePlay(
+            int gameStageId,
+            int centerId,
+            int trialCnt,
+            int firstCrtTrial,
+            long stageSeconds
+    ) {
+    }
+
+    /**
+     * 챕터 종료 시각이 {@code (after, until]} 구간인 챕터의 스테이지 플레이를 스트리밍합니다.
+     *
+     * @param after    구간 시작(미포함, 처음부터 읽으려면 {@code null})
+     * @param until    구간 끝(포함)
+     * @param consumer 스테이지 플레이 한 건마다 호출되는 콜백
+     */
+    public void streamStagePlays(LocalDateTime after, LocalDateTime until, Consumer<StagePlay> consumer) {
+        PlayFolder folder = new PlayFolder(consumer);
+        streamingJdbcTemplate.query(STREAM_STAGE_ATTEMPTS_SQL, rs -> {
+            folder.add(
+                    rs.getInt(1),
+                    rs.getInt(2),
+                    rs.getInt(3),
+                    rs.getBoolean(4),
+                    rs.getTimestamp(5),
+                    rs.getTimestamp(6)
+            );
+        }, after == null ? Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)) : Timestamp.valueOf(after),
+                Timestamp.valueOf(until));
+        folder.emit();
+    }
+
+    /**
+     * 정렬된 시도 행을 (챕터, 게임 스테이지) 단위 플레이로 묶습니다.
+     */
+    private static final class PlayFolder {
+
+        private final Consumer<StagePlay> consumer;
+
+        private int childGameChapterId = -1;
+        private int gameStageId = -1;
+        private int centerId;
+        private int trialCnt;
+        private int firstCrtTrial;
+        private Timestamp startAt;
+        private Timestamp lastSubmitAt;
+
+        private PlayFolder(Consumer<StagePlay> consumer) {
+            this.consumer = consumer;
+        }
+
+        private void add(int chapterId, int stageId, int center, boolean corrected, Timestamp submitAt, Timestamp stageStartAt) {
+            if (chapterId != childGameChapterId || stageId != gameStageId) {
+                emit();
+                childGameChapterId = chapterId;
+                gameStageId = stageId;
+                centerId = center;
+                trialCnt = 0;
+                firstCrtTrial = 0;
+                startAt = null;
+                lastSubmitAt = null;
+            }
+            trialCnt++;
+            if (corrected && firstCrtTrial == 0) {
+                firstCrtTrial = trialCnt;
+            }
+            if (stageStartAt != null && (startAt == null || stageStartAt.before(startAt))) {
+                startAt = stageStartAt;
+            }
+            if (lastSubmitAt == null || submitAt.after(lastSubmitAt)) {
+                lastSubmitAt = submitAt;
+            }
+        }
+
+        private void emit() {
+            if (trialCnt == 0) {
+                return;
+            }
+            long stageSeconds = startAt == null
+                    ? -1
+                    : Math.max(0, (lastSubmitAt.getTime() - startAt.getTime()) / 1000);
+            consumer.accept(new StagePlay(gameStageId, centerId, trialCnt, firstCrtTrial, stageSeconds));
+            trialCnt = 0;
+        }
+    }
+}
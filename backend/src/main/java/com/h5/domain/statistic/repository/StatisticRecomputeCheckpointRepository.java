@@ -0,0 +1,61 @@
+package com.h5.domain.statistic.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * 통계 재집계 작업의 완료된 자녀 ID 구간을 Redis 집합에 기록하는 저장소입니다.
+ * <p>
+ * {@code statistic:recompute:{jobId}} 집합에 완료된 구간의 시작 ID를 담으며,
+ * 같은 작업 ID로 다시 실행하면 기록된 구간을 건너뛰고 이어서 처리합니다.
+ * 기록은 {@code statistic.recompute.checkpoint-ttl-hours} 이후 만료됩니다.
+ * </p>
+ */
+@Repository
+public class StatisticRecomputeCheckpointRepository {
+
+    private static final String KEY_PREFIX = "statistic:recompute:";
+
+    private final RedisTemplate<Object, Object> redisTemplate;
+    private final Duration ttl;
+
+    public StatisticRecomputeCheckpointRepository(
+            RedisTemplate<Object, Object> redisTemplate,
+            @Value("${statistic.recompute.checkpoint-ttl-hours:72}") long ttlHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 구간이 이미 완료되었는지 확인합니다.
+     *
+     * @param jobId           작업 ID
+     * @param fromChildUserId 구간 시작 자녀 ID
+     * @return 완료된 구간이면 {@code true}
+     */
+    public boolean isDone(String jobId, int fromChildUserId) {
+        return Boolean.TRUE.equals(
+                redisTemplate.opsForSet().isMember(key(jobId), String.valueOf(fromChildUserId))
+        );
+    }
+
+    /**
+     * 구간을 완료로 기록합니다.
+     *
+     * @param jobId           작업 ID
+     * @param fromChildUserId 구간 시작 자녀 ID
+     */
+    public void markDone(String jobId, int fromChildUserId) {
+        String key = key(jobId);
+        redisTemplate.opsForSet().add(key, String.valueOf(fromChildUserId));
+        redisTemplate.expire(key, ttl);
+    }
+
+    private String key(String jobId) {
+        return KEY_PREFIX + jobId;
+    }
+}
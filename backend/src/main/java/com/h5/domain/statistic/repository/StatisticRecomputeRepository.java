@@ -0,0 +1,187 @@
+package com.h5.domain.statistic.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 통계 재집계를 위해 게임 로그를 스트리밍으로 읽고, 재계산한 통계를 JDBC 배치로 교체하는 저장소입니다.
+ * <p>
+ * - 게임 로그는 자녀 ID 구간 단위로 한 번의 정렬 쿼리로 읽으며, MySQL 스트리밍 결과셋
+ *   ({@code fetchSize = Integer.MIN_VALUE})을 사용해 구간 전체를 메모리에 올리지 않습니다.
+ * - 스트리밍 중인 커넥션에는 다른 쿼리를 보낼 수 없으므로, 쓰기는 호출 측 트랜잭션의 별도 커넥션에서 수행됩니다.
+ *   동시에 처리하는 구간 수의 두 배 이상 커넥션 풀이 필요합니다.
+ * </p>
+ */
+@Repository
+public class StatisticRecomputeRepository {
+
+    private static final String SELECT_CHILD_USER_ID_BOUNDS_SQL =
+            "SELECT MIN(child_user_id), MAX(child_user_id) FROM child_user";
+
+    /**
+     * 종료된 챕터의 게임 로그를 자녀, 챕터, 게임 스테이지, 제출 순으로 읽습니다.
+     * 통계는 챕터 종료 시점에만 반영되므로 진행 중인 챕터는 제외합니다.
+     */
+    private static final String STREAM_ATTEMPTS_SQL = """
+            SELECT cgc.child_user_id, cgc.child_game_chapter_id, cgc.game_chapter_id, cgs.game_stage_id, gl.corrected
+            FROM child_game_chapter cgc
+            JOIN child_game_stage cgs ON cgs.user_chapter_id = cgc.child_game_chapter_id
+            JOIN game_log gl ON gl.child_game_stage_id = cgs.child_game_stage_id
+            WHERE cgc.child_user_id >= ? AND cgc.child_user_id < ? AND cgc.end_at IS NOT NULL
+            ORDER BY cgc.child_user_id, cgc.child_game_chapter_id, cgs.game_stage_id, gl.game_log_id
+            """;
+
+    private static final String SELECT_COUNTERS_SQL = """
+            SELECT child_user_id, emotion_id, rating, trial_cnt, crt_cnt,
+                   stage_try_cnt_1, stage_try_cnt_2, stage_try_cnt_3, stage_try_cnt_4, stage_try_cnt_5,
+                   stage_crt_cnt_1, stage_crt_cnt_2, stage_crt_cnt_3, stage_crt_cnt_4, stage_crt_cnt_5
+            FROM statistic
+            WHERE child_user_id >= ? AND child_user_id < ?
+            """;
+
+    private static final String DELETE_COUNTERS_SQL =
+            "DELETE FROM statistic WHERE child_user_id >= ? AND child_user_id < ?";
+
+    private static final String INSERT_COUNTERS_SQL = """
+            INSERT INTO statistic (
+                child_user_id, emotion_id, rating, trial_cnt, crt_cnt,
+                stage_try_cnt_1, stage_try_cnt_2, stage_try_cnt_3, stage_try_cnt_4, stage_try_cnt_5,
+                stage_crt_cnt_1, stage_crt_cnt_2, stage_crt_cnt_3, stage_crt_cnt_4, stage_crt_cnt_5
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public StatisticRecomputeRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 한 자녀-감정의 통계 카운터. 챕터별 배열은 챕터 번호 1~5를 인덱스 0~4로 담습니다.
+     *
+     * @param childUserId 자녀 사용자 ID
+     * @param emotionId   감정 ID
+     * @param rating      누적 점수
+     * @param trialCnt    전체 시도 횟수
+     * @param crtCnt      전체 정답 횟수
+     * @param stageTryCnt 챕터별 시도 횟수
+     * @param stageCrtCnt 챕터별 정답 횟수
+     */
+    public record StatisticCounters(
+            int childUserId,
+            int emotionId,
+            int rating,
+            int trialCnt,
+            int crtCnt,
+            int[] stageTryCnt,
+            int[] stageCrtCnt
+    ) {
+
+        /**
+         * 다른 카운터와 모든 값이 같은지 비교합니다.
+         *
+         * @param other 비교할 카운터
+         * @return 모든 카운터가 같으면 {@code true}
+         */
+        public boolean sameCounts(StatisticCounters other) {
+            return rating == other.rating
+                    && trialCnt == other.trialCnt
+                    && crtCnt == other.crtCnt
+                    && Arrays.equals(stageTryCnt, other.stageTryCnt)
+                    && Arrays.equals(stageCrtCnt, other.stageCrtCnt);
+        }
+    }
+
+    /**
+     * 게임 로그 한 건의 재집계용 정보를 받는 콜백입니다.
+     */
+    @FunctionalInterface
+    public interface AttemptHandler {
+
+        void handle(int childUserId, int childGameChapterId, int gameChapterId, int gameStageId, boolean corrected);
+    }
+
+    /**
+     * 자녀 사용자 ID의 최솟값과 최댓값을 조회합니다.
+     *
+     * @return {@code [min, max]}, 자녀가 없으면 {@code null}
+     */
+    public int[] findChildUserIdBounds() {
+        return jdbcTemplate.queryForObject(SELECT_CHILD_USER_ID_BOUNDS_SQL, (rs, rowNum) -> {
+            int min = rs.getInt(1);
+            return rs.wasNull() ? null : new int[]{min, rs.getInt(2)};
+        });
+    }
+
+    /**
+     * 자녀 ID 구간의 종료된 챕터 게임 로그를 정렬 순서대로 스트리밍합니다.
+     *
+     * @param fromChildUserId 시작 자녀 ID(포함)
+     * @param toChildUserId   끝 자녀 ID(미포함)
+     * @param handler         로그 한 건마다 호출되는 콜백
+     */
+    public void streamAttempts(int fromChildUserId, int toChildUserId, AttemptHandler handler) {
+        streamingJdbcTemplate.query(STREAM_ATTEMPTS_SQL, rs -> {
+            handler.handle(
+                    rs.getInt(1),
+                    rs.getInt(2),
+                    rs.getInt(3),
+                    rs.getInt(4),
+                    rs.getBoolean(5)
+            );
+        }, fromChildUserId, toChildUserId);
+    }
+
+    /**
+     * 자녀 ID 구간의 현재 통계 카운터를 조회합니다.
+     *
+     * @param fromChildUserId 시작 자녀 ID(포함)
+     * @param toChildUserId   끝 자녀 ID(미포함)
+     * @return 현재 통계 카운터 목록
+     */
+    public List<StatisticCounters> findCounters(int fromChildUserId, int toChildUserId) {
+        return jdbcTemplate.query(SELECT_COUNTERS_SQL, (rs, rowNum) -> new StatisticCounters(
+                rs.getInt(1),
+                rs.getInt(2),
+                rs.getInt(3),
+                rs.getInt(4),
+                rs.getInt(5),
+                new int[]{rs.getInt(6), rs.getInt(7), rs.getInt(8), rs.getInt(9), rs.getInt(10)},
+                new int[]{rs.getInt(11), rs.getInt(12), rs.getInt(13), rs.getInt(14), rs.getInt(15)}
+        ), fromChildUserId, toChildUserId);
+    }
+
+    /**
+     * 자녀 ID 구간의 통계를 삭제하고 재계산한 카운터로 일괄 저장합니다.
+     * <p>
+     * 로그가 없는 자녀의 통계도 구간 삭제로 함께 정리됩니다. 호출 측 트랜잭션 안에서 실행해야 합니다.
+     * </p>
+     *
+     * @param fromChildUserId 시작 자녀 ID(포함)
+     * @param toChildUserId   끝 자녀 ID(미포함)
+     * @param counters        저장할 통계 카운터 목록
+     * @return 삭제된 행 수
+     */
+    public int replaceCounters(int fromChildUserId, int toChildUserId, List<StatisticCounters> counters) {
+        int deleted = jdbcTemplate.update(DELETE_COUNTERS_SQL, fromChildUserId, toChildUserId);
+        jdbcTemplate.batchUpdate(INSERT_COUNTERS_SQL, counters, counters.size(), (ps, c) -> {
+            ps.setInt(1, c.childUserId());
+            ps.setInt(2, c.emotionId());
+            ps.setInt(3, c.rating());
+            ps.setInt(4, c.trialCnt());
+            ps.setInt(5, c.crtCnt());
+            for (int i = 0; i < 5; i++) {
+                ps.setInt(6 + i, c.stageTryCnt()[i]);
+                ps.setInt(11 + i, c.stageCrtCnt()[i]);
+            }
+        });
+        return deleted;
+    }
+}
@@ -2,6 +2,9 @@ package com.h5.domain.statistic.repository;
 
 import com.h5.domain.statistic.entity.StatisticEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +15,85 @@ public interface StatisticRepository extends JpaRepository<StatisticEntity, Inte
     Optional<StatisticEntity> findByEmotionEntity_IdAndChildUserEntity_Id(int emotionEntityId, int childUserId);
 
     Optional<List<StatisticEntity>> findAllByChildUserEntity_Id(Integer childUserId);
-}
\ No newline at end of file
+
+    /**
+     * 순위 재구성에 필요한 상담사, 감정, 아동, 점수 값만 담는 프로젝션입니다.
+     */
+    interface ChildRating {
+        Integer getConsultantUserId();
+
+        Integer getEmotionId();
+
+        Integer getChildUserId();
+
+        Integer getRating();
+    }
+
+    /**
+     * 삭제되지 않은 아동의 감정별 점수를 조회합니다. 상담사 ID가 {@code null}이면 전체를 조회합니다.
+     *
+     * @param consultantUserId 상담사 ID(전체 조회 시 {@code null})
+     * @return 상담사, 감정, 아동, 점수 목록
+     */
+    @Query("""
+            select c.consultantUserId as consultantUserId, s.emotionEntity.id as emotionId,
+                   c.id as childUserId, s.rating as rating
+            from StatisticEntity s join s.childUserEntity c
+            where c.deletedAt is null
+              and (:consultantUserId is null or c.consultantUserId = :consultantUserId)
+            """)
+    List<ChildRating> findChildRatings(@Param("consultantUserId") Integer consultantUserId);
+
+    /**
+     * 자녀-감정 통계의 전체 카운터와 지정한 챕터의 카운터를 한 번의 SQL로 원자적으로 증가시킵니다.
+     * <p>
+     * (emotion_id, child_user_id) 유니크 키 기준 upsert이므로 행이 없으면 증가분으로 생성하고,
+     * 있으면 DB에서 직접 더하므로 동시에 여러 챕터가 종료되어도 증가분이 유실되지 않습니다.
+     * 챕터 번호가 1~5를 벗어나면 전체 카운터만 증가합니다.
+     * </p>
+     *
+     * @param childUserId 자녀 사용자 ID
+     * @param emotionId   감정 ID
+     * @param chapter     게임 챕터 번호(1~5)
+     * @param trialDelta  시도 횟수 증가분
+     * @param crtDelta    정답 횟수 증가분
+     * @param ratingDelta 점수 증가분
+     * @return 영향받은 행 수(생성 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO statistic (
+                child_user_id, emotion_id, rating, trial_cnt, crt_cnt,
+                stage_try_cnt_1, stage_try_cnt_2, stage_try_cnt_3, stage_try_cnt_4, stage_try_cnt_5,
+                stage_crt_cnt_1, stage_crt_cnt_2, stage_crt_cnt_3, stage_crt_cnt_4, stage_crt_cnt_5
+            ) VALUES (
+                :childUserId, :emotionId, :ratingDelta, :trialDelta, :crtDelta,
+                IF(:chapter = 1, :trialDelta, 0), IF(:chapter = 2, :trialDelta, 0), IF(:chapter = 3, :trialDelta, 0),
+                IF(:chapter = 4, :trialDelta, 0), IF(:chapter = 5, :trialDelta, 0),
+                IF(:chapter = 1, :crtDelta, 0), IF(:chapter = 2, :crtDelta, 0), IF(:chapter = 3, :crtDelta, 0),
+                IF(:chapter = 4, :crtDelta, 0), IF(:chapter = 5, :crtDelta, 0)
+            )
+            ON DUPLICATE KEY UPDATE
+                rating = rating + VALUES(rating),
+                trial_cnt = trial_cnt + VALUES(trial_cnt),
+                crt_cnt = crt_cnt + VALUES(crt_cnt),
+                stage_try_cnt_1 = stage_try_cnt_1 + VALUES(stage_try_cnt_1),
+                stage_try_cnt_2 = stage_try_cnt_2 + VALUES(stage_try_cnt_2),
+                stage_try_cnt_3 = stage_try_cnt_3 + VALUES(stage_try_cnt_3),
+                stage_try_cnt_4 = stage_try_cnt_4 + VALUES(stage_try_cnt_4),
+                stage_try_cnt_5 = stage_try_cnt_5 + VALUES(stage_try_cnt_5),
+                stage_crt_cnt_1 = stage_crt_cnt_1 + VALUES(stage_crt_cnt_1),
+                stage_crt_cnt_2 = stage_crt_cnt_2 + VALUES(stage_crt_cnt_2),
+                stage_crt_cnt_3 = stage_crt_cnt_3 + VALUES(stage_crt_cnt_3),
+                stage_crt_cnt_4 = stage_crt_cnt_4 + VALUES(stage_crt_cnt_4),
+                stage_crt_cnt_5 = stage_crt_cnt_5 + VALUES(stage_crt_cnt_5)
+            """, nativeQuery = true)
+    int incrementChapterCounters(
+            @Param("childUserId") int childUserId,
+            @Param("emotionId") int emotionId,
+            @Param("chapter") int chapter,
+            @Param("trialDelta") int trialDelta,
+            @Param("crtDelta") int crtDelta,
+            @Param("ratingDelta") int ratingDelta
+    );
+}
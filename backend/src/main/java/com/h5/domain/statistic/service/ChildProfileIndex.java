@@ -0,0 +1,294 @@
+package com.h5.domain.statistic.service;
+
+import com.h5.domain.emotion.entity.EmotionVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 아동 감정 인식 프로필 벡터를 메모리에 두고 가까운 아동을 찾는 인덱스입니다.
+ * <p>
+ * - 프로필은 감정마다 {@link #FEATURES_PER_EMOTION}개 값을 갖는 고정 길이 {@code float} 벡터이며,
+ *   모든 아동의 벡터를 하나의 {@code float[]}에 이어 붙여 보관합니다.
+ * - 검색은 담당 상담사 또는 센터로 거른 뒤 전체를 한 번 훑으며 유클리드 거리 상위 k개를 크기 k의 힙으로 고릅니다.
+ *   10만 명 기준 수 밀리초 안에 끝나므로 별도 근사 색인은 두지 않습니다.
+ * - 검색은 읽기 잠금, 변경은 쓰기 잠금으로 보호합니다.
+ * </p>
+ */
+public class ChildProfileIndex {
+
+    public static final int FEATURES_PER_EMOTION = 4;
+    public static final int DIMENSION = EmotionVector.SIZE * FEATURES_PER_EMOTION;
+    public static final int ANY = 0;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, Integer> slots = new HashMap<>();
+    private int size;
+    private int[] childUserIds = new int[INITIAL_CAPACITY];
+    private int[] consultantUserIds = new int[INITIAL_CAPACITY];
+    private int[] centerIds = new int[INITIAL_CAPACITY];
+    private float[] vectors = new float[INITIAL_CAPACITY * DIMENSION];
+
+    /**
+     * 색인에 넣을 아동 한 명의 프로필입니다.
+     *
+     * @param childUserId      아동 ID
+     * @param consultantUserId 담당 상담사 ID
+     * @param centerId         담당 상담사의 센터 ID
+     * @param vector           길이 {@link #DIMENSION}의 프로필 벡터
+     */
+    public record ChildProfile(int childUserId, int consultantUserId, int centerId, float[] vector) {
+    }
+
+    /**
+     * 검색 결과 한 건입니다.
+     *
+     * @param childUserId      아동 ID
+     * @param consultantUserId 담당 상담사 ID
+     * @param distance         기준 아동과의 유클리드 거리
+     */
+    public record Neighbor(int childUserId, int consultantUserId, float distance) {
+    }
+
+    /**
+     * 색인 전체를 주어진 프로필로 교체합니다.
+     *
+     * @param profiles 새 프로필 목록
+     */
+    public void replaceAll(List<ChildProfile> profiles) {
+        int capacity = Math.max(INITIAL_CAPACITY, profiles.size());
+        int[] newChildUserIds = new int[capacity];
+        int[] newConsultantUserIds = new int[capacity];
+        int[] newCenterIds = new int[capacity];
+        float[] newVectors = new float[capacity * DIMENSION];
+        Map<Integer, Integer> newSlots = new HashMap<>(profiles.size() * 2);
+        int count = 0;
+        for (ChildProfile profile : profiles) {
+            Integer slot = newSlots.putIfAbsent(profile.childUserId(), count);
+            int target = slot == null ? count++ : slot;
+            newChildUserIds[target] = profile.childUserId();
+            newConsultantUserIds[target] = profile.consultantUserId();
+            newCenterIds[target] = profile.centerId();
+            System.arraycopy(checkDimension(profile.vector()), 0, newVectors, target * DIMENSION, DIMENSION);
+        }
+
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            slots.putAll(newSlots);
+            size = count;
+            childUserIds = newChildUserIds;
+            consultantUserIds = newConsultantUserIds;
+            centerIds = newCenterIds;
+            vectors = newVectors;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아동 한 명의 프로필을 추가하거나 갱신합니다.
+     *
+     * @param profile 추가하거나 갱신할 프로필
+     */
+    public void upsert(ChildProfile profile) {
+        float[] vector = checkDimension(profile.vector());
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(profile.childUserId());
+            int target;
+            if (slot == null) {
+                ensureCapacity(size + 1);
+                target = size++;
+                slots.put(profile.childUserId(), target);
+            } else {
+                target = slot;
+            }
+            childUserIds[target] = profile.childUserId();
+            consultantUserIds[target] = profile.consultantUserId();
+            centerIds[target] = profile.centerId();
+            System.arraycopy(vector, 0, vectors, target * DIMENSION, DIMENSION);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아동을 색인에서 제거합니다. 마지막 칸을 빈 칸으로 옮겨 배열을 빈틈없이 유지합니다.
+     *
+     * @param childUserId 제거할 아동 ID
+     */
+    public void remove(int childUserId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(childUserId);
+            if (slot == null) {
+                return;
+            }
+            int last = --size;
+            if (slot != last) {
+                childUserIds[slot] = childUserIds[last];
+                consultantUserIds[slot] = consultantUserIds[last];
+                centerIds[slot] = centerIds[last];
+                System.arraycopy(vectors, last * DIMENSION, vectors, slot * DIMENSION, DIMENSION);
+                slots.put(childUserIds[slot], slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기준 아동과 프로필이 가까운 아동을 거리 오름차순으로 최대 k명 찾습니다. 기준 아동 자신은 제외합니다.
+     *
+     * @param childUserId      기준 아동 ID
+     * @param k                찾을 아동 수
+     * @param consultantUserId 담당 상담사 필터(전체는 {@link #ANY})
+     * @param centerId         센터 필터(전체는 {@link #ANY})
+     * @return 가까운 아동 목록. 기준 아동이 색인에 없으면 빈 목록
+     */
+    public List<Neighbor> nearest(int childUserId, int k, int consultantUserId, int centerId) {
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Integer origin = slots.get(childUserId);
+            if (origin == null) {
+                return Collections.emptyList();
+            }
+            int originOffset = origin * DIMENSION;
+
+            int[] heapSlots = new int[k];
+            float[] heapDistances = new float[k];
+            int heapSize = 0;
+
+            for (int slot = 0; slot < size; slot++) {
+                if (slot == origin
+                        || (consultantUserId != ANY && consultantUserIds[slot] != consultantUserId)
+                        || (centerId != ANY && centerIds[slot] != centerId)) {
+                    continue;
+                }
+                float bound = heapSize == k ? heapDistances[0] : Float.MAX_VALUE;
+                float distance = squaredDistance(originOffset, slot * DIMENSION, bound);
+                if (heapSize < k) {
+                    heapSlots[heapSize] = slot;
+                    heapDistances[heapSize] = distance;
+                    siftUp(heapSlots, heapDistances, heapSize++);
+                } else if (distance < heapDistances[0]) {
+                    heapSlots[0] = slot;
+                    heapDistances[0] = distance;
+                    siftDown(heapSlots, heapDistances, heapSize);
+                }
+            }
+
+            List<Neighbor> neighbors = new ArrayList<>(heapSize);
+            for (int i = 0; i < heapSize; i++) {
+                int slot = heapSlots[i];
+                neighbors.add(new Neighbor(childUserIds[slot], consultantUserIds[slot], (float) Math.sqrt(heapDistances[i])));
+            }
+            neighbors.sort((a, b) -> Float.compare(a.distance(), b.distance()));
+            return neighbors;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 아동 수를 반환합니다.
+     *
+     * @return 아동 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 두 벡터의 거리 제곱을 계산합니다. 중간 합이 {@code bound}를 넘으면 더 계산하지 않고 반환합니다.
+     */
+    private float squaredDistance(int originOffset, int offset, float bound) {
+        float sum = 0f;
+        for (int i = 0; i < DIMENSION; i++) {
+            float diff = vectors[originOffset + i] - vectors[offset + i];
+            sum += diff * diff;
+            if (sum > bound) {
+                return sum;
+            }
+        }
+        return sum;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= childUserIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, childUserIds.length * 2);
+        childUserIds = Arrays.copyOf(childUserIds, capacity);
+        consultantUserIds = Arrays.copyOf(consultantUserIds, capacity);
+        centerIds = Arrays.copyOf(centerIds, capacity);
+        vectors = Arrays.copyOf(vectors, capacity * DIMENSION);
+    }
+
+    private static float[] checkDimension(float[] vector) {
+        if (vector.length != DIMENSION) {
+            throw new IllegalArgumentException("Profile vector must have " + DIMENSION + " features: " + vector.length);
+        }
+        return vector;
+    }
+
+    /**
+     * 거리가 가장 큰 값이 루트에 오는 최대 힙을 유지합니다.
+     */
+    private static void siftUp(int[] heapSlots, float[] heapDistances, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heapDistances[parent] >= heapDistances[index]) {
+                return;
+            }
+            swap(heapSlots, heapDistances, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heapSlots, float[] heapDistances, int heapSize) {
+        int index = 0;
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= heapSize) {
+                return;
+            }
+            int largest = left;
+            int right = left + 1;
+            if (right < heapSize && heapDistances[right] > heapDistances[left]) {
+                largest = right;
+            }
+            if (heapDistances[index] >= heapDistances[largest]) {
+                return;
+            }
+            swap(heapSlots, heapDistances, index, largest);
+            index = largest;
+        }
+    }
+
+    private static void swap(int[] heapSlots, float[] heapDistances, int a, int b) {
+        int slot = heapSlots[a];
+        heapSlots[a] = heapSlots[b];
+        heapSlots[b] = slot;
+        float distance = heapDistances[a];
+        heapDistances[a] = heapDistances[b];
+        heapDistances[b] = distance;
+    }
+}
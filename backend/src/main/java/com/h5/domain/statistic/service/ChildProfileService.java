@@ -0,0 +1,271 @@
+package com.h5.domain.statistic.service;
+
+import com.github.hyeonjaez.springcommon.exception.BusinessException;
+import com.h5.domain.auth.service.AuthenticationService;
+import com.h5.domain.emotion.entity.EmotionVector;
+import com.h5.domain.statistic.dto.response.GetSimilarChildrenResponse;
+import com.h5.domain.statistic.dto.response.SimilarChildResponse;
+import com.h5.domain.statistic.entity.ProfileScope;
+import com.h5.domain.statistic.repository.ChildProfileRepository;
+import com.h5.domain.statistic.service.ChildProfileIndex.ChildProfile;
+import com.h5.domain.statistic.service.ChildProfileIndex.Neighbor;
+import com.h5.domain.user.child.entity.ChildUserEntity;
+import com.h5.domain.user.child.repository.ChildUserRepository;
+import com.h5.domain.user.consultant.entity.ConsultantUserEntity;
+import com.h5.domain.user.consultant.repository.ConsultantUserRepository;
+import com.h5.global.exception.DomainErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 아동 감정 인식 프로필 색인({@link ChildProfileIndex})을 유지하고 유사 아동을 검색합니다.
+ * <p>
+ * - 프로필은 감정마다 [누적 점수, 정답률, 평균 얼굴 점수, 평균 텍스트 점수] 4개 값으로, 모두 0~1 근처로 맞춰 둡니다.
+ *   누적 점수는 마지막 전체 재구성 시점의 최댓값으로 나눕니다.
+ * - 기동 후와 {@code statistic.profile-index.rebuild-interval-millis}마다 전체를 다시 읽어 교체하며,
+ *   이 인스턴스에서 통계가 바뀐 아동은 커밋 후 바로 다시 읽어 반영합니다.
+ * - 검색은 메모리 색인만 사용하므로 요청마다 DB를 훑지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ChildProfileService {
+
+    private static final int MAX_K = 50;
+    private static final float SCORE_SCALE = 1000f;
+
+    private final ChildProfileRepository childProfileRepository;
+    private final ChildUserRepository childUserRepository;
+    private final ConsultantUserRepository consultantUserRepository;
+    private final AuthenticationService authenticationService;
+    private final long rebuildIntervalMillis;
+
+    private final ChildProfileIndex index = new ChildProfileIndex();
+
+    private volatile float ratingScale = 1f;
+    private ScheduledExecutorService scheduler;
+
+    public ChildProfileService(
+            ChildProfileRepository childProfileRepository,
+            ChildUserRepository childUserRepository,
+            ConsultantUserRepository consultantUserRepository,
+            AuthenticationService authenticationService,
+            @Value("${statistic.profile-index.rebuild-interval-millis:1800000}") long rebuildIntervalMillis
+    ) {
+        this.childProfileRepository = childProfileRepository;
+        this.childUserRepository = childUserRepository;
+        this.consultantUserRepository = consultantUserRepository;
+        this.authenticationService = authenticationService;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "child-profile-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rebuildSafely, 0, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 현재 상담사 담당 아동과 감정 프로필이 가까운 아동을 검색합니다.
+     *
+     * @param childUserId 기준 아동 ID(현재 상담사의 담당 아동)
+     * @param scope       검색 범위
+     * @param k           찾을 아동 수(최대 50)
+     * @return 거리 오름차순 유사 아동 목록. 기준 아동이 아직 색인되지 않았으면 빈 목록
+     * @throws BusinessException 상담사가 없거나 담당 아동이 아닌 경우 USER_NOT_FOUND
+     */
+    @Transactional(readOnly = true)
+    public GetSimilarChildrenResponse findSimilarChildren(Integer childUserId, ProfileScope scope, int k) {
+        ConsultantUserEntity consultant = consultantUserRepository.findByEmail(authenticationService.getCurrentUserEmail())
+                .orElseThrow(() -> new BusinessException(DomainErrorCode.USER_NOT_FOUND));
+        childUserRepository.findByIdAndConsultantUserEntity_IdAndDeletedAtIsNull(childUserId, consultant.getId())
+                .orElseThrow(() -> new BusinessException(DomainErrorCode.USER_NOT_FOUND));
+
+        List<Neighbor> neighbors = index.nearest(
+                childUserId,
+                Math.min(Math.max(k, 1), MAX_K),
+                scope == ProfileScope.CONSULTANT ? consultant.getId() : ChildProfileIndex.ANY,
+                scope == ProfileScope.CENTER ? consultant.getCenter().getId() : ChildProfileIndex.ANY
+        );
+
+        List<Integer> ownChildIds = neighbors.stream()
+                .filter(neighbor -> neighbor.consultantUserId() == consultant.getId())
+                .map(Neighbor::childUserId)
+                .collect(Collectors.toList());
+        Map<Integer, String> names = childUserRepository.findAllById(ownChildIds).stream()
+                .collect(Collectors.toMap(ChildUserEntity::getId, ChildUserEntity::getName));
+
+        return GetSimilarChildrenResponse.builder()
+                .childUserId(childUserId)
+                .scope(scope)
+                .children(neighbors.stream()
+                        .map(neighbor -> SimilarChildResponse.builder()
+                                .childUserId(neighbor.childUserId())
+                                .childName(names.get(neighbor.childUserId()))
+                                .distance(neighbor.distance())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * 아동의 통계가 바뀌었음을 알립니다. 트랜잭션 커밋 후 색인 스레드에서 아동 프로필을 다시 읽어 반영합니다.
+     *
+     * @param childUserId 통계가 바뀐 아동 ID
+     */
+    public void refreshChild(int childUserId) {
+        Runnable refresh = () -> scheduler.execute(() -> {
+            try {
+                reloadChild(childUserId);
+            } catch (RuntimeException e) {
+                log.warn("아동 프로필 색인 갱신 실패: childUserId={}", childUserId, e);
+            }
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh.run();
+                }
+            });
+        } else {
+            refresh.run();
+        }
+    }
+
+    /**
+     * 전체 아동 프로필을 다시 읽어 색인을 교체합니다.
+     *
+     * @return 색인된 아동 수
+     */
+    int rebuild() {
+        Map<Integer, ProfileBuilder> builders = new HashMap<>();
+        childProfileRepository.streamChildren((childUserId, consultantUserId, centerId) ->
+                builders.put(childUserId, new ProfileBuilder(childUserId, consultantUserId, centerId)));
+        childProfileRepository.streamStatistics((childUserId, emotionId, rating, trialCnt, crtCnt) -> {
+            ProfileBuilder builder = builders.get(childUserId);
+            if (builder != null) {
+                builder.statistic(emotionId, rating, trialCnt, crtCnt);
+            }
+        });
+        childProfileRepository.streamScoreSums((childUserId, emotionId, trialCnt, faceScoreSum, textScoreSum) -> {
+            ProfileBuilder builder = builders.get(childUserId);
+            if (builder != null) {
+                builder.scoreSum(emotionId, trialCnt, faceScoreSum, textScoreSum);
+            }
+        });
+
+        float scale = Math.max(1f, builders.values().stream()
+                .map(ProfileBuilder::maxRating)
+                .max(Float::compare)
+                .orElse(1f));
+        List<ChildProfile> profiles = new ArrayList<>(builders.size());
+        builders.values().forEach(builder -> profiles.add(builder.build(scale)));
+
+        ratingScale = scale;
+        index.replaceAll(profiles);
+        return profiles.size();
+    }
+
+    private void reloadChild(int childUserId) {
+        List<ProfileBuilder> found = new ArrayList<>(1);
+        childProfileRepository.findChild(childUserId, (id, consultantUserId, centerId) ->
+                found.add(new ProfileBuilder(id, consultantUserId, centerId)));
+        if (found.isEmpty()) {
+            index.remove(childUserId);
+            return;
+        }
+        ProfileBuilder builder = found.get(0);
+        childProfileRepository.findStatistics(childUserId, (id, emotionId, rating, trialCnt, crtCnt) ->
+                builder.statistic(emotionId, rating, trialCnt, crtCnt));
+        childProfileRepository.findScoreSums(childUserId, (id, emotionId, trialCnt, faceScoreSum, textScoreSum) ->
+                builder.scoreSum(emotionId, trialCnt, faceScoreSum, textScoreSum));
+        index.upsert(builder.build(ratingScale));
+    }
+
+    private void rebuildSafely() {
+        try {
+            long started = System.currentTimeMillis();
+            int size = rebuild();
+            log.info("아동 프로필 색인 재구성: {}명, {}ms", size, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.warn("아동 프로필 색인 재구성 실패", e);
+        }
+    }
+
+    /**
+     * 조회된 행을 모아 아동 한 명의 프로필 벡터를 만듭니다. 누적 점수는 척도가 정해진 뒤 나눕니다.
+     */
+    private static final class ProfileBuilder {
+
+        private final int childUserId;
+        private final int consultantUserId;
+        private final int centerId;
+        private final float[] vector = new float[ChildProfileIndex.DIMENSION];
+
+        private ProfileBuilder(int childUserId, int consultantUserId, int centerId) {
+            this.childUserId = childUserId;
+            this.consultantUserId = consultantUserId;
+            this.centerId = centerId;
+        }
+
+        private void statistic(int emotionId, int rating, int trialCnt, int crtCnt) {
+            int offset = offset(emotionId);
+            vector[offset] = rating;
+            vector[offset + 1] = trialCnt == 0 ? 0f : (float) crtCnt / trialCnt;
+        }
+
+        private void scoreSum(int emotionId, long trialCnt, long faceScoreSum, long textScoreSum) {
+            if (trialCnt == 0) {
+                return;
+            }
+            int offset = offset(emotionId);
+            vector[offset + 2] = faceScoreSum / (trialCnt * SCORE_SCALE);
+            vector[offset + 3] = textScoreSum / (trialCnt * SCORE_SCALE);
+        }
+
+        private float maxRating() {
+            float max = 0f;
+            for (int e = 0; e < EmotionVector.SIZE; e++) {
+                max = Math.max(max, vector[e * ChildProfileIndex.FEATURES_PER_EMOTION]);
+            }
+            return max;
+        }
+
+        private ChildProfile build(float ratingScale) {
+            float[] profile = vector.clone();
+            for (int e = 0; e < EmotionVector.SIZE; e++) {
+                profile[e * ChildProfileIndex.FEATURES_PER_EMOTION] /= ratingScale;
+            }
+            return new ChildProfile(childUserId, consultantUserId, centerId, profile);
+        }
+
+        private static int offset(int emotionId) {
+            return EmotionVector.indexOfEmotionId(emotionId) * ChildProfileIndex.FEATURES_PER_EMOTION;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.h5.domain.statistic.service;
+
+import com.h5.domain.asset.service.GameCatalog;
+import com.h5.domain.emotion.entity.EmotionVector;
+import com.h5.domain.game.entity.AiLogEntity;
+import com.h5.domain.game.entity.GameLogEntity;
+import com.h5.domain.statistic.repository.EmotionDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 로그가 저장될 때 자녀-감정-일자 집계({@code emotion_daily_rollup})를 증가시킵니다.
+ * <p>
+ * 같은 요청의 로그는 자녀-감정-일자별로 먼저 합산한 뒤 묶음마다 한 번의 upsert로 반영하며,
+ * 로그 저장과 같은 트랜잭션에서 실행됩니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EmotionRollupService {
+
+    private final EmotionDailyRollupRepository emotionDailyRollupRepository;
+    private final GameCatalog gameCatalog;
+
+    private record RollupKey(int childUserId, int emotionId, LocalDate rollupDate) {
+    }
+
+    /**
+     * 저장된 AI 로그(및 연결된 게임 로그)를 일자별 집계에 반영합니다.
+     *
+     * @param aiLogs 저장된 AI 로그 목록
+     */
+    public void accumulate(List<AiLogEntity> aiLogs) {
+        // 묶음별 [시도 횟수, 정답 횟수, 얼굴 점수 합계, 텍스트 점수 합계]
+        Map<RollupKey, long[]> deltas = new LinkedHashMap<>();
+        for (AiLogEntity aiLog : aiLogs) {
+            GameLogEntity gameLog = aiLog.getGameLogEntity();
+            int emotionId = gameCatalog.getStageEmotionId(gameLog.getGameStageEntity().getId());
+            int index = EmotionVector.indexOfEmotionId(emotionId);
+
+            long[] delta = deltas.computeIfAbsent(
+                    new RollupKey(gameLog.getChildUserEntity().getId(), emotionId, gameLog.getSubmitAt().toLocalDate()),
+                    key -> new long[4]
+            );
+            delta[0]++;
+            delta[1] += gameLog.getCorrected() ? 1 : 0;
+            delta[2] += aiLog.getFaceEmotion().get(index);
+            delta[3] += aiLog.getTextEmotion().get(index);
+        }
+
+        deltas.forEach((key, delta) -> emotionDailyRollupRepository.incrementDaily(
+                key.childUserId(),
+                key.emotionId(),
+                key.rollupDate(),
+                (int) delta[0],
+                (int) delta[1],
+                delta[2],
+                delta[3]
+        ));
+    }
+}
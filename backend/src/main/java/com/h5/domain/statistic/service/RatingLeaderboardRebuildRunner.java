@@ -0,0 +1,27 @@
+package com.h5.domain.statistic.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 모든 상담사의 점수 순위를 MySQL 통계로 재구성하는 러너입니다.
+ * <p>
+ * {@code statistic.leaderboard.rebuild=true}로 기동한 경우에만 등록되며, 재구성 후에도 애플리케이션은 계속 실행됩니다.
+ * Redis 데이터가 유실되었거나 통계를 직접 수정한 경우에 사용합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statistic.leaderboard.rebuild", havingValue = "true")
+public class RatingLeaderboardRebuildRunner implements ApplicationRunner {
+
+    private final RatingLeaderboardService ratingLeaderboardService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ratingLeaderboardService.rebuildAll();
+    }
+}
@@ -0,0 +1,211 @@
+package com.h5.domain.statistic.service;
+
+import com.github.hyeonjaez.springcommon.exception.BusinessException;
+import com.h5.domain.asset.service.GameCatalog;
+import com.h5.domain.auth.service.AuthenticationService;
+import com.h5.domain.statistic.dto.response.GetRatingLeaderboardResponse;
+import com.h5.domain.statistic.dto.response.RatingRankResponse;
+import com.h5.domain.statistic.repository.RatingLeaderboardRepository;
+import com.h5.domain.statistic.repository.RatingLeaderboardRepository.LeaderboardEntry;
+import com.h5.domain.statistic.repository.StatisticRepository;
+import com.h5.domain.statistic.repository.StatisticRepository.ChildRating;
+import com.h5.domain.user.child.entity.ChildUserEntity;
+import com.h5.domain.user.child.repository.ChildUserRepository;
+import com.h5.domain.user.consultant.entity.ConsultantUserEntity;
+import com.h5.domain.user.consultant.repository.ConsultantUserRepository;
+import com.h5.global.exception.DomainErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 상담사 담당 아동의 감정별 점수 순위를 관리하고 조회합니다.
+ * <p>
+ * - 점수가 바뀌면 {@link #incrementRatings}로 Redis 순위에 증가분을 반영합니다.
+ *   MySQL 트랜잭션이 커밋된 뒤에 반영하므로 롤백된 점수는 순위에 들어가지 않습니다.
+ * - 증가분은 Redis에 순위가 있을 때만 반영합니다. 조회 시 순위가 없으면 해당 상담사의 없는 순위만 MySQL 통계로 생성하며,
+ *   이미 있는 순위는 덮어쓰지 않으므로 그 순위에 반영된 증가분이 유실되지 않습니다.
+ * - 전체 재구성은 {@link #rebuildAll()}로 수행합니다(통계 재집계 후, 또는 {@code statistic.leaderboard.rebuild=true} 기동 시).
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RatingLeaderboardService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final RatingLeaderboardRepository ratingLeaderboardRepository;
+    private final StatisticRepository statisticRepository;
+    private final ChildUserRepository childUserRepository;
+    private final ConsultantUserRepository consultantUserRepository;
+    private final AuthenticationService authenticationService;
+    private final GameCatalog gameCatalog;
+
+    /**
+     * 현재 상담사의 감정별 점수 순위를 구간으로 조회합니다. {@code offset}이 0이면 상위 N명입니다.
+     *
+     * @param emotionId 감정 ID
+     * @param offset    시작 위치(0부터)
+     * @param limit     조회할 아동 수(최대 100)
+     * @return 순위 목록과 전체 아동 수를 담은 {@link GetRatingLeaderboardResponse}
+     * @throws BusinessException USER_NOT_FOUND 또는 감정이 없는 경우 GAME_NOT_FOUND
+     */
+    public GetRatingLeaderboardResponse getLeaderboard(Integer emotionId, int offset, int limit) {
+        int consultantUserId = getCurrentConsultantId();
+        gameCatalog.getEmotionName(emotionId);
+        ensureLeaderboard(consultantUserId, emotionId);
+
+        int start = Math.max(offset, 0);
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        List<LeaderboardEntry> entries =
+                ratingLeaderboardRepository.findRange(consultantUserId, emotionId, start, start + size - 1L);
+
+        Map<Integer, String> names = childUserRepository
+                .findAllById(entries.stream().map(LeaderboardEntry::childUserId).toList())
+                .stream()
+                .collect(Collectors.toMap(ChildUserEntity::getId, ChildUserEntity::getName));
+
+        return GetRatingLeaderboardResponse.builder()
+                .emotionId(emotionId)
+                .totalCount(ratingLeaderboardRepository.count(consultantUserId, emotionId))
+                .ranks(entries.stream()
+                        .map(entry -> toRankResponse(entry, names.get(entry.childUserId())))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 현재 상담사가 담당하는 아동의 감정별 순위를 조회합니다.
+     *
+     * @param childUserId 아동 사용자 ID
+     * @param emotionId   감정 ID
+     * @return 아동의 순위와 점수를 담은 {@link RatingRankResponse}
+     * @throws BusinessException 담당 아동이 아닌 경우 USER_NOT_FOUND, 감정이 없는 경우 GAME_NOT_FOUND,
+     *                           통계가 없는 경우 STATISTIC_NOT_FOUND
+     */
+    public RatingRankResponse getChildRank(Integer childUserId, Integer emotionId) {
+        int consultantUserId = getCurrentConsultantId();
+        ChildUserEntity child = childUserRepository
+                .findByIdAndConsultantUserEntity_IdAndDeletedAtIsNull(childUserId, consultantUserId)
+                .orElseThrow(() -> new BusinessException(DomainErrorCode.USER_NOT_FOUND));
+        gameCatalog.getEmotionName(emotionId);
+        ensureLeaderboard(consultantUserId, emotionId);
+
+        return ratingLeaderboardRepository.findByChild(consultantUserId, emotionId, childUserId)
+                .map(entry -> toRankResponse(entry, child.getName()))
+                .orElseThrow(() -> new BusinessException(DomainErrorCode.STATISTIC_NOT_FOUND));
+    }
+
+    /**
+     * 아동의 감정별 점수 증가분을 순위에 반영합니다.
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋 후에, 아니면 즉시 반영합니다.
+     * </p>
+     *
+     * @param childUserId  아동 사용자 ID
+     * @param ratingDeltas 감정 ID → 점수 증가분
+     */
+    public void incrementRatings(int childUserId, Map<Integer, Integer> ratingDeltas) {
+        Map<Integer, Integer> nonZero = new HashMap<>();
+        ratingDeltas.forEach((emotionId, delta) -> {
+            if (delta != 0) {
+                nonZero.put(emotionId, delta);
+            }
+        });
+        if (nonZero.isEmpty()) {
+            return;
+        }
+
+        Integer consultantUserId = childUserRepository.findConsultantUserIdById(childUserId).orElse(null);
+        if (consultantUserId == null) {
+            return;
+        }
+
+        Runnable apply = () -> nonZero.forEach((emotionId, delta) ->
+                ratingLeaderboardRepository.increment(consultantUserId, emotionId, childUserId, delta)
+        );
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 모든 상담사의 순위를 MySQL 통계로 재구성하고, 더 이상 담당 아동이 없는 순위를 삭제합니다.
+     *
+     * @return 재구성한 순위 수
+     */
+    public int rebuildAll() {
+        Map<Integer, Map<Integer, Map<Integer, Integer>>> ratings = groupRatings(statisticRepository.findChildRatings(null));
+
+        Set<String> rebuilt = new HashSet<>();
+        ratings.forEach((consultantUserId, byEmotion) -> byEmotion.forEach((emotionId, byChild) -> {
+            ratingLeaderboardRepository.replace(consultantUserId, emotionId, byChild);
+            rebuilt.add(ratingLeaderboardRepository.key(consultantUserId, emotionId));
+        }));
+        int deleted = ratingLeaderboardRepository.deleteAllExcept(rebuilt);
+
+        log.info("점수 순위 재구성 완료: {}개 재구성, {}개 삭제", rebuilt.size(), deleted);
+        return rebuilt.size();
+    }
+
+    /**
+     * 순위가 Redis에 없으면 상담사의 감정 순위 중 없는 순위를 MySQL 통계로 생성합니다.
+     */
+    private void ensureLeaderboard(int consultantUserId, int emotionId) {
+        if (ratingLeaderboardRepository.exists(consultantUserId, emotionId)) {
+            return;
+        }
+        Map<Integer, Map<Integer, Integer>> byEmotion = groupRatings(statisticRepository.findChildRatings(consultantUserId))
+                .getOrDefault(consultantUserId, Map.of());
+        for (int id : gameCatalog.getEmotionIds()) {
+            ratingLeaderboardRepository.createIfAbsent(consultantUserId, id, byEmotion.getOrDefault(id, Map.of()));
+        }
+    }
+
+    /**
+     * 점수 목록을 상담사 ID → 감정 ID → (아동 ID → 점수)로 묶습니다.
+     */
+    private Map<Integer, Map<Integer, Map<Integer, Integer>>> groupRatings(List<ChildRating> rows) {
+        return rows.stream().collect(Collectors.groupingBy(
+                ChildRating::getConsultantUserId,
+                Collectors.groupingBy(
+                        ChildRating::getEmotionId,
+                        Collectors.toMap(ChildRating::getChildUserId, ChildRating::getRating)
+                )
+        ));
+    }
+
+    private int getCurrentConsultantId() {
+        return consultantUserRepository.findByEmail(authenticationService.getCurrentUserEmail())
+                .map(ConsultantUserEntity::getId)
+                .orElseThrow(() -> new BusinessException(DomainErrorCode.USER_NOT_FOUND));
+    }
+
+    private RatingRankResponse toRankResponse(LeaderboardEntry entry, String childName) {
+        return RatingRankResponse.builder()
+                .rank(entry.rank() + 1)
+                .childUserId(entry.childUserId())
+                .childName(childName)
+                .rating(entry.rating())
+                .build();
+    }
+}
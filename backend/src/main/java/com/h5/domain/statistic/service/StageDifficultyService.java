@@ -0,0 +1,231 @@
+package com.h5.domain.statistic.service;
+
+import com.h5.domain.asset.service.GameCatalog;
+import com.h5.domain.statistic.dto.response.GetStageDifficultyResponse;
+import com.h5.domain.statistic.dto.response.StageDifficultyResponse;
+import com.h5.domain.statistic.repository.StageDifficultyRepository;
+import com.h5.domain.statistic.repository.StageDifficultyRepository.StagePlay;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 아동(또는 센터별)의 게임 스테이지 난이도 집계를 메모리에 유지하고 조회합니다.
+ * <p>
+ * - 기동 후 한 번 종료된 챕터 전체를 읽어 적재하고, 이후에는 {@code statistic.stage-difficulty.refresh-interval-millis}마다
+ *   마지막 반영 시각 이후 종료된 챕터만 읽어 증가분을 더합니다.
+ * - 아직 커밋되지 않은 챕터 종료를 건너뛰지 않도록 현재 시각보다 {@code statistic.stage-difficulty.lag-millis} 이전까지만 반영합니다.
+ * - 조회는 메모리 집계만 사용하므로 OLTP DB에 부하를 주지 않습니다. 집계는 인스턴스마다 따로 유지됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class StageDifficultyService {
+
+    private static final int ALL_CENTERS = 0;
+    private static final int FIRST_CRT_BUCKETS = 5;
+    private static final int MAX_TRACKED_SECONDS = 900;
+
+    private final StageDifficultyRepository stageDifficultyRepository;
+    private final GameCatalog gameCatalog;
+    private final long refreshIntervalMillis;
+    private final long lagMillis;
+
+    private final Map<Integer, Map<Integer, StageAggregate>> aggregates = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime refreshedUntil;
+    private ScheduledExecutorService scheduler;
+
+    public StageDifficultyService(
+            StageDifficultyRepository stageDifficultyRepository,
+            GameCatalog gameCatalog,
+            @Value("${statistic.stage-difficulty.refresh-interval-millis:60000}") long refreshIntervalMillis,
+            @Value("${statistic.stage-difficulty.lag-millis:60000}") long lagMillis
+    ) {
+        this.stageDifficultyRepository = stageDifficultyRepository;
+        this.gameCatalog = gameCatalog;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.lagMillis = lagMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stage-difficulty-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refreshSafely, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 스테이지 난이도 집계를 조회합니다.
+     *
+     * @param centerId 센터 ID(전체 집계는 {@code null})
+     * @return 게임 스테이지 ID 순 난이도 목록. 아직 적재 전이거나 플레이가 없으면 빈 목록
+     */
+    public GetStageDifficultyResponse getStageDifficulty(Integer centerId) {
+        Map<Integer, StageAggregate> stages = aggregates.getOrDefault(
+                centerId == null ? ALL_CENTERS : centerId, Collections.emptyMap()
+        );
+
+        List<StageDifficultyResponse> responses = stages.entrySet().stream()
+                .filter(entry -> gameCatalog.hasStage(entry.getKey()))
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().toResponse(entry.getKey(), gameCatalog))
+                .collect(Collectors.toList());
+
+        return GetStageDifficultyResponse.builder()
+                .centerId(centerId)
+                .refreshedUntil(refreshedUntil)
+                .stages(responses)
+                .build();
+    }
+
+    /**
+     * 마지막 반영 시각 이후 종료된 챕터의 스테이지 플레이를 집계에 더합니다.
+     * <p>
+     * 조회한 플레이는 지역 집계에 모은 뒤 조회가 끝까지 성공했을 때만 공유 집계에 합치므로,
+     * 조회 도중 실패해도 일부만 반영되었다가 다음 갱신에서 다시 더해지는 중복 집계가 생기지 않습니다.
+     * </p>
+     *
+     * @return 반영한 스테이지 플레이 수
+     */
+    int refresh() {
+        LocalDateTime after = refreshedUntil;
+        LocalDateTime until = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(lagMillis));
+        if (after != null && !until.isAfter(after)) {
+            return 0;
+        }
+
+        Map<Integer, Map<Integer, StageAggregate>> delta = new HashMap<>();
+        int[] count = {0};
+        stageDifficultyRepository.streamStagePlays(after, until, play -> {
+            add(delta, ALL_CENTERS, play);
+            add(delta, play.centerId(), play);
+            count[0]++;
+        });
+
+        delta.forEach((centerId, stages) -> stages.forEach((gameStageId, stageDelta) ->
+                aggregates.computeIfAbsent(centerId, id -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(gameStageId, id -> new StageAggregate())
+                        .merge(stageDelta)
+        ));
+        refreshedUntil = until;
+        return count[0];
+    }
+
+    private void refreshSafely() {
+        try {
+            int plays = refresh();
+            if (plays > 0) {
+                log.debug("스테이지 난이도 집계 반영: {}건, {}까지", plays, refreshedUntil);
+            }
+        } catch (RuntimeException e) {
+            log.warn("스테이지 난이도 집계 갱신 실패", e);
+        }
+    }
+
+    private void add(Map<Integer, Map<Integer, StageAggregate>> target, int centerId, StagePlay play) {
+        target.computeIfAbsent(centerId, id -> new HashMap<>())
+                .computeIfAbsent(play.gameStageId(), id -> new StageAggregate())
+                .add(play);
+    }
+
+    /**
+     * 한 게임 스테이지의 누적 집계입니다. 체류 시간은 1초 단위 히스토그램으로 보관해 중앙값을 계산합니다.
+     */
+    private static final class StageAggregate {
+
+        private int playCnt;
+        private int crtPlayCnt;
+        private long trialCnt;
+        private final int[] firstCrtTrialCnts = new int[FIRST_CRT_BUCKETS];
+        private final int[] stageSecondsCnts = new int[MAX_TRACKED_SECONDS + 1];
+        private int timedPlayCnt;
+
+        private synchronized void add(StagePlay play) {
+            playCnt++;
+            trialCnt += play.trialCnt();
+            if (play.firstCrtTrial() > 0) {
+                crtPlayCnt++;
+                firstCrtTrialCnts[Math.min(play.firstCrtTrial(), FIRST_CRT_BUCKETS) - 1]++;
+            }
+            if (play.stageSeconds() >= 0) {
+                timedPlayCnt++;
+                stageSecondsCnts[(int) Math.min(play.stageSeconds(), MAX_TRACKED_SECONDS)]++;
+            }
+        }
+
+        private synchronized void merge(StageAggregate other) {
+            playCnt += other.playCnt;
+            crtPlayCnt += other.crtPlayCnt;
+            trialCnt += other.trialCnt;
+            timedPlayCnt += other.timedPlayCnt;
+            for (int i = 0; i < FIRST_CRT_BUCKETS; i++) {
+                firstCrtTrialCnts[i] += other.firstCrtTrialCnts[i];
+            }
+            for (int i = 0; i < stageSecondsCnts.length; i++) {
+                stageSecondsCnts[i] += other.stageSecondsCnts[i];
+            }
+        }
+
+        private synchronized StageDifficultyResponse toResponse(int gameStageId, GameCatalog gameCatalog) {
+            return StageDifficultyResponse.builder()
+                    .gameStageId(gameStageId)
+                    .gameChapterId(gameCatalog.getStageChapterId(gameStageId))
+                    .stage(gameCatalog.getStageNumber(gameStageId))
+                    .emotionId(gameCatalog.getStageEmotionId(gameStageId))
+                    .playCnt(playCnt)
+                    .crtRate(ratio(crtPlayCnt * 100L, playCnt))
+                    .avgTrialCnt(ratio(trialCnt, playCnt))
+                    .firstCrtTrialCnts(Arrays.stream(firstCrtTrialCnts).boxed().collect(Collectors.toList()))
+                    .neverCrtCnt(playCnt - crtPlayCnt)
+                    .medianStageSeconds(medianStageSeconds())
+                    .build();
+        }
+
+        private Integer medianStageSeconds() {
+            if (timedPlayCnt == 0) {
+                return null;
+            }
+            int target = (timedPlayCnt + 1) / 2;
+            int cumulative = 0;
+            for (int seconds = 0; seconds < stageSecondsCnts.length; seconds++) {
+                cumulative += stageSecondsCnts[seconds];
+                if (cumulative >= target) {
+                    return seconds;
+                }
+            }
+            return MAX_TRACKED_SECONDS;
+        }
+
+        private static BigDecimal ratio(long numerator, long denominator) {
+            if (denominator == 0) {
+                return BigDecimal.ZERO;
+            }
+            return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), 1, RoundingMode.HALF_UP);
+        }
+    }
+}
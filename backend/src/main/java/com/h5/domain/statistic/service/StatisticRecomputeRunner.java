@@ -0,0 +1,58 @@
+package com.h5.domain.statistic.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 점검 시간에 통계 재집계를 실행하는 러너입니다.
+ * <p>
+ * {@code statistic.recompute.run=true}로 기동한 경우에만 등록되며, 재집계가 끝나면 애플리케이션을 종료합니다.
+ * <pre>
+ * java -jar backend.jar --spring.main.web-application-type=none \
+ *     --statistic.recompute.run=true \
+ *     --statistic.recompute.job-id=rescore-20250301 \
+ *     --statistic.recompute.dry-run=false
+ * </pre>
+ * 기본값은 드라이런이며, 중단된 경우 같은 {@code job-id}로 다시 실행하면 완료된 구간을 건너뜁니다.
+ * 실제로 저장한 경우 점수 순위도 재구성합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statistic.recompute.run", havingValue = "true")
+public class StatisticRecomputeRunner implements ApplicationRunner {
+
+    private final StatisticRecomputeService statisticRecomputeService;
+    private final RatingLeaderboardService ratingLeaderboardService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${statistic.recompute.job-id:statistic-recompute}")
+    private String jobId;
+
+    @Value("${statistic.recompute.dry-run:true}")
+    private boolean dryRun;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            statisticRecomputeService.recompute(jobId, dryRun);
+            if (!dryRun) {
+                ratingLeaderboardService.rebuildAll();
+            }
+        } catch (RuntimeException e) {
+            log.error("통계 재집계 실패: jobId={}", jobId, e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+}
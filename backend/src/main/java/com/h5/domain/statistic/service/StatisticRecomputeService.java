@@ -0,0 +1,355 @@
+package com.h5.domain.statistic.service;
+
+import com.h5.domain.asset.service.GameCatalog;
+import com.h5.domain.statistic.repository.StatisticRecomputeCheckpointRepository;
+import com.h5.domain.statistic.repository.StatisticRecomputeRepository;
+import com.h5.domain.statistic.repository.StatisticRecomputeRepository.StatisticCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임 로그 이력으로 통계({@code statistic})를 다시 계산하는 재집계 작업입니다.
+ * <p>
+ * - 자녀 ID 범위를 {@code statistic.recompute.range-size} 단위 구간으로 나누고, fork-join 풀에서 구간별로 처리합니다.
+ * - 구간마다 종료된 챕터의 게임 로그를 정렬된 스트림으로 한 번만 읽고, 챕터-스테이지 단위로 묶어
+ *   {@link StatisticScoring}으로 점수를 계산합니다. 실시간 반영 경로와 같은 규칙입니다.
+ * - 결과는 자녀 {@code statistic.recompute.batch-size}명 단위로 구간 삭제 후 배치 INSERT하며, 배치마다 트랜잭션을 커밋합니다.
+ * - 완료된 구간은 {@link StatisticRecomputeCheckpointRepository}에 기록되어, 같은 작업 ID로 재실행하면 이어서 처리합니다.
+ * - 드라이런은 쓰기 대신 현재 통계와 비교해 변경될 행 수와 예시를 보고합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class StatisticRecomputeService {
+
+    private static final int CHAPTER_COUNT = 5;
+    private static final int MAX_DIFF_SAMPLES = 20;
+    private static final String DRY_RUN_SUFFIX = ":dry-run";
+
+    private final StatisticRecomputeRepository statisticRecomputeRepository;
+    private final StatisticRecomputeCheckpointRepository checkpointRepository;
+    private final GameCatalog gameCatalog;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final int rangeSize;
+    private final int batchSize;
+
+    public StatisticRecomputeService(
+            StatisticRecomputeRepository statisticRecomputeRepository,
+            StatisticRecomputeCheckpointRepository checkpointRepository,
+            GameCatalog gameCatalog,
+            TransactionTemplate transactionTemplate,
+            @Value("${statistic.recompute.parallelism:4}") int parallelism,
+            @Value("${statistic.recompute.range-size:500}") int rangeSize,
+            @Value("${statistic.recompute.batch-size:100}") int batchSize
+    ) {
+        this.statisticRecomputeRepository = statisticRecomputeRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.gameCatalog = gameCatalog;
+        this.transactionTemplate = transactionTemplate;
+        this.parallelism = parallelism;
+        this.rangeSize = rangeSize;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 재집계 결과 요약.
+     *
+     * @param jobId           작업 ID
+     * @param dryRun          드라이런 여부
+     * @param totalRanges     전체 구간 수
+     * @param skippedRanges   이전 실행에서 완료되어 건너뛴 구간 수
+     * @param processedRanges 이번 실행에서 처리한 구간 수
+     * @param attempts        읽은 게임 로그 수
+     * @param writtenRows     저장한(드라이런이면 저장할) 통계 행 수
+     * @param changedRows     현재 통계와 달라지는 행 수(드라이런에서만 계산)
+     * @param diffSamples     변경 예시(드라이런에서만, 최대 20건)
+     * @param elapsedMillis   소요 시간(ms)
+     */
+    public record StatisticRecomputeResult(
+            String jobId,
+            boolean dryRun,
+            int totalRanges,
+            int skippedRanges,
+            int processedRanges,
+            long attempts,
+            long writtenRows,
+            long changedRows,
+            List<String> diffSamples,
+            long elapsedMillis
+    ) {
+    }
+
+    /**
+     * 전체 자녀의 통계를 재집계합니다. 모든 구간이 끝날 때까지 호출 스레드를 점유합니다.
+     *
+     * @param jobId  작업 ID(재실행 시 같은 값을 사용하면 완료된 구간을 건너뜀)
+     * @param dryRun {@code true}이면 저장하지 않고 현재 통계와의 차이만 계산
+     * @return 재집계 결과 요약
+     */
+    public StatisticRecomputeResult recompute(String jobId, boolean dryRun) {
+        long startedAt = System.currentTimeMillis();
+        String checkpointId = dryRun ? jobId + DRY_RUN_SUFFIX : jobId;
+
+        int[] bounds = statisticRecomputeRepository.findChildUserIdBounds();
+        if (bounds == null) {
+            return new StatisticRecomputeResult(jobId, dryRun, 0, 0, 0, 0, 0, 0, List.of(), 0);
+        }
+        int from = bounds[0];
+        int to = bounds[1] + 1;
+        Progress progress = new Progress(ceilDiv(to - from, rangeSize));
+        log.info("통계 재집계 시작: jobId={}, dryRun={}, 자녀 ID {}~{}, 구간 {}개, 병렬도 {}",
+                jobId, dryRun, from, to - 1, progress.totalRanges, parallelism);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new RangeTask(checkpointId, dryRun, from, to, progress));
+        } finally {
+            pool.shutdown();
+        }
+
+        StatisticRecomputeResult result = new StatisticRecomputeResult(
+                jobId,
+                dryRun,
+                progress.totalRanges,
+                progress.skippedRanges.get(),
+                progress.processedRanges.get(),
+                progress.attempts.get(),
+                progress.writtenRows.get(),
+                progress.changedRows.get(),
+                List.copyOf(progress.diffSamples),
+                System.currentTimeMillis() - startedAt
+        );
+        log.info("통계 재집계 완료: {}", result);
+        return result;
+    }
+
+    /**
+     * 자녀 ID 구간을 반으로 나누어 병렬 처리하는 작업입니다.
+     * 분할 지점은 항상 {@code rangeSize}의 배수이므로 재실행해도 같은 구간(체크포인트)이 만들어집니다.
+     */
+    private final class RangeTask extends RecursiveAction {
+
+        private final String checkpointId;
+        private final boolean dryRun;
+        private final int from;
+        private final int to;
+        private final Progress progress;
+
+        private RangeTask(String checkpointId, boolean dryRun, int from, int to, Progress progress) {
+            this.checkpointId = checkpointId;
+            this.dryRun = dryRun;
+            this.from = from;
+            this.to = to;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            int ranges = ceilDiv(to - from, rangeSize);
+            if (ranges > 1) {
+                int mid = from + (ranges / 2) * rangeSize;
+                invokeAll(
+                        new RangeTask(checkpointId, dryRun, from, mid, progress),
+                        new RangeTask(checkpointId, dryRun, mid, to, progress)
+                );
+                return;
+            }
+
+            if (checkpointRepository.isDone(checkpointId, from)) {
+                progress.skippedRanges.incrementAndGet();
+                return;
+            }
+            processRange(dryRun, from, to, progress);
+            checkpointRepository.markDone(checkpointId, from);
+
+            int done = progress.processedRanges.incrementAndGet() + progress.skippedRanges.get();
+            log.info("통계 재집계 진행: {}/{} 구간, 로그 {}건, 통계 {}행",
+                    done, progress.totalRanges, progress.attempts.get(), progress.writtenRows.get());
+        }
+    }
+
+    /**
+     * 한 구간의 게임 로그를 스트리밍으로 읽어 통계를 계산하고, 자녀 {@code batchSize}명마다 반영합니다.
+     */
+    private void processRange(boolean dryRun, int from, int to, Progress progress) {
+        RangeAccumulator accumulator = new RangeAccumulator(from);
+
+        statisticRecomputeRepository.streamAttempts(from, to,
+                (childUserId, childGameChapterId, gameChapterId, gameStageId, corrected) -> {
+                    if (childUserId != accumulator.childUserId) {
+                        accumulator.closeStage();
+                        if (accumulator.countersByChild.size() >= batchSize) {
+                            flush(dryRun, accumulator.batchFrom, childUserId, accumulator.drain(), progress);
+                            accumulator.batchFrom = childUserId;
+                        }
+                    }
+                    accumulator.add(childUserId, childGameChapterId, gameChapterId, gameStageId, corrected);
+                    progress.attempts.incrementAndGet();
+                });
+
+        accumulator.closeStage();
+        flush(dryRun, accumulator.batchFrom, to, accumulator.drain(), progress);
+    }
+
+    /**
+     * 자녀 ID 구간 [{@code from}, {@code to})의 재계산 결과를 저장하거나, 드라이런이면 현재 통계와 비교합니다.
+     */
+    private void flush(boolean dryRun, int from, int to, List<StatisticCounters> rebuilt, Progress progress) {
+        progress.writtenRows.addAndGet(rebuilt.size());
+        if (!dryRun) {
+            transactionTemplate.executeWithoutResult(status ->
+                    statisticRecomputeRepository.replaceCounters(from, to, rebuilt)
+            );
+            return;
+        }
+
+        Map<Long, StatisticCounters> current = new HashMap<>();
+        for (StatisticCounters counters : statisticRecomputeRepository.findCounters(from, to)) {
+            current.put(counterKey(counters.childUserId(), counters.emotionId()), counters);
+        }
+        for (StatisticCounters counters : rebuilt) {
+            StatisticCounters before = current.remove(counterKey(counters.childUserId(), counters.emotionId()));
+            if (before == null || !before.sameCounts(counters)) {
+                progress.recordDiff(before, counters);
+            }
+        }
+        current.values().forEach(before -> progress.recordDiff(before, null));
+    }
+
+    private static long counterKey(int childUserId, int emotionId) {
+        return ((long) childUserId << 32) | emotionId;
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    /**
+     * 정렬된 게임 로그 스트림을 챕터-스테이지 단위로 묶어 자녀-감정별 통계로 누적합니다.
+     * 한 구간을 처리하는 스레드에서만 사용합니다.
+     */
+    private final class RangeAccumulator {
+
+        private final Map<Integer, Map<Integer, int[]>> countersByChild = new LinkedHashMap<>();
+        private int batchFrom;
+
+        private int childUserId = -1;
+        private int childGameChapterId = -1;
+        private int gameChapterId;
+        private int gameStageId = -1;
+        private int trialCnt;
+        private Integer firstCrtTrial;
+
+        private RangeAccumulator(int batchFrom) {
+            this.batchFrom = batchFrom;
+        }
+
+        private void add(int childUserId, int childGameChapterId, int gameChapterId, int gameStageId, boolean corrected) {
+            if (childUserId != this.childUserId
+                    || childGameChapterId != this.childGameChapterId
+                    || gameStageId != this.gameStageId) {
+                closeStage();
+                this.childUserId = childUserId;
+                this.childGameChapterId = childGameChapterId;
+                this.gameChapterId = gameChapterId;
+                this.gameStageId = gameStageId;
+            }
+            trialCnt++;
+            if (corrected && firstCrtTrial == null) {
+                firstCrtTrial = trialCnt;
+            }
+        }
+
+        /**
+         * 진행 중인 챕터-스테이지 묶음을 통계에 반영합니다. 실시간 경로의 스테이지 요약 한 건과 같습니다.
+         */
+        private void closeStage() {
+            if (trialCnt == 0) {
+                return;
+            }
+            boolean isCorrect = firstCrtTrial != null;
+            int whenCorrect = StatisticScoring.whenCorrect(isCorrect, firstCrtTrial, trialCnt);
+
+            // [rating, trialCnt, crtCnt, stageTryCnt 1~5, stageCrtCnt 1~5]
+            int[] counters = countersByChild
+                    .computeIfAbsent(childUserId, id -> new LinkedHashMap<>())
+                    .computeIfAbsent(gameCatalog.getStageEmotionId(gameStageId), id -> new int[3 + 2 * CHAPTER_COUNT]);
+            counters[0] += StatisticScoring.ratingDelta(whenCorrect);
+            counters[1] += trialCnt;
+            counters[2] += isCorrect ? 1 : 0;
+            if (gameChapterId >= 1 && gameChapterId <= CHAPTER_COUNT) {
+                counters[2 + gameChapterId] += trialCnt;
+                counters[2 + CHAPTER_COUNT + gameChapterId] += isCorrect ? 1 : 0;
+            }
+
+            trialCnt = 0;
+            firstCrtTrial = null;
+        }
+
+        private List<StatisticCounters> drain() {
+            List<StatisticCounters> result = new ArrayList<>();
+            countersByChild.forEach((childId, byEmotion) -> byEmotion.forEach((emotionId, c) ->
+                    result.add(new StatisticCounters(
+                            childId,
+                            emotionId,
+                            c[0],
+                            c[1],
+                            c[2],
+                            new int[]{c[3], c[4], c[5], c[6], c[7]},
+                            new int[]{c[8], c[9], c[10], c[11], c[12]}
+                    ))
+            ));
+            countersByChild.clear();
+            return result;
+        }
+    }
+
+    /**
+     * 구간 작업들이 함께 갱신하는 진행 상황입니다.
+     */
+    private static final class Progress {
+
+        private final int totalRanges;
+        private final AtomicInteger skippedRanges = new AtomicInteger();
+        private final AtomicInteger processedRanges = new AtomicInteger();
+        private final AtomicLong attempts = new AtomicLong();
+        private final AtomicLong writtenRows = new AtomicLong();
+        private final AtomicLong changedRows = new AtomicLong();
+        private final Queue<String> diffSamples = new ConcurrentLinkedQueue<>();
+
+        private Progress(int totalRanges) {
+            this.totalRanges = totalRanges;
+        }
+
+        private void recordDiff(StatisticCounters before, StatisticCounters after) {
+            if (changedRows.incrementAndGet() <= MAX_DIFF_SAMPLES) {
+                diffSamples.add(describe(before) + " -> " + describe(after));
+            }
+        }
+
+        private static String describe(StatisticCounters c) {
+            if (c == null) {
+                return "(없음)";
+            }
+            return String.format("child=%d emotion=%d rating=%d trial=%d crt=%d stageTry=%s stageCrt=%s",
+                    c.childUserId(), c.emotionId(), c.rating(), c.trialCnt(), c.crtCnt(),
+                    Arrays.toString(c.stageTryCnt()), Arrays.toString(c.stageCrtCnt()));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.h5.domain.statistic.service;
+
+/**
+ * 스테이지 시도 결과를 통계 점수로 환산하는 규칙입니다.
+ * <p>
+ * 챕터 종료 시의 통계 반영({@code ChapterAnalytics})과 통계 재집계({@link StatisticRecomputeService})가
+ * 같은 규칙을 쓰도록 한 곳에 둡니다. 채점 방식을 바꾸면 재집계로 기존 통계를 다시 계산합니다.
+ * </p>
+ */
+public final class StatisticScoring {
+
+    private static final int BASIC_SCORE = 100;
+    private static final int MAX_SCORED_TRIAL = 2;
+
+    private StatisticScoring() {
+    }
+
+    /**
+     * 정답까지 걸린 시도 횟수를 반환합니다.
+     *
+     * @param corrected     스테이지 정답 여부
+     * @param firstCrtTrial 첫 정답 시도 순번(정답이 없으면 {@code null})
+     * @param trialCnt      전체 시도 횟수
+     * @return 첫 정답 순번, 정답이 없으면 전체 시도 수 + 1
+     */
+    public static int whenCorrect(boolean corrected, Integer firstCrtTrial, int trialCnt) {
+        return corrected ? firstCrtTrial : trialCnt + 1;
+    }
+
+    /**
+     * 정답까지 걸린 시도 횟수로 점수 증가분을 계산합니다.
+     * <p>
+     * 2회 이내에 정답을 맞힌 경우에만 {@code 100 / whenCorrect}점을 부여합니다.
+     * </p>
+     *
+     * @param whenCorrect 정답까지 걸린 시도 횟수
+     * @return 점수 증가분
+     */
+    public static int ratingDelta(int whenCorrect) {
+        return (whenCorrect <= MAX_SCORED_TRIAL) ? BASIC_SCORE / whenCorrect : 0;
+    }
+}
@@ -1,25 +1,33 @@
 package com.h5.domain.statistic.service;
 
 import com.github.hyeonjaez.springcommon.exception.BusinessException;
+import com.h5.domain.auth.service.AuthenticationService;
 import com.h5.domain.statistic.mapper.StatisticMapper;
-import com.h5.domain.emotion.entity.EmotionEntity;
-import com.h5.domain.emotion.repository.EmotionRepository;
+import com.h5.domain.asset.service.GameCatalog;
 import com.h5.domain.game.entity.ChildGameChapterEntity;
-import com.h5.domain.game.entity.GameLogEntity;
 import com.h5.domain.game.repository.ChildGameChapterRepository;
 import com.h5.domain.game.repository.GameLogRepository;
+import com.h5.domain.game.repository.GameLogRepository.GameAttemptRow;
+import com.h5.domain.statistic.dto.response.GameAttemptResponse;
 import com.h5.domain.statistic.dto.response.DataAnalysisResponse;
+import com.h5.domain.statistic.dto.response.GetGameAttemptHistoryResponse;
+import com.h5.domain.statistic.dto.response.GetEmotionTrendResponse;
 import com.h5.domain.statistic.dto.response.GetGameVideoDatesResponse;
 import com.h5.domain.statistic.dto.response.GetGameVideoLengthResponse;
+import com.h5.domain.statistic.entity.EmotionDailyRollupEntity;
 import com.h5.domain.statistic.entity.StatisticEntity;
+import com.h5.domain.statistic.entity.TrendUnit;
+import com.h5.domain.statistic.repository.EmotionDailyRollupRepository;
 import com.h5.domain.statistic.repository.StatisticRepository;
 import com.h5.domain.user.child.service.ChildUserService;
 import com.h5.global.exception.DomainErrorCode;
 import com.h5.global.util.DateUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
@@ -30,11 +38,16 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class StatisticService {
 
+    private static final int MAX_TREND_DAYS = 731;
+    private static final int MAX_HISTORY_SIZE = 100;
+
     private final StatisticRepository statisticRepository;
-    private final EmotionRepository emotionRepository;
+    private final EmotionDailyRollupRepository emotionDailyRollupRepository;
+    private final GameCatalog gameCatalog;
     private final ChildGameChapterRepository childGameChapterRepository;
     private final GameLogRepository gameLogRepository;
     private final ChildUserService childUserService;
+    private final AuthenticationService authenticationService;
     private final StatisticMapper statisticMapper;
 
     /**
@@ -47,8 +60,6 @@ public class StatisticService {
     public Map<Integer, DataAnalysisResponse> dataAnalysis(Integer childUserId) {
         String childUserName = childUserService.findByIdOrThrow(childUserId).getName();
 
-        List<EmotionEntity> emotionEntityList = emotionRepository.findAll();
-
         List<StatisticEntity> stats = statisticRepository.findAllByChildUserEntity_Id(childUserId)
                 .orElseGet(Collections::emptyList);
 
@@ -59,7 +70,7 @@ public class StatisticService {
                 ));
 
         return statisticMapper.toDataAnalysisResponse(
-                emotionEntityList,
+                gameCatalog.getEmotionIds(),
                 statsByEmotion,
                 childUserId,
                 childUserName
@@ -110,12 +121,150 @@ public class StatisticService {
         LocalDateTime startDate = range[0];
         LocalDateTime endDate = range[1];
 
-        List<GameLogEntity> logs = gameLogRepository
-                .findAllByChildUserEntity_IdAndGameStageEntity_IdAndSubmitAtBetween(
-                        childUserId, stageId, startDate, endDate
-                )
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.STATISTIC_NOT_FOUND));
+        List<Integer> gameLogIds = gameLogRepository.findIdsByChildAndStageAndSubmitAtBetween(
+                childUserId, stageId, startDate, endDate
+        );
+
+        return statisticMapper.toGameVideoLengthResponse(gameLogIds);
+    }
+
+    /**
+     * 아동 사용자의 감정별 추이를 일/주/월 단위로 조회한다.
+     * <p>
+     * 게임 로그를 직접 읽지 않고 일자별 집계({@code emotion_daily_rollup})만 읽어 기간 단위로 합산한다.
+     * 주/월 단위는 시작일이 속한 주(월요일)와 월(1일)부터 묶는다.
+     * 아동의 담당 상담사 또는 부모만 조회할 수 있다.
+     * </p>
+     *
+     * @param childUserId 아동 사용자 ID
+     * @param emotionId   감정 ID
+     * @param unit        기간 단위
+     * @param startDate   조회 시작일(포함)
+     * @param endDate     조회 종료일(포함)
+     * @return 기간 순으로 정렬된 추이 DTO
+     * @throws BusinessException 기간이 잘못되었거나 2년을 넘는 경우 STATISTIC_INVALID_PERIOD,
+     *                           아동이 없거나 현재 사용자가 담당 상담사·부모가 아닌 경우 USER_NOT_FOUND
+     */
+    public GetEmotionTrendResponse getEmotionTrend(
+            Integer childUserId,
+            Integer emotionId,
+            TrendUnit unit,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        if (startDate.isAfter(endDate) || startDate.plusDays(MAX_TREND_DAYS).isBefore(endDate)) {
+            throw new BusinessException(DomainErrorCode.STATISTIC_INVALID_PERIOD);
+        }
+        childUserService.validateConsultantOrParent(childUserId, authenticationService.getCurrentUserEmail());
+        gameCatalog.getEmotionName(emotionId);
+
+        List<EmotionDailyRollupEntity> rollups = emotionDailyRollupRepository
+                .findAllByChildUserEntity_IdAndEmotionEntity_IdAndRollupDateBetweenOrderByRollupDate(
+                        childUserId, emotionId, startDate, endDate
+                );
+
+        return statisticMapper.toEmotionTrendResponse(childUserId, emotionId, unit, rollups);
+    }
+
+    /**
+     * 아동 사용자의 게임 시도 이력을 최근 순으로 한 페이지 조회한다.
+     * <p>
+     * (제출 시각, 게임 로그 ID) 키셋 커서로 페이지를 넘기며, 게임 로그 엔티티 대신 필요한 컬럼만 조회한다.
+     * 챕터, 스테이지 순번, 감정은 {@link GameCatalog}에서 채우고, 감정 필터도 카탈로그에서 스테이지 목록으로 바꿔 조회한다.
+     * 아동의 담당 상담사 또는 부모만 조회할 수 있다.
+     * </p>
+     *
+     * @param childUserId     아동 사용자 ID
+     * @param gameStageId     게임 스테이지 필터(없으면 {@code null})
+     * @param emotionId       감정 필터(없으면 {@code null})
+     * @param startDate       조회 시작일(포함, 없으면 {@code null})
+     * @param endDate         조회 종료일(포함, 없으면 {@code null})
+     * @param cursorSubmitAt  이전 페이지의 nextCursorSubmitAt(첫 페이지는 {@code null})
+     * @param cursorGameLogId 이전 페이지의 nextCursorGameLogId(첫 페이지는 {@code null})
+     * @param size            페이지 크기(최대 100)
+     * @return 시도 목록과 다음 페이지 커서를 담은 DTO
+     * @throws BusinessException 기간이 잘못된 경우 STATISTIC_INVALID_PERIOD, 커서 값이 하나만 있는 경우 STATISTIC_INVALID_CURSOR,
+     *                           스테이지나 감정이 없는 경우 GAME_NOT_FOUND,
+     *                           아동이 없거나 현재 사용자가 담당 상담사·부모가 아닌 경우 USER_NOT_FOUND
+     */
+    public GetGameAttemptHistoryResponse getAttemptHistory(
+            Integer childUserId,
+            Integer gameStageId,
+            Integer emotionId,
+            LocalDate startDate,
+            LocalDate endDate,
+            LocalDateTime cursorSubmitAt,
+            Integer cursorGameLogId,
+            int size
+    ) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BusinessException(DomainErrorCode.STATISTIC_INVALID_PERIOD);
+        }
+        if ((cursorSubmitAt == null) != (cursorGameLogId == null)) {
+            throw new BusinessException(DomainErrorCode.STATISTIC_INVALID_CURSOR);
+        }
+        childUserService.validateConsultantOrParent(childUserId, authenticationService.getCurrentUserEmail());
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_SIZE);
+
+        List<Integer> stageFilter = attemptStageFilter(gameStageId, emotionId);
+        boolean filterStage = gameStageId != null || emotionId != null;
+        if (filterStage && stageFilter.isEmpty()) {
+            return GetGameAttemptHistoryResponse.builder()
+                    .attempts(Collections.emptyList())
+                    .hasNext(false)
+                    .build();
+        }
+
+        List<GameAttemptRow> rows = gameLogRepository.findAttemptHistory(
+                childUserId,
+                filterStage,
+                filterStage ? stageFilter : List.of(0),
+                startDate == null ? null : startDate.atStartOfDay(),
+                endDate == null ? null : endDate.plusDays(1).atStartOfDay(),
+                cursorSubmitAt,
+                cursorGameLogId,
+                PageRequest.of(0, pageSize + 1)
+        );
+
+        boolean hasNext = rows.size() > pageSize;
+        List<GameAttemptResponse> attempts = rows.stream()
+                .limit(pageSize)
+                .map(this::toAttemptResponse)
+                .collect(Collectors.toList());
+        GameAttemptResponse last = hasNext ? attempts.get(attempts.size() - 1) : null;
+
+        return GetGameAttemptHistoryResponse.builder()
+                .attempts(attempts)
+                .hasNext(hasNext)
+                .nextCursorSubmitAt(last == null ? null : last.getSubmitAt())
+                .nextCursorGameLogId(last == null ? null : last.getGameLogId())
+                .build();
+    }
+
+    private List<Integer> attemptStageFilter(Integer gameStageId, Integer emotionId) {
+        if (gameStageId != null) {
+            int stageEmotionId = gameCatalog.getStageEmotionId(gameStageId);
+            return (emotionId == null || emotionId == stageEmotionId) ? List.of(gameStageId) : Collections.emptyList();
+        }
+        if (emotionId != null) {
+            return Arrays.stream(gameCatalog.getEmotionStageIds(emotionId)).boxed().collect(Collectors.toList());
+        }
+        return Collections.emptyList();
+    }
 
-        return statisticMapper.toGameVideoLengthResponse(logs);
+    private GameAttemptResponse toAttemptResponse(GameAttemptRow row) {
+        int gameStageId = row.getGameStageId();
+        return GameAttemptResponse.builder()
+                .gameLogId(row.getGameLogId())
+                .childGameStageId(row.getChildGameStageId())
+                .gameChapterId(gameCatalog.getStageChapterId(gameStageId))
+                .gameStageId(gameStageId)
+                .stage(gameCatalog.getStageNumber(gameStageId))
+                .emotionId(gameCatalog.getStageEmotionId(gameStageId))
+                .selectedOpt(row.getSelectedOpt())
+                .corrected(row.getCorrected())
+                .consulted(row.getConsulted())
+                .submitAt(row.getSubmitAt())
+                .build();
     }
 }
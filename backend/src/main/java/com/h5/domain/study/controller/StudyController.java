@@ -1,17 +1,23 @@
 package com.h5.domain.study.controller;
 
+import com.h5.domain.study.dto.request.SaveStudyLogBatchRequest;
 import com.h5.domain.study.dto.request.SaveStudyLogRequest;
 import com.h5.domain.study.dto.request.StartStudyChapterRequest;
 import com.h5.domain.study.dto.request.StartStudyStageRequest;
 import com.h5.domain.study.dto.response.EndStudyChapterResponse;
+import com.h5.domain.study.dto.response.GetStudyChapterSummaryResponse;
+import com.h5.domain.study.dto.response.GetStudyStageSummariesResponse;
+import com.h5.domain.study.dto.response.SaveStudyLogBatchResponse;
 import com.h5.domain.study.dto.response.SaveStudyLogResponse;
 import com.h5.domain.study.dto.response.StartStudyChapterResponse;
 import com.h5.domain.study.dto.response.StartStudyStageResponse;
 import com.h5.domain.study.service.StudyService;
+import com.h5.global.cache.IdempotencyService;
 import com.h5.global.dto.response.ResultResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 public class StudyController {
 
     private final StudyService studyService;
+    private final IdempotencyService idempotencyService;
 
     @Operation(
             summary = "학습 챕터 시작",
@@ -72,16 +79,73 @@ public class StudyController {
 
     @Operation(
             summary = "학습 로그 저장",
-            description = "비디오 로그와 텍스트 로그를 저장하고, 각 로그 ID를 응답합니다."
+            description = "비디오 로그와 텍스트 로그를 저장하고, 각 로그 ID를 응답합니다. "
+                    + "Idempotency-Key 헤더를 보내면 같은 키의 재전송에는 저장 없이 최초 응답을 반환합니다."
     )
     @PreAuthorize("hasAuthority('ROLE_PARENT')")
     @PostMapping("/save-log")
     public ResultResponse<SaveStudyLogResponse> saveStudyLog(
+            @Parameter(description = "재전송 중복 저장 방지용 키(선택)", example = "2f1c9a4e-6b0d-4c1e-9f3a-7d2b8e5c1a90")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "저장 요청 DTO (childGameStageId, 감정값, STT, 유사도 등 포함)")
             @RequestBody SaveStudyLogRequest saveStudyLogRequest
+    ) {
+        return ResultResponse.success(idempotencyService.execute(
+                "study-log",
+                idempotencyKey,
+                SaveStudyLogResponse.class,
+                () -> studyService.saveStudyLog(saveStudyLogRequest)
+        ));
+    }
+
+    @Operation(
+            summary = "학습 로그 일괄 저장",
+            description = "여러 발화의 비디오 로그와 텍스트 로그를 한 번에 저장하고, 요청 순서대로 로그 ID를 응답합니다. "
+                    + "점수는 10배한 정수로 보냅니다. Idempotency-Key 헤더를 보내면 같은 키의 재전송에는 저장 없이 최초 응답을 반환합니다."
+    )
+    @PreAuthorize("hasAuthority('ROLE_PARENT')")
+    @PostMapping("/save-log/batch")
+    public ResultResponse<SaveStudyLogBatchResponse> saveStudyLogs(
+            @Parameter(description = "재전송 중복 저장 방지용 키(선택)", example = "2f1c9a4e-6b0d-4c1e-9f3a-7d2b8e5c1a90")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "발화 순서대로 정렬된 학습 로그 목록")
+            @Valid @RequestBody SaveStudyLogBatchRequest saveStudyLogBatchRequest
+    ) {
+        return ResultResponse.success(idempotencyService.execute(
+                "study-log-batch",
+                idempotencyKey,
+                SaveStudyLogBatchResponse.class,
+                () -> studyService.saveStudyLogs(saveStudyLogBatchRequest)
+        ));
+    }
+
+    @Operation(
+            summary = "학습 챕터 요약 조회",
+            description = "학습 챕터의 전체 및 스테이지별 시도 횟수, 평균 유사도, 대상 감정 평균 점수를 응답합니다."
+    )
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/chapters/{childStudyChapterId}/summary")
+    public ResultResponse<GetStudyChapterSummaryResponse> getChapterSummary(
+            @Parameter(description = "조회할 학습 챕터 ID", required = true, example = "1")
+            @PathVariable Integer childStudyChapterId
+    ) {
+        return ResultResponse.success(
+                studyService.getChapterSummary(childStudyChapterId)
+        );
+    }
+
+    @Operation(
+            summary = "아동 학습 스테이지 요약 조회",
+            description = "아동의 모든 학습 챕터를 게임 스테이지별로 합산한 요약을 응답합니다."
+    )
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{childUserId}/summary")
+    public ResultResponse<GetStudyStageSummariesResponse> getChildStageSummaries(
+            @Parameter(description = "조회할 아동 사용자 ID", required = true, example = "123")
+            @PathVariable Integer childUserId
     ) {
         return ResultResponse.success(
-                studyService.saveStudyLog(saveStudyLogRequest)
+                studyService.getChildStageSummaries(childUserId)
         );
     }
 
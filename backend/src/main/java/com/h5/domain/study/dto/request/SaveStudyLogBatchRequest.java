@@ -0,0 +1,24 @@
+package com.h5.domain.study.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "학습 로그 일괄 저장 요청 DTO")
+public class SaveStudyLogBatchRequest {
+
+    @Valid
+    @NotEmpty(message = "studyLogs는 필수 값입니다.")
+    @Size(max = 500, message = "studyLogs는 최대 500건까지 저장할 수 있습니다.")
+    @Schema(description = "발화 순서대로 정렬된 학습 로그 목록")
+    private List<StudyLogEntryRequest> studyLogs;
+}
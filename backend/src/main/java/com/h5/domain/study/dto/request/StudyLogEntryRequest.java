@@ -0,0 +1,45 @@
+package com.h5.domain.study.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 일괄 저장용 학습 로그 한 건. 점수는 소수 첫째 자리까지의 값을 10배한 고정소수점 정수입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "학습 로그 일괄 저장 항목 DTO")
+public class StudyLogEntryRequest {
+
+    @Schema(description = "학습 스테이지 ID", example = "42")
+    @NotNull(message = "childStudyStageId는 필수값입니다.")
+    private Integer childStudyStageId;
+
+    @Schema(description = "비디오 감정 점수(행복, 분노, 슬픔, 당황, 두려움 순, 10배 값)", example = "[8, 1, 0, 0, 0]")
+    @NotNull(message = "faceEmotion은 필수값입니다.")
+    @Size(min = 5, max = 5, message = "faceEmotion은 5개 값이어야 합니다.")
+    private short[] faceEmotion;
+
+    @Schema(description = "텍스트 감정 점수(행복, 분노, 슬픔, 당황, 두려움 순, 10배 값)", example = "[7, 2, 0, 0, 0]")
+    @NotNull(message = "textEmotion은 필수값입니다.")
+    @Size(min = 5, max = 5, message = "textEmotion은 5개 값이어야 합니다.")
+    private short[] textEmotion;
+
+    @Schema(description = "텍스트 유사도 점수(10배 값)", example = "9")
+    @NotNull(message = "textSimilarity는 필수값입니다.")
+    @Min(0)
+    @Max(9999)
+    private Short textSimilarity;
+
+    @Schema(description = "음성인식(STT) 결과 텍스트", example = "오늘 하루가 즐거웠어요")
+    @NotNull(message = "stt는 필수값입니다.")
+    @Size(min = 1, max = 500, message = "stt 길이는 1~500자여야 합니다.")
+    private String stt;
+}
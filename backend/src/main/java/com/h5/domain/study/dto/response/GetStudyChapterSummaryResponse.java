@@ -0,0 +1,44 @@
+package com.h5.domain.study.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "학습 챕터 요약 DTO")
+@Getter
+@AllArgsConstructor
+@Builder
+public class GetStudyChapterSummaryResponse {
+
+    @Schema(description = "학습 챕터 ID", example = "1")
+    private final Integer childStudyChapterId;
+
+    @Schema(description = "게임 챕터 ID", example = "1")
+    private final Integer gameChapterId;
+
+    @Schema(description = "학습 시작 시각", example = "2025-06-12T15:00:00")
+    private final LocalDateTime startAt;
+
+    @Schema(description = "학습 종료 시각(진행 중이면 null)", example = "2025-06-12T15:20:00")
+    private final LocalDateTime endAt;
+
+    @Schema(description = "챕터 전체 시도 횟수", example = "17")
+    private final Long attemptCnt;
+
+    @Schema(description = "챕터 전체 평균 텍스트 유사도", example = "70.2")
+    private final BigDecimal avgTextSimilarity;
+
+    @Schema(description = "챕터 전체 대상 감정 평균 얼굴 점수", example = "61.8")
+    private final BigDecimal avgFaceScore;
+
+    @Schema(description = "챕터 전체 대상 감정 평균 텍스트 점수", example = "57.0")
+    private final BigDecimal avgTextScore;
+
+    @Schema(description = "게임 스테이지 ID 순 스테이지별 요약")
+    private final List<StudyStageSummaryResponse> stages;
+}
@@ -0,0 +1,21 @@
+package com.h5.domain.study.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "아동의 전체 학습 스테이지 요약 DTO")
+@Getter
+@AllArgsConstructor
+@Builder
+public class GetStudyStageSummariesResponse {
+
+    @Schema(description = "아동 사용자 ID", example = "123")
+    private final Integer childUserId;
+
+    @Schema(description = "모든 학습 챕터를 합산한 게임 스테이지 ID 순 요약")
+    private final List<StudyStageSummaryResponse> stages;
+}
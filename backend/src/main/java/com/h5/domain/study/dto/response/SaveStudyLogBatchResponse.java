@@ -0,0 +1,20 @@
+package com.h5.domain.study.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+@Schema(description = "학습 로그 일괄 저장 응답 DTO")
+@Getter
+@AllArgsConstructor
+@Builder
+@Jacksonized
+public class SaveStudyLogBatchResponse {
+
+    @Schema(description = "요청 순서대로 생성된 비디오 로그 및 텍스트 로그 ID 목록")
+    private final List<SaveStudyLogResponse> studyLogs;
+}
@@ -4,11 +4,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Schema(description = "비디오 로그와 텍스트 로그 저장 후 반환되는 DTO")
 @Getter
 @AllArgsConstructor
 @Builder
+@Jacksonized
 public class SaveStudyLogResponse {
 
     @Schema(description = "저장된 비디오 로그 ID", example = "101")
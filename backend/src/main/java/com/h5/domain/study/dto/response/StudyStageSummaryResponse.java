@@ -0,0 +1,36 @@
+package com.h5.domain.study.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Schema(description = "학습 스테이지 요약 DTO")
+@Getter
+@AllArgsConstructor
+@Builder
+public class StudyStageSummaryResponse {
+
+    @Schema(description = "게임 스테이지 ID", example = "3")
+    private final Integer gameStageId;
+
+    @Schema(description = "챕터 내 스테이지 순번", example = "3")
+    private final Integer stage;
+
+    @Schema(description = "스테이지 대상 감정 ID", example = "2")
+    private final Integer emotionId;
+
+    @Schema(description = "시도 횟수", example = "4")
+    private final Long attemptCnt;
+
+    @Schema(description = "평균 텍스트 유사도", example = "72.5")
+    private final BigDecimal avgTextSimilarity;
+
+    @Schema(description = "대상 감정 평균 얼굴 점수", example = "63.1")
+    private final BigDecimal avgFaceScore;
+
+    @Schema(description = "대상 감정 평균 텍스트 점수", example = "58.4")
+    private final BigDecimal avgTextScore;
+}
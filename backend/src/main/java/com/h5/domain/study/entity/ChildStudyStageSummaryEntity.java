@@ -0,0 +1,66 @@
+package com.h5.domain.study.entity;
+
+import com.h5.domain.asset.entity.GameStageEntity;
+import com.h5.domain.emotion.entity.EmotionEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * 학습 챕터-스테이지 단위 누적 요약. 학습 로그가 저장될 때마다 증가분이 더해집니다.
+ * <p>
+ * 유사도와 점수 합계는 10배한 정수로 저장하며, 점수는 스테이지 대상 감정의 얼굴/텍스트 점수입니다.
+ * 평균은 시도 횟수로 나누어 계산합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor
+@Table(
+        name = "child_study_stage_summary",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_child_study_stage_summary",
+                columnNames = {"child_study_chapter_id", "game_stage_id"}
+        )
+)
+public class ChildStudyStageSummaryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "child_study_stage_summary_id", nullable = false)
+    private Integer id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "child_study_chapter_id", nullable = false)
+    private ChildStudyChapterEntity childStudyChapterEntity;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "game_stage_id", nullable = false)
+    private GameStageEntity gameStageEntity;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "emotion_id", nullable = false)
+    private EmotionEntity emotionEntity;
+
+    @NotNull
+    @Column(name = "attempt_cnt", nullable = false)
+    private Integer attemptCnt;
+
+    @NotNull
+    @Column(name = "text_similarity_sum", nullable = false)
+    private Long textSimilaritySum;
+
+    @NotNull
+    @Column(name = "face_score_sum", nullable = false)
+    private Long faceScoreSum;
+
+    @NotNull
+    @Column(name = "text_score_sum", nullable = false)
+    private Long textScoreSum;
+}
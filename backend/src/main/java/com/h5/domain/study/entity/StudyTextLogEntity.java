@@ -1,5 +1,7 @@
 package com.h5.domain.study.entity;
 
+import com.h5.domain.emotion.converter.EmotionVectorConverter;
+import com.h5.domain.emotion.entity.EmotionVector;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -22,24 +24,9 @@ public class StudyTextLogEntity {
     private Integer id;
 
     @NotNull
-    @Column(name = "t_happy", nullable = false, precision = 4, scale = 1)
-    private BigDecimal tHappy;
-
-    @NotNull
-    @Column(name = "t_anger", nullable = false, precision = 4, scale = 1)
-    private BigDecimal tAnger;
-
-    @NotNull
-    @Column(name = "t_sad", nullable = false, precision = 4, scale = 1)
-    private BigDecimal tSad;
-
-    @NotNull
-    @Column(name = "t_panic", nullable = false, precision = 4, scale = 1)
-    private BigDecimal tPanic;
-
-    @NotNull
-    @Column(name = "t_fear", nullable = false, precision = 4, scale = 1)
-    private BigDecimal tFear;
+    @Convert(converter = EmotionVectorConverter.class)
+    @Column(name = "text_emotion", nullable = false)
+    private EmotionVector textEmotion;
 
     @NotNull
     @Lob
@@ -1,10 +1,11 @@
 package com.h5.domain.study.entity;
 
+import com.h5.domain.emotion.converter.EmotionVectorConverter;
+import com.h5.domain.emotion.entity.EmotionVector;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -21,24 +22,9 @@ public class StudyVideoLogEntity {
     private Integer id;
 
     @NotNull
-    @Column(name = "f_happy", nullable = false, precision = 4, scale = 1)
-    private BigDecimal fHappy;
-
-    @NotNull
-    @Column(name = "f_anger", nullable = false, precision = 4, scale = 1)
-    private BigDecimal fAnger;
-
-    @NotNull
-    @Column(name = "f_sad", nullable = false, precision = 4, scale = 1)
-    private BigDecimal fSad;
-
-    @NotNull
-    @Column(name = "f_panic", nullable = false, precision = 4, scale = 1)
-    private BigDecimal fPanic;
-
-    @NotNull
-    @Column(name = "f_fear", nullable = false, precision = 4, scale = 1)
-    private BigDecimal fFear;
+    @Convert(converter = EmotionVectorConverter.class)
+    @Column(name = "face_emotion", nullable = false)
+    private EmotionVector faceEmotion;
 
     @NotNull
     @Column(name = "start_at", nullable = false)
@@ -0,0 +1,99 @@
+package com.h5.domain.study.repository;
+
+import com.h5.domain.study.entity.ChildStudyStageSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChildStudyStageSummaryRepository extends JpaRepository<ChildStudyStageSummaryEntity, Integer> {
+
+    /**
+     * 챕터-스테이지 요약 값만 담는 프로젝션입니다. 여러 챕터를 합산한 결과에도 사용합니다.
+     */
+    interface StageSummary {
+        Integer getGameStageId();
+
+        Long getAttemptCnt();
+
+        Long getTextSimilaritySum();
+
+        Long getFaceScoreSum();
+
+        Long getTextScoreSum();
+    }
+
+    /**
+     * 학습 챕터의 스테이지별 요약을 게임 스테이지 ID 순으로 조회합니다.
+     *
+     * @param childStudyChapterId 학습 챕터 ID
+     * @return 스테이지별 요약 목록
+     */
+    @Query("""
+            select s.gameStageEntity.id as gameStageId, s.attemptCnt as attemptCnt,
+                   s.textSimilaritySum as textSimilaritySum, s.faceScoreSum as faceScoreSum,
+                   s.textScoreSum as textScoreSum
+            from ChildStudyStageSummaryEntity s
+            where s.childStudyChapterEntity.id = :childStudyChapterId
+            order by s.gameStageEntity.id
+            """)
+    List<StageSummary> findStageSummaries(@Param("childStudyChapterId") Integer childStudyChapterId);
+
+    /**
+     * 아동의 모든 학습 챕터 요약을 게임 스테이지별로 합산해 조회합니다. 학습 로그는 읽지 않습니다.
+     *
+     * @param childUserId 아동 사용자 ID
+     * @return 게임 스테이지 ID 순 합산 요약 목록
+     */
+    @Query("""
+            select s.gameStageEntity.id as gameStageId, sum(s.attemptCnt) as attemptCnt,
+                   sum(s.textSimilaritySum) as textSimilaritySum, sum(s.faceScoreSum) as faceScoreSum,
+                   sum(s.textScoreSum) as textScoreSum
+            from ChildStudyStageSummaryEntity s
+            where s.childStudyChapterEntity.childUserEntity.id = :childUserId
+            group by s.gameStageEntity.id
+            order by s.gameStageEntity.id
+            """)
+    List<StageSummary> sumStageSummariesByChild(@Param("childUserId") Integer childUserId);
+
+    /**
+     * 학습 챕터-스테이지 요약에 증가분을 원자적으로 더합니다. 행이 없으면 증가분으로 생성합니다.
+     *
+     * @param childStudyChapterId    학습 챕터 ID
+     * @param gameStageId            게임 스테이지 ID
+     * @param emotionId              스테이지 대상 감정 ID
+     * @param attemptDelta           시도 횟수 증가분
+     * @param textSimilarityDelta    텍스트 유사도 합계 증가분(10배)
+     * @param faceScoreDelta         얼굴 점수 합계 증가분(10배)
+     * @param textScoreDelta         텍스트 점수 합계 증가분(10배)
+     * @return 영향받은 행 수(생성 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO child_study_stage_summary (
+                child_study_chapter_id, game_stage_id, emotion_id,
+                attempt_cnt, text_similarity_sum, face_score_sum, text_score_sum
+            ) VALUES (
+                :childStudyChapterId, :gameStageId, :emotionId,
+                :attemptDelta, :textSimilarityDelta, :faceScoreDelta, :textScoreDelta
+            )
+            ON DUPLICATE KEY UPDATE
+                attempt_cnt = attempt_cnt + VALUES(attempt_cnt),
+                text_similarity_sum = text_similarity_sum + VALUES(text_similarity_sum),
+                face_score_sum = face_score_sum + VALUES(face_score_sum),
+                text_score_sum = text_score_sum + VALUES(text_score_sum)
+            """, nativeQuery = true)
+    int incrementStage(
+            @Param("childStudyChapterId") int childStudyChapterId,
+            @Param("gameStageId") int gameStageId,
+            @Param("emotionId") int emotionId,
+            @Param("attemptDelta") int attemptDelta,
+            @Param("textSimilarityDelta") long textSimilarityDelta,
+            @Param("faceScoreDelta") long faceScoreDelta,
+            @Param("textScoreDelta") long textScoreDelta
+    );
+}
@@ -0,0 +1,121 @@
+package com.h5.domain.study.repository;
+
+import com.h5.domain.emotion.entity.EmotionVector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 학습 비디오 로그와 텍스트 로그를 JDBC 배치로 저장하는 저장소입니다.
+ * <p>
+ * IDENTITY 키 전략 때문에 Hibernate가 INSERT를 묶지 못하므로, 테이블별로 한 번의 배치로 저장하고 생성 키를 받습니다.
+ * 점수는 {@link EmotionVector} 패킹 값과 10배한 {@code short} 유사도로 받아 엔티티나 {@link BigDecimal} 변환 없이 기록합니다.
+ * MySQL에서 다중 행 INSERT로 재작성되려면 JDBC URL에 {@code rewriteBatchedStatements=true}가 필요합니다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyLogBatchRepository {
+
+    private static final String INSERT_VIDEO_LOG_SQL =
+            "INSERT INTO study_video_log (face_emotion, start_at, end_at, child_study_stage_id) "
+                    + "VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_TEXT_LOG_SQL =
+            "INSERT INTO study_text_log (text_emotion, stt, start_at, end_at, text_similarity, child_study_stage_id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장할 학습 로그 한 건입니다.
+     *
+     * @param childStudyStageId 학습 스테이지 ID
+     * @param faceEmotion       비디오 감정 점수(10배 값)
+     * @param textEmotion       텍스트 감정 점수(10배 값)
+     * @param textSimilarity    텍스트 유사도(10배 값)
+     * @param stt               음성인식 결과 텍스트
+     */
+    public record StudyLogRow(
+            int childStudyStageId,
+            EmotionVector faceEmotion,
+            EmotionVector textEmotion,
+            short textSimilarity,
+            String stt
+    ) {
+    }
+
+    /**
+     * 비디오 로그를 순서대로 일괄 저장합니다.
+     *
+     * @param rows     저장할 학습 로그 목록
+     * @param loggedAt 시작/종료 시각
+     * @return {@code rows}와 같은 순서의 생성된 비디오 로그 ID
+     */
+    public int[] insertVideoLogs(List<StudyLogRow> rows, LocalDateTime loggedAt) {
+        Timestamp at = Timestamp.valueOf(loggedAt);
+        return insertReturningKeys(INSERT_VIDEO_LOG_SQL, rows, (ps, row) -> {
+            ps.setLong(1, row.faceEmotion().packed());
+            ps.setTimestamp(2, at);
+            ps.setTimestamp(3, at);
+            ps.setInt(4, row.childStudyStageId());
+        });
+    }
+
+    /**
+     * 텍스트 로그를 순서대로 일괄 저장합니다.
+     *
+     * @param rows     저장할 학습 로그 목록
+     * @param loggedAt 시작/종료 시각
+     * @return {@code rows}와 같은 순서의 생성된 텍스트 로그 ID
+     */
+    public int[] insertTextLogs(List<StudyLogRow> rows, LocalDateTime loggedAt) {
+        Timestamp at = Timestamp.valueOf(loggedAt);
+        return insertReturningKeys(INSERT_TEXT_LOG_SQL, rows, (ps, row) -> {
+            ps.setLong(1, row.textEmotion().packed());
+            ps.setString(2, row.stt());
+            ps.setTimestamp(3, at);
+            ps.setTimestamp(4, at);
+            ps.setBigDecimal(5, BigDecimal.valueOf(row.textSimilarity(), 1));
+            ps.setInt(6, row.childStudyStageId());
+        });
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, StudyLogRow row) throws SQLException;
+    }
+
+    private int[] insertReturningKeys(String sql, List<StudyLogRow> rows, RowBinder binder) {
+        return jdbcTemplate.execute((ConnectionCallback<int[]>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (StudyLogRow row : rows) {
+                    binder.bind(ps, row);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                int[] ids = new int[rows.size()];
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    for (int i = 0; i < ids.length; i++) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Generated key count does not match study log batch size");
+                        }
+                        ids[i] = keys.getInt(1);
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+}
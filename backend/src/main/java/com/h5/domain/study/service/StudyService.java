@@ -3,32 +3,46 @@ package com.h5.domain.study.service;
 import com.github.hyeonjaez.springcommon.exception.BusinessException;
 import com.h5.domain.asset.entity.GameChapterEntity;
 import com.h5.domain.asset.entity.GameStageEntity;
-import com.h5.domain.asset.repository.GameChapterRepository;
-import com.h5.domain.asset.repository.GameStageRepository;
+import com.h5.domain.asset.service.GameCatalog;
 import com.h5.domain.auth.service.AuthenticationService;
+import com.h5.domain.emotion.entity.EmotionVector;
 import com.h5.domain.user.child.entity.ChildUserEntity;
+import com.h5.domain.study.dto.request.SaveStudyLogBatchRequest;
 import com.h5.domain.study.dto.request.SaveStudyLogRequest;
 import com.h5.domain.study.dto.request.StartStudyChapterRequest;
 import com.h5.domain.study.dto.request.StartStudyStageRequest;
 import com.h5.domain.study.dto.response.EndStudyChapterResponse;
+import com.h5.domain.study.dto.response.GetStudyChapterSummaryResponse;
+import com.h5.domain.study.dto.response.GetStudyStageSummariesResponse;
+import com.h5.domain.study.dto.response.SaveStudyLogBatchResponse;
 import com.h5.domain.study.dto.response.SaveStudyLogResponse;
 import com.h5.domain.study.dto.response.StartStudyChapterResponse;
 import com.h5.domain.study.dto.response.StartStudyStageResponse;
+import com.h5.domain.study.dto.response.StudyStageSummaryResponse;
 import com.h5.domain.study.entity.ChildStudyChapterEntity;
 import com.h5.domain.study.entity.ChildStudyStageEntity;
-import com.h5.domain.study.entity.StudyTextLogEntity;
-import com.h5.domain.study.entity.StudyVideoLogEntity;
 import com.h5.domain.study.repository.ChildStudyChapterRepository;
 import com.h5.domain.study.repository.ChildStudyStageRepository;
-import com.h5.domain.study.repository.StudyTextLogRepository;
-import com.h5.domain.study.repository.StudyVideoLogRepository;
+import com.h5.domain.study.repository.ChildStudyStageSummaryRepository;
+import com.h5.domain.study.repository.ChildStudyStageSummaryRepository.StageSummary;
+import com.h5.domain.study.repository.StudyLogBatchRepository;
+import com.h5.domain.study.repository.StudyLogBatchRepository.StudyLogRow;
 import com.h5.domain.user.child.service.ChildUserService;
 import com.h5.global.exception.DomainErrorCode;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -37,12 +51,14 @@ public class StudyService {
 
     private final ChildStudyChapterRepository childStudyChapterRepository;
     private final ChildStudyStageRepository childStudyStageRepository;
-    private final GameChapterRepository gameChapterRepository;
-    private final GameStageRepository gameStageRepository;
-    private final StudyVideoLogRepository studyVideoLogRepository;
-    private final StudyTextLogRepository studyTextLogRepository;
+    private final ChildStudyStageSummaryRepository childStudyStageSummaryRepository;
+    private final GameCatalog gameCatalog;
     private final ChildUserService childUserService;
     private final AuthenticationService authenticationService;
+    private final StudyLogBatchRepository studyLogBatchRepository;
+
+    private record SummaryKey(int childStudyChapterId, int gameStageId) {
+    }
 
     /**
      * 학습 챕터를 시작하고, 시작 정보(ID)만 반환한다.
@@ -53,8 +69,7 @@ public class StudyService {
      */
     public StartStudyChapterResponse startStudyChapter(StartStudyChapterRequest req) {
         ChildUserEntity childUser = childUserService.findByIdOrThrow(req.getChildUserId());
-        GameChapterEntity gameChapter = gameChapterRepository.findById(req.getStudyChapterId())
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
+        GameChapterEntity gameChapter = gameCatalog.getChapterReference(req.getStudyChapterId());
         ChildStudyChapterEntity toSave = ChildStudyChapterEntity.builder()
                 .childUserEntity(childUser)
                 .gameChapterEntity(gameChapter)
@@ -95,8 +110,7 @@ public class StudyService {
      * @throws BusinessException 해당 챕터 또는 스테이지가 없을 때
      */
     public StartStudyStageResponse startStudyStage(StartStudyStageRequest req) {
-        GameStageEntity gameStage = gameStageRepository.findById(req.getGameStageId())
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
+        GameStageEntity gameStage = gameCatalog.getStageReference(req.getGameStageId());
         ChildStudyChapterEntity chapter = childStudyChapterRepository.findById(req.getChildStudyChapterId())
                 .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
 
@@ -113,45 +127,207 @@ public class StudyService {
 
     /**
      * 비디오 로그와 텍스트 로그를 저장하고, 각 로그의 ID를 반환한다.
+     * 일괄 저장과 같은 JDBC 배치 경로로 저장하며, 같은 트랜잭션에서 학습 챕터-스테이지 요약에 이번 시도를 더한다.
      *
      * @param req 저장 요청 DTO (childGameStageId, 감정값, STT, 유사도 등 포함)
      * @return 저장된 비디오/텍스트 로그 ID를 담은 응답 DTO
-     * @throws BusinessException 해당 스테이지 엔티티가 없을 때
+     * @throws BusinessException 점수가 패킹 범위를 벗어난 경우 STUDY_INVALID_SCORE, 해당 스테이지 엔티티가 없을 때 GAME_NOT_FOUND
      */
     public SaveStudyLogResponse saveStudyLog(SaveStudyLogRequest req) {
-        ChildStudyStageEntity stage = childStudyStageRepository.findById(req.getChildGameStageId())
-                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
+        StudyLogRow row;
+        try {
+            row = new StudyLogRow(
+                    req.getChildGameStageId(),
+                    EmotionVector.ofTenths(req.getFHappy(), req.getFAnger(), req.getFSad(), req.getFPanic(), req.getFFear()),
+                    EmotionVector.ofTenths(req.getTHappy(), req.getTAnger(), req.getTSad(), req.getTPanic(), req.getTFear()),
+                    req.getTextSimilarity().movePointRight(1).setScale(0, RoundingMode.HALF_UP).shortValueExact(),
+                    req.getStt()
+            );
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new BusinessException(DomainErrorCode.STUDY_INVALID_SCORE);
+        }
+        return saveStudyLogRows(List.of(row)).get(0);
+    }
 
-        LocalDateTime now = LocalDateTime.now();
-        StudyVideoLogEntity videoLog = StudyVideoLogEntity.builder()
-                .childStudyStageEntity(stage)
-                .fHappy(req.getFHappy())
-                .fAnger(req.getFAnger())
-                .fSad(req.getFSad())
-                .fPanic(req.getFPanic())
-                .fFear(req.getFFear())
-                .startAt(now)
-                .endAt(now)
+    /**
+     * 여러 건의 학습 로그를 한 트랜잭션에서 일괄 저장하고, 요청 순서대로 로그 ID를 반환한다.
+     * <p>
+     * 점수는 10배한 {@code short} 고정소수점 값으로 받아 그대로 패킹하고, 학습 스테이지는 요청 전체에 대해 한 번만 조회하며,
+     * 비디오/텍스트 로그는 테이블별 JDBC 배치 INSERT로 저장한다. 챕터-스테이지 요약은 묶음별로 한 번씩만 갱신한다.
+     * </p>
+     *
+     * @param req 발화 순서대로 정렬된 학습 로그 목록
+     * @return 요청 순서대로 생성된 비디오/텍스트 로그 ID 목록을 담은 응답 DTO
+     * @throws BusinessException 점수가 범위를 벗어난 경우 STUDY_INVALID_SCORE, 스테이지가 없는 경우 GAME_NOT_FOUND
+     */
+    public SaveStudyLogBatchResponse saveStudyLogs(SaveStudyLogBatchRequest req) {
+        List<StudyLogRow> rows = req.getStudyLogs().stream()
+                .map(entry -> {
+                    if (!EmotionVector.isValidScores(entry.getFaceEmotion())
+                            || !EmotionVector.isValidScores(entry.getTextEmotion())) {
+                        throw new BusinessException(DomainErrorCode.STUDY_INVALID_SCORE);
+                    }
+                    return new StudyLogRow(
+                            entry.getChildStudyStageId(),
+                            EmotionVector.of(entry.getFaceEmotion()),
+                            EmotionVector.of(entry.getTextEmotion()),
+                            entry.getTextSimilarity(),
+                            entry.getStt()
+                    );
+                })
+                .toList();
+
+        return SaveStudyLogBatchResponse.builder()
+                .studyLogs(saveStudyLogRows(rows))
                 .build();
-        videoLog = studyVideoLogRepository.save(videoLog);
-
-        StudyTextLogEntity textLog = StudyTextLogEntity.builder()
-                .childStudyStageEntity(stage)
-                .tHappy(req.getTHappy())
-                .tAnger(req.getTAnger())
-                .tSad(req.getTSad())
-                .tPanic(req.getTPanic())
-                .tFear(req.getTFear())
-                .stt(req.getStt())
-                .textSimilarity(req.getTextSimilarity())
-                .startAt(now)
-                .endAt(now)
+    }
+
+    /**
+     * 학습 로그를 배치로 저장하고 챕터-스테이지 요약에 반영한다.
+     *
+     * @param rows 저장할 학습 로그 목록
+     * @return 요청 순서대로 생성된 로그 ID 목록
+     * @throws BusinessException 참조하는 학습 스테이지가 없을 때
+     */
+    private List<SaveStudyLogResponse> saveStudyLogRows(List<StudyLogRow> rows) {
+        Set<Integer> stageIds = rows.stream()
+                .map(StudyLogRow::childStudyStageId)
+                .collect(Collectors.toSet());
+        Map<Integer, ChildStudyStageEntity> stages = childStudyStageRepository.findAllById(stageIds)
+                .stream()
+                .collect(Collectors.toMap(ChildStudyStageEntity::getId, Function.identity()));
+        if (stages.size() != stageIds.size()) {
+            throw new BusinessException(DomainErrorCode.GAME_NOT_FOUND);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int[] videoLogIds = studyLogBatchRepository.insertVideoLogs(rows, now);
+        int[] textLogIds = studyLogBatchRepository.insertTextLogs(rows, now);
+
+        accumulateStageSummaries(rows, stages);
+
+        List<SaveStudyLogResponse> responses = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            responses.add(SaveStudyLogResponse.builder()
+                    .studyVideoLogId(videoLogIds[i])
+                    .studyTextLogId(textLogIds[i])
+                    .build());
+        }
+        return responses;
+    }
+
+    /**
+     * 학습 로그를 (학습 챕터, 게임 스테이지) 묶음별로 합산해 요약에 한 번씩 더한다.
+     * 점수는 스테이지 대상 감정의 성분만 더한다.
+     */
+    private void accumulateStageSummaries(List<StudyLogRow> rows, Map<Integer, ChildStudyStageEntity> stages) {
+        // 묶음별 [시도 횟수, 유사도 합계, 얼굴 점수 합계, 텍스트 점수 합계]
+        Map<SummaryKey, long[]> deltas = new LinkedHashMap<>();
+        for (StudyLogRow row : rows) {
+            ChildStudyStageEntity stage = stages.get(row.childStudyStageId());
+            int gameStageId = stage.getGameStageEntity().getId();
+            int index = EmotionVector.indexOfEmotionId(gameCatalog.getStageEmotionId(gameStageId));
+
+            long[] delta = deltas.computeIfAbsent(
+                    new SummaryKey(stage.getChildStudyChapterEntity().getId(), gameStageId),
+                    key -> new long[4]
+            );
+            delta[0]++;
+            delta[1] += row.textSimilarity();
+            delta[2] += row.faceEmotion().get(index);
+            delta[3] += row.textEmotion().get(index);
+        }
+
+        deltas.forEach((key, delta) -> childStudyStageSummaryRepository.incrementStage(
+                key.childStudyChapterId(),
+                key.gameStageId(),
+                gameCatalog.getStageEmotionId(key.gameStageId()),
+                (int) delta[0],
+                delta[1],
+                delta[2],
+                delta[3]
+        ));
+    }
+
+    /**
+     * 학습 챕터의 전체 및 스테이지별 요약을 반환한다. 학습 로그는 읽지 않고 누적 요약만 조회한다.
+     * 챕터 아동의 담당 상담사 또는 부모만 조회할 수 있다.
+     *
+     * @param childStudyChapterId 조회할 ChildStudyChapter ID
+     * @return 챕터 전체 합계와 스테이지별 평균을 담은 응답 DTO
+     * @throws BusinessException 해당 챕터가 없을 때 GAME_NOT_FOUND, 현재 사용자가 담당 상담사·부모가 아닐 때 USER_NOT_FOUND
+     */
+    public GetStudyChapterSummaryResponse getChapterSummary(Integer childStudyChapterId) {
+        ChildStudyChapterEntity chapter = childStudyChapterRepository.findById(childStudyChapterId)
+                .orElseThrow(() -> new BusinessException(DomainErrorCode.GAME_NOT_FOUND));
+        childUserService.validateConsultantOrParent(
+                chapter.getChildUserEntity().getId(), authenticationService.getCurrentUserEmail());
+
+        List<StageSummary> summaries = childStudyStageSummaryRepository.findStageSummaries(childStudyChapterId);
+        long attemptCnt = 0;
+        long textSimilaritySum = 0;
+        long faceScoreSum = 0;
+        long textScoreSum = 0;
+        for (StageSummary summary : summaries) {
+            attemptCnt += summary.getAttemptCnt();
+            textSimilaritySum += summary.getTextSimilaritySum();
+            faceScoreSum += summary.getFaceScoreSum();
+            textScoreSum += summary.getTextScoreSum();
+        }
+
+        return GetStudyChapterSummaryResponse.builder()
+                .childStudyChapterId(chapter.getId())
+                .gameChapterId(chapter.getGameChapterEntity().getId())
+                .startAt(chapter.getStartAt())
+                .endAt(chapter.getEndAt())
+                .attemptCnt(attemptCnt)
+                .avgTextSimilarity(averageOfTenths(textSimilaritySum, attemptCnt))
+                .avgFaceScore(averageOfTenths(faceScoreSum, attemptCnt))
+                .avgTextScore(averageOfTenths(textScoreSum, attemptCnt))
+                .stages(toStageSummaryResponses(summaries))
                 .build();
-        textLog = studyTextLogRepository.save(textLog);
+    }
 
-        return SaveStudyLogResponse.builder()
-                .studyVideoLogId(videoLog.getId())
-                .studyTextLogId(textLog.getId())
+    /**
+     * 아동의 모든 학습 챕터 요약을 게임 스테이지별로 합산해 반환한다. 아동의 담당 상담사 또는 부모만 조회할 수 있다.
+     *
+     * @param childUserId 조회할 아동 사용자 ID
+     * @return 게임 스테이지별 평균을 담은 응답 DTO
+     * @throws BusinessException 아동 사용자가 존재하지 않거나 현재 사용자가 담당 상담사·부모가 아닐 때 USER_NOT_FOUND
+     */
+    public GetStudyStageSummariesResponse getChildStageSummaries(Integer childUserId) {
+        childUserService.validateConsultantOrParent(childUserId, authenticationService.getCurrentUserEmail());
+        return GetStudyStageSummariesResponse.builder()
+                .childUserId(childUserId)
+                .stages(toStageSummaryResponses(childStudyStageSummaryRepository.sumStageSummariesByChild(childUserId)))
                 .build();
     }
+
+    private List<StudyStageSummaryResponse> toStageSummaryResponses(List<StageSummary> summaries) {
+        return summaries.stream()
+                .map(summary -> {
+                    int gameStageId = summary.getGameStageId();
+                    long attemptCnt = summary.getAttemptCnt();
+                    return StudyStageSummaryResponse.builder()
+                            .gameStageId(gameStageId)
+                            .stage(gameCatalog.getStageNumber(gameStageId))
+                            .emotionId(gameCatalog.getStageEmotionId(gameStageId))
+                            .attemptCnt(attemptCnt)
+                            .avgTextSimilarity(averageOfTenths(summary.getTextSimilaritySum(), attemptCnt))
+                            .avgFaceScore(averageOfTenths(summary.getFaceScoreSum(), attemptCnt))
+                            .avgTextScore(averageOfTenths(summary.getTextScoreSum(), attemptCnt))
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * 10배 정수 합계를 시도 횟수로 나눈 평균을 소수 첫째 자리까지 반환한다. 시도가 없으면 0이다.
+     */
+    private static BigDecimal averageOfTenths(long sumOfTenths, long count) {
+        if (count == 0) {
+            return BigDecimal.ZERO.setScale(1);
+        }
+        return BigDecimal.valueOf(sumOfTenths).divide(BigDecimal.valueOf(count * 10), 1, RoundingMode.HALF_UP);
+    }
 }
@@ -1,15 +1,12 @@
 package com.h5.domain.user.child.entity;
 
 import com.h5.domain.user.consultant.entity.ConsultantUserEntity;
-import com.h5.domain.game.entity.GameLogEntity;
 import com.h5.domain.user.parent.entity.ParentUserEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
-import java.util.Set;
 
 @Getter
 @Setter
@@ -65,11 +62,8 @@ public class ChildUserEntity {
     @Column(name = "delete_dttm")
     private LocalDateTime deletedAt;
 
-    @OneToMany(mappedBy = "childUserEntity")
-    private Set<GameLogEntity> gameLogEntities = new LinkedHashSet<>();
-
     @Builder
-    public ChildUserEntity(Integer id, String interest, LocalDate firstConsultDt, LocalDate birth, String gender, String additionalInfo, Integer clearChapter, String name, Integer parentUserId, Integer consultantUserId, LocalDateTime deletedAt, Set<GameLogEntity> gameLogEntities) {
+    public ChildUserEntity(Integer id, String interest, LocalDate firstConsultDt, LocalDate birth, String gender, String additionalInfo, Integer clearChapter, String name, Integer parentUserId, Integer consultantUserId, LocalDateTime deletedAt) {
         this.id = id;
         this.interest = interest;
         this.firstConsultDt = firstConsultDt;
@@ -81,6 +75,5 @@ public class ChildUserEntity {
         this.parentUserId = parentUserId;
         this.consultantUserId = consultantUserId;
         this.deletedAt = deletedAt;
-        this.gameLogEntities = gameLogEntities;
     }
 }
\ No newline at end of file
@@ -22,6 +22,28 @@ public interface ChildUserRepository extends JpaRepository<ChildUserEntity, Inte
 
     Optional<ChildUserEntity> findNameByIdAndDeletedAtIsNull(Integer childUserId);
 
+    boolean existsByIdAndConsultantUserEntity_EmailAndDeletedAtIsNull(int childUserId, String consultantEmail);
+
+    /**
+     * 삭제되지 않은 아동이 주어진 이메일 사용자의 담당 아동이거나 자녀인지 확인합니다.
+     *
+     * @param childUserId 아동 사용자 ID
+     * @param email       담당 상담사 또는 부모 사용자 이메일
+     * @return 담당 상담사이거나 부모이면 true
+     */
+    @Query("""
+            select count(c) > 0 from ChildUserEntity c
+            left join c.consultantUserEntity cu
+            left join c.parentUserEntity pu
+            where c.id = :childUserId
+              and c.deletedAt is null
+              and (cu.email = :email or pu.email = :email)
+            """)
+    boolean existsByIdAndConsultantOrParentEmail(@Param("childUserId") Integer childUserId, @Param("email") String email);
+
+    @Query("select c.consultantUserId from ChildUserEntity c where c.id = :childUserId")
+    Optional<Integer> findConsultantUserIdById(@Param("childUserId") Integer childUserId);
+
     Optional<List<ChildUserEntity>> findAllByParentUserEntity_IdAndDeletedAtIsNull(Integer parentUserId);
 
     Optional<List<ChildUserEntity>> findALlByNameContainingAndDeletedAtIsNull(@NotNull String name);
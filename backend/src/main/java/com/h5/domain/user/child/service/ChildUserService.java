@@ -210,4 +210,20 @@ public class ChildUserService {
                 .orElseThrow(() -> new BusinessException(DomainErrorCode.USER_NOT_FOUND));
     }
 
+    /**
+     * 아동이 주어진 사용자의 담당 아동이거나 자녀인지 확인합니다.
+     * <p>
+     * 아동 단위 통계·학습 조회처럼 상담사와 부모가 함께 쓰는 API에서, 다른 사용자의 아동 정보를 읽지 못하도록 조회 전에 호출합니다.
+     * </p>
+     *
+     * @param childUserId 아동 사용자 ID
+     * @param email       현재 사용자(담당 상담사 또는 부모) 이메일
+     * @throws BusinessException 아동이 없거나 담당 상담사·부모가 아닌 경우 {@link DomainErrorCode#USER_NOT_FOUND}
+     */
+    public void validateConsultantOrParent(Integer childUserId, String email) {
+        if (!childUserRepository.existsByIdAndConsultantOrParentEmail(childUserId, email)) {
+            throw new BusinessException(DomainErrorCode.USER_NOT_FOUND);
+        }
+    }
+
 }
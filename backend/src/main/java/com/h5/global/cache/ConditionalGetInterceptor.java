@@ -0,0 +1,101 @@
+package com.h5.global.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ContentVersioned} GET 핸들러에 콘텐츠 버전 기반 ETag와 {@code Cache-Control}을 적용하는 인터셉터입니다.
+ * <p>
+ * - ETag는 콘텐츠 이름, 버전, 요청 경로와 쿼리(필요 시 로그인 사용자)의 SHA-256 요약이며,
+ *   {@link ContentVersioned#weak()}이면 약한 ETag로 내보냅니다.
+ * - {@code If-None-Match}가 일치하면 핸들러 실행 전에 본문 없는 304로 응답하므로 서비스와 DB를 거치지 않습니다.
+ * - 인증은 보안 필터 체인에서 이미 확인된 상태로 들어옵니다.
+ * - 버전 조회에 실패하면 조건부 처리 없이 그대로 핸들러를 실행합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final Map<String, ContentVersionSource> sources;
+
+    public ConditionalGetInterceptor(List<ContentVersionSource> sources) {
+        this.sources = sources.stream()
+                .collect(Collectors.toMap(ContentVersionSource::contentName, Function.identity()));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ContentVersioned versioned = handlerMethod.getMethodAnnotation(ContentVersioned.class);
+        if (versioned == null || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+
+        ContentVersionSource source = sources.get(versioned.value());
+        if (source == null) {
+            throw new IllegalStateException("Unknown content version source: " + versioned.value());
+        }
+        String version;
+        try {
+            version = source.currentVersion();
+        } catch (RuntimeException e) {
+            log.warn("콘텐츠 버전 조회 실패, 조건부 GET 생략: {}", versioned.value(), e);
+            return true;
+        }
+
+        CacheControl cacheControl = versioned.maxAgeSeconds() > 0
+                ? CacheControl.maxAge(versioned.maxAgeSeconds(), TimeUnit.SECONDS)
+                : CacheControl.noCache();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.cachePrivate().getHeaderValue());
+        if (versioned.perUser()) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        }
+
+        String etag = etag(versioned, version, request);
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    private String etag(ContentVersioned versioned, String version, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder()
+                .append(versioned.value()).append('\n')
+                .append(version).append('\n')
+                .append(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+        if (versioned.perUser()) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            key.append('\n').append(authentication != null ? authentication.getName() : "");
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            String tag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            return versioned.weak() ? "W/" + tag : tag;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
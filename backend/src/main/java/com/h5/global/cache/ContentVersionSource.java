@@ -0,0 +1,24 @@
+package com.h5.global.cache;
+
+/**
+ * {@link ContentVersioned} 핸들러의 ETag 계산에 쓰이는 콘텐츠 버전 제공자입니다.
+ * <p>
+ * 버전은 콘텐츠가 바뀔 때마다 달라져야 하며, 여러 인스턴스에서 같은 콘텐츠에 같은 값을 반환해야 합니다.
+ * </p>
+ */
+public interface ContentVersionSource {
+
+    /**
+     * {@link ContentVersioned#value()}에서 참조하는 콘텐츠 이름을 반환합니다.
+     *
+     * @return 콘텐츠 이름
+     */
+    String contentName();
+
+    /**
+     * 현재 콘텐츠 버전을 반환합니다.
+     *
+     * @return 콘텐츠 버전
+     */
+    String currentVersion();
+}
@@ -0,0 +1,43 @@
+package com.h5.global.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 응답이 콘텐츠 버전과 요청 URL만으로 결정되는 GET 핸들러에 붙여 조건부 GET을 적용합니다.
+ * <p>
+ * {@link ConditionalGetInterceptor}가 {@link #value()} 이름의 {@link ContentVersionSource} 버전으로 강한 ETag를 만들고,
+ * {@code If-None-Match}가 일치하면 핸들러를 실행하지 않고 304를 응답합니다.
+ * 응답이 자녀 진행도처럼 버전 밖의 상태에 의존하는 핸들러에는 사용하지 않습니다.
+ * 조회 수처럼 버전 밖의 부수적인 값만 달라지는 응답은 {@link #weak()}로 약한 ETag를 사용합니다.
+ * </p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ContentVersioned {
+
+    /**
+     * 버전을 제공하는 {@link ContentVersionSource#contentName()}.
+     */
+    String value();
+
+    /**
+     * 응답이 로그인 사용자(센터 등)에 따라 달라지면 {@code true}로 지정해 ETag에 사용자를 포함합니다.
+     */
+    boolean perUser() default false;
+
+    /**
+     * 응답에 버전을 올리지 않는 부수적인 값(조회 수 등)이 포함되면 {@code true}로 지정해 약한 ETag({@code W/"..."})를 사용합니다.
+     * 약한 ETag는 의미상 같은 응답임을 뜻하므로, 304 응답을 받은 클라이언트는 그 값이 다음 버전 변경 전까지 이전 값으로 보일 수 있습니다.
+     */
+    boolean weak() default false;
+
+    /**
+     * 재검증 없이 재사용할 수 있는 시간(초). 0이면 매번 재검증({@code no-cache})합니다.
+     */
+    long maxAgeSeconds() default 0;
+}
@@ -0,0 +1,120 @@
+package com.h5.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.hyeonjaez.springcommon.exception.BusinessException;
+import com.h5.global.exception.DomainErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * {@code Idempotency-Key} 헤더 기반으로 같은 요청의 재전송을 한 번만 처리하는 서비스입니다.
+ * <p>
+ * - 키를 처음 받으면 Redis {@code SET NX}로 짧은 잠금 시간({@code idempotency.lock-ttl-seconds}) 동안 선점한 뒤 요청을 처리하고,
+ *   응답을 JSON으로 저장할 때 보관 기간을 설정합니다. 처리 중 프로세스가 종료되어도 잠금 시간이 지나면 재시도할 수 있습니다.
+ * - 같은 키로 다시 요청하면 DB를 거치지 않고 저장된 응답을 그대로 돌려줍니다.
+ * - 처리 중인 키로 다시 요청하면 409, 처리 중 예외가 발생하면 선점을 해제해 재시도를 허용합니다.
+ * - 키는 인증 사용자별로 구분하며, 보관 기간({@code idempotency.ttl-hours}) 이후 만료됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS = "__IN_PROGRESS__";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final RedisTemplate<Object, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration lockTtl;
+
+    public IdempotencyService(
+            RedisTemplate<Object, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${idempotency.lock-ttl-seconds:30}") long lockTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+    }
+
+    /**
+     * 멱등 키 기준으로 요청을 한 번만 처리하고, 재전송 시 최초 응답을 반환합니다.
+     *
+     * @param scope        키 구분용 API 범위(예: "game-log")
+     * @param key          클라이언트가 보낸 멱등 키, 없으면 매번 처리합니다.
+     * @param responseType 응답 타입
+     * @param action       최초 요청 시 실행할 처리
+     * @return 최초 처리 결과 또는 저장된 최초 응답
+     * @throws BusinessException 키 형식이 잘못된 경우 IDEMPOTENCY_KEY_INVALID,
+     *                           같은 키의 요청이 처리 중인 경우 IDEMPOTENCY_REQUEST_IN_PROGRESS
+     */
+    public <T> T execute(String scope, String key, Class<T> responseType, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(DomainErrorCode.IDEMPOTENCY_KEY_INVALID);
+        }
+
+        String redisKey = KEY_PREFIX + scope + ":" + currentPrincipal() + ":" + key;
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(redisKey, IN_PROGRESS, lockTtl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return replay(redisKey, responseType);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            redisTemplate.delete(redisKey);
+            throw e;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(response), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("멱등 응답 저장 실패: key={}", redisKey, e);
+        }
+        return response;
+    }
+
+    /**
+     * 이미 처리된 키의 저장된 응답을 역직렬화합니다.
+     *
+     * @param redisKey     Redis 키
+     * @param responseType 응답 타입
+     * @return 저장된 최초 응답
+     * @throws BusinessException 같은 키의 요청이 아직 처리 중인 경우 IDEMPOTENCY_REQUEST_IN_PROGRESS
+     */
+    private <T> T replay(String redisKey, Class<T> responseType) {
+        Object stored = redisTemplate.opsForValue().get(redisKey);
+        if (stored == null || IN_PROGRESS.equals(stored.toString())) {
+            throw new BusinessException(DomainErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+        try {
+            return objectMapper.readValue(stored.toString(), responseType);
+        } catch (JsonProcessingException e) {
+            log.warn("멱등 응답 복원 실패: key={}", redisKey, e);
+            throw new BusinessException(DomainErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+}
@@ -0,0 +1,33 @@
+package com.h5.global.config;
+
+import com.h5.domain.game.service.EmotionFrameWebSocketHandler;
+import com.h5.global.websocket.CustomHandshakeInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * 감정 프레임 바이너리 스트림용 WebSocket 엔드포인트 설정입니다.
+ * <p>
+ * STOMP 엔드포인트({@link WebSocketConfig})와 별도로 두어 프레임 메시지를 텍스트 변환 없이 받습니다.
+ * 인증은 {@link CustomHandshakeInterceptor}가 {@code accessToken} 쿼리 파라미터로 처리합니다.
+ * </p>
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class EmotionFrameWebSocketConfig implements WebSocketConfigurer {
+
+    private final EmotionFrameWebSocketHandler emotionFrameWebSocketHandler;
+    private final CustomHandshakeInterceptor customHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(emotionFrameWebSocketHandler, "/api/ws/emotion-frames")
+                .addInterceptors(customHandshakeInterceptor)
+                .setAllowedOrigins("https://hi-five.site", "https://localhost:8080");
+    }
+}
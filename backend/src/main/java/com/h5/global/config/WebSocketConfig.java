@@ -2,6 +2,7 @@ package com.h5.global.config;
 
 import com.h5.global.websocket.CustomHandshakeInterceptor;
 import com.h5.global.websocket.CustomHandshakeHandler;
+import com.h5.global.websocket.GameProgressSubscriptionInterceptor;
 import com.h5.global.websocket.SessionChannelInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +18,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final CustomHandshakeInterceptor customHandshakeInterceptor;
     private final SessionChannelInterceptor sessionChannelInterceptor;
+    private final GameProgressSubscriptionInterceptor gameProgressSubscriptionInterceptor;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -27,7 +29,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(sessionChannelInterceptor);
+        registration.interceptors(sessionChannelInterceptor, gameProgressSubscriptionInterceptor);
     }
 
     @Override
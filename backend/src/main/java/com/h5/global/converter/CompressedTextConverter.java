@@ -0,0 +1,24 @@
+package com.h5.global.converter;
+
+import com.h5.global.util.CompressionUtil;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 긴 텍스트를 압축된 바이너리 컬럼으로 저장하는 JPA 변환기입니다.
+ *
+ * @see CompressionUtil
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return CompressionUtil.compress(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return CompressionUtil.decompress(dbData);
+    }
+}
@@ -36,6 +36,8 @@ public enum DomainErrorCode implements ErrorCode {
 
     GAME_NOT_FOUND(HttpStatus.NOT_FOUND, "GAME-001", "Game Not Found"),
     GAME_ACCESS_DENY(HttpStatus.FORBIDDEN, "GAME-002", "Game Access Denied"),
+    GAME_LOG_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "GAME-003", "Game Log Queue Full"),
+    GAME_LOG_WRITER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "GAME-004", "Game Log Writer Unavailable"),
 
     SCHEDULE_CONFLICT(HttpStatus.CONFLICT, "SCHEDULE-001", "Schedule Conflict"),
     INVALID_SCHEDULE_TYPE(HttpStatus.BAD_REQUEST, "SCHEDULE-002", "Invalid Schedule Type"),
@@ -44,6 +46,13 @@ public enum DomainErrorCode implements ErrorCode {
     SCHEDULE_NOT_STARTED(HttpStatus.PRECONDITION_FAILED, "SCHEDULE-005", "Schedule Not Started"),
 
     STATISTIC_NOT_FOUND(HttpStatus.NOT_FOUND, "STATISTIC-001", "Statistic Not Found"),
+    STATISTIC_INVALID_PERIOD(HttpStatus.BAD_REQUEST, "STATISTIC-002", "Statistic Invalid Period"),
+    STATISTIC_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "STATISTIC-003", "Statistic Invalid Cursor"),
+
+    STUDY_INVALID_SCORE(HttpStatus.BAD_REQUEST, "STUDY-001", "Study Invalid Score"),
+
+    IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "IDEMPOTENCY-001", "Idempotency Key Invalid"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "IDEMPOTENCY-002", "Idempotency Request In Progress"),
     ;
 
     private final HttpStatus httpStatus;
@@ -22,7 +22,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final VerifiedClaimsCache verifiedClaimsCache;
     private final ConsultantCustomUserDetailService consultantCustomUserDetailService;
     private final ParentCustomUserDetailService parentCustomUserDetailService;
     private final RedisTemplate<Object, Object> redisTemplate;
@@ -62,17 +62,16 @@ public class JwtFilter extends OncePerRequestFilter {
 
             // 리프레시 엔드포인트는 검증 스킵
             if (!uri.equals("/auth/refresh")) {
+                VerifiedClaims claims;
                 try {
-                    if (!jwtUtil.validateToken(token)) {
-                        throw new JwtAuthenticationException("Invalid JWT token");
-                    }
+                    claims = verifiedClaimsCache.get(token);
                 } catch (AuthenticationException ex) {
                     throw ex;
                 } catch (Exception ex) {
                     throw new JwtAuthenticationException(ex.getMessage());
                 }
-                email = jwtUtil.getEmailFromToken(token);
-                role = jwtUtil.getRoleFromToken(token);
+                email = claims.email();
+                role = claims.role();
             }
         }
 
@@ -69,6 +69,31 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * 토큰을 한 번만 파싱해 서명과 만료를 검증하고, 인증에 필요한 클레임을 반환합니다.
+     * 요청 경로에서는 {@link VerifiedClaimsCache}를 통해 호출합니다.
+     *
+     * @param token JWT 문자열
+     * @return 검증된 클레임
+     * @throws BusinessException 만료된 토큰인 경우(EXPIRED_JWT)
+     * @throws JwtException      서명이 맞지 않거나 형식이 잘못된 경우
+     */
+    public VerifiedClaims verify(String token) {
+        try {
+            Claims claims = getClaimsFromToken(token);
+            if (claims.getExpiration().before(new Date())) {
+                throw new ExpiredJwtException(null, claims, "JWT token is expired");
+            }
+            return new VerifiedClaims(
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    claims.getExpiration().getTime()
+            );
+        } catch (ExpiredJwtException e) {
+            throw new BusinessException(DomainErrorCode.EXPIRED_JWT);
+        }
+    }
+
     public long getRemainExpiredTime(String token) {
         try {
             Claims claims = getClaimsFromToken(token);
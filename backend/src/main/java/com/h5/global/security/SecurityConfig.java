@@ -1,9 +1,11 @@
 package com.h5.global.security;
 
+import com.h5.domain.asset.endpoint.CatalogEndpoint;
 import com.h5.domain.auth.service.ConsultantCustomUserDetailService;
 import com.h5.domain.auth.service.ParentCustomUserDetailService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,6 +19,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 import org.springframework.web.cors.CorsConfiguration;
 
 import java.util.Arrays;
@@ -44,7 +47,8 @@ public class SecurityConfig {
             CorsConfiguration config = new CorsConfiguration();
             config.addAllowedOriginPattern("https://hi-five.site");
             config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH", "HEAD"));
-            config.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+            config.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Idempotency-Key", "If-None-Match"));
+            config.setExposedHeaders(Arrays.asList("ETag"));
             config.setAllowCredentials(true);
             return config;
         }));
@@ -60,8 +64,11 @@ public class SecurityConfig {
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
                                 "/swagger-ui.html",
-                                "/api/swagger-ui/**"
+                                "/api/swagger-ui/**",
+                                "/api/ws/emotion-frames"
                         ).permitAll()
+                        .requestMatchers(EndpointRequest.to(CatalogEndpoint.class))
+                        .access(new WebExpressionAuthorizationManager("hasIpAddress('127.0.0.1') or hasIpAddress('::1')"))
                         .anyRequest().authenticated());
 
         return http.build();
@@ -0,0 +1,21 @@
+package com.h5.global.security;
+
+/**
+ * 서명과 만료를 검증한 토큰에서 인증에 필요한 값만 담은 불변 클레임입니다.
+ *
+ * @param email           토큰 subject(사용자 이메일)
+ * @param role            사용자 권한(예: {@code ROLE_PARENT})
+ * @param expiresAtMillis 토큰 만료 시각(epoch millis)
+ */
+public record VerifiedClaims(String email, String role, long expiresAtMillis) {
+
+    /**
+     * 지정한 시각에 토큰이 만료되었는지 반환합니다.
+     *
+     * @param nowMillis 기준 시각(epoch millis)
+     * @return 만료되었으면 {@code true}
+     */
+    public boolean isExpiredAt(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
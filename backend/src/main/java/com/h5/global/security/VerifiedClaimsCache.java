@@ -0,0 +1,122 @@
+package com.h5.global.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 검증을 마친 JWT 클레임을 토큰 요약값(SHA-256)으로 보관하는 노드 로컬 캐시입니다.
+ * <p>
+ * - 토큰마다 서명 검증과 파싱은 노드당 한 번만 수행하고, 이후 요청은 해시 조회로 클레임을 얻습니다.
+ * - 항목은 토큰 만료 시각까지만 유효하며, 만료된 항목은 조회 시 제거되고 다시 검증되어 만료 예외가 발생합니다.
+ * - 토큰 원문은 보관하지 않습니다.
+ * - 접근 순서 {@link LinkedHashMap}으로 보관하며, 크기가 {@code security.jwt.claims-cache.max-size}를 넘으면
+ *   가장 오래 사용되지 않은 항목을 제거합니다(LRU). 조회, 추가, 제거는 하나의 잠금 안에서 수행하므로 크기 제한이 항상 지켜집니다.
+ * - 서명 검증은 잠금 밖에서 수행하므로, 같은 토큰을 동시에 처음 받으면 중복 검증될 수 있지만 결과는 같습니다.
+ * - 블랙리스트(로그아웃) 확인은 캐시와 별개로 매 요청 수행해야 합니다.
+ * - 적중/미적중 수는 {@code security.jwt.claims_cache.requests}(result=hit|miss), 크기는 {@code security.jwt.claims_cache.size}로 노출합니다.
+ * </p>
+ */
+@Component
+public class VerifiedClaimsCache {
+
+    private final JwtUtil jwtUtil;
+    private final int maxSize;
+    private final Map<String, VerifiedClaims> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public VerifiedClaimsCache(
+            JwtUtil jwtUtil,
+            MeterRegistry meterRegistry,
+            @Value("${security.jwt.claims-cache.max-size:10000}") int maxSize
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedClaims> eldest) {
+                return size() > VerifiedClaimsCache.this.maxSize;
+            }
+        };
+        this.hitCounter = Counter.builder("security.jwt.claims_cache.requests")
+                .description("검증된 JWT 클레임 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("security.jwt.claims_cache.requests")
+                .description("검증된 JWT 클레임 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("security.jwt.claims_cache.size", this, VerifiedClaimsCache::size)
+                .description("캐시된 JWT 클레임 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰의 검증된 클레임을 반환합니다. 캐시에 없거나 만료된 경우에만 {@link JwtUtil#verify(String)}로 검증합니다.
+     *
+     * @param token JWT 문자열
+     * @return 검증된 클레임
+     * @throws com.github.hyeonjaez.springcommon.exception.BusinessException 만료된 토큰인 경우(EXPIRED_JWT)
+     * @throws io.jsonwebtoken.JwtException 서명이 맞지 않거나 형식이 잘못된 경우
+     */
+    public VerifiedClaims get(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedClaims cached = lookup(key, now);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        VerifiedClaims verified = jwtUtil.verify(token);
+        synchronized (entries) {
+            entries.put(key, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * 캐시된 클레임을 조회합니다. 만료된 항목은 제거합니다.
+     *
+     * @param key 토큰 요약값
+     * @param now 현재 시각(epoch ms)
+     * @return 유효한 클레임, 없거나 만료되었으면 {@code null}
+     */
+    private VerifiedClaims lookup(String key, long now) {
+        synchronized (entries) {
+            VerifiedClaims cached = entries.get(key);
+            if (cached != null && cached.isExpiredAt(now)) {
+                entries.remove(key);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
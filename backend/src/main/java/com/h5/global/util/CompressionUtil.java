@@ -0,0 +1,87 @@
+package com.h5.global.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 문자열을 MySQL {@code COMPRESS()}와 같은 형식으로 압축/해제하는 유틸리티입니다.
+ * <p>
+ * 형식: 원문 바이트 길이(4바이트, little-endian) + zlib 스트림. 빈 문자열은 빈 바이트 배열로 저장합니다.
+ * 같은 형식이므로 DB에서 {@code UNCOMPRESS()}로 바로 확인할 수 있고, 마이그레이션도 {@code COMPRESS()}로 채울 수 있습니다.
+ * </p>
+ */
+public class CompressionUtil {
+
+    private static final int HEADER_SIZE = 4;
+    private static final int LENGTH_MASK = 0x3FFFFFFF;
+
+    public static byte[] compress(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length == 0) {
+            return new byte[0];
+        }
+
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_SIZE + raw.length / 2);
+            out.write(raw.length & 0xFF);
+            out.write((raw.length >>> 8) & 0xFF);
+            out.write((raw.length >>> 16) & 0xFF);
+            out.write((raw.length >>> 24) & 0xFF);
+
+            byte[] buffer = new byte[Math.max(64, Math.min(raw.length, 8192))];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String decompress(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length == 0) {
+            return "";
+        }
+
+        int length = ((data[0] & 0xFF)
+                | (data[1] & 0xFF) << 8
+                | (data[2] & 0xFF) << 16
+                | (data[3] & 0xFF) << 24) & LENGTH_MASK;
+        byte[] raw = new byte[length];
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, HEADER_SIZE, data.length - HEADER_SIZE);
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int n = inflater.inflate(raw, offset, length - offset);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += n;
+            }
+            if (offset != length) {
+                throw new IllegalArgumentException("Compressed text is truncated");
+            }
+            return new String(raw, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Invalid compressed text", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.h5.global.websocket;
 
-import com.h5.global.security.JwtUtil;
+import com.h5.global.security.VerifiedClaimsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.server.ServerHttpRequest;
@@ -16,7 +16,7 @@ import java.util.Map;
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class CustomHandshakeInterceptor implements HandshakeInterceptor {
 
-    private final JwtUtil jwtUtil;
+    private final VerifiedClaimsCache verifiedClaimsCache;
 
     @Override
     public boolean beforeHandshake(ServerHttpRequest request,
@@ -28,13 +28,8 @@ public class CustomHandshakeInterceptor implements HandshakeInterceptor {
             String tokenParam = servletRequest.getServletRequest().getParameter("accessToken");
             if (tokenParam != null && tokenParam.startsWith("Bearer ")) {
                 String token = tokenParam.substring("Bearer ".length());
-                if (jwtUtil.validateToken(token)) {
-                    String userEmail = jwtUtil.getEmailFromToken(token);
-                    attributes.put("userEmail", userEmail);
-                    return true;
-                } else {
-                    return false;
-                }
+                attributes.put("userEmail", verifiedClaimsCache.get(token).email());
+                return true;
             } else {
                 return false;
             }
@@ -0,0 +1,52 @@
+package com.h5.global.websocket;
+
+import com.github.hyeonjaez.springcommon.exception.BusinessException;
+import com.h5.domain.game.service.GameProgressPublisher;
+import com.h5.domain.user.child.repository.ChildUserRepository;
+import com.h5.global.exception.DomainErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임 진행 토픽({@link GameProgressPublisher#DESTINATION_PREFIX}) 구독을 담당 상담사로 제한합니다.
+ * <p>
+ * 구독 대상 아동의 담당 상담사가 아니면 {@link BusinessException}(GAME_ACCESS_DENY)을 던져 구독을 거부합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class GameProgressSubscriptionInterceptor implements ChannelInterceptor {
+
+    private final ChildUserRepository childUserRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(GameProgressPublisher.DESTINATION_PREFIX)) {
+            return message;
+        }
+
+        int childUserId;
+        try {
+            childUserId = Integer.parseInt(destination.substring(GameProgressPublisher.DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(DomainErrorCode.GAME_ACCESS_DENY);
+        }
+        if (accessor.getUser() == null
+                || !childUserRepository.existsByIdAndConsultantUserEntity_EmailAndDeletedAtIsNull(
+                        childUserId, accessor.getUser().getName())) {
+            throw new BusinessException(DomainErrorCode.GAME_ACCESS_DENY);
+        }
+        return message;
+    }
+}
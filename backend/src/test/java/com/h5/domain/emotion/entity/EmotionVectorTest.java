@@ -0,0 +1,120 @@
+package com.h5.domain.emotion.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmotionVectorTest {
+
+    @Test
+    void packsComponentsIntoTwelveBitSlotsFromHappy() {
+        EmotionVector vector = EmotionVector.of(1, 2, 3, 4, 5);
+
+        assertThat(vector.packed()).isEqualTo(1L | 2L << 12 | 3L << 24 | 4L << 36 | 5L << 48);
+        assertThat(vector.copyTo(new int[EmotionVector.SIZE])).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void roundTripsThroughPackedValue() {
+        EmotionVector vector = EmotionVector.of(4095, 0, 1234, 1, 4094);
+
+        EmotionVector restored = EmotionVector.fromPacked(vector.packed());
+
+        assertThat(restored).isEqualTo(vector);
+        assertThat(restored.happy()).isEqualTo(4095);
+        assertThat(restored.anger()).isZero();
+        assertThat(restored.sad()).isEqualTo(1234);
+        assertThat(restored.panic()).isEqualTo(1);
+        assertThat(restored.fear()).isEqualTo(4094);
+        assertThat(EmotionVector.isValidPacked(vector.packed())).isTrue();
+    }
+
+    @Test
+    void acceptsBoundaryComponents() {
+        EmotionVector zero = EmotionVector.of(0, 0, 0, 0, 0);
+        EmotionVector max = EmotionVector.of(4095, 4095, 4095, 4095, 4095);
+
+        assertThat(zero.packed()).isZero();
+        assertThat(max.packed()).isEqualTo((1L << 60) - 1);
+        assertThat(max.copyTo(new int[EmotionVector.SIZE])).containsOnly(EmotionVector.MAX_COMPONENT);
+    }
+
+    @Test
+    void rejectsComponentsOutOfRange() {
+        assertThatThrownBy(() -> EmotionVector.of(4096, 0, 0, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmotionVector.of(0, 0, 0, 0, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmotionVector.of(new short[]{1, 2, 3, 4}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsPackedValueWithBitsAboveSixty() {
+        assertThat(EmotionVector.isValidPacked(1L << 60)).isFalse();
+        assertThat(EmotionVector.isValidPacked(-1L)).isFalse();
+    }
+
+    @Test
+    void validatesScoreArrays() {
+        assertThat(EmotionVector.isValidScores(new short[]{0, 1, 2, 3, 4095})).isTrue();
+        assertThat(EmotionVector.isValidScores(new short[]{0, 1, 2, 3, 4096})).isFalse();
+        assertThat(EmotionVector.isValidScores(new short[]{-1, 1, 2, 3, 4})).isFalse();
+        assertThat(EmotionVector.isValidScores(new short[]{1, 2, 3, 4})).isFalse();
+        assertThat(EmotionVector.isValidScores(null)).isFalse();
+    }
+
+    @Test
+    void packsShortArrayInIndexOrder() {
+        short[] scores = new short[EmotionVector.SIZE];
+        scores[EmotionVector.HAPPY] = 10;
+        scores[EmotionVector.ANGER] = 20;
+        scores[EmotionVector.SAD] = 30;
+        scores[EmotionVector.PANIC] = 40;
+        scores[EmotionVector.FEAR] = 50;
+
+        assertThat(EmotionVector.of(scores)).isEqualTo(EmotionVector.of(10, 20, 30, 40, 50));
+    }
+
+    @Test
+    void convertsTenthsWithHalfUpRounding() {
+        EmotionVector vector = EmotionVector.ofTenths(
+                new BigDecimal("0.0"),
+                new BigDecimal("0.35"),
+                new BigDecimal("1.0"),
+                new BigDecimal("12.34"),
+                new BigDecimal("409.5")
+        );
+
+        assertThat(vector.copyTo(new int[EmotionVector.SIZE])).containsExactly(0, 4, 10, 123, 4095);
+        assertThat(vector.getTenths(EmotionVector.ANGER)).isEqualByComparingTo("0.4");
+        assertThat(vector.getTenths(EmotionVector.FEAR)).isEqualByComparingTo("409.5");
+    }
+
+    @Test
+    void rejectsTenthsOutOfRange() {
+        assertThatThrownBy(() -> EmotionVector.ofTenths(
+                new BigDecimal("409.6"), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmotionVector.ofTenths(
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal("-0.1")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmotionVector.ofTenths(
+                new BigDecimal("1E10"), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void mapsEmotionIdsToVectorIndexes() {
+        assertThat(EmotionVector.indexOfEmotionId(1)).isEqualTo(EmotionVector.HAPPY);
+        assertThat(EmotionVector.indexOfEmotionId(2)).isEqualTo(EmotionVector.ANGER);
+        assertThat(EmotionVector.indexOfEmotionId(3)).isEqualTo(EmotionVector.SAD);
+        assertThat(EmotionVector.indexOfEmotionId(4)).isEqualTo(EmotionVector.PANIC);
+        assertThat(EmotionVector.indexOfEmotionId(5)).isEqualTo(EmotionVector.FEAR);
+        assertThatThrownBy(() -> EmotionVector.indexOfEmotionId(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmotionVector.indexOfEmotionId(6)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,176 @@
+package com.h5.domain.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.hyeonjaez.springcommon.exception.BusinessException;
+import com.h5.domain.game.dto.request.SaveGameLogRequest;
+import com.h5.domain.game.entity.ChildGameStageEntity;
+import com.h5.domain.game.repository.ChildGameStageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GameLogWriteBehindServiceTest {
+
+    private static final int CHAPTER_ID = 1;
+    private static final int OTHER_CHAPTER_ID = 2;
+    private static final int OTHER_CHAPTER_STAGE_ID = 20;
+    private static final int POISON_STAGE_ID = 999;
+
+    @TempDir
+    Path journalDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<Integer> savedStageIds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger transientFailures = new AtomicInteger();
+    private final CountDownLatch otherChapterRelease = new CountDownLatch(1);
+
+    private GameLogWriteBehindService service;
+
+    @BeforeEach
+    void setUp() {
+        GameService gameService = mock(GameService.class);
+        when(gameService.saveAcceptedGameLogs(any())).thenAnswer(invocation -> {
+            List<GameLogJournal.Entry> entries = invocation.getArgument(0);
+            List<Integer> stageIds = entries.stream()
+                    .map(entry -> entry.request().getChildGameStageId())
+                    .toList();
+            if (transientFailures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new CannotCreateTransactionException("connection refused");
+            }
+            if (stageIds.contains(POISON_STAGE_ID)) {
+                throw new DataIntegrityViolationException("Cannot add or update a child row");
+            }
+            if (stageIds.contains(OTHER_CHAPTER_STAGE_ID)) {
+                otherChapterRelease.await();
+            }
+            savedStageIds.addAll(stageIds);
+            return null;
+        });
+
+        ChildGameStageRepository childGameStageRepository = mock(ChildGameStageRepository.class);
+        when(childGameStageRepository.findAllByChildGameChapterEntity_Id(CHAPTER_ID))
+                .thenReturn(stages(1, 2, 3, 4, POISON_STAGE_ID));
+        when(childGameStageRepository.findAllByChildGameChapterEntity_Id(OTHER_CHAPTER_ID))
+                .thenReturn(stages(OTHER_CHAPTER_STAGE_ID));
+
+        service = new GameLogWriteBehindService(
+                gameService, childGameStageRepository, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "capacity", 100);
+        ReflectionTestUtils.setField(service, "batchSize", 10);
+        ReflectionTestUtils.setField(service, "flushTimeoutMillis", 10_000L);
+        ReflectionTestUtils.setField(service, "journalDir", journalDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherChapterRelease.countDown();
+        service.stop();
+    }
+
+    @Test
+    void poisonEntryIsDeadLetteredAndWriterKeepsRunning() throws Exception {
+        service.start();
+
+        service.submit(request(1));
+        service.submit(request(POISON_STAGE_ID));
+        service.submit(request(3));
+        service.awaitFlushed(CHAPTER_ID);
+
+        assertThat(savedStageIds).containsExactly(1, 3);
+        List<String> deadLetters = Files.readAllLines(journalDir.resolve("game-log.deadletter"), StandardCharsets.UTF_8);
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.get(0))
+                .startsWith("2\t")
+                .contains(DataIntegrityViolationException.class.getName())
+                .contains("\"childGameStageId\":" + POISON_STAGE_ID);
+
+        service.submit(request(4));
+        service.awaitFlushed(CHAPTER_ID);
+
+        assertThat(service.isRunning()).isTrue();
+        assertThat(savedStageIds).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    void transientFailureIsRetriedWithoutDeadLetter() {
+        transientFailures.set(1);
+        service.start();
+
+        service.submit(request(1));
+        service.awaitFlushed(CHAPTER_ID);
+
+        assertThat(savedStageIds).containsExactly(1);
+        assertThat(journalDir.resolve("game-log.deadletter")).doesNotExist();
+    }
+
+    @Test
+    void pendingJournalIsReplayedAfterTransientFailure() throws Exception {
+        try (GameLogJournal journal = new GameLogJournal(journalDir, objectMapper)) {
+            journal.append(request(1));
+            journal.append(request(2));
+        }
+        transientFailures.set(2);
+        service.start();
+
+        service.submit(request(3));
+        service.awaitFlushed(CHAPTER_ID);
+
+        assertThat(savedStageIds).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void awaitFlushedIgnoresOtherChapters() {
+        ReflectionTestUtils.setField(service, "flushTimeoutMillis", 500L);
+        service.start();
+
+        service.submit(request(OTHER_CHAPTER_STAGE_ID));
+
+        assertThatCode(() -> service.awaitFlushed(CHAPTER_ID)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> service.awaitFlushed(OTHER_CHAPTER_ID)).isInstanceOf(BusinessException.class);
+
+        otherChapterRelease.countDown();
+        ReflectionTestUtils.setField(service, "flushTimeoutMillis", 10_000L);
+        service.awaitFlushed(OTHER_CHAPTER_ID);
+        assertThat(savedStageIds).containsExactly(OTHER_CHAPTER_STAGE_ID);
+    }
+
+    private static List<ChildGameStageEntity> stages(Integer... ids) {
+        return Arrays.stream(ids)
+                .map(id -> ChildGameStageEntity.builder().id(id).build())
+                .toList();
+    }
+
+    private static SaveGameLogRequest request(int childGameStageId) {
+        SaveGameLogRequest req = new SaveGameLogRequest();
+        req.setChildGameStageId(childGameStageId);
+        req.setChildUserId(5);
+        req.setGameStageId(7);
+        req.setSelectedOption(2);
+        req.setCorrected(true);
+        req.setConsulted(false);
+        return req;
+    }
+}
@@ -0,0 +1,104 @@
+package com.h5.domain.statistic.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 자녀-감정의 챕터가 동시에 종료될 때 통계 카운터 증가분이 유실되지 않는지 확인합니다.
+ * <p>
+ * 챕터 종료마다 별도 트랜잭션에서 {@link StatisticRepository#incrementChapterCounters}를 호출하고,
+ * 모든 종료가 끝난 뒤 한 행에 전체 증가분이 합산되었는지 검증합니다. Docker가 없으면 건너뜁니다.
+ * </p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.default_constraint_mode=NO_CONSTRAINT"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StatisticRepositoryConcurrencyTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static final int CHILD_USER_ID = 1;
+    private static final int EMOTION_ID = 2;
+    private static final int GAME_CHAPTER = 3;
+    private static final int THREADS = 8;
+    private static final int CHAPTER_ENDS_PER_THREAD = 25;
+
+    @Autowired
+    private StatisticRepository statisticRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parallelChapterEndsDoNotLoseIncrements() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < CHAPTER_ENDS_PER_THREAD; i++) {
+                        transactionTemplate.executeWithoutResult(status -> statisticRepository.incrementChapterCounters(
+                                CHILD_USER_ID, EMOTION_ID, GAME_CHAPTER, 3, 1, 50
+                        ));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int chapterEnds = THREADS * CHAPTER_ENDS_PER_THREAD;
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM statistic WHERE child_user_id = ? AND emotion_id = ?",
+                Integer.class, CHILD_USER_ID, EMOTION_ID
+        )).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT rating, trial_cnt, crt_cnt, stage_try_cnt_3, stage_crt_cnt_3, stage_try_cnt_1 "
+                        + "FROM statistic WHERE child_user_id = ? AND emotion_id = ?",
+                CHILD_USER_ID, EMOTION_ID
+        )).containsEntry("rating", 50 * chapterEnds)
+                .containsEntry("trial_cnt", 3 * chapterEnds)
+                .containsEntry("crt_cnt", chapterEnds)
+                .containsEntry("stage_try_cnt_3", 3 * chapterEnds)
+                .containsEntry("stage_crt_cnt_3", chapterEnds)
+                .containsEntry("stage_try_cnt_1", 0);
+    }
+}
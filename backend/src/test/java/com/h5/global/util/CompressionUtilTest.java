@@ -0,0 +1,98 @@
+package com.h5.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressionUtilTest {
+
+    /**
+     * MySQL {@code SELECT COMPRESS('hello')}의 결과입니다.
+     */
+    private static final byte[] MYSQL_COMPRESSED_HELLO = HexFormat.of().parseHex("05000000789ccb48cdc9c90700062c0215");
+
+    /**
+     * MySQL {@code SELECT COMPRESS('no!!')}의 결과입니다.
+     * 압축 결과가 공백(0x20)으로 끝나 MySQL이 CHAR 공백 제거에 대비해 끝에 '.'(0x2e)을 덧붙인 경우입니다.
+     */
+    private static final byte[] MYSQL_COMPRESSED_WITH_TRAILING_DOT = HexFormat.of().parseHex("04000000789ccbcb57540400036c01202e");
+
+    @Test
+    void decompressesMysqlCompressOutput() {
+        assertThat(CompressionUtil.decompress(MYSQL_COMPRESSED_HELLO)).isEqualTo("hello");
+    }
+
+    @Test
+    void compressesInMysqlCompressFormat() {
+        byte[] compressed = CompressionUtil.compress("hello");
+
+        assertThat(Arrays.copyOf(compressed, 4)).containsExactly(5, 0, 0, 0);
+        assertThat(compressed).isEqualTo(MYSQL_COMPRESSED_HELLO);
+    }
+
+    @Test
+    void writesUtf8ByteLengthAsLittleEndianHeader() {
+        String text = "가".repeat(100);
+
+        byte[] compressed = CompressionUtil.compress(text);
+
+        int length = (compressed[0] & 0xFF) | (compressed[1] & 0xFF) << 8
+                | (compressed[2] & 0xFF) << 16 | (compressed[3] & 0xFF) << 24;
+        assertThat(length).isEqualTo(text.getBytes(StandardCharsets.UTF_8).length).isEqualTo(300);
+    }
+
+    @Test
+    void ignoresTrailingDotAppendedByMysql() {
+        assertThat(CompressionUtil.decompress(MYSQL_COMPRESSED_WITH_TRAILING_DOT)).isEqualTo("no!!");
+        assertThat(CompressionUtil.compress("no!!"))
+                .isEqualTo(Arrays.copyOf(MYSQL_COMPRESSED_WITH_TRAILING_DOT, MYSQL_COMPRESSED_WITH_TRAILING_DOT.length - 1));
+    }
+
+    @Test
+    void keepsTrailingSpacesOfInput() {
+        String text = "기분이 좋아요   ";
+
+        assertThat(CompressionUtil.decompress(CompressionUtil.compress(text))).isEqualTo(text);
+    }
+
+    @Test
+    void mapsEmptyStringToEmptyBlob() {
+        assertThat(CompressionUtil.compress("")).isEmpty();
+        assertThat(CompressionUtil.decompress(new byte[0])).isEmpty();
+    }
+
+    @Test
+    void passesNullThrough() {
+        assertThat(CompressionUtil.compress(null)).isNull();
+        assertThat(CompressionUtil.decompress(null)).isNull();
+    }
+
+    @Test
+    void roundTripsMultiKilobyteText() {
+        String repetitive = "오늘은 친구와 놀이터에서 놀았어요. 정말 즐거웠어요! ".repeat(400);
+        Random random = new Random(42);
+        StringBuilder noisy = new StringBuilder();
+        for (int i = 0; i < 64 * 1024; i++) {
+            noisy.append((char) ('a' + random.nextInt(26)));
+        }
+
+        byte[] compressed = CompressionUtil.compress(repetitive);
+        assertThat(compressed.length).isLessThan(repetitive.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertThat(CompressionUtil.decompress(compressed)).isEqualTo(repetitive);
+        assertThat(CompressionUtil.decompress(CompressionUtil.compress(noisy.toString()))).isEqualTo(noisy.toString());
+    }
+
+    @Test
+    void rejectsTruncatedData() {
+        byte[] truncated = Arrays.copyOf(MYSQL_COMPRESSED_HELLO, MYSQL_COMPRESSED_HELLO.length - 6);
+
+        assertThatThrownBy(() -> CompressionUtil.decompress(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}